@@ -1,9 +1,9 @@
 package fedata.gba;
 
 import fedata.general.FELockableData;
-import fedata.general.FEModifiableData;
+import fedata.general.FEChangeTrackingData;
 
-public interface GBAFECharacterData extends FEModifiableData, FELockableData {
+public interface GBAFECharacterData extends FEChangeTrackingData, FELockableData {
 	
 	public Boolean isClassRestricted();
 	
@@ -1,9 +1,9 @@
 package fedata.gba;
 
 import fedata.gba.general.WeaponRank;
-import fedata.general.FEModifiableData;
+import fedata.general.FEChangeTrackingData;
 
-public interface GBAFEClassData extends FEModifiableData {
+public interface GBAFEClassData extends FEChangeTrackingData {
 	
 	// Info
 	
@@ -6,11 +6,11 @@ import java.util.Set;
 import fedata.gba.general.WeaponEffects;
 import fedata.gba.general.WeaponRank;
 import fedata.gba.general.WeaponType;
-import fedata.general.FEModifiableData;
+import fedata.general.FEChangeTrackingData;
 import random.gba.loader.ItemDataLoader;
 import random.gba.loader.TextLoader;
 
-public interface GBAFEItemData extends FEModifiableData {
+public interface GBAFEItemData extends FEChangeTrackingData {
 	
 	// Info
 	public int getNameIndex();
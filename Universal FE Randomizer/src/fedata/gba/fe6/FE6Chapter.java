@@ -9,9 +9,9 @@ import fedata.gba.GBAFEChapterData;
 import fedata.gba.GBAFEChapterItemData;
 import fedata.gba.GBAFEChapterUnitData;
 import fedata.gba.general.CharacterNudge;
-import io.FileHandler;
+import fedata.gba.general.EventScriptScanner;
+import io.ROMBuffer;
 import util.DebugPrinter;
-import util.FileReadHelper;
 import util.WhyDoesJavaNotHaveThese;
 
 public class FE6Chapter implements GBAFEChapterData {
@@ -33,6 +33,7 @@ public class FE6Chapter implements GBAFEChapterData {
 	private long endingSceneOffset;
 	
 	private List<FE6ChapterUnit> allChapterUnits;
+	private GBAFEChapterUnitData[] unitArray; // Built on first request, since allUnits() is called a lot.
 	private List<FE6ChapterItem> allChapterRewards;
 	
 	private Set<Integer> blacklistedClassIDs;
@@ -45,7 +46,23 @@ public class FE6Chapter implements GBAFEChapterData {
 	
 	private CharacterNudge[] nudges;
 	
-	public FE6Chapter(FileHandler handler, long pointer, Boolean isClassSafe, Boolean removeFightScenes, int[] blacklistedClassIDs, String friendlyName, Boolean simple, CharacterNudge[] nudgesRequired) {
+	// Commands whose arguments could be mistaken for other commands, when the rest of the command word is 0.
+	// BACG (0x03), LABEL (0x1B), MUSC (0x36), MUSS (0x37), DISA (0x30), ENUT (0x34), ENUF (0x35), STAL (0x02), CAM1(0xB, 0xC), CURF(0x2C, 0x2D), TEX1(0x7), MORETEXT(0x8), MNCH(0x3D), GOTO(0x1C) - 8 bytes
+	// IFAF (0x20), IFEF (0x23), GOTO_IFET (0x22) - 12 bytes
+	// LOMA (0x3F) - 16 bytes
+	// Scripts end at ENDA (0x06).
+	private static final EventScriptScanner.CommandTable EventCommands = new EventScriptScanner.CommandTable()
+			.setLength(8, 0x03, 0x1B, 0x36, 0x37, 0x30, 0x34, 0x35, 0x02, 0x0B, 0x0C, 0x2C, 0x2D, 0x07, 0x08, 0x3D, 0x1C)
+			.setLength(12, 0x20, 0x23, 0x22)
+			.setLength(16, 0x3F)
+			.terminateOnWords(0x06);
+	
+	private static final EventScriptScanner.CommandTable UnitScanCommands = EventCommands.copy().setLength(8, 0x12, 0x13); // LOU1, LOU2
+	private static final EventScriptScanner.CommandTable FightScanCommands = EventCommands.copy().setLength(20, 0x49); // FIGH
+	// ITGV is skipped regardless of its arguments, and anything starting with 0x06 ends the search.
+	private static final EventScriptScanner.CommandTable RewardScanCommands = EventCommands.copy().setLengthWithAnyArguments(8, 0x26).terminateOnOpcodes(0x06);
+	
+	public FE6Chapter(ROMBuffer buffer, long pointer, Boolean isClassSafe, Boolean removeFightScenes, int[] blacklistedClassIDs, String friendlyName, Boolean simple, CharacterNudge[] nudgesRequired) {
 		this.friendlyName = friendlyName;
 		this.blacklistedClassIDs = new HashSet<Integer>();
 		for (int classID : blacklistedClassIDs) {
@@ -55,23 +72,23 @@ public class FE6Chapter implements GBAFEChapterData {
 		this.shouldBeSimplified = simple;
 				
 		// We need one jump.
-		long pointerTableOffset = FileReadHelper.readAddress(handler, pointer);
+		long pointerTableOffset = buffer.addressAt(pointer);
 		this.isClassSafe = isClassSafe;
 		
 		long currentOffset = pointerTableOffset;
-		turnBasedEventsOffset = FileReadHelper.readAddress(handler, currentOffset);
+		turnBasedEventsOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		characterBasedEventsOffset = FileReadHelper.readAddress(handler, currentOffset);
+		characterBasedEventsOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		locationBasedEventsOffset = FileReadHelper.readAddress(handler, currentOffset);
+		locationBasedEventsOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		miscEventsOffset = FileReadHelper.readAddress(handler, currentOffset);
+		miscEventsOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		enemyUnitsOffset = FileReadHelper.readAddress(handler, currentOffset);
+		enemyUnitsOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		allyUnitsOffset = FileReadHelper.readAddress(handler, currentOffset);
+		allyUnitsOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		endingSceneOffset = FileReadHelper.readAddress(handler, currentOffset);
+		endingSceneOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
 		
 		allChapterUnits = new ArrayList<FE6ChapterUnit>();
@@ -84,8 +101,9 @@ public class FE6Chapter implements GBAFEChapterData {
 		
 		nudges = nudgesRequired;
 		
-		loadUnits(handler);
-		loadRewards(handler);
+		Set<Long> eventAddresses = allEventAddresses(buffer);
+		loadUnits(buffer, eventAddresses);
+		loadRewards(buffer, eventAddresses);
 	}
 
 	@Override
@@ -100,7 +118,10 @@ public class FE6Chapter implements GBAFEChapterData {
 
 	@Override
 	public GBAFEChapterUnitData[] allUnits() {
-		return allChapterUnits.toArray(new GBAFEChapterUnitData[allChapterUnits.size()]);
+		if (unitArray == null) {
+			unitArray = allChapterUnits.toArray(new GBAFEChapterUnitData[allChapterUnits.size()]);
+		}
+		return unitArray;
 	}
 
 	@Override
@@ -167,84 +188,85 @@ public class FE6Chapter implements GBAFEChapterData {
 		}
 	}
 	
-	private void loadUnits(FileHandler handler) {
+	private void loadUnits(ROMBuffer buffer, Set<Long> eventAddresses) {
 		Set<Long> addressesSearched = new HashSet<Long>();
 		// Look in the obvious places first.
-		loadUnitsFromAddress(handler, allyUnitsOffset);
+		loadUnitsFromAddress(buffer, allyUnitsOffset);
 		addressesSearched.add(allyUnitsOffset);
-		loadUnitsFromAddress(handler, enemyUnitsOffset);
+		loadUnitsFromAddress(buffer, enemyUnitsOffset);
 		addressesSearched.add(enemyUnitsOffset);
 		
-		Set<Long> eventAddresses = eventAddressesFromTurnEvents(handler);
-		eventAddresses.addAll(eventAddressesFromCharacterEvents(handler));
-		eventAddresses.addAll(eventAddressesFromLocationEvents(handler));
-		eventAddresses.addAll(eventAddressesFromMiscEvents(handler));
-		eventAddresses.add(endingSceneOffset);
 		for (long eventAddress : eventAddresses) {
 			if (eventAddress == 0x1) { continue; } // Some events use 1 for some reason. LOCA and DOOR do this sometimes.
-			Set<Long> unitAddresses = unitAddressesFromEventBlob(handler, eventAddress);
+			Set<Long> unitAddresses = unitAddressesFromEventBlob(buffer, eventAddress);
 			for (long unitAddress : unitAddresses) {
 				if (!addressesSearched.contains(unitAddress)) {
 					addressesSearched.add(unitAddress);
-					loadUnitsFromAddress(handler, unitAddress);
+					loadUnitsFromAddress(buffer, unitAddress);
 				}
 			}
 			
-			recordFightAddressesFromEventBlob(handler, eventAddress);
+			recordFightAddressesFromEventBlob(buffer, eventAddress);
 		}
 	}
 	
-	private Set<Long> eventAddressesFromTurnEvents(FileHandler handler) {
+	private Set<Long> allEventAddresses(ROMBuffer buffer) {
+		Set<Long> eventAddresses = eventAddressesFromTurnEvents(buffer);
+		eventAddresses.addAll(eventAddressesFromCharacterEvents(buffer));
+		eventAddresses.addAll(eventAddressesFromLocationEvents(buffer));
+		eventAddresses.addAll(eventAddressesFromMiscEvents(buffer));
+		eventAddresses.add(endingSceneOffset);
+		return eventAddresses;
+	}
+	
+	private Set<Long> eventAddressesFromTurnEvents(ROMBuffer buffer) {
 		Set<Long> eventAddresses = new HashSet<Long>();
-		byte[] turnCommand;
 		long currentAddress = turnBasedEventsOffset;
-		turnCommand = handler.readBytesAtOffset(currentAddress, 12);
-		while (turnCommand[0] == 0x02 || turnCommand[0] == 0x0D || turnCommand[0] == 0x03 || turnCommand[0] == 0x01) {
+		byte turnCommand = buffer.byteAt(currentAddress);
+		while (turnCommand == 0x02 || turnCommand == 0x0D || turnCommand == 0x03 || turnCommand == 0x01) {
 			// TURN (0x02) - 12 bytes - offset starts at byte 4 and is 4 bytes long.
 			// ASME (0x0D) - 12 bytes - same
 			// TURN_HM (0x03) - 12 bytes - same
 			// AFEV (0x01) - 12 bytes - same
-			long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+			long address = buffer.addressAt(currentAddress + 4);
 			if (address != -1) {
 				eventAddresses.add(address);
 			}
 			currentAddress += 12;
-			turnCommand = handler.readBytesAtOffset(currentAddress, 12);
+			turnCommand = buffer.byteAt(currentAddress);
 		}
-		if (turnCommand[0] != 0x00) {
+		if (turnCommand != 0x00) {
 			System.err.println("Unhandled turn event type detected.");
 		}
 		
 		return eventAddresses;
 	}
 	
-	private Set<Long> eventAddressesFromCharacterEvents(FileHandler handler) {
+	private Set<Long> eventAddressesFromCharacterEvents(ROMBuffer buffer) {
 		Set<Long> eventAddresses = new HashSet<Long>();
-		byte[] charCommand;
 		long currentAddress = characterBasedEventsOffset;
-		charCommand = handler.readBytesAtOffset(currentAddress, 12);
-		while (charCommand[0] == 0x0D || charCommand[0] == 0x04) {
+		byte charCommand = buffer.byteAt(currentAddress);
+		while (charCommand == 0x0D || charCommand == 0x04) {
 			// CHAR (0x04), ASME (0x0D) - 12 bytes - offset starts at byte 4 and is 4 bytes long.
-			long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+			long address = buffer.addressAt(currentAddress + 4);
 			if (address != -1) {
 				eventAddresses.add(address);
 			}
 			
 			currentAddress += 12;
-			charCommand = handler.readBytesAtOffset(currentAddress, 12);
+			charCommand = buffer.byteAt(currentAddress);
 		}
-		if (charCommand[0] != 0x00) {
+		if (charCommand != 0x00) {
 			System.err.println("Unhandled character event type detected.");
 		}
 		
 		return eventAddresses;
 	}
 	
-	private Set<Long> eventAddressesFromLocationEvents(FileHandler handler) {
+	private Set<Long> eventAddressesFromLocationEvents(ROMBuffer buffer) {
 		Set<Long> eventAddresses = new HashSet<Long>();
-		byte[] locationCommand;
 		long currentAddress = locationBasedEventsOffset;
-		locationCommand = handler.readBytesAtOffset(currentAddress, 12);
+		byte locationCommand = buffer.byteAt(currentAddress);
 		// LOCA (0x05) - 12 bytes, offset 4
 		// VILL (0x06) - 12 bytes, offset 4
 		// DOOR (0x08) - 12 bytes, offset 4 (this is less likely, but possible).
@@ -252,34 +274,33 @@ public class FE6Chapter implements GBAFEChapterData {
 		// The ones that don't matter for events:
 		// SHOP (0x0A)
 		// CHES (0x07)
-		while (locationCommand[0] == 0x05 || locationCommand[0] == 0x06 || locationCommand[0] == 0x0A || locationCommand[0] == 0x07 || locationCommand[0] == 0x08) {
-			if (locationCommand[0] == 0x05 || locationCommand[0] == 0x06 || locationCommand[0] == 0x08) {
-				long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+		while (locationCommand == 0x05 || locationCommand == 0x06 || locationCommand == 0x0A || locationCommand == 0x07 || locationCommand == 0x08) {
+			if (locationCommand == 0x05 || locationCommand == 0x06 || locationCommand == 0x08) {
+				long address = buffer.addressAt(currentAddress + 4);
 				if (address != -1) {
 					eventAddresses.add(address);
 				}
 			}
 			currentAddress += 12;
-			locationCommand = handler.readBytesAtOffset(currentAddress, 12);
+			locationCommand = buffer.byteAt(currentAddress);
 		}
-		if (locationCommand[0] != 0x00) {
+		if (locationCommand != 0x00) {
 			System.err.println("Unhandled character event type detected.");
 		}
 		
 		return eventAddresses;
 	}
 	
-	private Set<Long> eventAddressesFromMiscEvents(FileHandler handler) {
+	private Set<Long> eventAddressesFromMiscEvents(ROMBuffer buffer) {
 		Set<Long> eventAddresses = new HashSet<Long>();
-		byte[] miscCommand;
 		long currentAddress = miscEventsOffset;
-		miscCommand = handler.readBytesAtOffset(currentAddress, 12);
-		while (miscCommand[0] != 0x00) {
+		byte miscCommand = buffer.byteAt(currentAddress);
+		while (miscCommand != 0x00) {
 			// AREA (0x0B) - 12 bytes, offset 4
 			// ASME (0x0D) - 12 bytes, offset 4
 			// AFEV (0x01) - 12 bytes, offset 4
-			if (miscCommand[0] == 0x0B || miscCommand[0] == 0x01 || miscCommand[0] == 0x0D) {
-				long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+			if (miscCommand == 0x0B || miscCommand == 0x01 || miscCommand == 0x0D) {
+				long address = buffer.addressAt(currentAddress + 4);
 				if (address != -1) {
 					eventAddresses.add(address);
 				}
@@ -288,110 +309,66 @@ public class FE6Chapter implements GBAFEChapterData {
 			}
 			
 			currentAddress += 12;
-			miscCommand = handler.readBytesAtOffset(currentAddress, 12);
+			miscCommand = buffer.byteAt(currentAddress);
 		}
 		
 		return eventAddresses;
 	}
 	
-	private void recordFightAddressesFromEventBlob(FileHandler handler, long eventAddress) {
+	private void recordFightAddressesFromEventBlob(ROMBuffer buffer, long eventAddress) {
 		if (eventAddress >= 0x1000000) { return; }
-		
 		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Searching for fights beginning at 0x" + Long.toHexString(eventAddress));
-		
-		byte[] commandWord;
-		long currentAddress = eventAddress;
-		commandWord = handler.readBytesAtOffset(currentAddress, 4);
-		while (!WhyDoesJavaNotHaveThese.byteArraysAreEqual(commandWord, new byte[] {0x06, 0x00, 0x00, 0x00})) {
-			if (WhyDoesJavaNotHaveThese.byteArraysAreEqual(commandWord, new byte[] {0x49, 0x00, 0x00, 0x00})) {
+		EventScriptScanner scanner = new EventScriptScanner(buffer, FightScanCommands, eventAddress);
+		while (scanner.next()) {
+			if (scanner.word() == 0x49) {
 				// FIGH - Always has command byte 0x49, and is always 20 length. The second word always contains attacker and defender IDs.
 				// They vary after that, but those aren't important.
-				long address = FileReadHelper.readAddress(handler, currentAddress + 12);
+				long address = buffer.addressAt(scanner.offset() + 12);
 				if (address != -1) {
-					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found FIGH at 0x" + Long.toHexString(currentAddress));
-					fightEventOffsets.add(currentAddress);
+					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found FIGH at 0x" + Long.toHexString(scanner.offset()));
+					fightEventOffsets.add(scanner.offset());
 				}
-				currentAddress += 16;
 			}
-			
-			if (commandWord[1] == 0 && commandWord[2] == 0 && commandWord[3] == 0) {
-				// BACG (0x03), LABEL (0x1B), MUSC (0x36), MUSS (0x37), DISA (0x30), ENUT (0x34), ENUF (0x35), STAL (0x02), CAM1(0xB, 0xC), CURF(0x2C, 0x2D), TEX1(0x7), MORETEXT(0x8), MNCH(0x3D), GOTO(0x1C) - 8 bytes
-				if (commandWord[0] == 0x03 || commandWord[0] == 0x1B || commandWord[0] == 0x36 || commandWord[0] == 0x37 || commandWord[0] == 0x30 ||
-						commandWord[0] == 0x34 || commandWord[0] == 0x35 || commandWord[0] == 0x02 || commandWord[0] == 0x0B || commandWord[0] == 0x0C ||
-						commandWord[0] == 0x2C || commandWord[0] == 0x2D || commandWord[0] == 0x07 || commandWord[0] == 0x08 || commandWord[0] == 0x3D ||
-						commandWord[0] == 0x1C) { 
-					currentAddress += 4;
-				} else if (commandWord[0] == 0x20 || commandWord[0] == 0x23 || commandWord[0] == 0x22) { // IFAF (0x20), IFEF (0x23), GOTO_IFET (0x22) - 12 bytes
-					currentAddress += 8;
-				} else if (commandWord[0] == 0x3F) { // LOMA (0x3F) - 16 bytes
-					currentAddress += 12;
-				}
-			}
-			
-			currentAddress += 4;
-			commandWord = handler.readBytesAtOffset(currentAddress, 4);
 		}
 		
-		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Finished searching for fights at 0x" + Long.toHexString(currentAddress));
+		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Finished searching for fights at 0x" + Long.toHexString(scanner.offset()));
 	}
 	
-	private Set<Long> unitAddressesFromEventBlob(FileHandler handler, long eventAddress) {
+	private Set<Long> unitAddressesFromEventBlob(ROMBuffer buffer, long eventAddress) {
 		Set<Long> addressesLoaded = new HashSet<Long>();
 		if (eventAddress >= 0x1000000) { return addressesLoaded; }
 		
 		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Searching for unit addresses beginning at 0x" + Long.toHexString(eventAddress));
 		
-		byte[] commandWord;
-		long currentAddress = eventAddress;
-		commandWord = handler.readBytesAtOffset(currentAddress, 4);
-		while (!WhyDoesJavaNotHaveThese.byteArraysAreEqual(commandWord, new byte[] {0x06, 0x00, 0x00, 0x00})) {
-			if (commandWord[1] == 0 && commandWord[2] == 0 && commandWord[3] == 0) {
-				if (commandWord[0] == 0x12 || commandWord[0] == 0x13) {
-					// LOU1 - 0x12 key. Pointer at byte 4, length 4 - total 8 bytes.
-					// LOU2 - 0x13 key. Same as LOU1.
-					long address = FileReadHelper.readAddress(handler, currentAddress + 4);
-					if (address != -1) {
-						DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found LOU1 or LOU2 at 0x" + Long.toHexString(currentAddress) + ". Unit Address: " + Long.toHexString(address));
-						addressesLoaded.add(address);
-					}
-					currentAddress += 4;
-				}
-				
-				DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Processed command 0x" + Integer.toHexString(commandWord[0] & 0xFF));
-			
-				// BACG (0x03), LABEL (0x1B), MUSC (0x36), MUSS (0x37), DISA (0x30), ENUT (0x34), ENUF (0x35), STAL (0x02), CAM1(0xB, 0xC), CURF(0x2C, 0x2D), TEX1(0x7), MORETEXT(0x8), MNCH(0x3D), GOTO(0x1C) - 8 bytes
-				if (commandWord[0] == 0x03 || commandWord[0] == 0x1B || commandWord[0] == 0x36 || commandWord[0] == 0x37 || commandWord[0] == 0x30 ||
-						commandWord[0] == 0x34 || commandWord[0] == 0x35 || commandWord[0] == 0x02 || commandWord[0] == 0x0B || commandWord[0] == 0x0C ||
-						commandWord[0] == 0x2C || commandWord[0] == 0x2D || commandWord[0] == 0x07 || commandWord[0] == 0x08 || commandWord[0] == 0x3D ||
-						commandWord[0] == 0x1C) { 
-					currentAddress += 4;
-				} else if (commandWord[0] == 0x20 || commandWord[0] == 0x23 || commandWord[0] == 0x22) { // IFAF (0x20), IFEF (0x23), GOTO_IFET (0x22) - 12 bytes
-					currentAddress += 8;
-				} else if (commandWord[0] == 0x3F) { // LOMA (0x3F) - 16 bytes
-					currentAddress += 12;
+		EventScriptScanner scanner = new EventScriptScanner(buffer, UnitScanCommands, eventAddress);
+		while (scanner.next()) {
+			if (scanner.hasNoArguments() && (scanner.opcode() == 0x12 || scanner.opcode() == 0x13)) {
+				// LOU1 - 0x12 key. Pointer at byte 4, length 4 - total 8 bytes.
+				// LOU2 - 0x13 key. Same as LOU1.
+				long address = buffer.addressAt(scanner.offset() + 4);
+				if (address != -1) {
+					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found LOU1 or LOU2 at 0x" + Long.toHexString(scanner.offset()) + ". Unit Address: " + Long.toHexString(address));
+					addressesLoaded.add(address);
 				}
 			}
-			
-			currentAddress += 4;
-			commandWord = handler.readBytesAtOffset(currentAddress, 4);
 		}
 		
-		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Finished searching for loading units at address 0x" + Long.toHexString(currentAddress));
+		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Finished searching for loading units at address 0x" + Long.toHexString(scanner.offset()));
 		
 		return addressesLoaded;
 	}
 	
-	private void loadUnitsFromAddress(FileHandler handler, long unitAddress) {
+	private void loadUnitsFromAddress(ROMBuffer buffer, long unitAddress) {
 		if (unitAddress >= 0x1000000) { return; }
 		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Loading units from 0x" + Long.toHexString(unitAddress));
 		long currentOffset = unitAddress;
-		byte[] unitData = handler.readBytesAtOffset(currentOffset, FE6Data.BytesPerChapterUnit);
-		while (unitData[0] != 0x00) {
+		while (buffer.byteAt(currentOffset) != 0x00) {
+			byte[] unitData = buffer.bytesAt(currentOffset, FE6Data.BytesPerChapterUnit);
 			DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Loaded unit with data " + WhyDoesJavaNotHaveThese.displayStringForBytes(unitData));
 			FE6ChapterUnit unit = new FE6ChapterUnit(unitData, currentOffset); 
 			if (!blacklistedClassIDs.contains(unit.getStartingClass())) { // Remove any characters starting as a blacklisted class from consideration.
 				allChapterUnits.add(unit);
-				
+				unitArray = null;
 				if (unitAddress == allyUnitsOffset) {
 					knownAllyIDs.add(unit.getCharacterNumber());
 					if (unit.getLeaderID() == 0) { probableLordID = unit.getCharacterNumber(); }
@@ -403,75 +380,48 @@ public class FE6Chapter implements GBAFEChapterData {
 			}
 			
 			currentOffset += FE6Data.BytesPerChapterUnit;
-			unitData = handler.readBytesAtOffset(currentOffset, FE6Data.BytesPerChapterUnit);
 		}
 	}
 	
-	private void loadRewards(FileHandler handler) {
-		byte[] locationCommand;
+	private void loadRewards(ROMBuffer buffer, Set<Long> eventAddresses) {
 		long currentAddress = locationBasedEventsOffset;
-		locationCommand = handler.readBytesAtOffset(currentAddress, 12); // These events are only 12 bytes long.
-		while (locationCommand[0] == 0x05 || locationCommand[0] == 0x06 || locationCommand[0] == 0x0A || locationCommand[0] == 0x07 || locationCommand[0] == 0x08) {
-			if (locationCommand[0] == 0x07) {
+		byte locationCommand = buffer.byteAt(currentAddress); // These events are only 12 bytes long.
+		while (locationCommand == 0x05 || locationCommand == 0x06 || locationCommand == 0x0A || locationCommand == 0x07 || locationCommand == 0x08) {
+			if (locationCommand == 0x07) {
 				// We only care about CHES events.
 				// CHES includes money too, which we don't want, so only filter to those
 				// without money. The ID should only be in byte 4. Bytes 5, 6, and 7 should be 00s.
-				if (locationCommand[4] != 0x00 && locationCommand[5] == 0 && locationCommand[6] == 0 && locationCommand[7] == 0) {
-					allChapterRewards.add(new FE6ChapterItem(locationCommand, currentAddress));
+				if (buffer.byteAt(currentAddress + 4) != 0x00 && buffer.byteAt(currentAddress + 5) == 0 && buffer.byteAt(currentAddress + 6) == 0 && buffer.byteAt(currentAddress + 7) == 0) {
+					allChapterRewards.add(new FE6ChapterItem(buffer.bytesAt(currentAddress, 12), currentAddress));
 				}
 			}
 			
 			currentAddress += 12;
-			locationCommand = handler.readBytesAtOffset(currentAddress, 12);
+			locationCommand = buffer.byteAt(currentAddress);
 		}
-		if (locationCommand[0] != 0x00) {
+		if (locationCommand != 0x00) {
 			System.err.println("Unhandled character event type detected.");
 		}
 		
-		Set<Long> eventAddresses = eventAddressesFromTurnEvents(handler);
-		eventAddresses.addAll(eventAddressesFromCharacterEvents(handler));
-		eventAddresses.addAll(eventAddressesFromLocationEvents(handler));
-		eventAddresses.addAll(eventAddressesFromMiscEvents(handler));
-		eventAddresses.add(endingSceneOffset);
 		for (long eventOffset : eventAddresses) {
-			loadRewardsFromEventBlob(handler, eventOffset);
+			loadRewardsFromEventBlob(buffer, eventOffset);
 		}
 	}
 	
-	private void loadRewardsFromEventBlob(FileHandler handler, long eventOffset) {
+	private void loadRewardsFromEventBlob(ROMBuffer buffer, long eventOffset) {
 		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Searching for rewards beginning at 0x" + Long.toHexString(eventOffset));
-		byte[] commandWord;
-		long currentAddress = eventOffset;
-		commandWord = handler.readBytesAtOffset(currentAddress, 4);
-		while (commandWord[0] != 0x06) {
+		EventScriptScanner scanner = new EventScriptScanner(buffer, RewardScanCommands, eventOffset);
+		while (scanner.next()) {
 			// We just need ITGV.
-			if (commandWord[0] == 0x26) {
-				FE6ChapterItem chapterItem = new FE6ChapterItem(handler.readBytesAtOffset(currentAddress, 8), currentAddress);
+			if (scanner.opcode() == 0x26) {
+				FE6ChapterItem chapterItem = new FE6ChapterItem(buffer.bytesAt(scanner.offset(), 8), scanner.offset());
 				allChapterRewards.add(chapterItem);
-				DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found reward at offset 0x" + Long.toHexString(currentAddress) + " Item ID: 0x" + Integer.toHexString(chapterItem.getItemID()));
-				currentAddress += 4;
-			}
-			
-			if (commandWord[1] == 0 && commandWord[2] == 0 && commandWord[3] == 0) {
-				// BACG (0x03), LABEL (0x1B), MUSC (0x36), MUSS (0x37), DISA (0x30), ENUT (0x34), ENUF (0x35), STAL (0x02), CAM1(0xB, 0xC), CURF(0x2C, 0x2D), TEX1(0x7), MORETEXT(0x8), MNCH(0x3D), GOTO(0x1C) - 8 bytes
-				if (commandWord[0] == 0x03 || commandWord[0] == 0x1B || commandWord[0] == 0x36 || commandWord[0] == 0x37 || commandWord[0] == 0x30 ||
-						commandWord[0] == 0x34 || commandWord[0] == 0x35 || commandWord[0] == 0x02 || commandWord[0] == 0x0B || commandWord[0] == 0x0C ||
-						commandWord[0] == 0x2C || commandWord[0] == 0x2D || commandWord[0] == 0x07 || commandWord[0] == 0x08 || commandWord[0] == 0x3D ||
-						commandWord[0] == 0x1C) { 
-					currentAddress += 4;
-				} else if (commandWord[0] == 0x20 || commandWord[0] == 0x23 || commandWord[0] == 0x22) { // IFAF (0x20), IFEF (0x23), GOTO_IFET (0x22) - 12 bytes
-					currentAddress += 8;
-				} else if (commandWord[0] == 0x3F) { // LOMA (0x3F) - 16 bytes
-					currentAddress += 12;
-				}
+				DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found reward at offset 0x" + Long.toHexString(scanner.offset()) + " Item ID: 0x" + Integer.toHexString(chapterItem.getItemID()));
 			}
-			
-			currentAddress += 4;
-			commandWord = handler.readBytesAtOffset(currentAddress, 4);
 		}
 		
-		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Finished searching for rewards at 0x" + Long.toHexString(currentAddress));
+		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Finished searching for rewards at 0x" + Long.toHexString(scanner.offset()));
 	}
-
+	
 	public GBAFEChapterItemData chapterItemGivenToCharacter(int characterID) { return null; }
 }
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -119,18 +121,24 @@ public class FE6Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 		
 		public int ID;
 		
-		private static Map<Integer, Character> map = new HashMap<Integer, Character>();
-		
-		static {
+		private static Character[] byID = createIDTable();
+		private static Character[] createIDTable() {
+			int maxID = 0;
+			for (Character character : Character.values()) {
+				maxID = Math.max(maxID, character.ID);
+			}
+			Character[] table = new Character[maxID + 1];
 			for (Character character : Character.values()) {
-				map.put(character.ID, character);
+				table[character.ID] = character;
 			}
+			return table;
 		}
 		
 		private Character(final int id) { ID = id; }
 		
 		public static Character valueOf(int characterId) {
-			return map.get(characterId);
+			if (characterId < 0 || characterId >= byID.length) { return null; }
+			return byID[characterId];
 		}
 		
 		public static int[] characterIDsForCharacters(Character[] charArray) {
@@ -171,32 +179,32 @@ public class FE6Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 			}
 		}
 		
-		public static Set<Character> allPlayableCharacters = new HashSet<Character>(Arrays.asList(ROY, CLARINE, FA, SHIN, SUE, DAYAN, BARTH, BORS, WENDY, DOUGLAS, WOLT, DOROTHY, KLEIN, SAUL, ELEN, YODEL,
+		public static final Set<Character> allPlayableCharacters = Collections.unmodifiableSet(EnumSet.of(ROY, CLARINE, FA, SHIN, SUE, DAYAN, BARTH, BORS, WENDY, DOUGLAS, WOLT, DOROTHY, KLEIN, SAUL, ELEN, YODEL,
 				CHAD, KAREL, FIR, RUTGER, DIECK, OUJAY, GARET, ALAN, LANCE, PERCIVAL, IGRENE, MARCUS, ASTOL, WARD, LOT, BARTRE, LUGH, LILINA, HUGH, NIIME, REI, LALAM, YUNNO, THITO, THANY, ZEISS,
 				ELFIN, CASS, SOPHIA, MILEDY, GONZALES, NOAH, TRECK, ZEALOT, ECHIDNA, CECILIA, GEESE));
 		
-		public static Set<Character> allBossCharacters = new HashSet<Character>(Arrays.asList(DAMAS, RUDE, SLATER, ERIK, DORY, WAGNER, DEVIAS, LEGYLANCE, SCOTT, NORD, FLAER, ORO, ROBARTS, AINE,
+		public static final Set<Character> allBossCharacters = Collections.unmodifiableSet(EnumSet.of(DAMAS, RUDE, SLATER, ERIK, DORY, WAGNER, DEVIAS, LEGYLANCE, SCOTT, NORD, FLAER, ORO, ROBARTS, AINE,
 				NARSHEN, RANDY, ROSE, MAGGIE, RAETH, ARCARD, MARTEL, SIGUNE, ROARTZ, MURDOCK, BRUNYA, ZINC, MONKE, GEL, SCOLLAN, GRERO, OHTZ, TECK, THORIL, BRAKUL, KUDOKA, MARRAL, KABUL, CHAN, PERETH,
 				WINDAM, MORGAN));
 		
-		public static Set<Character> restrictedClassCharacters = new HashSet<Character>(Arrays.asList(THITO, MILEDY, GALE, NARSHEN, ROY));
+		public static final Set<Character> restrictedClassCharacters = Collections.unmodifiableSet(EnumSet.of(THITO, MILEDY, GALE, NARSHEN, ROY));
 		
-		public static Set<Character> allLords = new HashSet<Character>(Arrays.asList(ROY));
-		public static Set<Character> allThieves = new HashSet<Character>(Arrays.asList(CHAD, ASTOL, CASS));
-		public static Set<Character> doNotChange = new HashSet<Character>(Arrays.asList(ZEPHIEL, YAHN, IDOUN, MERLINUS, FA));
+		public static final Set<Character> allLords = Collections.unmodifiableSet(EnumSet.of(ROY));
+		public static final Set<Character> allThieves = Collections.unmodifiableSet(EnumSet.of(CHAD, ASTOL, CASS));
+		public static final Set<Character> doNotChange = Collections.unmodifiableSet(EnumSet.of(ZEPHIEL, YAHN, IDOUN, MERLINUS, FA));
 		
-		public static Set<Character> charactersThatRequireRange = new HashSet<Character>(Arrays.asList());
-		public static Set<Character> charactersThatRequireMelee = new HashSet<Character>(Arrays.asList());
+		public static final Set<Character> charactersThatRequireRange = Collections.unmodifiableSet(EnumSet.noneOf(Character.class));
+		public static final Set<Character> charactersThatRequireMelee = Collections.unmodifiableSet(EnumSet.noneOf(Character.class));
 		
-		public static Set<Character> requiredFliers = new HashSet<Character>(Arrays.asList(THITO, MILEDY, GALE, NARSHEN));
-		public static Set<Character> requiredAttackers = new HashSet<Character>(Arrays.asList(ROY));
+		public static final Set<Character> requiredFliers = Collections.unmodifiableSet(EnumSet.of(THITO, MILEDY, GALE, NARSHEN));
+		public static final Set<Character> requiredAttackers = Collections.unmodifiableSet(EnumSet.of(ROY));
 		
-		public static Set<Character> femaleSet = new HashSet<Character>(Arrays.asList(CLARINE, FA, SUE, WENDY, DOROTHY, ELEN, FIR, IGRENE, LILINA, NIIME, LALAM, YUNNO, THITO, THANY, 
+		public static final Set<Character> femaleSet = Collections.unmodifiableSet(EnumSet.of(CLARINE, FA, SUE, WENDY, DOROTHY, ELEN, FIR, IGRENE, LILINA, NIIME, LALAM, YUNNO, THITO, THANY, 
 				CASS, SOPHIA, MILEDY, ECHIDNA, CECILIA, GUINEVERE, TATE_UNIT, NIIME_NPC, YUNNO_NPC, THITO_NPC, ECHIDNA_NPC, THITO_ENEMY, SIGUNE, BRUNYA, IDOUN));
 		
-		public static Set<Character> requiresPromotion = new HashSet<Character>(Arrays.asList(ROY));
+		public static final Set<Character> requiresPromotion = Collections.unmodifiableSet(EnumSet.of(ROY));
 		
-		public static Set<Character> doNotBuff = new HashSet<Character>(Arrays.asList());
+		public static final Set<Character> doNotBuff = Collections.unmodifiableSet(EnumSet.noneOf(Character.class));
 		
 		public Boolean isLord() {
 			return allLords.contains(this);
@@ -296,18 +304,24 @@ public class FE6Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 		
 		public int ID;
 		
-		private static Map<Integer, CharacterClass> map = new HashMap<Integer, CharacterClass>();
-		
-		static {
+		private static CharacterClass[] byID = createIDTable();
+		private static CharacterClass[] createIDTable() {
+			int maxID = 0;
 			for (CharacterClass charClass : CharacterClass.values()) {
-				map.put(charClass.ID, charClass);
+				maxID = Math.max(maxID, charClass.ID);
 			}
+			CharacterClass[] table = new CharacterClass[maxID + 1];
+			for (CharacterClass charClass : CharacterClass.values()) {
+				table[charClass.ID] = charClass;
+			}
+			return table;
 		}
 		
 		private CharacterClass(final int id) { ID = id; }
 		
 		public static CharacterClass valueOf(int classId) {
-			return map.get(classId);
+			if (classId < 0 || classId >= byID.length) { return null; }
+			return byID[classId];
 		}
 		
 		public static Comparator<CharacterClass> classIDComparator() {
@@ -327,35 +341,35 @@ public class FE6Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 			return ID;
 		}
 		
-		public static Set<CharacterClass> allMaleClasses = new HashSet<CharacterClass>(Arrays.asList(LORD, MERCENARY, MYRMIDON, FIGHTER, KNIGHT, ARCHER, PRIEST, MAGE, SHAMAN, 
+		public static final Set<CharacterClass> allMaleClasses = Collections.unmodifiableSet(EnumSet.of(LORD, MERCENARY, MYRMIDON, FIGHTER, KNIGHT, ARCHER, PRIEST, MAGE, SHAMAN, 
 				CAVALIER, NOMAD, WYVERN_RIDER, SOLDIER, BRIGAND, PIRATE, THIEF, BARD, HERO, SWORDMASTER, WARRIOR, GENERAL, SNIPER, BISHOP, SAGE, DRUID, PALADIN, NOMAD_TROOPER, WYVERN_KNIGHT,
 				BERSERKER, /*MANAKETE,*/ MASTER_LORD));
-		public static Set<CharacterClass> allFemaleClasses = new HashSet<CharacterClass>(Arrays.asList(MYRMIDON_F, KNIGHT_F, ARCHER_F, CLERIC, MAGE_F, SHAMAN_F, TROUBADOUR, NOMAD_F, PEGASUS_KNIGHT, 
+		public static final Set<CharacterClass> allFemaleClasses = Collections.unmodifiableSet(EnumSet.of(MYRMIDON_F, KNIGHT_F, ARCHER_F, CLERIC, MAGE_F, SHAMAN_F, TROUBADOUR, NOMAD_F, PEGASUS_KNIGHT, 
 				WYVERN_RIDER_F, THIEF_F, DANCER, HERO_F, SWORDMASTER_F, GENERAL_F, SNIPER_F, BISHOP_F, SAGE_F, DRUID_F, VALKYRIE, NOMAD_TROOPER_F, FALCON_KNIGHT, WYVERN_KNIGHT_F, MANAKETE_F));
-		public static Set<CharacterClass> allLordClasses = new HashSet<CharacterClass>(Arrays.asList(LORD, MASTER_LORD));
-		public static Set<CharacterClass> allThiefClasses = new HashSet<CharacterClass>(Arrays.asList(THIEF));
-		public static Set<CharacterClass> allUnpromotedClasses = new HashSet<CharacterClass>(Arrays.asList(LORD, MERCENARY, MYRMIDON, FIGHTER, KNIGHT, ARCHER, PRIEST, MAGE, SHAMAN,
+		public static final Set<CharacterClass> allLordClasses = Collections.unmodifiableSet(EnumSet.of(LORD, MASTER_LORD));
+		public static final Set<CharacterClass> allThiefClasses = Collections.unmodifiableSet(EnumSet.of(THIEF));
+		public static final Set<CharacterClass> allUnpromotedClasses = Collections.unmodifiableSet(EnumSet.of(LORD, MERCENARY, MYRMIDON, FIGHTER, KNIGHT, ARCHER, PRIEST, MAGE, SHAMAN,
 				CAVALIER, NOMAD, WYVERN_RIDER, SOLDIER, BRIGAND, PIRATE, THIEF, BARD, MYRMIDON_F, KNIGHT_F, ARCHER_F, CLERIC, MAGE_F, SHAMAN_F, TROUBADOUR, NOMAD_F, PEGASUS_KNIGHT, WYVERN_RIDER_F, THIEF_F, DANCER));
-		public static Set<CharacterClass> allPromotedClasses = new HashSet<CharacterClass>(Arrays.asList(MASTER_LORD, HERO, SWORDMASTER, WARRIOR, GENERAL, SNIPER, BISHOP, SAGE, DRUID,
+		public static final Set<CharacterClass> allPromotedClasses = Collections.unmodifiableSet(EnumSet.of(MASTER_LORD, HERO, SWORDMASTER, WARRIOR, GENERAL, SNIPER, BISHOP, SAGE, DRUID,
 				PALADIN, NOMAD_TROOPER, WYVERN_KNIGHT, BERSERKER, /*MANAKETE,*/ MASTER_LORD, HERO_F, SWORDMASTER_F, GENERAL_F, SNIPER_F, BISHOP_F, SAGE_F, DRUID_F, VALKYRIE, NOMAD_TROOPER_F, FALCON_KNIGHT, WYVERN_KNIGHT_F,
 				MANAKETE_F));
-		public static Set<CharacterClass> allPacifistClasses = new HashSet<CharacterClass>(Arrays.asList(DANCER, BARD, PRIEST, CLERIC, TROUBADOUR));
-		public static Set<CharacterClass> allMeleeLockedClasses = new HashSet<CharacterClass>(Arrays.asList(MYRMIDON, MERCENARY, LORD, THIEF));
+		public static final Set<CharacterClass> allPacifistClasses = Collections.unmodifiableSet(EnumSet.of(DANCER, BARD, PRIEST, CLERIC, TROUBADOUR));
+		public static final Set<CharacterClass> allMeleeLockedClasses = Collections.unmodifiableSet(EnumSet.of(MYRMIDON, MERCENARY, LORD, THIEF));
 		
-		public static Set<CharacterClass> allValidClasses = new HashSet<CharacterClass>(Arrays.asList(LORD, MERCENARY, MYRMIDON, FIGHTER, KNIGHT, ARCHER, PRIEST, MAGE, SHAMAN, CAVALIER, NOMAD,
+		public static final Set<CharacterClass> allValidClasses = Collections.unmodifiableSet(EnumSet.of(LORD, MERCENARY, MYRMIDON, FIGHTER, KNIGHT, ARCHER, PRIEST, MAGE, SHAMAN, CAVALIER, NOMAD,
 				WYVERN_RIDER, SOLDIER, BRIGAND, PIRATE, THIEF, BARD, HERO, SWORDMASTER, WARRIOR, GENERAL, SNIPER, BISHOP, SAGE, DRUID, PALADIN, NOMAD_TROOPER, WYVERN_KNIGHT,
 				BERSERKER, /*MANAKETE,*/ MASTER_LORD, MYRMIDON_F, KNIGHT_F, ARCHER_F, CLERIC, MAGE_F, SHAMAN_F, TROUBADOUR, NOMAD_F, PEGASUS_KNIGHT, WYVERN_RIDER_F, THIEF_F, DANCER, HERO_F, SWORDMASTER_F, GENERAL_F, SNIPER_F,
 				BISHOP_F, SAGE_F, DRUID_F, VALKYRIE, NOMAD_TROOPER_F, FALCON_KNIGHT, WYVERN_KNIGHT_F/*, MANAKETE_F*/));
 		
-		public static Set<CharacterClass> flyingClasses = new HashSet<CharacterClass>(Arrays.asList(WYVERN_KNIGHT, WYVERN_KNIGHT_F, WYVERN_RIDER, WYVERN_RIDER_F, PEGASUS_KNIGHT));
+		public static final Set<CharacterClass> flyingClasses = Collections.unmodifiableSet(EnumSet.of(WYVERN_KNIGHT, WYVERN_KNIGHT_F, WYVERN_RIDER, WYVERN_RIDER_F, PEGASUS_KNIGHT));
 		
 		// Includes most sword locks. Yes, they gain range with magic swords, but we're not going to assume they can use magic swords.
-		public static Set<CharacterClass> meleeOnlyClasses = new HashSet<CharacterClass>(Arrays.asList(LORD, MERCENARY, MYRMIDON, SWORDMASTER, MASTER_LORD, MYRMIDON_F, THIEF, THIEF_F, SWORDMASTER_F, MANAKETE_F));
-		public static Set<CharacterClass> rangedOnlyClasses = new HashSet<CharacterClass>(Arrays.asList(NOMAD, ARCHER, SNIPER, SNIPER_F, NOMAD_F));
+		public static final Set<CharacterClass> meleeOnlyClasses = Collections.unmodifiableSet(EnumSet.of(LORD, MERCENARY, MYRMIDON, SWORDMASTER, MASTER_LORD, MYRMIDON_F, THIEF, THIEF_F, SWORDMASTER_F, MANAKETE_F));
+		public static final Set<CharacterClass> rangedOnlyClasses = Collections.unmodifiableSet(EnumSet.of(NOMAD, ARCHER, SNIPER, SNIPER_F, NOMAD_F));
 		
-		public static Map<CharacterClass, CharacterClass> promotionMap = createPromotionMap();
+		public static final Map<CharacterClass, CharacterClass> promotionMap = Collections.unmodifiableMap(createPromotionMap());
 		private static Map<CharacterClass, CharacterClass> createPromotionMap() {
-			Map<CharacterClass, CharacterClass> map = new HashMap<CharacterClass, CharacterClass>();
+			Map<CharacterClass, CharacterClass> map = new EnumMap<CharacterClass, CharacterClass>(CharacterClass.class);
 			map.put(LORD, MASTER_LORD);
 			map.put(MERCENARY, HERO);
 			map.put(MYRMIDON, SWORDMASTER);
@@ -598,18 +612,24 @@ public class FE6Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 		
 		public int ID;
 		
-		private static Map<Integer, Item> map = new HashMap<Integer, Item>();
-		
-		static {
+		private static Item[] byID = createIDTable();
+		private static Item[] createIDTable() {
+			int maxID = 0;
+			for (Item item : Item.values()) {
+				maxID = Math.max(maxID, item.ID);
+			}
+			Item[] table = new Item[maxID + 1];
 			for (Item item : Item.values()) {
-				map.put(item.ID, item);
+				table[item.ID] = item;
 			}
+			return table;
 		}
 		
 		private Item(final int id) { ID = id; }
 		
 		public static Item valueOf(int itemId) {
-			return map.get(itemId);
+			if (itemId < 0 || itemId >= byID.length) { return null; }
+			return byID[itemId];
 		}
 		
 		public static int[] itemIDsForItemArray(Item[] itemArray) {
@@ -831,26 +851,26 @@ public class FE6Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 			}
 		}
 		
-		public static Set<Item> allSwords = new HashSet<Item>(Arrays.asList(IRON_SWORD, SLIM_SWORD, RAPIER, AL_SWORD, POISON_SWORD, STEEL_SWORD, IRON_BLADE, ARMORSLAYER, WO_DAO, STEEL_BLADE, KILLING_EDGE,
+		public static final Set<Item> allSwords = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, SLIM_SWORD, RAPIER, AL_SWORD, POISON_SWORD, STEEL_SWORD, IRON_BLADE, ARMORSLAYER, WO_DAO, STEEL_BLADE, KILLING_EDGE,
 				WYRMSLAYER, LIGHT_BRAND, LANCEREAVER, BRAVE_SWORD, SILVER_SWORD, SILVER_BLADE, RUNE_SWORD, DURANDAL, ECKESACHS, BINDING_BLADE));
-		public static Set<Item> allLances = new HashSet<Item>(Arrays.asList(IRON_LANCE, STEEL_LANCE, SILVER_LANCE, SLIM_LANCE, POISON_LANCE, BRAVE_LANCE, JAVELIN, MALTET, HORSESLAYER,
+		public static final Set<Item> allLances = Collections.unmodifiableSet(EnumSet.of(IRON_LANCE, STEEL_LANCE, SILVER_LANCE, SLIM_LANCE, POISON_LANCE, BRAVE_LANCE, JAVELIN, MALTET, HORSESLAYER,
 				KILLER_LANCE, AXEREAVER, GANT_LANCE, SPEAR));
-		public static Set<Item> allAxes = new HashSet<Item>(Arrays.asList(IRON_AXE, STEEL_AXE, SILVER_AXE, POISON_AXE, BRAVE_AXE, HAND_AXE, ARMADS, HAMMER, KILLER_AXE, SWORDREAVER, DEVIL_AXE,
+		public static final Set<Item> allAxes = Collections.unmodifiableSet(EnumSet.of(IRON_AXE, STEEL_AXE, SILVER_AXE, POISON_AXE, BRAVE_AXE, HAND_AXE, ARMADS, HAMMER, KILLER_AXE, SWORDREAVER, DEVIL_AXE,
 				HALBERD, TOMAHAWK));
-		public static Set<Item> allBows = new HashSet<Item>(Arrays.asList(IRON_BOW, STEEL_BOW, SILVER_BOW, POISON_BOW, KILLER_BOW, BRAVE_BOW, SHORT_BOW, LONGBOW, MURGLEIS));
-		public static Set<Item> allAnima = new HashSet<Item>(Arrays.asList(FIRE, THUNDER, FIMBULVETR, ELFIRE, AIRCALIBUR, BOLTING, FORBLAZE));
-		public static Set<Item> allLight = new HashSet<Item>(Arrays.asList(LIGHTNING, DIVINE, PURGE, AUREOLA));
-		public static Set<Item> allDark = new HashSet<Item>(Arrays.asList(FLUX, NOSFERATU, ECLIPSE, FENRIR, APOCALYPSE));
-		public static Set<Item> allHealingStaves = new HashSet<Item>(Arrays.asList(HEAL, MEND, RECOVER, PHYSIC, FORTIFY, TINA_STAFF, HOLY_MAIDEN));
-		public static Set<Item> allSupportStaves = new HashSet<Item>(Arrays.asList(RESTORE, WARP, RESCUE, TORCH_STAFF, HAMMERNE, UNLOCK, BARRIER));
-		public static Set<Item> allStatusStaves = new HashSet<Item>(Arrays.asList(SILENCE, SLEEP, BERSERK));
-		public static Set<Item> allStatBoosters = new HashSet<Item>(Arrays.asList(ANGELIC_ROBE, ENERGY_RING, SECRET_BOOK, SPEEDWING, GODDESS_ICON, DRAGON_SHIELD, TALISMAN, BOOTS, BODY_RING));
-		public static Set<Item> allPromotionItems = new HashSet<Item>(Arrays.asList(HERO_CREST, KNIGHT_CREST, ORION_BOLT, ELYSIAN_WHIP, GUIDING_RING));
-		public static Set<Item> allSpecialItems = new HashSet<Item>(Arrays.asList(DELPHI_SHIELD, MEMBER_CARD, SILVER_CARD));
-		public static Set<Item> allMoneyItems = new HashSet<Item>(Arrays.asList(WHITE_GEM, BLUE_GEM, RED_GEM));
-		public static Set<Item> usableItems = new HashSet<Item>(Arrays.asList(CHEST_KEY_5, DOOR_KEY, LOCKPICK, VULNERARY, ELIXIR, PURE_WATER, ANTITOXIN, TORCH));
-		
-		public static Set<Item> allPotentialRewards = new HashSet<Item>(Arrays.asList(IRON_SWORD, SLIM_SWORD, IRON_LANCE, SLIM_LANCE, JAVELIN, POISON_LANCE, HAND_AXE, IRON_AXE, STEEL_AXE,
+		public static final Set<Item> allBows = Collections.unmodifiableSet(EnumSet.of(IRON_BOW, STEEL_BOW, SILVER_BOW, POISON_BOW, KILLER_BOW, BRAVE_BOW, SHORT_BOW, LONGBOW, MURGLEIS));
+		public static final Set<Item> allAnima = Collections.unmodifiableSet(EnumSet.of(FIRE, THUNDER, FIMBULVETR, ELFIRE, AIRCALIBUR, BOLTING, FORBLAZE));
+		public static final Set<Item> allLight = Collections.unmodifiableSet(EnumSet.of(LIGHTNING, DIVINE, PURGE, AUREOLA));
+		public static final Set<Item> allDark = Collections.unmodifiableSet(EnumSet.of(FLUX, NOSFERATU, ECLIPSE, FENRIR, APOCALYPSE));
+		public static final Set<Item> allHealingStaves = Collections.unmodifiableSet(EnumSet.of(HEAL, MEND, RECOVER, PHYSIC, FORTIFY, TINA_STAFF, HOLY_MAIDEN));
+		public static final Set<Item> allSupportStaves = Collections.unmodifiableSet(EnumSet.of(RESTORE, WARP, RESCUE, TORCH_STAFF, HAMMERNE, UNLOCK, BARRIER));
+		public static final Set<Item> allStatusStaves = Collections.unmodifiableSet(EnumSet.of(SILENCE, SLEEP, BERSERK));
+		public static final Set<Item> allStatBoosters = Collections.unmodifiableSet(EnumSet.of(ANGELIC_ROBE, ENERGY_RING, SECRET_BOOK, SPEEDWING, GODDESS_ICON, DRAGON_SHIELD, TALISMAN, BOOTS, BODY_RING));
+		public static final Set<Item> allPromotionItems = Collections.unmodifiableSet(EnumSet.of(HERO_CREST, KNIGHT_CREST, ORION_BOLT, ELYSIAN_WHIP, GUIDING_RING));
+		public static final Set<Item> allSpecialItems = Collections.unmodifiableSet(EnumSet.of(DELPHI_SHIELD, MEMBER_CARD, SILVER_CARD));
+		public static final Set<Item> allMoneyItems = Collections.unmodifiableSet(EnumSet.of(WHITE_GEM, BLUE_GEM, RED_GEM));
+		public static final Set<Item> usableItems = Collections.unmodifiableSet(EnumSet.of(CHEST_KEY_5, DOOR_KEY, LOCKPICK, VULNERARY, ELIXIR, PURE_WATER, ANTITOXIN, TORCH));
+		
+		public static final Set<Item> allPotentialRewards = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, SLIM_SWORD, IRON_LANCE, SLIM_LANCE, JAVELIN, POISON_LANCE, HAND_AXE, IRON_AXE, STEEL_AXE,
 				DEVIL_AXE, IRON_BOW, FIRE, LIGHTNING, HEAL, POISON_SWORD, STEEL_SWORD, IRON_BLADE, ARMORSLAYER, WO_DAO, STEEL_LANCE, HORSESLAYER, POISON_AXE, HALBERD, HAMMER, POISON_BOW,
 				SHORT_BOW, LONGBOW, STEEL_BOW, THUNDER, FLUX, MEND, TORCH_STAFF, UNLOCK, STEEL_BLADE, KILLING_EDGE, WYRMSLAYER, LIGHT_BRAND, LANCEREAVER, KILLER_LANCE, AXEREAVER, KILLER_AXE, SWORDREAVER, 
 				KILLER_BOW, ELFIRE, AIRCALIBUR, DIVINE, NOSFERATU, RECOVER, RESTORE, HAMMERNE, BARRIER, BRAVE_SWORD, BRAVE_LANCE, SPEAR, BRAVE_AXE, BRAVE_BOW, BOLTING, PURGE, ECLIPSE, PHYSIC, SILENCE, SLEEP, BERSERK, 
@@ -861,47 +881,47 @@ public class FE6Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 				DELPHI_SHIELD, MEMBER_CARD, SILVER_CARD,
 				WHITE_GEM, BLUE_GEM, RED_GEM));
 		
-		public static Set<Item> allWeapons = new HashSet<Item>(Arrays.asList(IRON_SWORD, SLIM_SWORD, RAPIER, AL_SWORD, POISON_SWORD, STEEL_SWORD, IRON_BLADE, ARMORSLAYER, WO_DAO, STEEL_BLADE, KILLING_EDGE,
+		public static final Set<Item> allWeapons = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, SLIM_SWORD, RAPIER, AL_SWORD, POISON_SWORD, STEEL_SWORD, IRON_BLADE, ARMORSLAYER, WO_DAO, STEEL_BLADE, KILLING_EDGE,
 				WYRMSLAYER, LIGHT_BRAND, LANCEREAVER, BRAVE_SWORD, SILVER_SWORD, SILVER_BLADE, RUNE_SWORD, DURANDAL, ECKESACHS, BINDING_BLADE, IRON_LANCE, STEEL_LANCE, SILVER_LANCE, SLIM_LANCE, POISON_LANCE, 
 				BRAVE_LANCE, JAVELIN, MALTET, HORSESLAYER, KILLER_LANCE, AXEREAVER, GANT_LANCE, SPEAR, IRON_AXE, STEEL_AXE, SILVER_AXE, POISON_AXE, BRAVE_AXE, HAND_AXE, ARMADS, HAMMER, KILLER_AXE, SWORDREAVER, DEVIL_AXE,
 				HALBERD, TOMAHAWK, IRON_BOW, STEEL_BOW, SILVER_BOW, POISON_BOW, KILLER_BOW, BRAVE_BOW, SHORT_BOW, LONGBOW, MURGLEIS, FIRE, THUNDER, FIMBULVETR, ELFIRE, AIRCALIBUR, BOLTING, FORBLAZE,
 				LIGHTNING, DIVINE, PURGE, AUREOLA, FLUX, NOSFERATU, ECLIPSE, FENRIR, APOCALYPSE));
-		public static Set<Item> allRangedWeapons = new HashSet<Item>(Arrays.asList(LIGHT_BRAND, RUNE_SWORD, ECKESACHS, BINDING_BLADE, JAVELIN, SPEAR, HAND_AXE, TOMAHAWK, IRON_BOW, STEEL_BOW,
+		public static final Set<Item> allRangedWeapons = Collections.unmodifiableSet(EnumSet.of(LIGHT_BRAND, RUNE_SWORD, ECKESACHS, BINDING_BLADE, JAVELIN, SPEAR, HAND_AXE, TOMAHAWK, IRON_BOW, STEEL_BOW,
 				SILVER_BOW, POISON_BOW, KILLER_BOW, BRAVE_BOW, SHORT_BOW, LONGBOW, MURGLEIS, FIRE, THUNDER, ELFIRE, FIMBULVETR, FORBLAZE, AIRCALIBUR, LIGHTNING, DIVINE, AUREOLA, FLUX, NOSFERATU, FENRIR, APOCALYPSE));
-		public static Set<Item> allStaves = new HashSet<Item>(Arrays.asList(HEAL, MEND, RECOVER, PHYSIC, FORTIFY, RESTORE, WARP, RESCUE, TORCH_STAFF, HAMMERNE, UNLOCK, BARRIER, SILENCE, SLEEP, BERSERK, TINA_STAFF, HOLY_MAIDEN));
+		public static final Set<Item> allStaves = Collections.unmodifiableSet(EnumSet.of(HEAL, MEND, RECOVER, PHYSIC, FORTIFY, RESTORE, WARP, RESCUE, TORCH_STAFF, HAMMERNE, UNLOCK, BARRIER, SILENCE, SLEEP, BERSERK, TINA_STAFF, HOLY_MAIDEN));
 		
-		public static Set<Item> allSiegeTomes = new HashSet<Item>(Arrays.asList(BOLTING, PURGE, ECLIPSE));
+		public static final Set<Item> allSiegeTomes = Collections.unmodifiableSet(EnumSet.of(BOLTING, PURGE, ECLIPSE));
 		
-		public static Set<Item> allERank = new HashSet<Item>(Arrays.asList(IRON_SWORD, SLIM_SWORD, IRON_LANCE, SLIM_LANCE, JAVELIN, POISON_LANCE, HAND_AXE, IRON_AXE, STEEL_AXE, DEVIL_AXE, IRON_BOW, FIRE, LIGHTNING, HEAL, TINA_STAFF));
-		public static Set<Item> allDRank = new HashSet<Item>(Arrays.asList(AL_SWORD, POISON_SWORD, STEEL_SWORD, IRON_BLADE, ARMORSLAYER, WO_DAO, STEEL_LANCE, GANT_LANCE, HORSESLAYER, POISON_AXE, HALBERD, HAMMER, POISON_BOW,
+		public static final Set<Item> allERank = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, SLIM_SWORD, IRON_LANCE, SLIM_LANCE, JAVELIN, POISON_LANCE, HAND_AXE, IRON_AXE, STEEL_AXE, DEVIL_AXE, IRON_BOW, FIRE, LIGHTNING, HEAL, TINA_STAFF));
+		public static final Set<Item> allDRank = Collections.unmodifiableSet(EnumSet.of(AL_SWORD, POISON_SWORD, STEEL_SWORD, IRON_BLADE, ARMORSLAYER, WO_DAO, STEEL_LANCE, GANT_LANCE, HORSESLAYER, POISON_AXE, HALBERD, HAMMER, POISON_BOW,
 				SHORT_BOW, LONGBOW, STEEL_BOW, THUNDER, FLUX, MEND, TORCH_STAFF, UNLOCK));
-		public static Set<Item> allCRank = new HashSet<Item>(Arrays.asList(STEEL_BLADE, KILLING_EDGE, WYRMSLAYER, LIGHT_BRAND, LANCEREAVER, KILLER_LANCE, AXEREAVER, KILLER_AXE, SWORDREAVER, 
+		public static final Set<Item> allCRank = Collections.unmodifiableSet(EnumSet.of(STEEL_BLADE, KILLING_EDGE, WYRMSLAYER, LIGHT_BRAND, LANCEREAVER, KILLER_LANCE, AXEREAVER, KILLER_AXE, SWORDREAVER, 
 				KILLER_BOW, ELFIRE, DIVINE, NOSFERATU, RECOVER, RESTORE, HAMMERNE, BARRIER));
-		public static Set<Item> allBRank = new HashSet<Item>(Arrays.asList(BRAVE_SWORD, BRAVE_LANCE, SPEAR, BRAVE_AXE, BRAVE_BOW, AIRCALIBUR, ECLIPSE, PHYSIC, SILENCE, SLEEP, BERSERK, RESCUE));
-		public static Set<Item> allARank = new HashSet<Item>(Arrays.asList(SILVER_SWORD, SILVER_BLADE, RUNE_SWORD, SILVER_LANCE, TOMAHAWK, SILVER_AXE, SILVER_BOW, FIMBULVETR, BOLTING, PURGE, FENRIR, FORTIFY, WARP));
-		public static Set<Item> allSRank = new HashSet<Item>(Arrays.asList(DURANDAL, MALTET, ARMADS, MURGLEIS, FORBLAZE, APOCALYPSE, HOLY_MAIDEN, AUREOLA));
-		public static Set<Item> allPrfRank = new HashSet<Item>(Arrays.asList(RAPIER, BINDING_BLADE, ECKESACHS));
+		public static final Set<Item> allBRank = Collections.unmodifiableSet(EnumSet.of(BRAVE_SWORD, BRAVE_LANCE, SPEAR, BRAVE_AXE, BRAVE_BOW, AIRCALIBUR, ECLIPSE, PHYSIC, SILENCE, SLEEP, BERSERK, RESCUE));
+		public static final Set<Item> allARank = Collections.unmodifiableSet(EnumSet.of(SILVER_SWORD, SILVER_BLADE, RUNE_SWORD, SILVER_LANCE, TOMAHAWK, SILVER_AXE, SILVER_BOW, FIMBULVETR, BOLTING, PURGE, FENRIR, FORTIFY, WARP));
+		public static final Set<Item> allSRank = Collections.unmodifiableSet(EnumSet.of(DURANDAL, MALTET, ARMADS, MURGLEIS, FORBLAZE, APOCALYPSE, HOLY_MAIDEN, AUREOLA));
+		public static final Set<Item> allPrfRank = Collections.unmodifiableSet(EnumSet.of(RAPIER, BINDING_BLADE, ECKESACHS));
 		
-		public static Set<Item> normalSet = new HashSet<Item>(Arrays.asList(IRON_SWORD, SLIM_SWORD, AL_SWORD, STEEL_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_SWORD, SILVER_BLADE, IRON_LANCE, STEEL_LANCE, SILVER_LANCE, SLIM_LANCE, 
+		public static final Set<Item> normalSet = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, SLIM_SWORD, AL_SWORD, STEEL_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_SWORD, SILVER_BLADE, IRON_LANCE, STEEL_LANCE, SILVER_LANCE, SLIM_LANCE, 
 				GANT_LANCE, IRON_AXE, STEEL_AXE, SILVER_AXE, IRON_BOW, STEEL_BOW, SILVER_BOW, FIRE, THUNDER, FIMBULVETR, ELFIRE, LIGHTNING, DIVINE, FLUX, FENRIR, HEAL, MEND, RECOVER, TINA_STAFF));
-		public static Set<Item> interestingSet = new HashSet<Item>(Arrays.asList(RAPIER, POISON_SWORD, ARMORSLAYER, WO_DAO, KILLING_EDGE, WYRMSLAYER, LIGHT_BRAND, LANCEREAVER, BRAVE_SWORD, RUNE_SWORD, POISON_LANCE, 
+		public static final Set<Item> interestingSet = Collections.unmodifiableSet(EnumSet.of(RAPIER, POISON_SWORD, ARMORSLAYER, WO_DAO, KILLING_EDGE, WYRMSLAYER, LIGHT_BRAND, LANCEREAVER, BRAVE_SWORD, RUNE_SWORD, POISON_LANCE, 
 				BRAVE_LANCE, JAVELIN, HORSESLAYER, KILLER_LANCE, AXEREAVER, SPEAR, POISON_AXE, BRAVE_AXE, HAND_AXE, HAMMER, KILLER_AXE, SWORDREAVER, DEVIL_AXE,
 				HALBERD, TOMAHAWK, POISON_BOW, KILLER_BOW, BRAVE_BOW, SHORT_BOW, LONGBOW, AIRCALIBUR, BOLTING, PURGE, NOSFERATU, ECLIPSE, PHYSIC, FORTIFY, RESTORE, WARP, RESCUE, TORCH_STAFF, HAMMERNE, UNLOCK, BARRIER,
 				SILENCE, SLEEP, BERSERK, HOLY_MAIDEN));
 		
 		// These must be of lower rank than the siege tomes set, and each weapon type needs to have an equivalent analogue.
-		public static Set<Item> siegeReplacementSet = new HashSet<Item>(Arrays.asList(NOSFERATU, DIVINE, ELFIRE));
+		public static final Set<Item> siegeReplacementSet = Collections.unmodifiableSet(EnumSet.of(NOSFERATU, DIVINE, ELFIRE));
 		
-		public static Set<Item> killerSet = new HashSet<Item>(Arrays.asList(KILLING_EDGE, WO_DAO, KILLER_LANCE, KILLER_AXE, KILLER_BOW));
-		public static Set<Item> effectiveSet = new HashSet<Item>(Arrays.asList(ARMORSLAYER, WYRMSLAYER, RAPIER, HORSESLAYER, HAMMER, HALBERD, AIRCALIBUR));
-		public static Set<Item> poisonSet = new HashSet<Item>(Arrays.asList(POISON_SWORD, POISON_LANCE, POISON_AXE, POISON_BOW));
-		public static Set<Item> rangedSet = new HashSet<Item>(Arrays.asList(LIGHT_BRAND, RUNE_SWORD, JAVELIN, SPEAR, HAND_AXE, TOMAHAWK, LONGBOW, BOLTING, PURGE, ECLIPSE, PHYSIC));
-		public static Set<Item> reaverSet = new HashSet<Item>(Arrays.asList(LANCEREAVER, AXEREAVER, SWORDREAVER));
-		public static Set<Item> braveSet = new HashSet<Item>(Arrays.asList(BRAVE_SWORD, BRAVE_LANCE, BRAVE_AXE, BRAVE_BOW));
+		public static final Set<Item> killerSet = Collections.unmodifiableSet(EnumSet.of(KILLING_EDGE, WO_DAO, KILLER_LANCE, KILLER_AXE, KILLER_BOW));
+		public static final Set<Item> effectiveSet = Collections.unmodifiableSet(EnumSet.of(ARMORSLAYER, WYRMSLAYER, RAPIER, HORSESLAYER, HAMMER, HALBERD, AIRCALIBUR));
+		public static final Set<Item> poisonSet = Collections.unmodifiableSet(EnumSet.of(POISON_SWORD, POISON_LANCE, POISON_AXE, POISON_BOW));
+		public static final Set<Item> rangedSet = Collections.unmodifiableSet(EnumSet.of(LIGHT_BRAND, RUNE_SWORD, JAVELIN, SPEAR, HAND_AXE, TOMAHAWK, LONGBOW, BOLTING, PURGE, ECLIPSE, PHYSIC));
+		public static final Set<Item> reaverSet = Collections.unmodifiableSet(EnumSet.of(LANCEREAVER, AXEREAVER, SWORDREAVER));
+		public static final Set<Item> braveSet = Collections.unmodifiableSet(EnumSet.of(BRAVE_SWORD, BRAVE_LANCE, BRAVE_AXE, BRAVE_BOW));
 		
-		public static Set<Item> allRestrictedWeapons = new HashSet<Item>(Arrays.asList(WO_DAO));
+		public static final Set<Item> allRestrictedWeapons = Collections.unmodifiableSet(EnumSet.of(WO_DAO));
 		
-		public static Set<Item> allBasicWeapons = new HashSet<Item>(Arrays.asList(IRON_SWORD, IRON_LANCE, IRON_AXE, IRON_BOW, FIRE, LIGHTNING, FLUX));
+		public static final Set<Item> allBasicWeapons = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, IRON_LANCE, IRON_AXE, IRON_BOW, FIRE, LIGHTNING, FLUX));
 		
 		public static Set<Item> basicItemsOfType(WeaponType type) {
 			Set<Item> set = new HashSet<Item>();
@@ -1702,11 +1722,11 @@ public class FE6Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 	}
 
 	public Set<GBAFECharacter> allPlayableCharacters() {
-		return new HashSet<GBAFECharacter>(Character.allPlayableCharacters);
+		return Collections.unmodifiableSet(Character.allPlayableCharacters);
 	}
 
 	public Set<GBAFECharacter> allBossCharacters() {
-		return new HashSet<GBAFECharacter>(Character.allBossCharacters);
+		return Collections.unmodifiableSet(Character.allBossCharacters);
 	}
 
 	public Set<GBAFECharacter> linkedCharacters(int characterID) {
@@ -1722,19 +1742,19 @@ public class FE6Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 	}
 	
 	public Set<GBAFECharacter> allFliers() {
-		return new HashSet<GBAFECharacter>(Character.requiredFliers);
+		return Collections.unmodifiableSet(Character.requiredFliers);
 	}
 	
 	public Set<GBAFECharacter> mustAttack() {
-		return new HashSet<GBAFECharacter>(Character.requiredAttackers);
+		return Collections.unmodifiableSet(Character.requiredAttackers);
 	}
 	
 	public Set<GBAFECharacter> femaleSet() {
-		return new HashSet<GBAFECharacter>(Character.femaleSet);
+		return Collections.unmodifiableSet(Character.femaleSet);
 	}
 	
 	public Set<GBAFECharacter> mustPromote() {
-		return new HashSet<GBAFECharacter>(Character.requiresPromotion);
+		return Collections.unmodifiableSet(Character.requiresPromotion);
 	}
 	
 	public GBAFECharacter characterWithID(int characterID) {
@@ -1783,7 +1803,7 @@ public class FE6Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 	}
 
 	public Set<GBAFEClass> allValidClasses() {
-		return new HashSet<GBAFEClass>(CharacterClass.allValidClasses);
+		return Collections.unmodifiableSet(CharacterClass.allValidClasses);
 	}
 	
 	public Set<GBAFEClass> meleeSupportedClasses() {
@@ -1929,7 +1949,7 @@ public class FE6Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 	}
 	
 	public Set<GBAFEItem> allWeapons() {
-		return new HashSet<GBAFEItem>(Item.allWeapons);
+		return Collections.unmodifiableSet(Item.allWeapons);
 	}
 	
 	public Set<GBAFEItem> weaponsWithStatBoosts() {
@@ -1982,7 +2002,7 @@ public class FE6Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 	}
 	
 	public Set<GBAFEItem> allPotentialChestRewards() {
-		return new HashSet<GBAFEItem>(Item.allPotentialRewards);
+		return Collections.unmodifiableSet(Item.allPotentialRewards);
 	}
 	
 	public Set<GBAFEItem> relatedItemsToItem(GBAFEItemData itemData) {
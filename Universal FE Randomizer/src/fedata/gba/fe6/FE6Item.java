@@ -1,6 +1,7 @@
 package fedata.gba.fe6;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,7 @@ public class FE6Item implements GBAFEItemData {
 	
 	private byte[] originalData;
 	private byte[] data;
+	private byte[] loadedData;
 	
 	private long originalOffset;
 	
@@ -35,6 +37,7 @@ public class FE6Item implements GBAFEItemData {
 		super();
 		this.originalData = data;
 		this.data = data;
+		this.loadedData = Arrays.copyOf(data, data.length);
 		this.originalOffset = originalOffset;
 	}
 	
@@ -261,6 +264,10 @@ public class FE6Item implements GBAFEItemData {
 		return data;
 	}
 	
+	public byte[] getLoadedData() {
+		return loadedData;
+	}
+	
 	public Boolean wasModified() {
 		return wasModified;
 	}
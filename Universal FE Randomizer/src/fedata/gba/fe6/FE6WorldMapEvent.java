@@ -6,8 +6,7 @@ import java.util.List;
 import fedata.gba.GBAFEWorldMapData;
 import fedata.gba.GBAFEWorldMapPortraitData;
 import fedata.gba.GBAFEWorldMapSpriteData;
-import io.FileHandler;
-import util.FileReadHelper;
+import io.ROMBuffer;
 
 public class FE6WorldMapEvent implements GBAFEWorldMapData  {
 	
@@ -77,54 +76,57 @@ public class FE6WorldMapEvent implements GBAFEWorldMapData  {
 	
 	private List<FE6WorldMapPortrait> portraitList = new ArrayList<FE6WorldMapPortrait>();
 	
-	public FE6WorldMapEvent(FileHandler handler, long offset) {
+	public FE6WorldMapEvent(ROMBuffer buffer, long offset) {
 		// We need one jump.
-		long pointerTableOffset = FileReadHelper.readAddress(handler, offset);
+		long pointerTableOffset = buffer.addressAt(offset);
+		if (pointerTableOffset < 0) { return; }
 		
 		// All events end with ASMC 0x9345D, so we should keep going until we see that.
-		handler.setNextReadOffset(pointerTableOffset);
-		for(;;) {
+		long currentOffset = pointerTableOffset;
+		while (currentOffset < buffer.getLength()) {
 			// Read until we find the terminator.
-			byte opcode = handler.continueReadingNextByte();
+			byte opcode = buffer.byteAt(currentOffset++);
 			// Add commands as necessary.
 			// ASMC (0x17) - 8 bytes - This could be our terminator if it jumps to the right place.
 			if (opcode == 0x17) {
-				handler.continueReadingBytes(3);
+				currentOffset += 3;
 				// Address is on bytes 4 - 7.
-				long address = FileReadHelper.readAddress(handler);
+				long address = buffer.addressAt(currentOffset);
+				currentOffset += 4;
 				if (address == 0x9345DL) { break; }
 			}
 			// SHOWPORTRAIT (0x51) - 16 bytes - This is what we came here for.
 			else if (opcode == 0x51) {
-				long instructionOffset = handler.getNextReadOffset() - 1;
-				portraitList.add(new FE6WorldMapPortrait(handler.readBytesAtOffset(instructionOffset, 16), instructionOffset));
+				long instructionOffset = currentOffset - 1;
+				portraitList.add(new FE6WorldMapPortrait(buffer.bytesAt(instructionOffset, 16), instructionOffset));
+				currentOffset = instructionOffset + 16;
 			}
 			// These opcodes are 8 bytes and we don't care about them (right now).
 			// STAL (0x2), ASMWORLDMAP (0x4B), ? (0x4D), TEXTWM (0x56), HIGHLIGHT (0x5B), REMOVE3 (0x63), REMOVE1 (0x52), SHOWARROW (0x5A), ZOOMTO (0x4F), REMOVE2 (0x5F), MUEN (0x39)
 			// GOTO (0x1C), LABEL (0x1B), REMOVE4 (0x61)
 			else if (opcode == 0x2 || opcode == 0x4B || opcode == 0x4D || opcode == 0x56 || opcode == 0x5B || opcode == 0x63 || opcode == 0x52 || opcode == 0x5A || opcode == 0x4F || opcode == 0x5F || opcode == 0x39 ||
 					opcode == 0x1C || opcode == 0x1B || opcode == 0x61) {
-				handler.continueReadingBytes(7);
+				currentOffset += 7;
 			}
 			// These opcodes are 4 bytes and we don't care about them (right now).
 			// ? (0x41), ? (0x42), TEXTBOXTOBOTTOM (0x57), REMOVETEXTBOX (0x5D), ? (0x59), TEXTBOXTOTOP (0x58), ? (0xA), ? (0x4E), ZOOMOUT (0x50)
 			else if (opcode == 0x41 || opcode == 0x42 || opcode == 0x57 || opcode == 0x5D || opcode == 0x59 || opcode == 0x58 || opcode == (byte)0xA || opcode == 0x4E || opcode == 0x50) {
-				handler.continueReadingBytes(3);
+				currentOffset += 3;
 			}
 			// These opcodes are 16 bytes and we don't care about them (right now).
 			// PLACEDOT (0x5E), PLACEFLAG (0x60)
 			else if (opcode == 0x5E || opcode == 0x60) {
-				handler.continueReadingBytes(15);
+				currentOffset += 15;
 			}
 			// These opcodes are 20 bytes and we don't care about them (right now).
 			// SHOWMAPTEXT (0x62)
 			else if (opcode == 0x62) {
-				handler.continueReadingBytes(19);
+				currentOffset += 19;
 			}
 			// These opcodes are 12 bytes and we don't care about them (right now).
 			// GOTO_IFEF (0x23)
 			else if (opcode == 0x23) {
-				handler.continueReadingBytes(11);
+				currentOffset += 11;
 			}
 			// These need to be handled if they get this far.
 			else {
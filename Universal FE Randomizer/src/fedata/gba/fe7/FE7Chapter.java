@@ -9,9 +9,9 @@ import fedata.gba.GBAFEChapterData;
 import fedata.gba.GBAFEChapterItemData;
 import fedata.gba.GBAFEChapterUnitData;
 import fedata.gba.general.CharacterNudge;
-import io.FileHandler;
+import fedata.gba.general.EventScriptScanner;
+import io.ROMBuffer;
 import util.DebugPrinter;
-import util.FileReadHelper;
 import util.WhyDoesJavaNotHaveThese;
 
 public class FE7Chapter implements GBAFEChapterData {
@@ -45,6 +45,7 @@ public class FE7Chapter implements GBAFEChapterData {
 	private long endingSceneOffset = 0;
 	
 	private List<FE7ChapterUnit> allChapterUnits;
+	private GBAFEChapterUnitData[] unitArray; // Built on first request, since allUnits() is called a lot.
 	private List<FE7ChapterItem> allChapterRewards;
 	
 	private Set<Integer> blacklistedClassIDs;
@@ -57,8 +58,50 @@ public class FE7Chapter implements GBAFEChapterData {
 	private int probableLordID = 0;
 	private int probableBossID = 0;
 	
+	// Since we don't know how long each command is, we accidentally include what should be an argument for
+	// another event as a command code. This is a whitelist of codes that cause issues and how long they really are.
+	// LABEL (0x44) - 8 bytes. It takes 1 word as an argument.
+	// MOVE has several variants, but only the ones that use character ID are dangerous for us. 0x27 has 16 bytes, 0x26 and 0x28 have 12.
+	// GOTO_IFAF (0x49) - 12 bytes. The second word is occasionally 0xA or 0xB, leading us to exit prematurely.
+	// GOTO_IFNHM, GOTO_IFNEM, GOTO_IFNO, GOTO_IFYES, GOTO_IFNTUTORIAL, GOTO_IFTU (0x4F, 0x50, 0x52, 0x53, 0x54, 0x56) - 8 bytes. The second word can be 0xB.
+	// LOMA (0x84) - 16 bytes, in the case that it loads a map that has the same hex as the commands above.
+	// REPA (0x6F, 0x70) - 8 bytes. Causes characters to re-appear.
+	// GOTO (0x45) - 8 bytes. The counterpart of LABEL. The word as the argument is the destination.
+	// 0x4B - 8 bytes. No idea what this is. It's not well defined, but it's a conditional of some kind. The condition can be 0xA or 0xB.
+	// TEXTIFEVENTID (0x1A) - 16 bytes, for conditional text.
+	// GOTO_IFET and GOTO_IFEF (0x4C, 0x4D) - 12 bytes
+	// TEX1 (0x0D) - 8 bytes
+	// REPOS (0x2E, 0x2F) - 12 bytes
+	// MOVENEXTTO (0x29) - 12 bytes
+	// CURF (0x66, 0x67) - 8 bytes
+	// DISA (0x6A, 0x6B) - 8 bytes
+	// Scripts end at ENDA (0x0A) or ENDB (0x0B).
+	private static final EventScriptScanner.CommandTable EventCommands = new EventScriptScanner.CommandTable()
+			.setLength(8, 0x44, 0x4F, 0x50, 0x52, 0x53, 0x54, 0x56, 0x6F, 0x70, 0x45, 0x4B, 0x0D, 0x66, 0x67, 0x6A, 0x6B)
+			.setLength(12, 0x26, 0x28, 0x49, 0x4C, 0x4D, 0x2E, 0x2F, 0x29)
+			.setLength(16, 0x27, 0x84, 0x1A)
+			.terminateOnWords(0x0A, 0x0B);
+	
+	// Unit loads are only looked for (and commands only skipped) when the rest of the command word is 0.
+	// LOU1, LOU2 (0x32, 0x36, and 0x33) - 8 bytes
+	// LOUMODE1, LOUMODE2 (0x35, 0x38) - 20 bytes
+	// LOUFILTERED, LOUFILTERED2 (0x34, 0x37) - 12 bytes
+	// 0xCB - 8 bytes. Jumps to (and returns from) another label.
+	private static final EventScriptScanner.CommandTable UnitScanCommands = EventCommands.copy()
+			.setLength(8, 0x32, 0x33, 0x36, 0xCB)
+			.setLength(20, 0x35, 0x38)
+			.setLength(12, 0x34, 0x37);
+	// FIGH (0x97) - 20 bytes
+	private static final EventScriptScanner.CommandTable FightScanCommands = EventCommands.copy().ignoringArguments()
+			.setLength(20, 0x97)
+			.setLengthWithAnyArguments(8, 0xCB);
+	// ITGV (0x5B) - 8 bytes. Anything starting with 0x0A or 0x0B ends the search.
+	private static final EventScriptScanner.CommandTable RewardScanCommands = EventCommands.copy().ignoringArguments()
+			.setLengthWithAnyArguments(8, 0x5B)
+			.terminateOnOpcodes(0x0A, 0x0B);
+	
 
-	public FE7Chapter(FileHandler handler, long pointer, Boolean isClassSafe, Boolean removeFightScenes, int[] blacklistedClassIDs, String friendlyName, Boolean simple) {
+	public FE7Chapter(ROMBuffer buffer, long pointer, Boolean isClassSafe, Boolean removeFightScenes, int[] blacklistedClassIDs, String friendlyName, Boolean simple) {
 		
 		this.friendlyName = friendlyName;
 		this.blacklistedClassIDs = new HashSet<Integer>();
@@ -69,41 +112,41 @@ public class FE7Chapter implements GBAFEChapterData {
 		this.shouldBeSimplified = simple;
 				
 		// We need one jump.
-		long pointerTableOffset = FileReadHelper.readAddress(handler, pointer);
+		long pointerTableOffset = buffer.addressAt(pointer);
 		this.isClassSafe = isClassSafe;
 		
 		long currentOffset = pointerTableOffset;
-		turnBasedEventsOffset = FileReadHelper.readAddress(handler, currentOffset);
+		turnBasedEventsOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		characterBasedEventsOffset = FileReadHelper.readAddress(handler, currentOffset);
+		characterBasedEventsOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		locationBasedEventsOffset = FileReadHelper.readAddress(handler, currentOffset);
+		locationBasedEventsOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		miscEventsOffset = FileReadHelper.readAddress(handler, currentOffset);
+		miscEventsOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		trapsEliwoodOffset = FileReadHelper.readAddress(handler, currentOffset);
+		trapsEliwoodOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		trapsHectorOffset = FileReadHelper.readAddress(handler, currentOffset);
+		trapsHectorOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		enemiesOffsetENM = FileReadHelper.readAddress(handler, currentOffset);
+		enemiesOffsetENM = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		enemiesOffsetEHM = FileReadHelper.readAddress(handler, currentOffset);
+		enemiesOffsetEHM = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		enemiesOffsetHNM = FileReadHelper.readAddress(handler, currentOffset);
+		enemiesOffsetHNM = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		enemiesOffsetHHM = FileReadHelper.readAddress(handler, currentOffset);
+		enemiesOffsetHHM = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		alliesOffsetENM = FileReadHelper.readAddress(handler, currentOffset);
+		alliesOffsetENM = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		alliesOffsetEHM = FileReadHelper.readAddress(handler, currentOffset);
+		alliesOffsetEHM = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		alliesOffsetHNM = FileReadHelper.readAddress(handler, currentOffset);
+		alliesOffsetHNM = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		alliesOffsetHHM = FileReadHelper.readAddress(handler, currentOffset);
+		alliesOffsetHHM = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		beginningSceneOffset = FileReadHelper.readAddress(handler, currentOffset);
+		beginningSceneOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		endingSceneOffset = FileReadHelper.readAddress(handler, currentOffset);
+		endingSceneOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
 		
 		allChapterUnits = new ArrayList<FE7ChapterUnit>();
@@ -114,8 +157,9 @@ public class FE7Chapter implements GBAFEChapterData {
 		knownAllyIDs = new HashSet<Integer>();
 		knownEnemyIDs = new HashSet<Integer>();
 		
-		loadUnits(handler);
-		loadRewards(handler);
+		Set<Long> eventAddresses = allEventAddresses(buffer);
+		loadUnits(buffer, eventAddresses);
+		loadRewards(buffer, eventAddresses);
 	}
 	
 	public String getFriendlyName() {
@@ -132,7 +176,10 @@ public class FE7Chapter implements GBAFEChapterData {
 
 	@Override
 	public GBAFEChapterUnitData[] allUnits() {
-		return allChapterUnits.toArray(new GBAFEChapterUnitData[allChapterUnits.size()]);
+		if (unitArray == null) {
+			unitArray = allChapterUnits.toArray(new GBAFEChapterUnitData[allChapterUnits.size()]);
+		}
+		return unitArray;
 	}
 	
 	public GBAFEChapterItemData[] allRewards() {
@@ -194,152 +241,152 @@ public class FE7Chapter implements GBAFEChapterData {
 		}
 	}
 	
-	private void loadUnits(FileHandler handler) {
+	private void loadUnits(ROMBuffer buffer, Set<Long> eventAddresses) {
 		Set<Long> addressesSearched = new HashSet<Long>();
 		// Look in the obvious places first.
-		loadUnitsFromAddress(handler, alliesOffsetENM);
+		loadUnitsFromAddress(buffer, alliesOffsetENM);
 		addressesSearched.add(alliesOffsetENM);
 		if (!addressesSearched.contains(alliesOffsetEHM)) {
 			addressesSearched.add(alliesOffsetEHM);
-			loadUnitsFromAddress(handler, alliesOffsetEHM);
+			loadUnitsFromAddress(buffer, alliesOffsetEHM);
 		}
 		if (!addressesSearched.contains(alliesOffsetHNM)) {
 			addressesSearched.add(alliesOffsetHNM);
-			loadUnitsFromAddress(handler, alliesOffsetHNM);
+			loadUnitsFromAddress(buffer, alliesOffsetHNM);
 		}
 		if (!addressesSearched.contains(alliesOffsetHHM)) {
 			addressesSearched.add(alliesOffsetHHM);
-			loadUnitsFromAddress(handler, alliesOffsetHHM);
+			loadUnitsFromAddress(buffer, alliesOffsetHHM);
 		}
-		
 		if (!addressesSearched.contains(enemiesOffsetENM)) {
 			addressesSearched.add(enemiesOffsetENM);
-			loadUnitsFromAddress(handler, enemiesOffsetENM);
+			loadUnitsFromAddress(buffer, enemiesOffsetENM);
 		}
 		if (!addressesSearched.contains(enemiesOffsetEHM)) {
 			addressesSearched.add(enemiesOffsetEHM);
-			loadUnitsFromAddress(handler, enemiesOffsetEHM);
+			loadUnitsFromAddress(buffer, enemiesOffsetEHM);
 		}
 		if (!addressesSearched.contains(enemiesOffsetHNM)) {
 			addressesSearched.add(enemiesOffsetHNM);
-			loadUnitsFromAddress(handler, enemiesOffsetHNM);
+			loadUnitsFromAddress(buffer, enemiesOffsetHNM);
 		}
 		if (!addressesSearched.contains(enemiesOffsetHHM)) {
 			addressesSearched.add(enemiesOffsetHHM);
-			loadUnitsFromAddress(handler, enemiesOffsetHHM);
+			loadUnitsFromAddress(buffer, enemiesOffsetHHM);
 		}
 		
-		Set<Long> eventAddresses = eventAddressesFromTurnEvents(handler);
-		eventAddresses.addAll(eventAddressesFromCharacterEvents(handler));
-		eventAddresses.addAll(eventAddressesFromLocationEvents(handler));
-		eventAddresses.addAll(eventAddressesFromMiscEvents(handler));
-		eventAddresses.add(beginningSceneOffset);
-		eventAddresses.add(endingSceneOffset);
 		for (long eventAddress : eventAddresses) {
 			if (eventAddress == 0x1) { continue; } // Some events use 1 for some reason. LOCA does this sometimes.
-			Set<Long> unitAddresses = unitAddressesFromEventBlob(handler, eventAddress);
+			Set<Long> unitAddresses = unitAddressesFromEventBlob(buffer, eventAddress);
 			for (long unitAddress : unitAddresses) {
 				if (!addressesSearched.contains(unitAddress)) {
 					addressesSearched.add(unitAddress);
-					loadUnitsFromAddress(handler, unitAddress);
+					loadUnitsFromAddress(buffer, unitAddress);
 				}
 			}
 			
-			recordFightAddressesFromEventBlob(handler, eventAddress);
+			recordFightAddressesFromEventBlob(buffer, eventAddress);
 		}
 	}
 	
-	private Set<Long> eventAddressesFromTurnEvents(FileHandler handler) {
+	private Set<Long> allEventAddresses(ROMBuffer buffer) {
+		Set<Long> eventAddresses = eventAddressesFromTurnEvents(buffer);
+		eventAddresses.addAll(eventAddressesFromCharacterEvents(buffer));
+		eventAddresses.addAll(eventAddressesFromLocationEvents(buffer));
+		eventAddresses.addAll(eventAddressesFromMiscEvents(buffer));
+		eventAddresses.add(beginningSceneOffset);
+		eventAddresses.add(endingSceneOffset);
+		return eventAddresses;
+	}
+	
+	private Set<Long> eventAddressesFromTurnEvents(ROMBuffer buffer) {
 		Set<Long> eventAddresses = new HashSet<Long>();
-		byte[] turnCommand;
 		long currentAddress = turnBasedEventsOffset;
-		turnCommand = handler.readBytesAtOffset(currentAddress, 16);
-		while (turnCommand[0] == 0x02 || turnCommand[0] == 0x01) {
+		byte turnCommand = buffer.byteAt(currentAddress);
+		while (turnCommand == 0x02 || turnCommand == 0x01) {
 			// TURN - 16 bytes
-			if (turnCommand[0] == 0x02) {
+			if (turnCommand == 0x02) {
 				// Format is 02 00 00 00 XX XX XX XX YY YY ZZ ZZ 00 00 00 00
 				// Where XX XX XX XX is the address of the events.
 				// YY YY is the turn count it happens on (start turn, end turn) (end turn is 0 if it doesn't repeat)
 				// ZZ ZZ are some miscellaneous flags. The first is the turn time (i.e. player phase or enemy phase) the second limits to difficulty mode.
-				long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+				long address = buffer.addressAt(currentAddress + 4);
 				if (address != -1) {
 					eventAddresses.add(address);
 				}
 				currentAddress += 16;
 			}
 			// AFEV - 12 bytes
-			if (turnCommand[0] == 0x01) {
-				long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+			if (turnCommand == 0x01) {
+				long address = buffer.addressAt(currentAddress + 4);
 				if (address != -1) {
 					eventAddresses.add(address);
 				}
 				currentAddress += 12;
 			}
 			
-			turnCommand = handler.readBytesAtOffset(currentAddress, 16);
+			turnCommand = buffer.byteAt(currentAddress);
 		}
-		if (turnCommand[0] != 0x00) {
+		if (turnCommand != 0x00) {
 			System.err.println("Unhandled turn event type detected.");
 		}
 		
 		return eventAddresses;
 	}
 	
-	private Set<Long> eventAddressesFromCharacterEvents(FileHandler handler) {
+	private Set<Long> eventAddressesFromCharacterEvents(ROMBuffer buffer) {
 		Set<Long> eventAddresses = new HashSet<Long>();
-		byte[] charCommand;
 		long currentAddress = characterBasedEventsOffset;
-		charCommand = handler.readBytesAtOffset(currentAddress, 16);
-		while (charCommand[0] == 0x03 || charCommand[0] == 0x04) {
+		byte charCommand = buffer.byteAt(currentAddress);
+		while (charCommand == 0x03 || charCommand == 0x04) {
 			// CHAR and CHARASM are supported, with 0x03 and 0x04 commands. In both cases, the address is at byte 4, 4 length.
-			long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+			long address = buffer.addressAt(currentAddress + 4);
 			if (address != -1) {
 				eventAddresses.add(address);
 			}
 			
 			currentAddress += 16;
-			charCommand = handler.readBytesAtOffset(currentAddress, 16);
+			charCommand = buffer.byteAt(currentAddress);
 		}
-		if (charCommand[0] != 0x00) {
+		if (charCommand != 0x00) {
 			System.err.println("Unhandled character event type detected.");
 		}
 		
 		return eventAddresses;
 	}
 	
-	private Set<Long> eventAddressesFromLocationEvents(FileHandler handler) {
+	private Set<Long> eventAddressesFromLocationEvents(ROMBuffer buffer) {
 		Set<Long> eventAddresses = new HashSet<Long>();
-		byte[] locationCommand;
 		long currentAddress = locationBasedEventsOffset;
-		locationCommand = handler.readBytesAtOffset(currentAddress, 12); // These events are only 12 bytes long.
-		while (locationCommand[0] == 0x05 || locationCommand[0] == 0x06 || locationCommand[0] == 0x0A || locationCommand[0] == 0x07 || locationCommand[0] == 0x08) {
-			if (locationCommand[0] == 0x05 || locationCommand[0] == 0x06) {
+		byte locationCommand = buffer.byteAt(currentAddress); // These events are only 12 bytes long.
+		while (locationCommand == 0x05 || locationCommand == 0x06 || locationCommand == 0x0A || locationCommand == 0x07 || locationCommand == 0x08) {
+			if (locationCommand == 0x05 || locationCommand == 0x06) {
 				// LOCA and VILL are the only ones that matter here. The others don't have event pointers.
 				// In both cases, the address is at byte 4, 4 length.
-				long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+				long address = buffer.addressAt(currentAddress + 4);
 				if (address != -1) {
 					eventAddresses.add(address);
 				}
 			}
+			
 			currentAddress += 12;
-			locationCommand = handler.readBytesAtOffset(currentAddress, 12);
+			locationCommand = buffer.byteAt(currentAddress);
 		}
-		if (locationCommand[0] != 0x00) {
+		if (locationCommand != 0x00) {
 			System.err.println("Unhandled character event type detected.");
 		}
 		
 		return eventAddresses;
 	}
 	
-	private Set<Long> eventAddressesFromMiscEvents(FileHandler handler) {
+	private Set<Long> eventAddressesFromMiscEvents(ROMBuffer buffer) {
 		Set<Long> eventAddresses = new HashSet<Long>();
-		byte[] miscCommand;
 		long currentAddress = miscEventsOffset;
-		miscCommand = handler.readBytesAtOffset(currentAddress, 12); // These events are only 12 bytes long.
-		while (miscCommand[0] != 0x00) {
-			if (miscCommand[0] == 0x0B || miscCommand[0] == 0x01 || miscCommand[0] == 0x0E) {
+		byte miscCommand = buffer.byteAt(currentAddress); // These events are only 12 bytes long.
+		while (miscCommand != 0x00) {
+			if (miscCommand == 0x0B || miscCommand == 0x01 || miscCommand == 0x0E) {
 				// ASME, AREA and AFEV are the only ones we care about. Both 12 bytes, and the event is at byte 4, length 4.
-				long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+				long address = buffer.addressAt(currentAddress + 4);
 				if (address != -1) {
 					eventAddresses.add(address);
 				}
@@ -348,219 +395,115 @@ public class FE7Chapter implements GBAFEChapterData {
 			}
 			
 			currentAddress += 12;
-			miscCommand = handler.readBytesAtOffset(currentAddress, 12);
+			miscCommand = buffer.byteAt(currentAddress);
 		}
 		
 		return eventAddresses;
 	}
 	
-	private void recordFightAddressesFromEventBlob(FileHandler handler, long eventAddress) {
+	private void recordFightAddressesFromEventBlob(ROMBuffer buffer, long eventAddress) {
 		if (eventAddress >= 0x1000000) { return; }
 		
 		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Searching for fights beginning at 0x" + Long.toHexString(eventAddress));
 		
-		byte[] commandWord;
-		long currentAddress = eventAddress;
-		commandWord = handler.readBytesAtOffset(currentAddress, 4);
-		while (!WhyDoesJavaNotHaveThese.byteArraysAreEqual(commandWord, new byte[] {0x0A, 0x00, 0x00, 0x00}) &&
-				!WhyDoesJavaNotHaveThese.byteArraysAreEqual(commandWord, new byte[] {0x0B, 0x00, 0x00, 0x00})) {
-			if (WhyDoesJavaNotHaveThese.byteArraysAreEqual(commandWord, new byte[] {(byte)0x97, 0x00, 0x00, 0x00})) {
+		EventScriptScanner scanner = new EventScriptScanner(buffer, FightScanCommands, eventAddress);
+		while (scanner.next()) {
+			if (scanner.word() == 0x97) {
 				// FIGH - Always has command byte 0x97, and is always 20 length. The second word always contains attacker and defender IDs.
 				// They vary after that, but those aren't important.
-				long address = FileReadHelper.readAddress(handler, currentAddress + 12);
+				long address = buffer.addressAt(scanner.offset() + 12);
 				if (address != -1) {
-					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found FIGH at 0x" + Long.toHexString(currentAddress));
-					fightEventOffsets.add(currentAddress);
+					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found FIGH at 0x" + Long.toHexString(scanner.offset()));
+					fightEventOffsets.add(scanner.offset());
 				}
-				currentAddress += 16;
 			}
 			
 			// 0xCB is an interesting command, because it allows us to jump to (and return from) another label, where there might be FIGH events hiding.
-			if (commandWord[0] == (byte)0xCB) {
-				long eventBlob = FileReadHelper.readAddress(handler, currentAddress + 4);
+			if (scanner.opcode() == 0xCB) {
+				long eventBlob = buffer.addressAt(scanner.offset() + 4);
 				if (eventBlob != -1) {
 					// Pray that these blobs don't reference each other.
-					recordFightAddressesFromEventBlob(handler, eventBlob);
+					recordFightAddressesFromEventBlob(buffer, eventBlob);
 				}
-				currentAddress += 4;
-			}
-
-			// Since we don't know how long each command is, we accidentally include what should be an argument for
-			// another event as a command code. Below is a whitelist of codes that cause issues and how many bytes we need to skip.
-			if (commandWord[0] == 0x44) { // 0x44 is apparently LABEL, which I have no idea what it does. It takes 1 word as an argument.
-				currentAddress += 4;
-			} else if (commandWord[0] == 0x27) { // MOVE has several variants, but only the ones that use character ID are dangerous for us. This one has 16 bytes.
-				currentAddress += 12;
-			} else if (commandWord[0] == 0x26 || commandWord[0] == 0x28) { // MOVE with 12 bytes.
-				currentAddress += 8;
-			} else if (commandWord[0] == 0x49) { // GOTO_IFAF has 12 bytes., The second word is occasionally 0xA or 0xB, leading us to exit prematurely.
-				currentAddress += 8;
-			}  else if (commandWord[0] == 0x4F || commandWord[0] == 0x50 || commandWord[0] == 0x52 || commandWord[0] == 0x53 || // GOTO_IFNHM, GOTO_IFNEM, GOTO_IFNO, GOTO_IFYES have 8 bytes. The second word can be 0xB.
-					commandWord[0] == 0x54 || commandWord[0] == 0x56) { // GOTO_IFNTUTORIAL, GOTO_IFTU
-				currentAddress += 4;
-			} else if (commandWord[0] == (byte)0x84) { // LOMA, in the case that it loads a map that has the same hex as the commands above. 16 bytes total.
-				currentAddress += 12;
-			} else if (commandWord[0] == 0x6F || commandWord[0] == 0x70) { // REPA, 2 flavors, both 8 bytes. Causes characters to re-appear.
-				currentAddress += 4;
-			} else if (commandWord[0] == 0x45) { // GOTO (the counterpart of LABEL). The word as the argument is the destination.
-				currentAddress += 4;
-			} else if (commandWord[0] == 0x4B) { // No idea what this is. It's not well defined, but it's a conditional of some kind. 8 bytes long. The condition can be 0xA or 0xB.
-				currentAddress += 4;
-			} else if (commandWord[0] == 0x1A) { // TEXTIFEVENTID - 16 bytes, for conditional text. 
-				currentAddress += 12;
-			} else if (commandWord[0] == 0x4C || commandWord[0] == 0x4D) { // GOTO_IFET and GOTO_IFEF - 12 bytes
-				currentAddress += 8;
-			} else if (commandWord[0] == 0x0D) { // TEX1 - 8 bytes
-				currentAddress += 4;
-			} else if (commandWord[0] == 0x2E || commandWord[0] == 0x2F) { // REPOS - 12 bytes
-				currentAddress += 8;
-			} else if (commandWord[0] == 0x29) { // MOVENEXTTO - 12 bytes
-				currentAddress += 8;
-			} else if (commandWord[0] == 0x66 || commandWord[0] == 0x67) { // CURF - 8 bytes
-				currentAddress += 4;
-			} else if (commandWord[0] == 0x6A || commandWord[0] == 0x6B) { // DISA - 8 bytes
-				currentAddress += 4;
 			}
-			
-			currentAddress += 4;
-			commandWord = handler.readBytesAtOffset(currentAddress, 4);
 		}
 		
-		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Finished searching for fights at 0x" + Long.toHexString(currentAddress));
+		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Finished searching for fights at 0x" + Long.toHexString(scanner.offset()));
 	}
 	
-	private Set<Long> unitAddressesFromEventBlob(FileHandler handler, long eventAddress) {
+	private Set<Long> unitAddressesFromEventBlob(ROMBuffer buffer, long eventAddress) {
 		Set<Long> addressesLoaded = new HashSet<Long>();
 		if (eventAddress >= 0x1000000) { return addressesLoaded; }
 		
 		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Searching for unit addresses beginning at 0x" + Long.toHexString(eventAddress));
 		
-		byte[] commandWord;
-		long currentAddress = eventAddress;
-		commandWord = handler.readBytesAtOffset(currentAddress, 4);
-		while (!WhyDoesJavaNotHaveThese.byteArraysAreEqual(commandWord, new byte[] {0x0A, 0x00, 0x00, 0x00}) &&
-				!WhyDoesJavaNotHaveThese.byteArraysAreEqual(commandWord, new byte[] {0x0B, 0x00, 0x00, 0x00})) {
-			if (commandWord[1] == 0 && commandWord[2] == 0 && commandWord[3] == 0) {
-				if (commandWord[0] == 0x32 || commandWord[0] == 0x33 || commandWord[0] == 0x36) {
-					// LOU1 - 0x32 key. Pointer at byte 4, length 4 - total 8 bytes.
-					// LOU2 - 0x36 key. Same as LOU1.
-					// 0x33 also seems to be one, but it's undefined in EA. (Found in Ch. 15, 17x)
-					long address = FileReadHelper.readAddress(handler, currentAddress + 4);
-					if (address != -1) {
-						DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found LOU1 or LOU2 at 0x" + Long.toHexString(currentAddress) + ". Unit Address: " + Long.toHexString(address));
-						addressesLoaded.add(address);
-					}
-					currentAddress += 4;
-				} else if (commandWord[0] == 0x35 || commandWord[0] == 0x38) {
-					// LOUMODE1 - 0x35 key. Pointers at byte 4, 8, 12, 16, all length 4. Total 20 bytes.
-					// LOUMODE2 - 0x38 key. Same as LOUMODE1.
-					long address = FileReadHelper.readAddress(handler, currentAddress + 4);
-					if (address != -1) {
-						DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found LOUMODE1 or LOUMODE2 at 0x" + Long.toHexString(currentAddress) + ". Unit Address: " + Long.toHexString(address) + " (1 / 4)");
-						addressesLoaded.add(address);
-					}
-					address = FileReadHelper.readAddress(handler, currentAddress + 8);
-					if (address != -1) {
-						DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found LOUMODE1 or LOUMODE2 at 0x" + Long.toHexString(currentAddress) + ". Unit Address: " + Long.toHexString(address) + " (2 / 4)");
-						addressesLoaded.add(address);
-					}
-					address = FileReadHelper.readAddress(handler, currentAddress + 12);
-					if (address != -1) {
-						DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found LOUMODE1 or LOUMODE2 at 0x" + Long.toHexString(currentAddress) + ". Unit Address: " + Long.toHexString(address) + " (3 / 4)");
-						addressesLoaded.add(address);
-					}
-					address = FileReadHelper.readAddress(handler, currentAddress + 16);
-					if (address != -1) {
-						DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found LOUMODE1 or LOUMODE2 at 0x" + Long.toHexString(currentAddress) + ". Unit Address: " + Long.toHexString(address) + " (4 / 4)");
-						addressesLoaded.add(address);
-					}
-					
-					currentAddress += 16;
-				} else if (commandWord[0] == 0x34 || commandWord[0] == 0x37) {
-					// LOUFILTERED - 0x34 key. Pointer at byte 8, length 4 - total 12 bytes.
-					// LOUFILTERED2 - 0x37 key. Same as LOUFILTERED
-					long address = FileReadHelper.readAddress(handler, currentAddress + 8);
+		EventScriptScanner scanner = new EventScriptScanner(buffer, UnitScanCommands, eventAddress);
+		while (scanner.next()) {
+			if (!scanner.hasNoArguments()) { continue; }
+			
+			long currentAddress = scanner.offset();
+			int opcode = scanner.opcode();
+			if (opcode == 0x32 || opcode == 0x33 || opcode == 0x36) {
+				// LOU1 - 0x32 key. Pointer at byte 4, length 4 - total 8 bytes.
+				// LOU2 - 0x36 key. Same as LOU1.
+				// 0x33 also seems to be one, but it's undefined in EA. (Found in Ch. 15, 17x)
+				long address = buffer.addressAt(currentAddress + 4);
+				if (address != -1) {
+					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found LOU1 or LOU2 at 0x" + Long.toHexString(currentAddress) + ". Unit Address: " + Long.toHexString(address));
+					addressesLoaded.add(address);
+				}
+			} else if (opcode == 0x35 || opcode == 0x38) {
+				// LOUMODE1 - 0x35 key. Pointers at byte 4, 8, 12, 16, all length 4. Total 20 bytes.
+				// LOUMODE2 - 0x38 key. Same as LOUMODE1.
+				for (int i = 1; i <= 4; i++) {
+					long address = buffer.addressAt(currentAddress + 4 * i);
 					if (address != -1) {
-						DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found LOUFILTERED or LOUFILTERED2 at 0x" + Long.toHexString(currentAddress) + ". Unit Address: " + Long.toHexString(address));
+						DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found LOUMODE1 or LOUMODE2 at 0x" + Long.toHexString(currentAddress) + ". Unit Address: " + Long.toHexString(address) + " (" + i + " / 4)");
 						addressesLoaded.add(address);
 					}
-					currentAddress += 8;
-				}
-				
-				// 0xCB is an interesting command, because it allows us to jump to (and return from) another label, where there might be UNIT definitions hiding.
-				if (commandWord[0] == (byte)0xCB) {
-					long eventBlob = FileReadHelper.readAddress(handler, currentAddress + 4);
-					if (eventBlob != -1) {
-						// Pray that these blobs don't reference each other.
-						addressesLoaded.addAll(unitAddressesFromEventBlob(handler, eventBlob));
-					}
-					currentAddress += 4;
 				}
-				
-				DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Processed command 0x" + Integer.toHexString(commandWord[0] & 0xFF));
-
-				// Since we don't know how long each command is, we accidentally include what should be an argument for
-				// another event as a command code. Below is a whitelist of codes that cause issues and how many bytes we need to skip.
-				if (commandWord[0] == 0x44) { // 0x44 is apparently LABEL, which I have no idea what it does. It takes 1 word as an argument.
-					currentAddress += 4;
-				} else if (commandWord[0] == 0x27) { // MOVE has several variants, but only the ones that use character ID are dangerous for us. This one has 16 bytes.
-					currentAddress += 12;
-				} else if (commandWord[0] == 0x26 || commandWord[0] == 0x28) { // MOVE with 12 bytes.
-					currentAddress += 8;
-				} else if (commandWord[0] == 0x49) { // GOTO_IFAF has 12 bytes. The second word is occasionally 0xA or 0xB, leading us to exit prematurely.
-					currentAddress += 8;
-				} else if (commandWord[0] == 0x4F || commandWord[0] == 0x50 || commandWord[0] == 0x52 || commandWord[0] == 0x53 || // GOTO_IFNHM, GOTO_IFNEM, GOTO_IFNO, GOTO_IFYES have 8 bytes. The second word can be 0xB.
-						commandWord[0] == 0x54 || commandWord[0] == 0x56) { // GOTO_IFNTUTORIAL, GOTO_IFTU
-					currentAddress += 4;
-				} else if (commandWord[0] == (byte)0x84) { // LOMA, in the case that it loads a map that has the same hex as the commands above. 16 bytes total.
-					currentAddress += 12;
-				} else if (commandWord[0] == 0x6F || commandWord[0] == 0x70) { // REPA, 2 flavors, both 8 bytes. Causes characters to re-appear.
-					currentAddress += 4;
-				} else if (commandWord[0] == 0x45) { // GOTO (the counterpart of LABEL). The word as the argument is the destination.
-					currentAddress += 4;
-				} else if (commandWord[0] == 0x4B) { // No idea what this is. It's not well defined, but it's a conditional of some kind. 8 bytes long. The condition can be 0xA or 0xB.
-					currentAddress += 4;
-				} else if (commandWord[0] == 0x1A) { // TEXTIFEVENTID - 16 bytes, for conditional text. 
-					currentAddress += 12;
-				} else if (commandWord[0] == 0x4C || commandWord[0] == 0x4D) { // GOTO_IFET and GOTO_IFEF - 12 bytes
-					currentAddress += 8;
-				} else if (commandWord[0] == 0x0D) { // TEX1 - 8 bytes
-					currentAddress += 4;
-				} else if (commandWord[0] == 0x2E || commandWord[0] == 0x2F) { // REPOS - 12 bytes
-					currentAddress += 8;
-				} else if (commandWord[0] == 0x29) { // MOVENEXTTO - 12 bytes
-					currentAddress += 8;
-				} else if (commandWord[0] == 0x66 || commandWord[0] == 0x67) { // CURF - 8 bytes
-					currentAddress += 4;
-				} else if (commandWord[0] == 0x6A || commandWord[0] == 0x6B) { // DISA - 8 bytes
-					currentAddress += 4;
+			} else if (opcode == 0x34 || opcode == 0x37) {
+				// LOUFILTERED - 0x34 key. Pointer at byte 8, length 4 - total 12 bytes.
+				// LOUFILTERED2 - 0x37 key. Same as LOUFILTERED
+				long address = buffer.addressAt(currentAddress + 8);
+				if (address != -1) {
+					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found LOUFILTERED or LOUFILTERED2 at 0x" + Long.toHexString(currentAddress) + ". Unit Address: " + Long.toHexString(address));
+					addressesLoaded.add(address);
 				}
 			}
 			
-			currentAddress += 4;
-			commandWord = handler.readBytesAtOffset(currentAddress, 4);
+			// 0xCB is an interesting command, because it allows us to jump to (and return from) another label, where there might be UNIT definitions hiding.
+			if (opcode == 0xCB) {
+				long eventBlob = buffer.addressAt(currentAddress + 4);
+				if (eventBlob != -1) {
+					// Pray that these blobs don't reference each other.
+					addressesLoaded.addAll(unitAddressesFromEventBlob(buffer, eventBlob));
+				}
+			}
 		}
 		
-		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Finished searching for loading units at address 0x" + Long.toHexString(currentAddress));
+		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Finished searching for loading units at address 0x" + Long.toHexString(scanner.offset()));
 		
 		return addressesLoaded;
 	}
 	
-	private void loadUnitsFromAddress(FileHandler handler, long unitAddress) {
+	private void loadUnitsFromAddress(ROMBuffer buffer, long unitAddress) {
 		if (unitAddress >= 0x1000000) { return; }
 		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Loading units from 0x" + Long.toHexString(unitAddress));
+		
 		if (unitAddress <= 0xC00000) {
 			System.err.println("Suspicious address found for unit: " + Long.toHexString(unitAddress));
 			return;
 		}
+		
 		long currentOffset = unitAddress;
-		byte[] unitData = handler.readBytesAtOffset(currentOffset, FE7Data.BytesPerChapterUnit);
-		while (unitData[0] != 0x00) {
+		while (buffer.byteAt(currentOffset) != 0x00) {
+			byte[] unitData = buffer.bytesAt(currentOffset, FE7Data.BytesPerChapterUnit);
 			DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Loaded unit with data " + WhyDoesJavaNotHaveThese.displayStringForBytes(unitData));
 			FE7ChapterUnit unit = new FE7ChapterUnit(unitData, currentOffset); 
 			if (!blacklistedClassIDs.contains(unit.getStartingClass())) { // Remove any characters starting as a blacklisted class from consideration.
 				allChapterUnits.add(unit);
-				
+				unitArray = null;
 				if (unitAddress == alliesOffsetEHM || unitAddress == alliesOffsetENM || unitAddress == alliesOffsetHHM || unitAddress == alliesOffsetHNM) {
 					knownAllyIDs.add(unit.getCharacterNumber());
 					if (unit.getLeaderID() == 0) { probableLordID = unit.getCharacterNumber(); }
@@ -572,98 +515,47 @@ public class FE7Chapter implements GBAFEChapterData {
 			}
 			
 			currentOffset += FE7Data.BytesPerChapterUnit;
-			unitData = handler.readBytesAtOffset(currentOffset, FE7Data.BytesPerChapterUnit);
 		}
 	}
 	
-	private void loadRewards(FileHandler handler) {
-		byte[] locationCommand;
+	private void loadRewards(ROMBuffer buffer, Set<Long> eventAddresses) {
 		long currentAddress = locationBasedEventsOffset;
-		locationCommand = handler.readBytesAtOffset(currentAddress, 12); // These events are only 12 bytes long.
-		while (locationCommand[0] == 0x05 || locationCommand[0] == 0x06 || locationCommand[0] == 0x0A || locationCommand[0] == 0x07 || locationCommand[0] == 0x08) {
-			if (locationCommand[0] == 0x07) {
+		byte locationCommand = buffer.byteAt(currentAddress); // These events are only 12 bytes long.
+		while (locationCommand == 0x05 || locationCommand == 0x06 || locationCommand == 0x0A || locationCommand == 0x07 || locationCommand == 0x08) {
+			if (locationCommand == 0x07) {
 				// We only care about CHES events.
 				// CHES includes money too, which we don't want, so only filter to those
 				// without money. The ID should only be in byte 4. Bytes 5, 6, and 7 should be 00s.
-				if (locationCommand[4] != 0x00 && locationCommand[5] == 0 && locationCommand[6] == 0 && locationCommand[7] == 0) {
-					allChapterRewards.add(new FE7ChapterItem(locationCommand, currentAddress));
+				if (buffer.byteAt(currentAddress + 4) != 0x00 && buffer.byteAt(currentAddress + 5) == 0 && buffer.byteAt(currentAddress + 6) == 0 && buffer.byteAt(currentAddress + 7) == 0) {
+					allChapterRewards.add(new FE7ChapterItem(buffer.bytesAt(currentAddress, 12), currentAddress));
 				}
 			}
 			
 			currentAddress += 12;
-			locationCommand = handler.readBytesAtOffset(currentAddress, 12);
+			locationCommand = buffer.byteAt(currentAddress);
 		}
-		if (locationCommand[0] != 0x00) {
+		if (locationCommand != 0x00) {
 			System.err.println("Unhandled character event type detected.");
 		}
 		
-		Set<Long> eventAddresses = eventAddressesFromTurnEvents(handler);
-		eventAddresses.addAll(eventAddressesFromCharacterEvents(handler));
-		eventAddresses.addAll(eventAddressesFromLocationEvents(handler));
-		eventAddresses.addAll(eventAddressesFromMiscEvents(handler));
-		eventAddresses.add(beginningSceneOffset);
-		eventAddresses.add(endingSceneOffset);
 		for (long eventOffset : eventAddresses) {
-			loadRewardsFromEventBlob(handler, eventOffset);
+			loadRewardsFromEventBlob(buffer, eventOffset);
 		}
 	}
 	
-	private void loadRewardsFromEventBlob(FileHandler handler, long eventOffset) {
+	private void loadRewardsFromEventBlob(ROMBuffer buffer, long eventOffset) {
 		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Searching for rewards beginning at 0x" + Long.toHexString(eventOffset));
-		byte[] commandWord;
-		long currentAddress = eventOffset;
-		commandWord = handler.readBytesAtOffset(currentAddress, 4);
-		while (commandWord[0] != 0x0A && commandWord[0] != 0x0B) {
+		EventScriptScanner scanner = new EventScriptScanner(buffer, RewardScanCommands, eventOffset);
+		while (scanner.next()) {
 			// We just need ITGV.
-			if (commandWord[0] == 0x5B) {
-				FE7ChapterItem chapterItem = new FE7ChapterItem(handler.readBytesAtOffset(currentAddress, 8), currentAddress);
+			if (scanner.opcode() == 0x5B) {
+				FE7ChapterItem chapterItem = new FE7ChapterItem(buffer.bytesAt(scanner.offset(), 8), scanner.offset());
 				allChapterRewards.add(chapterItem);
-				DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found reward at offset 0x" + Long.toHexString(currentAddress) + " Item ID: 0x" + Integer.toHexString(chapterItem.getItemID()));
-				currentAddress += 4;
-			}
-			
-			// Since we don't know how long each command is, we accidentally include what should be an argument for
-			// another event as a command code. Below is a whitelist of codes that cause issues and how many bytes we need to skip.
-			if (commandWord[0] == 0x44) { // 0x44 is apparently LABEL, which I have no idea what it does. It takes 1 word as an argument.
-				currentAddress += 4;
-			} else if (commandWord[0] == 0x27) { // MOVE has several variants, but only the ones that use character ID are dangerous for us. This one has 16 bytes.
-				currentAddress += 12;
-			} else if (commandWord[0] == 0x26 || commandWord[0] == 0x28) { // MOVE with 12 bytes.
-				currentAddress += 8;
-			} else if (commandWord[0] == 0x49) { // GOTO_IFAF has 12 bytes., The second word is occasionally 0xA or 0xB, leading us to exit prematurely.
-				currentAddress += 8;
-			}  else if (commandWord[0] == 0x4F || commandWord[0] == 0x50 || commandWord[0] == 0x52 || commandWord[0] == 0x53 || // GOTO_IFNHM, GOTO_IFNEM, GOTO_IFNO, GOTO_IFYES have 8 bytes. The second word can be 0xB.
-					commandWord[0] == 0x54 || commandWord[0] == 0x56) { // GOTO_IFNTUTORIAL, GOTO_IFTU
-				currentAddress += 4;
-			} else if (commandWord[0] == (byte)0x84) { // LOMA, in the case that it loads a map that has the same hex as the commands above. 16 bytes total.
-				currentAddress += 12;
-			} else if (commandWord[0] == 0x6F || commandWord[0] == 0x70) { // REPA, 2 flavors, both 8 bytes. Causes characters to re-appear.
-				currentAddress += 4;
-			} else if (commandWord[0] == 0x45) { // GOTO (the counterpart of LABEL). The word as the argument is the destination.
-				currentAddress += 4;
-			} else if (commandWord[0] == 0x4B) { // No idea what this is. It's not well defined, but it's a conditional of some kind. 8 bytes long. The condition can be 0xA or 0xB.
-				currentAddress += 4;
-			} else if (commandWord[0] == 0x1A) { // TEXTIFEVENTID - 16 bytes, for conditional text. 
-				currentAddress += 12;
-			} else if (commandWord[0] == 0x4C || commandWord[0] == 0x4D) { // GOTO_IFET and GOTO_IFEF - 12 bytes
-				currentAddress += 8;
-			} else if (commandWord[0] == 0x0D) { // TEX1 - 8 bytes
-				currentAddress += 4;
-			} else if (commandWord[0] == 0x2E || commandWord[0] == 0x2F) { // REPOS - 12 bytes
-				currentAddress += 8;
-			} else if (commandWord[0] == 0x29) { // MOVENEXTTO - 12 bytes
-				currentAddress += 8;
-			} else if (commandWord[0] == 0x66 || commandWord[0] == 0x67) { // CURF - 8 bytes
-				currentAddress += 4;
-			} else if (commandWord[0] == 0x6A || commandWord[0] == 0x6B) { // DISA - 8 bytes
-				currentAddress += 4;
+				DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found reward at offset 0x" + Long.toHexString(scanner.offset()) + " Item ID: 0x" + Integer.toHexString(chapterItem.getItemID()));
 			}
-						
-			currentAddress += 4;
-			commandWord = handler.readBytesAtOffset(currentAddress, 4);
 		}
 		
-		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Finished searching for rewards at 0x" + Long.toHexString(currentAddress));
+		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Finished searching for rewards at 0x" + Long.toHexString(scanner.offset()));
 	}
 	
 	public GBAFEChapterItemData chapterItemGivenToCharacter(int characterID) { return null; }
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -163,18 +165,24 @@ public class FE7Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 		
 		public int ID;
 		
-		private static Map<Integer, Character> map = new HashMap<Integer, Character>();
-		
-		static {
+		private static Character[] byID = createIDTable();
+		private static Character[] createIDTable() {
+			int maxID = 0;
+			for (Character character : Character.values()) {
+				maxID = Math.max(maxID, character.ID);
+			}
+			Character[] table = new Character[maxID + 1];
 			for (Character character : Character.values()) {
-				map.put(character.ID, character);
+				table[character.ID] = character;
 			}
+			return table;
 		}
 		
 		private Character(final int id) { ID = id; }
 		
 		public static Character valueOf(int characterId) {
-			return map.get(characterId);
+			if (characterId < 0 || characterId >= byID.length) { return null; }
+			return byID[characterId];
 		}
 		
 		public static int[] characterIDsForCharacters(Character[] charArray) {
@@ -222,35 +230,35 @@ public class FE7Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 			}
 		}
 		
-		public static Set<Character> allPlayableCharacters = new HashSet<Character>(Arrays.asList(ELIWOOD, HECTOR, RAVEN, GEITZ, GUY, KAREL,  DORCAS, BARTRE, OSWIN, REBECCA, LOUISE, LUCIUS, SERRA, RENAULT, 
+		public static final Set<Character> allPlayableCharacters = Collections.unmodifiableSet(EnumSet.of(ELIWOOD, HECTOR, RAVEN, GEITZ, GUY, KAREL,  DORCAS, BARTRE, OSWIN, REBECCA, LOUISE, LUCIUS, SERRA, RENAULT, 
 				ERK, NINO, PENT, CANAS, LOWEN, MARCUS, PRISCILLA, FIORA, FARINA, HEATH, VAIDA, HAWKEYE, MATTHEW, JAFFAR, NINIAN, NILS, WALLACE, LYN, WIL, KENT, SAIN, FLORINA, 
 				RATH, DART, ISADORA, LEGAULT, KARLA, HARKEN, LYN_TUTORIAL, WIL_TUTORIAL, KENT_TUTORIAL, SAIN_TUTORIAL, RATH_TUTORIAL, FLORINA_TUTORIAL, NILS_FINALCHAPTER));
 		
-		public static Set<Character> allBossCharacters = new HashSet<Character>(Arrays.asList(GROZNYI, WIRE, ZAGAN, BOIES, PUZON, ERIK, SEALEN, BAUKER, BERNARD, DAMIAN, ZOLDAM, UHAI,
+		public static final Set<Character> allBossCharacters = Collections.unmodifiableSet(EnumSet.of(GROZNYI, WIRE, ZAGAN, BOIES, PUZON, ERIK, SEALEN, BAUKER, BERNARD, DAMIAN, ZOLDAM, UHAI,
 				AION, DARIN, CAMERON, OLEG, EUBANS, URSULA, PAUL, JASMINE, PASCAL, KENNETH, JERME, MAXIME, BRENDAN, SONIA, TEODOR, GEORG, KAIM, DENNING, LIMSTELLA, BATTA, ZUGU, GLASS, MIGAL, CARJIGA,
 				BUG, BOOL, HEINTZ, BEYARD, YOGI, EAGLER, LUNDGREN, LLOYD_FFO, LINUS_FFO, LLOYD_COD, LINUS_COD, JERME_MORPH, LLOYD_MORPH, LINUS_MORPH, BRENDAN_MORPH, UHAI_MORPH, URSULA_MORPH,
 				KENNETH_MORPH, DARIN_MORPH));
-		public static Set<Character> restrictedClassCharacters = new HashSet<Character>(Arrays.asList(FIORA, FARINA, VAIDA));
+		public static final Set<Character> restrictedClassCharacters = Collections.unmodifiableSet(EnumSet.of(FIORA, FARINA, VAIDA));
 		
-		public static Set<Character> allLords = new HashSet<Character>(Arrays.asList(ELIWOOD, HECTOR, LYN, LYN_TUTORIAL));
-		public static Set<Character> allThieves = new HashSet<Character>(Arrays.asList(MATTHEW, LEGAULT, JAFFAR));
-		public static Set<Character> doNotChange = new HashSet<Character>(Arrays.asList(NERGAL, DRAGON, KISHUNA, FARGUS, MERLINUS, UTHER, ELENORA, LEILA, BRAMIMOND, ZEPHIEL, ELBERT, NATALIE, TACTICIAN));
+		public static final Set<Character> allLords = Collections.unmodifiableSet(EnumSet.of(ELIWOOD, HECTOR, LYN, LYN_TUTORIAL));
+		public static final Set<Character> allThieves = Collections.unmodifiableSet(EnumSet.of(MATTHEW, LEGAULT, JAFFAR));
+		public static final Set<Character> doNotChange = Collections.unmodifiableSet(EnumSet.of(NERGAL, DRAGON, KISHUNA, FARGUS, MERLINUS, UTHER, ELENORA, LEILA, BRAMIMOND, ZEPHIEL, ELBERT, NATALIE, TACTICIAN));
 		
-		public static Set<Character> charactersThatRequireRange = new HashSet<Character>(Arrays.asList(ERK, RATH, RATH_TUTORIAL));
-		public static Set<Character> charactersThatRequireMelee = new HashSet<Character>(Arrays.asList());
+		public static final Set<Character> charactersThatRequireRange = Collections.unmodifiableSet(EnumSet.of(ERK, RATH, RATH_TUTORIAL));
+		public static final Set<Character> charactersThatRequireMelee = Collections.unmodifiableSet(EnumSet.noneOf(Character.class));
 		
-		public static Set<Character> requiredFliers = new HashSet<Character>(Arrays.asList(FIORA, FARINA, VAIDA));
-		public static Set<Character> requiredAttackers = new HashSet<Character>(Arrays.asList(LYN, LYN_TUTORIAL, ELIWOOD, HECTOR, JAFFAR, RATH, ERK, RATH_TUTORIAL));
-		public static Set<Character> femaleSet = new HashSet<Character>(Arrays.asList(REBECCA, LOUISE, SERRA, NINO, PRISCILLA, FIORA, FARINA, VAIDA, FLORINA, ISADORA, KARLA, VAIDA_BOSS, ELENORA, LEILA, 
+		public static final Set<Character> requiredFliers = Collections.unmodifiableSet(EnumSet.of(FIORA, FARINA, VAIDA));
+		public static final Set<Character> requiredAttackers = Collections.unmodifiableSet(EnumSet.of(LYN, LYN_TUTORIAL, ELIWOOD, HECTOR, JAFFAR, RATH, ERK, RATH_TUTORIAL));
+		public static final Set<Character> femaleSet = Collections.unmodifiableSet(EnumSet.of(REBECCA, LOUISE, SERRA, NINO, PRISCILLA, FIORA, FARINA, VAIDA, FLORINA, ISADORA, KARLA, VAIDA_BOSS, ELENORA, LEILA, 
 				NATALIE, LYN_TUTORIAL, FLORINA_TUTORIAL, URSULA, SONIA, LIMSTELLA, URSULA_MORPH, LYN, NINIAN));
-		public static Set<Character> requiresPromotion = new HashSet<Character>(Arrays.asList(ELIWOOD, HECTOR));
+		public static final Set<Character> requiresPromotion = Collections.unmodifiableSet(EnumSet.of(ELIWOOD, HECTOR));
 		
-		public static Set<Character> doNotBuff = new HashSet<Character>(Arrays.asList());
+		public static final Set<Character> doNotBuff = Collections.unmodifiableSet(EnumSet.noneOf(Character.class));
 		
 		// Playable characters only.
-		public static Map<Character, Set<Integer>> charactersWithMultiplePortraits = createMultiPortraitMap();
+		public static final Map<Character, Set<Integer>> charactersWithMultiplePortraits = Collections.unmodifiableMap(createMultiPortraitMap());
 		private static Map<Character, Set<Integer>> createMultiPortraitMap() {
-			Map<Character, Set<Integer>> map = new HashMap<Character, Set<Integer>>();
+			Map<Character, Set<Integer>> map = new EnumMap<Character, Set<Integer>>(Character.class);
 			map.put(ELIWOOD, new HashSet<Integer>(Arrays.asList(0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x09, 0x0A, 0x0B)));
 			map.put(HECTOR, new HashSet<Integer>(Arrays.asList(0x0C, 0x0D, 0x0E, 0x0F, 0x10, 0x11, 0x12, 0x13, 0x14, 0x15)));
 			map.put(LYN, new HashSet<Integer>(Arrays.asList(0x16, 0x17, 0x18, 0x19, 0x1A)));
@@ -393,18 +401,24 @@ public class FE7Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 		
 		public int ID;
 		
-		private static Map<Integer, CharacterClass> map = new HashMap<Integer, CharacterClass>();
-		
-		static {
+		private static CharacterClass[] byID = createIDTable();
+		private static CharacterClass[] createIDTable() {
+			int maxID = 0;
 			for (CharacterClass charClass : CharacterClass.values()) {
-				map.put(charClass.ID, charClass);
+				maxID = Math.max(maxID, charClass.ID);
 			}
+			CharacterClass[] table = new CharacterClass[maxID + 1];
+			for (CharacterClass charClass : CharacterClass.values()) {
+				table[charClass.ID] = charClass;
+			}
+			return table;
 		}
 		
 		private CharacterClass(final int id) { ID = id; }
 		
 		public static CharacterClass valueOf(int classId) {
-			return map.get(classId);
+			if (classId < 0 || classId >= byID.length) { return null; }
+			return byID[classId];
 		}
 		
 		public static int[] classIDsForClassArray(CharacterClass[] classArray) {
@@ -420,33 +434,33 @@ public class FE7Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 			return new Comparator<CharacterClass>() { public int compare(CharacterClass o1, CharacterClass o2) { return Integer.compare(o1.ID, o2.ID); } };
 		}
 		
-		public static Set<CharacterClass> allMaleClasses = new HashSet<CharacterClass>(Arrays.asList(LORD_ELIWOOD, LORD_HECTOR, MERCENARY, MYRMIDON, FIGHTER, KNIGHT, ARCHER, MONK, MAGE, SHAMAN, CAVALIER, NOMAD,
+		public static final Set<CharacterClass> allMaleClasses = Collections.unmodifiableSet(EnumSet.of(LORD_ELIWOOD, LORD_HECTOR, MERCENARY, MYRMIDON, FIGHTER, KNIGHT, ARCHER, MONK, MAGE, SHAMAN, CAVALIER, NOMAD,
 				WYVERNKNIGHT, SOLDIER, BRIGAND, PIRATE, THIEF, BARD, CORSAIR, HERO, SWORDMASTER, WARRIOR, GENERAL, SNIPER, BISHOP, SAGE, DRUID, PALADIN, NOMADTROOPER, WYVERNLORD,
 				BERSERKER, ASSASSIN));
-		public static Set<CharacterClass> allFemaleClasses = new HashSet<CharacterClass>(Arrays.asList(LORD_LYN, BLADE_LORD, ARCHER_F, CLERIC, MAGE_F, TROUBADOUR, PEGASUSKNIGHT, DANCER, SWORDMASTER_F, SNIPER_F,
+		public static final Set<CharacterClass> allFemaleClasses = Collections.unmodifiableSet(EnumSet.of(LORD_LYN, BLADE_LORD, ARCHER_F, CLERIC, MAGE_F, TROUBADOUR, PEGASUSKNIGHT, DANCER, SWORDMASTER_F, SNIPER_F,
 				BISHOP_F, SAGE_F, PALADIN_F, VALKYRIE, FALCONKNIGHT, WYVERNLORD_F, UBER_SAGE));
-		public static Set<CharacterClass> allLordClasses = new HashSet<CharacterClass>(Arrays.asList(LORD_ELIWOOD, LORD_LYN, LORD_HECTOR, LORD_KNIGHT, BLADE_LORD, GREAT_LORD));
-		public static Set<CharacterClass> allThiefClasses = new HashSet<CharacterClass>(Arrays.asList(THIEF, ASSASSIN));
-		public static Set<CharacterClass> allUnpromotedClasses = new HashSet<CharacterClass>(Arrays.asList(LORD_ELIWOOD, LORD_LYN, LORD_HECTOR, MERCENARY, MYRMIDON, FIGHTER, KNIGHT, ARCHER, MONK, MAGE, SHAMAN,
+		public static final Set<CharacterClass> allLordClasses = Collections.unmodifiableSet(EnumSet.of(LORD_ELIWOOD, LORD_LYN, LORD_HECTOR, LORD_KNIGHT, BLADE_LORD, GREAT_LORD));
+		public static final Set<CharacterClass> allThiefClasses = Collections.unmodifiableSet(EnumSet.of(THIEF, ASSASSIN));
+		public static final Set<CharacterClass> allUnpromotedClasses = Collections.unmodifiableSet(EnumSet.of(LORD_ELIWOOD, LORD_LYN, LORD_HECTOR, MERCENARY, MYRMIDON, FIGHTER, KNIGHT, ARCHER, MONK, MAGE, SHAMAN,
 				CAVALIER, NOMAD, WYVERNKNIGHT, SOLDIER, BRIGAND, PIRATE, THIEF, BARD, CORSAIR, ARCHER_F, CLERIC, MAGE_F, TROUBADOUR, PEGASUSKNIGHT, DANCER));
-		public static Set<CharacterClass> allPromotedClasses = new HashSet<CharacterClass>(Arrays.asList(LORD_KNIGHT, BLADE_LORD, GREAT_LORD, HERO, SWORDMASTER, WARRIOR, GENERAL, SNIPER, BISHOP, SAGE, DRUID,
+		public static final Set<CharacterClass> allPromotedClasses = Collections.unmodifiableSet(EnumSet.of(LORD_KNIGHT, BLADE_LORD, GREAT_LORD, HERO, SWORDMASTER, WARRIOR, GENERAL, SNIPER, BISHOP, SAGE, DRUID,
 				PALADIN, NOMADTROOPER, WYVERNLORD, BERSERKER, ASSASSIN, SWORDMASTER_F, SNIPER_F, BISHOP_F, SAGE_F, PALADIN_F, VALKYRIE, FALCONKNIGHT, WYVERNLORD_F, UBER_SAGE));
-		public static Set<CharacterClass> allPacifistClasses = new HashSet<CharacterClass>(Arrays.asList(DANCER, BARD, CLERIC, TROUBADOUR));
-		public static Set<CharacterClass> allMeleeLockedClasses = new HashSet<CharacterClass>(Arrays.asList(MYRMIDON, MERCENARY, LORD_LYN, LORD_ELIWOOD, THIEF));
+		public static final Set<CharacterClass> allPacifistClasses = Collections.unmodifiableSet(EnumSet.of(DANCER, BARD, CLERIC, TROUBADOUR));
+		public static final Set<CharacterClass> allMeleeLockedClasses = Collections.unmodifiableSet(EnumSet.of(MYRMIDON, MERCENARY, LORD_LYN, LORD_ELIWOOD, THIEF));
 		
-		public static Set<CharacterClass> allValidClasses = new HashSet<CharacterClass>(Arrays.asList(LORD_ELIWOOD, LORD_HECTOR, MERCENARY, MYRMIDON, FIGHTER, KNIGHT, ARCHER, MONK, MAGE, SHAMAN, CAVALIER, NOMAD,
+		public static final Set<CharacterClass> allValidClasses = Collections.unmodifiableSet(EnumSet.of(LORD_ELIWOOD, LORD_HECTOR, MERCENARY, MYRMIDON, FIGHTER, KNIGHT, ARCHER, MONK, MAGE, SHAMAN, CAVALIER, NOMAD,
 				WYVERNKNIGHT, SOLDIER, BRIGAND, PIRATE, THIEF, BARD, CORSAIR, HERO, SWORDMASTER, WARRIOR, GENERAL, SNIPER, BISHOP, SAGE, DRUID, PALADIN, NOMADTROOPER, WYVERNLORD,
 				BERSERKER, ASSASSIN, LORD_LYN, BLADE_LORD, ARCHER_F, CLERIC, MAGE_F, TROUBADOUR, PEGASUSKNIGHT, DANCER, SWORDMASTER_F, SNIPER_F,
 				BISHOP_F, SAGE_F, PALADIN_F, VALKYRIE, FALCONKNIGHT, WYVERNLORD_F, LORD_KNIGHT, GREAT_LORD, UBER_SAGE));
 		
-		public static Set<CharacterClass> flyingClasses = new HashSet<CharacterClass>(Arrays.asList(WYVERNKNIGHT, WYVERNLORD, PEGASUSKNIGHT, FALCONKNIGHT));
+		public static final Set<CharacterClass> flyingClasses = Collections.unmodifiableSet(EnumSet.of(WYVERNKNIGHT, WYVERNLORD, PEGASUSKNIGHT, FALCONKNIGHT));
 		
-		public static Set<CharacterClass> meleeOnlyClasses = new HashSet<CharacterClass>(Arrays.asList(LORD_ELIWOOD, MERCENARY, MYRMIDON, THIEF, SWORDMASTER, ASSASSIN, LORD_LYN, SWORDMASTER_F));
-		public static Set<CharacterClass> rangedOnlyClasses = new HashSet<CharacterClass>(Arrays.asList(ARCHER, NOMAD, SNIPER, ARCHER_F, SNIPER_F));
+		public static final Set<CharacterClass> meleeOnlyClasses = Collections.unmodifiableSet(EnumSet.of(LORD_ELIWOOD, MERCENARY, MYRMIDON, THIEF, SWORDMASTER, ASSASSIN, LORD_LYN, SWORDMASTER_F));
+		public static final Set<CharacterClass> rangedOnlyClasses = Collections.unmodifiableSet(EnumSet.of(ARCHER, NOMAD, SNIPER, ARCHER_F, SNIPER_F));
 		
-		public static Map<CharacterClass, CharacterClass> promotionMap = createPromotionMap();
+		public static final Map<CharacterClass, CharacterClass> promotionMap = Collections.unmodifiableMap(createPromotionMap());
 		private static Map<CharacterClass, CharacterClass> createPromotionMap() {
-			Map<CharacterClass, CharacterClass> map = new HashMap<CharacterClass, CharacterClass>();
+			Map<CharacterClass, CharacterClass> map = new EnumMap<CharacterClass, CharacterClass>(CharacterClass.class);
 			map.put(LORD_ELIWOOD, LORD_KNIGHT);
 			map.put(LORD_LYN, BLADE_LORD);
 			map.put(LORD_HECTOR, GREAT_LORD); 
@@ -803,18 +817,24 @@ public class FE7Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 		
 		public int ID;
 		
-		private static Map<Integer, Item> map = new HashMap<Integer, Item>();
-		
-		static {
+		private static Item[] byID = createIDTable();
+		private static Item[] createIDTable() {
+			int maxID = 0;
+			for (Item item : Item.values()) {
+				maxID = Math.max(maxID, item.ID);
+			}
+			Item[] table = new Item[maxID + 1];
 			for (Item item : Item.values()) {
-				map.put(item.ID, item);
+				table[item.ID] = item;
 			}
+			return table;
 		}
 		
 		private Item(final int id) { ID = id; }
 		
 		public static Item valueOf(int itemId) {
-			return map.get(itemId);
+			if (itemId < 0 || itemId >= byID.length) { return null; }
+			return byID[itemId];
 		}
 		
 		public static int[] itemIDsForItemArray(Item[] itemArray) {
@@ -1065,30 +1085,30 @@ public class FE7Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 			}
 		}
 		
-		public static Set<Item> allSwords = new HashSet<Item>(Arrays.asList(IRON_SWORD, SLIM_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, POISON_SWORD, RAPIER, MANI_KATTI, BRAVE_SWORD,
+		public static final Set<Item> allSwords = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, SLIM_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, POISON_SWORD, RAPIER, MANI_KATTI, BRAVE_SWORD,
 				WO_DAO, KILLING_EDGE, ARMORSLAYER, WYRMSLAYER, LIGHT_BRAND, RUNE_SWORD, LANCEREAVER, LONGSWORD, EMBLEM_SWORD, DURANDAL, SOL_KATTI, REGAL_BLADE, WIND_SWORD));
-		public static Set<Item> allLances = new HashSet<Item>(Arrays.asList(IRON_LANCE, SLIM_LANCE, STEEL_LANCE, SILVER_LANCE, POISON_LANCE, BRAVE_LANCE, KILLER_LANCE, HORSESLAYER, JAVELIN, SPEAR, AXEREAVER,
+		public static final Set<Item> allLances = Collections.unmodifiableSet(EnumSet.of(IRON_LANCE, SLIM_LANCE, STEEL_LANCE, SILVER_LANCE, POISON_LANCE, BRAVE_LANCE, KILLER_LANCE, HORSESLAYER, JAVELIN, SPEAR, AXEREAVER,
 				EMBLEM_LANCE, REX_HASTA, HEAVY_SPEAR, SHORT_SPEAR, UBER_SPEAR));
-		public static Set<Item> allAxes = new HashSet<Item>(Arrays.asList(IRON_AXE, STEEL_AXE, SILVER_AXE, POISON_AXE, BRAVE_AXE, KILLER_AXE, HALBERD, HAMMER, DEVIL_AXE, HAND_AXE, TOMAHAWK, SWORDREAVER,
+		public static final Set<Item> allAxes = Collections.unmodifiableSet(EnumSet.of(IRON_AXE, STEEL_AXE, SILVER_AXE, POISON_AXE, BRAVE_AXE, KILLER_AXE, HALBERD, HAMMER, DEVIL_AXE, HAND_AXE, TOMAHAWK, SWORDREAVER,
 				SWORDSLAYER, DRAGON_AXE, EMBLEM_AXE, ARMADS, WOLF_BEIL, BASILIKOS));
-		public static Set<Item> allBows = new HashSet<Item>(Arrays.asList(IRON_BOW, STEEL_BOW, SILVER_BOW, POISON_BOW, KILLER_BOW, BRAVE_BOW, SHORT_BOW, LONGBOW, EMBLEM_BOW, RIENFLECHE));
-		public static Set<Item> allAnima = new HashSet<Item>(Arrays.asList(FIRE, THUNDER, ELFIRE, BOLTING, FIMBULVETR, FORBLAZE, EXCALIBUR));
-		public static Set<Item> allLight = new HashSet<Item>(Arrays.asList(LIGHTNING, SHINE, DIVINE, PURGE, AURA, LUCE, AUREOLA));
-		public static Set<Item> allDark = new HashSet<Item>(Arrays.asList(FLUX, LUNA, NOSFERATU, ECLIPSE, FENRIR, GESPENST));
-		public static Set<Item> allHealingStaves = new HashSet<Item>(Arrays.asList(HEAL, MEND, RECOVER, PHYSIC, FORTIFY));
-		public static Set<Item> allSupportStaves = new HashSet<Item>(Arrays.asList(RESTORE, WARP, RESCUE, TORCH_STAFF, HAMMERNE, UNLOCK, BARRIER));
-		public static Set<Item> allStatusStaves = new HashSet<Item>(Arrays.asList(SILENCE, SLEEP, BERSERK));
-		public static Set<Item> allStatBoosters = new HashSet<Item>(Arrays.asList(ANGELIC_ROBE, ENERGY_RING, SECRET_BOOK, SPEEDWINGS, GODDESS_ICON, DRAGONSHIELD, TALISMAN, BOOTS, BODY_RING, AFA_DROPS));
-		public static Set<Item> allPromotionItems = new HashSet<Item>(Arrays.asList(HERO_CREST, KNIGHT_CREST, ORION_BOLT, ELYSIAN_WHIP, GUIDING_RING, EARTH_SEAL, HEAVEN_SEAL, EMBLEM_SEAL, FELL_CONTRACT, OCEAN_SEAL));
-		public static Set<Item> allDancingRings = new HashSet<Item>(Arrays.asList(FILLA_MIGHT, NINI_GRACE, THOR_IRE, SET_LITANY));
-		public static Set<Item> allSpecialItems = new HashSet<Item>(Arrays.asList(DELPHI_SHIELD, MEMBER_CARD, IRON_RUNE, SILVER_CARD));
-		public static Set<Item> allMoneyItems = new HashSet<Item>(Arrays.asList(WHITE_GEM, BLUE_GEM, RED_GEM, GOLD_3000, GOLD_5000));
-		public static Set<Item> chestOnlyItems = new HashSet<Item>(Arrays.asList(GOLD_3000, GOLD_5000));
-		public static Set<Item> usableItems = new HashSet<Item>(Arrays.asList(CHEST_KEY, CHEST_KEY_5, DOOR_KEY, LOCKPICK, VULNERARY, ELIXIR, PURE_WATER, ANTITOXIN, TORCH, MINE, LIGHT_RUNE));
-		
-		public static Set<Item> allSiegeTomes = new HashSet<Item>(Arrays.asList(BOLTING, PURGE, ECLIPSE));
-		
-		public static Set<Item> allPotentialRewards = new HashSet<Item>(Arrays.asList(IRON_SWORD, SLIM_SWORD, EMBLEM_SWORD, IRON_LANCE, SLIM_LANCE, JAVELIN, EMBLEM_LANCE, POISON_LANCE, HAND_AXE, IRON_AXE, EMBLEM_AXE, STEEL_AXE,
+		public static final Set<Item> allBows = Collections.unmodifiableSet(EnumSet.of(IRON_BOW, STEEL_BOW, SILVER_BOW, POISON_BOW, KILLER_BOW, BRAVE_BOW, SHORT_BOW, LONGBOW, EMBLEM_BOW, RIENFLECHE));
+		public static final Set<Item> allAnima = Collections.unmodifiableSet(EnumSet.of(FIRE, THUNDER, ELFIRE, BOLTING, FIMBULVETR, FORBLAZE, EXCALIBUR));
+		public static final Set<Item> allLight = Collections.unmodifiableSet(EnumSet.of(LIGHTNING, SHINE, DIVINE, PURGE, AURA, LUCE, AUREOLA));
+		public static final Set<Item> allDark = Collections.unmodifiableSet(EnumSet.of(FLUX, LUNA, NOSFERATU, ECLIPSE, FENRIR, GESPENST));
+		public static final Set<Item> allHealingStaves = Collections.unmodifiableSet(EnumSet.of(HEAL, MEND, RECOVER, PHYSIC, FORTIFY));
+		public static final Set<Item> allSupportStaves = Collections.unmodifiableSet(EnumSet.of(RESTORE, WARP, RESCUE, TORCH_STAFF, HAMMERNE, UNLOCK, BARRIER));
+		public static final Set<Item> allStatusStaves = Collections.unmodifiableSet(EnumSet.of(SILENCE, SLEEP, BERSERK));
+		public static final Set<Item> allStatBoosters = Collections.unmodifiableSet(EnumSet.of(ANGELIC_ROBE, ENERGY_RING, SECRET_BOOK, SPEEDWINGS, GODDESS_ICON, DRAGONSHIELD, TALISMAN, BOOTS, BODY_RING, AFA_DROPS));
+		public static final Set<Item> allPromotionItems = Collections.unmodifiableSet(EnumSet.of(HERO_CREST, KNIGHT_CREST, ORION_BOLT, ELYSIAN_WHIP, GUIDING_RING, EARTH_SEAL, HEAVEN_SEAL, EMBLEM_SEAL, FELL_CONTRACT, OCEAN_SEAL));
+		public static final Set<Item> allDancingRings = Collections.unmodifiableSet(EnumSet.of(FILLA_MIGHT, NINI_GRACE, THOR_IRE, SET_LITANY));
+		public static final Set<Item> allSpecialItems = Collections.unmodifiableSet(EnumSet.of(DELPHI_SHIELD, MEMBER_CARD, IRON_RUNE, SILVER_CARD));
+		public static final Set<Item> allMoneyItems = Collections.unmodifiableSet(EnumSet.of(WHITE_GEM, BLUE_GEM, RED_GEM, GOLD_3000, GOLD_5000));
+		public static final Set<Item> chestOnlyItems = Collections.unmodifiableSet(EnumSet.of(GOLD_3000, GOLD_5000));
+		public static final Set<Item> usableItems = Collections.unmodifiableSet(EnumSet.of(CHEST_KEY, CHEST_KEY_5, DOOR_KEY, LOCKPICK, VULNERARY, ELIXIR, PURE_WATER, ANTITOXIN, TORCH, MINE, LIGHT_RUNE));
+		
+		public static final Set<Item> allSiegeTomes = Collections.unmodifiableSet(EnumSet.of(BOLTING, PURGE, ECLIPSE));
+		
+		public static final Set<Item> allPotentialRewards = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, SLIM_SWORD, EMBLEM_SWORD, IRON_LANCE, SLIM_LANCE, JAVELIN, EMBLEM_LANCE, POISON_LANCE, HAND_AXE, IRON_AXE, EMBLEM_AXE, STEEL_AXE,
 				DEVIL_AXE, IRON_BOW, EMBLEM_BOW, FIRE, LIGHTNING, HEAL, POISON_SWORD, STEEL_SWORD, IRON_BLADE, ARMORSLAYER, LONGSWORD, WO_DAO, STEEL_LANCE, HEAVY_SPEAR, HORSESLAYER, POISON_AXE, HALBERD, HAMMER, POISON_BOW,
 				SHORT_BOW, LONGBOW, STEEL_BOW, THUNDER, SHINE, FLUX, MEND, TORCH_STAFF, UNLOCK, STEEL_BLADE, KILLING_EDGE, WYRMSLAYER, LIGHT_BRAND, LANCEREAVER, SHORT_SPEAR, KILLER_LANCE, AXEREAVER, DRAGON_AXE, KILLER_AXE, SWORDREAVER, 
 				SWORDSLAYER, KILLER_BOW, ELFIRE, DIVINE, NOSFERATU, RECOVER, RESTORE, HAMMERNE, BARRIER, BRAVE_SWORD, WIND_SWORD, BRAVE_LANCE, SPEAR, BRAVE_AXE, BRAVE_BOW, BOLTING, PURGE, ECLIPSE, PHYSIC, SILENCE, SLEEP, BERSERK, 
@@ -1099,48 +1119,48 @@ public class FE7Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 				DELPHI_SHIELD, MEMBER_CARD, IRON_RUNE, SILVER_CARD,
 				WHITE_GEM, BLUE_GEM, RED_GEM));
 		
-		public static Set<Item> allWeapons = new HashSet<Item>(Arrays.asList(IRON_SWORD, SLIM_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, POISON_SWORD, RAPIER, MANI_KATTI, BRAVE_SWORD,
+		public static final Set<Item> allWeapons = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, SLIM_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, POISON_SWORD, RAPIER, MANI_KATTI, BRAVE_SWORD,
 				WO_DAO, KILLING_EDGE, ARMORSLAYER, WYRMSLAYER, LIGHT_BRAND, RUNE_SWORD, LANCEREAVER, LONGSWORD, EMBLEM_SWORD, DURANDAL, SOL_KATTI, REGAL_BLADE, WIND_SWORD, IRON_LANCE, 
 				SLIM_LANCE, STEEL_LANCE, SILVER_LANCE, POISON_LANCE, BRAVE_LANCE, KILLER_LANCE, HORSESLAYER, JAVELIN, SPEAR, AXEREAVER, EMBLEM_LANCE, REX_HASTA, HEAVY_SPEAR, SHORT_SPEAR, 
 				IRON_AXE, STEEL_AXE, SILVER_AXE, POISON_AXE, BRAVE_AXE, KILLER_AXE, HALBERD, HAMMER, DEVIL_AXE, HAND_AXE, TOMAHAWK, SWORDREAVER, SWORDSLAYER, DRAGON_AXE, EMBLEM_AXE, ARMADS, 
 				WOLF_BEIL, BASILIKOS, IRON_BOW, STEEL_BOW, SILVER_BOW, POISON_BOW, KILLER_BOW, BRAVE_BOW, SHORT_BOW, LONGBOW, EMBLEM_BOW, RIENFLECHE, FIRE, THUNDER, ELFIRE, BOLTING, 
 				FIMBULVETR, FORBLAZE, EXCALIBUR, LIGHTNING, SHINE, DIVINE, PURGE, AURA, LUCE, AUREOLA, FLUX, LUNA, NOSFERATU, ECLIPSE, FENRIR, GESPENST));
-		public static Set<Item> allRangedWeapons = new HashSet<Item>(Arrays.asList(LIGHT_BRAND, RUNE_SWORD, WIND_SWORD, JAVELIN, SPEAR, SHORT_SPEAR, HAND_AXE, TOMAHAWK, IRON_BOW, STEEL_BOW,
+		public static final Set<Item> allRangedWeapons = Collections.unmodifiableSet(EnumSet.of(LIGHT_BRAND, RUNE_SWORD, WIND_SWORD, JAVELIN, SPEAR, SHORT_SPEAR, HAND_AXE, TOMAHAWK, IRON_BOW, STEEL_BOW,
 				SILVER_BOW, POISON_BOW, KILLER_BOW, BRAVE_BOW, SHORT_BOW, LONGBOW, EMBLEM_BOW, RIENFLECHE, FIRE, THUNDER, ELFIRE, FIMBULVETR, FORBLAZE, EXCALIBUR, LIGHTNING, SHINE, DIVINE, 
 				AURA, LUCE, AUREOLA, FLUX, LUNA, NOSFERATU, FENRIR, GESPENST));
-		public static Set<Item> allStaves = new HashSet<Item>(Arrays.asList(HEAL, MEND, RECOVER, PHYSIC, FORTIFY, RESTORE, WARP, RESCUE, TORCH_STAFF, HAMMERNE, UNLOCK, BARRIER, SILENCE, SLEEP, BERSERK));
-		public static Set<Item> allERank = new HashSet<Item>(Arrays.asList(IRON_SWORD, SLIM_SWORD, EMBLEM_SWORD, IRON_LANCE, SLIM_LANCE, JAVELIN, EMBLEM_LANCE, POISON_LANCE, HAND_AXE, IRON_AXE, EMBLEM_AXE, STEEL_AXE,
+		public static final Set<Item> allStaves = Collections.unmodifiableSet(EnumSet.of(HEAL, MEND, RECOVER, PHYSIC, FORTIFY, RESTORE, WARP, RESCUE, TORCH_STAFF, HAMMERNE, UNLOCK, BARRIER, SILENCE, SLEEP, BERSERK));
+		public static final Set<Item> allERank = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, SLIM_SWORD, EMBLEM_SWORD, IRON_LANCE, SLIM_LANCE, JAVELIN, EMBLEM_LANCE, POISON_LANCE, HAND_AXE, IRON_AXE, EMBLEM_AXE, STEEL_AXE,
 				DEVIL_AXE, IRON_BOW, EMBLEM_BOW, FIRE, LIGHTNING, HEAL));
-		public static Set<Item> allDRank = new HashSet<Item>(Arrays.asList(POISON_SWORD, STEEL_SWORD, IRON_BLADE, ARMORSLAYER, LONGSWORD, WO_DAO, STEEL_LANCE, HEAVY_SPEAR, HORSESLAYER, POISON_AXE, HALBERD, HAMMER, POISON_BOW,
+		public static final Set<Item> allDRank = Collections.unmodifiableSet(EnumSet.of(POISON_SWORD, STEEL_SWORD, IRON_BLADE, ARMORSLAYER, LONGSWORD, WO_DAO, STEEL_LANCE, HEAVY_SPEAR, HORSESLAYER, POISON_AXE, HALBERD, HAMMER, POISON_BOW,
 				SHORT_BOW, LONGBOW, STEEL_BOW, THUNDER, SHINE, FLUX, MEND, TORCH_STAFF, UNLOCK));
-		public static Set<Item> allCRank = new HashSet<Item>(Arrays.asList(STEEL_BLADE, KILLING_EDGE, WYRMSLAYER, LIGHT_BRAND, LANCEREAVER, SHORT_SPEAR, KILLER_LANCE, AXEREAVER, DRAGON_AXE, KILLER_AXE, SWORDREAVER, 
+		public static final Set<Item> allCRank = Collections.unmodifiableSet(EnumSet.of(STEEL_BLADE, KILLING_EDGE, WYRMSLAYER, LIGHT_BRAND, LANCEREAVER, SHORT_SPEAR, KILLER_LANCE, AXEREAVER, DRAGON_AXE, KILLER_AXE, SWORDREAVER, 
 				SWORDSLAYER, KILLER_BOW, ELFIRE, DIVINE, LUNA, NOSFERATU, RECOVER, RESTORE, HAMMERNE, BARRIER));
-		public static Set<Item> allBRank = new HashSet<Item>(Arrays.asList(BRAVE_SWORD, WIND_SWORD, BRAVE_LANCE, SPEAR, UBER_SPEAR, BRAVE_AXE, BRAVE_BOW, BOLTING, PURGE, ECLIPSE, PHYSIC, SILENCE, SLEEP, BERSERK, RESCUE));
-		public static Set<Item> allARank = new HashSet<Item>(Arrays.asList(SILVER_SWORD, SILVER_BLADE, RUNE_SWORD, SILVER_LANCE, TOMAHAWK, SILVER_AXE, SILVER_BOW, FIMBULVETR, AURA, FENRIR, FORTIFY, WARP));
-		public static Set<Item> allSRank = new HashSet<Item>(Arrays.asList(REGAL_BLADE, REX_HASTA, BASILIKOS, RIENFLECHE, EXCALIBUR, LUCE, GESPENST, AUREOLA));
-		public static Set<Item> allPrfRank = new HashSet<Item>(Arrays.asList(MANI_KATTI, RAPIER, DURANDAL, SOL_KATTI, WOLF_BEIL, ARMADS, FORBLAZE));
+		public static final Set<Item> allBRank = Collections.unmodifiableSet(EnumSet.of(BRAVE_SWORD, WIND_SWORD, BRAVE_LANCE, SPEAR, UBER_SPEAR, BRAVE_AXE, BRAVE_BOW, BOLTING, PURGE, ECLIPSE, PHYSIC, SILENCE, SLEEP, BERSERK, RESCUE));
+		public static final Set<Item> allARank = Collections.unmodifiableSet(EnumSet.of(SILVER_SWORD, SILVER_BLADE, RUNE_SWORD, SILVER_LANCE, TOMAHAWK, SILVER_AXE, SILVER_BOW, FIMBULVETR, AURA, FENRIR, FORTIFY, WARP));
+		public static final Set<Item> allSRank = Collections.unmodifiableSet(EnumSet.of(REGAL_BLADE, REX_HASTA, BASILIKOS, RIENFLECHE, EXCALIBUR, LUCE, GESPENST, AUREOLA));
+		public static final Set<Item> allPrfRank = Collections.unmodifiableSet(EnumSet.of(MANI_KATTI, RAPIER, DURANDAL, SOL_KATTI, WOLF_BEIL, ARMADS, FORBLAZE));
 		
-		public static Set<Item> normalSet = new HashSet<Item>(Arrays.asList(IRON_SWORD, SLIM_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, EMBLEM_SWORD, IRON_LANCE, 
+		public static final Set<Item> normalSet = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, SLIM_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, EMBLEM_SWORD, IRON_LANCE, 
 				SLIM_LANCE, STEEL_LANCE, SILVER_LANCE, EMBLEM_LANCE, IRON_AXE, STEEL_AXE, SILVER_AXE, EMBLEM_AXE, IRON_BOW, STEEL_BOW, SILVER_BOW, SHORT_BOW, EMBLEM_BOW, FIRE, THUNDER, ELFIRE, 
 				FIMBULVETR, LIGHTNING, SHINE, DIVINE, AURA, FLUX, FENRIR, HEAL, MEND, RECOVER));
-		public static Set<Item> interestingSet = new HashSet<Item>(Arrays.asList(POISON_SWORD, RAPIER, MANI_KATTI, BRAVE_SWORD,
+		public static final Set<Item> interestingSet = Collections.unmodifiableSet(EnumSet.of(POISON_SWORD, RAPIER, MANI_KATTI, BRAVE_SWORD,
 				WO_DAO, KILLING_EDGE, ARMORSLAYER, WYRMSLAYER, LIGHT_BRAND, RUNE_SWORD, LANCEREAVER, LONGSWORD, WIND_SWORD, POISON_LANCE, BRAVE_LANCE, KILLER_LANCE, HORSESLAYER, JAVELIN, SPEAR, AXEREAVER, HEAVY_SPEAR, SHORT_SPEAR, 
 				POISON_AXE, BRAVE_AXE, KILLER_AXE, HALBERD, HAMMER, DEVIL_AXE, HAND_AXE, TOMAHAWK, SWORDREAVER, SWORDSLAYER, DRAGON_AXE, 
 				WOLF_BEIL, POISON_BOW, KILLER_BOW, BRAVE_BOW, LONGBOW, BOLTING, PURGE, LUNA, NOSFERATU, ECLIPSE, PHYSIC, FORTIFY, RESTORE, WARP, RESCUE, TORCH_STAFF, HAMMERNE, UNLOCK, BARRIER, SILENCE, SLEEP, BERSERK));
 		
 		// These must be of lower rank than the siege tomes set, and each weapon type needs to have an equivalent analogue.
-		public static Set<Item> siegeReplacementSet = new HashSet<Item>(Arrays.asList(DIVINE, NOSFERATU, ELFIRE));
+		public static final Set<Item> siegeReplacementSet = Collections.unmodifiableSet(EnumSet.of(DIVINE, NOSFERATU, ELFIRE));
 		
-		public static Set<Item> killerSet = new HashSet<Item>(Arrays.asList(KILLING_EDGE, WO_DAO, MANI_KATTI, KILLER_LANCE, KILLER_AXE, KILLER_BOW, LUNA));
-		public static Set<Item> effectiveSet = new HashSet<Item>(Arrays.asList(RAPIER, MANI_KATTI, ARMORSLAYER, WYRMSLAYER, LONGSWORD, HORSESLAYER, HEAVY_SPEAR, HALBERD, HAMMER, SWORDSLAYER, DRAGON_AXE, WOLF_BEIL));
-		public static Set<Item> poisonSet = new HashSet<Item>(Arrays.asList(POISON_SWORD, POISON_AXE, POISON_LANCE, POISON_BOW));
-		public static Set<Item> rangedSet = new HashSet<Item>(Arrays.asList(LIGHT_BRAND, RUNE_SWORD, JAVELIN, SPEAR, SHORT_SPEAR, HAND_AXE, TOMAHAWK, LONGBOW, BOLTING, PURGE, ECLIPSE, PHYSIC));
-		public static Set<Item> reaverSet = new HashSet<Item>(Arrays.asList(LANCEREAVER, AXEREAVER, SWORDREAVER, SWORDSLAYER));
-		public static Set<Item> braveSet = new HashSet<Item>(Arrays.asList(BRAVE_SWORD, BRAVE_LANCE, BRAVE_AXE, BRAVE_BOW));
+		public static final Set<Item> killerSet = Collections.unmodifiableSet(EnumSet.of(KILLING_EDGE, WO_DAO, MANI_KATTI, KILLER_LANCE, KILLER_AXE, KILLER_BOW, LUNA));
+		public static final Set<Item> effectiveSet = Collections.unmodifiableSet(EnumSet.of(RAPIER, MANI_KATTI, ARMORSLAYER, WYRMSLAYER, LONGSWORD, HORSESLAYER, HEAVY_SPEAR, HALBERD, HAMMER, SWORDSLAYER, DRAGON_AXE, WOLF_BEIL));
+		public static final Set<Item> poisonSet = Collections.unmodifiableSet(EnumSet.of(POISON_SWORD, POISON_AXE, POISON_LANCE, POISON_BOW));
+		public static final Set<Item> rangedSet = Collections.unmodifiableSet(EnumSet.of(LIGHT_BRAND, RUNE_SWORD, JAVELIN, SPEAR, SHORT_SPEAR, HAND_AXE, TOMAHAWK, LONGBOW, BOLTING, PURGE, ECLIPSE, PHYSIC));
+		public static final Set<Item> reaverSet = Collections.unmodifiableSet(EnumSet.of(LANCEREAVER, AXEREAVER, SWORDREAVER, SWORDSLAYER));
+		public static final Set<Item> braveSet = Collections.unmodifiableSet(EnumSet.of(BRAVE_SWORD, BRAVE_LANCE, BRAVE_AXE, BRAVE_BOW));
 		
-		public static Set<Item> allRestrictedWeapons = new HashSet<Item>(Arrays.asList(WO_DAO));
+		public static final Set<Item> allRestrictedWeapons = Collections.unmodifiableSet(EnumSet.of(WO_DAO));
 		
-		public static Set<Item> allBasicWeapons = new HashSet<Item>(Arrays.asList(IRON_SWORD, IRON_LANCE, IRON_AXE, IRON_BOW, FIRE, LIGHTNING, FLUX));
+		public static final Set<Item> allBasicWeapons = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, IRON_LANCE, IRON_AXE, IRON_BOW, FIRE, LIGHTNING, FLUX));
 		
 		public static Set<Item> basicItemsOfType(WeaponType type) {
 			Set<Item> set = new HashSet<Item>();
@@ -2210,11 +2230,11 @@ public class FE7Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 	}
 
 	public Set<GBAFECharacter> allPlayableCharacters() {
-		return new HashSet<GBAFECharacter>(Character.allPlayableCharacters);
+		return Collections.unmodifiableSet(Character.allPlayableCharacters);
 	}
 
 	public Set<GBAFECharacter> allBossCharacters() {
-		return new HashSet<GBAFECharacter>(Character.allBossCharacters);
+		return Collections.unmodifiableSet(Character.allBossCharacters);
 	}
 
 	public Set<GBAFECharacter> linkedCharacters(int characterID) {
@@ -2235,19 +2255,19 @@ public class FE7Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 	}
 	
 	public Set<GBAFECharacter> allFliers() {
-		return new HashSet<GBAFECharacter>(Character.requiredFliers);
+		return Collections.unmodifiableSet(Character.requiredFliers);
 	}
 	
 	public Set<GBAFECharacter> mustAttack() {
-		return new HashSet<GBAFECharacter>(Character.requiredAttackers);
+		return Collections.unmodifiableSet(Character.requiredAttackers);
 	}
 	
 	public Set<GBAFECharacter> femaleSet() {
-		return new HashSet<GBAFECharacter>(Character.femaleSet);
+		return Collections.unmodifiableSet(Character.femaleSet);
 	}
 	
 	public Set<GBAFECharacter> mustPromote() {
-		return new HashSet<GBAFECharacter>(Character.requiresPromotion);
+		return Collections.unmodifiableSet(Character.requiresPromotion);
 	}
 	
 	public GBAFECharacter characterWithID(int characterID) {
@@ -2296,7 +2316,7 @@ public class FE7Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 	}
 
 	public Set<GBAFEClass> allValidClasses() {
-		return new HashSet<GBAFEClass>(CharacterClass.allValidClasses);
+		return Collections.unmodifiableSet(CharacterClass.allValidClasses);
 	}
 	
 	public Set<GBAFEClass> meleeSupportedClasses() {
@@ -2440,7 +2460,7 @@ public class FE7Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 	}
 	
 	public Set<GBAFEItem> allWeapons() {
-		return new HashSet<GBAFEItem>(Item.allWeapons);
+		return Collections.unmodifiableSet(Item.allWeapons);
 	}
 	
 	public Set<GBAFEItem> weaponsWithStatBoosts() {
@@ -2490,7 +2510,7 @@ public class FE7Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 	}
 	
 	public Set<GBAFEItem> allPotentialChestRewards() {
-		return new HashSet<GBAFEItem>(Item.allPotentialRewards);
+		return Collections.unmodifiableSet(Item.allPotentialRewards);
 	}
 	
 	public Set<GBAFEItem> relatedItemsToItem(GBAFEItemData itemData) {
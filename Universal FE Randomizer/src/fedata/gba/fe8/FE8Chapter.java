@@ -1,7 +1,6 @@
 package fedata.gba.fe8;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -13,9 +12,9 @@ import fedata.gba.GBAFEChapterData;
 import fedata.gba.GBAFEChapterItemData;
 import fedata.gba.GBAFEChapterUnitData;
 import fedata.gba.general.CharacterNudge;
-import io.FileHandler;
+import fedata.gba.general.EventScriptScanner;
+import io.ROMBuffer;
 import util.DebugPrinter;
-import util.FileReadHelper;
 import util.WhyDoesJavaNotHaveThese;
 
 public class FE8Chapter implements GBAFEChapterData {
@@ -45,6 +44,7 @@ public class FE8Chapter implements GBAFEChapterData {
 	private long endingSceneOffset;
 	
 	private List<FE8ChapterUnit> allChapterUnits;
+	private GBAFEChapterUnitData[] unitArray; // Built on first request, since allUnits() is called a lot.
 	private List<FE8ChapterItem> allChapterRewards;
 	
 	private Map<Integer, FE8ChapterItem> targetedChapterRewards;
@@ -58,7 +58,11 @@ public class FE8Chapter implements GBAFEChapterData {
 	
 	private CharacterNudge[] nudges;
 	
-	public FE8Chapter(FileHandler handler, long pointer, Boolean isClassSafe, Boolean removeFightScenes, int[] blacklistedClassIDs, String friendlyName, Boolean simple, int[] targetedRewardRecipientsToTrack, int[] unarmedCharacters, long[] additionalUnitOffsets, CharacterNudge[] nudgesRequired) {
+	// Commands are looked at a word at a time, and their lengths depend on what's found in them, so the only thing in here are the terminators.
+	// Scripts end at ENDA (0x0120) or ENDB (0x0121).
+	private static final EventScriptScanner.CommandTable EventCommands = new EventScriptScanner.CommandTable().terminateOnWords(0x0120, 0x0121);
+	
+	public FE8Chapter(ROMBuffer buffer, long pointer, Boolean isClassSafe, Boolean removeFightScenes, int[] blacklistedClassIDs, String friendlyName, Boolean simple, int[] targetedRewardRecipientsToTrack, int[] unarmedCharacters, long[] additionalUnitOffsets, CharacterNudge[] nudgesRequired) {
 		this.friendlyName = friendlyName;
 		this.blacklistedClassIDs = new HashSet<Integer>();
 		for (int classID : blacklistedClassIDs) {
@@ -74,27 +78,27 @@ public class FE8Chapter implements GBAFEChapterData {
 		for (int unarmedChar : unarmedCharacters) { unarmedCharacterIDs.add(unarmedChar); }
 				
 		// We need one jump.
-		long pointerTableOffset = FileReadHelper.readAddress(handler, pointer);
+		long pointerTableOffset = buffer.addressAt(pointer);
 		this.isClassSafe = isClassSafe;
 		
 		long currentOffset = pointerTableOffset;
-		turnBasedEventsOffset = FileReadHelper.readAddress(handler, currentOffset);
+		turnBasedEventsOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		characterBasedEventsOffset = FileReadHelper.readAddress(handler, currentOffset);
+		characterBasedEventsOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		locationBasedEventsOffset = FileReadHelper.readAddress(handler, currentOffset);
+		locationBasedEventsOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		miscEventsOffset = FileReadHelper.readAddress(handler, currentOffset);
+		miscEventsOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
 		currentOffset += 4 * 6;
-		unitOffset = FileReadHelper.readAddress(handler, currentOffset);
+		unitOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		secondUnitOffset = FileReadHelper.readAddress(handler, currentOffset);
+		secondUnitOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
 		currentOffset += 4 * 6;
-		beginningSceneOffset = FileReadHelper.readAddress(handler, currentOffset);
+		beginningSceneOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
-		endingSceneOffset = FileReadHelper.readAddress(handler, currentOffset);
+		endingSceneOffset = buffer.addressAt(currentOffset);
 		currentOffset += 4;
 		
 		allChapterUnits = new ArrayList<FE8ChapterUnit>();
@@ -106,12 +110,13 @@ public class FE8Chapter implements GBAFEChapterData {
 		
 		nudges = nudgesRequired;
 		
-		loadUnits(handler);
-		loadRewards(handler);
+		Set<Long> eventAddresses = allEventAddresses(buffer);
+		loadUnits(buffer, eventAddresses);
+		loadRewards(buffer, eventAddresses);
 		
 		for (long unitOffset : additionalUnitOffsets) {
 			DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Loading auxiliary units from offset 0x" + Long.toHexString(unitOffset));
-			loadUnitsFromAddress(handler, unitOffset);
+			loadUnitsFromAddress(buffer, unitOffset);
 		}
 	}
 
@@ -127,7 +132,10 @@ public class FE8Chapter implements GBAFEChapterData {
 
 	@Override
 	public GBAFEChapterUnitData[] allUnits() {
-		return allChapterUnits.toArray(new GBAFEChapterUnitData[allChapterUnits.size()]);
+		if (unitArray == null) {
+			unitArray = allChapterUnits.toArray(new GBAFEChapterUnitData[allChapterUnits.size()]);
+		}
+		return unitArray;
 	}
 
 	@Override
@@ -206,85 +214,86 @@ public class FE8Chapter implements GBAFEChapterData {
 		}
 	}
 	
-	private void loadUnits(FileHandler handler) {
+	private void loadUnits(ROMBuffer buffer, Set<Long> eventAddresses) {
 		Set<Long> addressesSearched = new HashSet<Long>();
 		// Look in the obvious places first.
-		loadUnitsFromAddress(handler, unitOffset);
+		loadUnitsFromAddress(buffer, unitOffset);
 		addressesSearched.add(unitOffset);
 		
 		if (secondUnitOffset != unitOffset) {
-			loadUnitsFromAddress(handler, secondUnitOffset);
+			loadUnitsFromAddress(buffer, secondUnitOffset);
 			addressesSearched.add(secondUnitOffset);
 		}
 		
-		Set<Long> eventAddresses = eventAddressesFromTurnEvents(handler);
-		eventAddresses.addAll(eventAddressesFromCharacterEvents(handler));
-		eventAddresses.addAll(eventAddressesFromLocationEvents(handler));
-		eventAddresses.addAll(eventAddressesFromMiscEvents(handler));
-		eventAddresses.add(beginningSceneOffset);
-		eventAddresses.add(endingSceneOffset);
 		for (long eventAddress : eventAddresses) {
 			if (eventAddress == 0x1) { continue; } // Some events use 1 for some reason. LOCA and DOOR do this sometimes.
-			Set<Long> unitAddresses = unitAddressesFromEventBlob(handler, eventAddress);
+			Set<Long> unitAddresses = unitAddressesFromEventBlob(buffer, eventAddress);
 			for (long unitAddress : unitAddresses) {
 				if (!addressesSearched.contains(unitAddress)) {
 					addressesSearched.add(unitAddress);
-					loadUnitsFromAddress(handler, unitAddress);
+					loadUnitsFromAddress(buffer, unitAddress);
 				}
 			}
 			
-			recordFightAddressesFromEventBlob(handler, eventAddress);
+			recordFightAddressesFromEventBlob(buffer, eventAddress);
 		}
 	}
 	
-	private Set<Long> eventAddressesFromTurnEvents(FileHandler handler) {
+	private Set<Long> allEventAddresses(ROMBuffer buffer) {
+		Set<Long> eventAddresses = eventAddressesFromTurnEvents(buffer);
+		eventAddresses.addAll(eventAddressesFromCharacterEvents(buffer));
+		eventAddresses.addAll(eventAddressesFromLocationEvents(buffer));
+		eventAddresses.addAll(eventAddressesFromMiscEvents(buffer));
+		eventAddresses.add(beginningSceneOffset);
+		eventAddresses.add(endingSceneOffset);
+		return eventAddresses;
+	}
+	
+	private Set<Long> eventAddressesFromTurnEvents(ROMBuffer buffer) {
 		Set<Long> eventAddresses = new HashSet<Long>();
-		byte[] turnCommand;
 		long currentAddress = turnBasedEventsOffset;
-		turnCommand = handler.readBytesAtOffset(currentAddress, 12);
-		while (turnCommand[0] == 0x02) { // Thankfully, this is the only one we have to look for.
+		byte turnCommand = buffer.byteAt(currentAddress);
+		while (turnCommand == 0x02) { // Thankfully, this is the only one we have to look for.
 			// TURN (0x02) - 12 bytes - offset starts at byte 4 and is 4 bytes long.
-			long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+			long address = buffer.addressAt(currentAddress + 4);
 			if (address != -1) {
 				eventAddresses.add(address);
 			}
 			currentAddress += 12;
-			turnCommand = handler.readBytesAtOffset(currentAddress, 12);
+			turnCommand = buffer.byteAt(currentAddress);
 		}
-		if (turnCommand[0] != 0x00) {
+		if (turnCommand != 0x00) {
 			System.err.println("Unhandled turn event type detected.");
 		}
 		
 		return eventAddresses;
 	}
 	
-	private Set<Long> eventAddressesFromCharacterEvents(FileHandler handler) {
+	private Set<Long> eventAddressesFromCharacterEvents(ROMBuffer buffer) {
 		Set<Long> eventAddresses = new HashSet<Long>();
-		byte[] charCommand;
 		long currentAddress = characterBasedEventsOffset;
-		charCommand = handler.readBytesAtOffset(currentAddress, 16);
-		while (charCommand[0] == 0x03) { // I guess everything else is done by SETVAL now.
+		byte charCommand = buffer.byteAt(currentAddress);
+		while (charCommand == 0x03) { // I guess everything else is done by SETVAL now.
 			// CHAR (0x03) - 16 bytes - offset starts at byte 4 and is 4 bytes long.
-			long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+			long address = buffer.addressAt(currentAddress + 4);
 			if (address != -1) {
 				eventAddresses.add(address);
 			}
 			
 			currentAddress += 16;
-			charCommand = handler.readBytesAtOffset(currentAddress, 16);
+			charCommand = buffer.byteAt(currentAddress);
 		}
-		if (charCommand[0] != 0x00) {
+		if (charCommand != 0x00) {
 			System.err.println("Unhandled character event type detected.");
 		}
 		
 		return eventAddresses;
 	}
 	
-	private Set<Long> eventAddressesFromLocationEvents(FileHandler handler) {
+	private Set<Long> eventAddressesFromLocationEvents(ROMBuffer buffer) {
 		Set<Long> eventAddresses = new HashSet<Long>();
-		byte[] locationCommand;
 		long currentAddress = locationBasedEventsOffset;
-		locationCommand = handler.readBytesAtOffset(currentAddress, 12);
+		byte locationCommand = buffer.byteAt(currentAddress);
 		// LOCA (0x05) - 12 bytes, offset 4
 		// VILL (0x06) - 12 bytes, offset 4
 		// DOOR (0x08) - 12 bytes, offset 4 (this is less likely, but possible).
@@ -292,33 +301,32 @@ public class FE8Chapter implements GBAFEChapterData {
 		// The ones that don't matter for events:
 		// SHOP (0x0A)
 		// CHES (0x07)
-		while (locationCommand[0] == 0x05 || locationCommand[0] == 0x06 || locationCommand[0] == 0x0A || locationCommand[0] == 0x07 || locationCommand[0] == 0x08) {
-			if (locationCommand[0] == 0x05 || locationCommand[0] == 0x06 || locationCommand[0] == 0x08) {
-				long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+		while (locationCommand == 0x05 || locationCommand == 0x06 || locationCommand == 0x0A || locationCommand == 0x07 || locationCommand == 0x08) {
+			if (locationCommand == 0x05 || locationCommand == 0x06 || locationCommand == 0x08) {
+				long address = buffer.addressAt(currentAddress + 4);
 				if (address != -1) {
 					eventAddresses.add(address);
 				}
 			}
 			currentAddress += 12;
-			locationCommand = handler.readBytesAtOffset(currentAddress, 12);
+			locationCommand = buffer.byteAt(currentAddress);
 		}
-		if (locationCommand[0] != 0x00) {
+		if (locationCommand != 0x00) {
 			System.err.println("Unhandled character event type detected.");
 		}
 		
 		return eventAddresses;
 	}
 	
-	private Set<Long> eventAddressesFromMiscEvents(FileHandler handler) {
+	private Set<Long> eventAddressesFromMiscEvents(ROMBuffer buffer) {
 		Set<Long> eventAddresses = new HashSet<Long>();
-		byte[] miscCommand;
 		long currentAddress = miscEventsOffset;
-		miscCommand = handler.readBytesAtOffset(currentAddress, 12);
-		while (miscCommand[0] != 0x00) {
+		byte miscCommand = buffer.byteAt(currentAddress);
+		while (miscCommand != 0x00) {
 			// AREA (0x0B) - 12 bytes, offset 4
 			// AFEV (0x01) - 12 bytes, offset 4
-			if (miscCommand[0] == 0x0B || miscCommand[0] == 0x01) {
-				long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+			if (miscCommand == 0x0B || miscCommand == 0x01) {
+				long address = buffer.addressAt(currentAddress + 4);
 				if (address != -1) {
 					eventAddresses.add(address);
 				}
@@ -327,38 +335,36 @@ public class FE8Chapter implements GBAFEChapterData {
 			}
 			
 			currentAddress += 12;
-			miscCommand = handler.readBytesAtOffset(currentAddress, 12);
+			miscCommand = buffer.byteAt(currentAddress);
 		}
 		
 		return eventAddresses;
 	}
 	
-	private void recordFightAddressesFromEventBlob(FileHandler handler, long eventAddress) {
+	private void recordFightAddressesFromEventBlob(ROMBuffer buffer, long eventAddress) {
 		// TODO
 	}
 	
-	private Set<Long> unitAddressesFromEventBlob(FileHandler handler, long eventAddress) {
-		return unitAddressesFromEventBlob(handler, eventAddress, new MemoryValues());
+	private Set<Long> unitAddressesFromEventBlob(ROMBuffer buffer, long eventAddress) {
+		return unitAddressesFromEventBlob(buffer, eventAddress, new MemoryValues());
 	}
 	
-	private Set<Long> unitAddressesFromEventBlob(FileHandler handler, long eventAddress, MemoryValues memSlots) {
+	private Set<Long> unitAddressesFromEventBlob(ROMBuffer buffer, long eventAddress, MemoryValues memSlots) {
 		Set<Long> addressesLoaded = new HashSet<Long>();
 		if (eventAddress >= 0x1000000) { return addressesLoaded; }
 		
 		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Searching for unit addresses beginning at 0x" + Long.toHexString(eventAddress));
 		
-		byte[] commandWord;
-		long currentAddress = eventAddress;
-		// Unlike FE6 and FE7, FE8's commands are 2 bytes long. We'll still read 4, but we'll need to compare more than just the first byte of it to determine the command.
-		commandWord = handler.readBytesAtOffset(currentAddress, 4);
-		// The terminals in FE8 are ENDA (0x120) and ENDB(0x121). In hex, they show up in little endian, so 20 01 or 21 01.
-		while (!WhyDoesJavaNotHaveThese.byteArraysAreEqual(commandWord, new byte[] {0x20, 0x01, 0x00, 0x00}) &&
-				!WhyDoesJavaNotHaveThese.byteArraysAreEqual(commandWord, new byte[] {0x21, 0x01, 0x00, 0x00})) {
+		// Unlike FE6 and FE7, FE8's commands are 2 bytes long. We still step a word at a time, but we'll need to compare more than just the first byte of it to determine the command.
+		EventScriptScanner scanner = new EventScriptScanner(buffer, EventCommands, eventAddress);
+		while (scanner.next()) {
+			long currentAddress = scanner.offset();
+			int command = scanner.word() & 0xFFFF;
 			// FE8 has a few ways of loading, so we have to cover all of them.
-			if (WhyDoesJavaNotHaveThese.byteArrayHasPrefix(commandWord, new byte[] {0x40, 0x2C})) {
+			if (command == 0x2C40) {
 				// LOAD1 and LOAD_SLOT1
 				// The address starts at byte 4 in the normal case, but LOAD_SLOT1 will have an address of 0xFFFFFFFF.
-				long bytes = FileReadHelper.readWord(handler, currentAddress + 4, false);
+				long bytes = buffer.wordAt(currentAddress + 4);
 				if (bytes == 0xFFFFFFFFL) {
 					// LOAD_SLOT1
 					// It says LOAD_SLOT1, but it always reads from slot 2 actually.
@@ -366,7 +372,7 @@ public class FE8Chapter implements GBAFEChapterData {
 						long address = memSlots.getValue(0x2) - 0x8000000;
 						DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found LOAD_SLOT1 at 0x" + Long.toHexString(currentAddress) + ". Unit Address: 0x" + Long.toHexString(address));
 						addressesLoaded.add(address);
-						currentAddress += 4;
+						scanner.skip(4);
 					} else {
 						System.err.println("Invalid looking unit address found for LOAD_SLOT1 at 0x" + Long.toHexString(currentAddress) + ". Address found in slot 1: 0x" + Long.toHexString(memSlots.getValue(0x2)));
 					}
@@ -375,78 +381,79 @@ public class FE8Chapter implements GBAFEChapterData {
 					long address = bytes - 0x8000000;
 					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found LOAD1 at 0x" + Long.toHexString(currentAddress) + ". Unit Address: 0x" + Long.toHexString(address));
 					addressesLoaded.add(address);
-					currentAddress += 4;
+					scanner.skip(4);
 				}
-			} else if (WhyDoesJavaNotHaveThese.byteArrayHasPrefix(commandWord, new byte[] {0x41, 0x2C})) {
+			} else if (command == 0x2C41) {
 				// LOAD2
-				long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+				long address = buffer.addressAt(currentAddress + 4);
 				if (address != -1) {
 					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found LOAD2 at 0x" + Long.toHexString(currentAddress) + ". Unit Address: 0x" + Long.toHexString(address));
 					addressesLoaded.add(address);
-					currentAddress += 4;
+					scanner.skip(4);
 				} else {
 					System.err.println("Invalid unit address found for LOAD2 at 0x" + Long.toHexString(currentAddress));
 				}
-			} else if (WhyDoesJavaNotHaveThese.byteArrayHasPrefix(commandWord, new byte[] {0x42, 0x2C})) {
+			} else if (command == 0x2C42) {
 				// LOAD3
-				long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+				long address = buffer.addressAt(currentAddress + 4);
 				if (address != -1) {
 					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found LOAD3 at 0x" + Long.toHexString(currentAddress) + ". Unit Address: 0x" + Long.toHexString(address));
 					addressesLoaded.add(address);
-					currentAddress += 4;
+					scanner.skip(4);
 				} else {
 					System.err.println("Invalid unit address found for LOAD3 at 0x" + Long.toHexString(currentAddress));
 				}
-			} else if (WhyDoesJavaNotHaveThese.byteArrayHasPrefix(commandWord, new byte[] {0x40, 0x05})) {
+			} else if (command == 0x0540) {
 				// SETVAL - Since LOAD_SLOT1 uses this, we need to keep track of this if we ever see it set a value to memory slot 1.
 				// I say slot 1, but the events always write the address to slot 2 instead, as seen in the command word. So *shrugs*
 				// The third byte is the slot that the value is written to...
-				long value = FileReadHelper.readWord(handler, currentAddress + 4, false);
-				int slot = commandWord[2];
+				long value = buffer.wordAt(currentAddress + 4);
+				int slot = scanner.byteAt(2);
 				memSlots.setValue(value, slot);
 				DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Storing value 0x" + Long.toHexString(value) + " into slot " + Integer.toHexString(slot) + " for potential loading. Current Address: 0x" + Long.toHexString(currentAddress));
-				currentAddress += 4;
-			} else if (WhyDoesJavaNotHaveThese.byteArrayHasPrefix(commandWord, new byte[] {0x40, 0x0A})) {
+				scanner.skip(4);
+			} else if (command == 0x0A40) {
 				// CALL - Look for unit addresses in the jump and add them to our set.
-				long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+				long address = buffer.addressAt(currentAddress + 4);
 				if (address != -1) {
 					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "CALLing to address 0x" + Long.toHexString(address) + " to look for more unit addresses. Current Address: 0x" + Long.toHexString(currentAddress));
-					Set<Long> addressesFound = unitAddressesFromEventBlob(handler, address, memSlots);
+					Set<Long> addressesFound = unitAddressesFromEventBlob(buffer, address, memSlots);
 					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Returned from address 0x" + Long.toHexString(address));
 					for (long addressFound : addressesFound) {
 						DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found unit address in CALL: 0x" + Long.toHexString(addressFound));
 					}
 					addressesLoaded.addAll(addressesFound);
-					currentAddress += 4;
+					scanner.skip(4);
 				}
-			} else if ((commandWord[0] & 0xF0) == 0x20 && commandWord[1] == 0x6) { // Matches 0x062X, which all deal with memory management.
+			} else if ((command & 0xFFF0) == 0x0620) { // Matches 0x062X, which all deal with memory management.
 				// The argument is in the following 2 bytes, in the format of 0x0XYZ (which in little endian is stored as YZ 0X).
 				// X - Source slot for Operand 1
 				// Y - Source slot for Operand 2
 				// Z - Destination
-				int sourceSlotX = commandWord[3] & 0xF;
-				int sourceSlotY = (commandWord[2] >> 4) & 0xF;
-				int destinationZ = commandWord[2] & 0xF;
-				if (commandWord[0] == 0x20) { // SADD - We need to handle this because this mechanism is used in a few chapters to load some units.
+				int sourceSlotX = scanner.byteAt(3) & 0xF;
+				int sourceSlotY = (scanner.byteAt(2) >> 4) & 0xF;
+				int destinationZ = scanner.byteAt(2) & 0xF;
+				int operation = scanner.opcode();
+				if (operation == 0x20) { // SADD - We need to handle this because this mechanism is used in a few chapters to load some units.
 					// Often times, X is set to 0, which turns the operation into a "move Y to Z"
 					memSlots.setValue(memSlots.getValue(sourceSlotX) + memSlots.getValue(sourceSlotY), destinationZ);
-				} else if (commandWord[0] == 0x21) { // SSUB (technically RSUB, as X is subtracted from Y)
+				} else if (operation == 0x21) { // SSUB (technically RSUB, as X is subtracted from Y)
 					memSlots.setValue(memSlots.getValue(sourceSlotY) - memSlots.getValue(sourceSlotX), destinationZ);
-				} else if (commandWord[0] == 0x22) { // SMUL
+				} else if (operation == 0x22) { // SMUL
 					memSlots.setValue(memSlots.getValue(sourceSlotX) * memSlots.getValue(sourceSlotY), destinationZ);
-				} else if (commandWord[0] == 0x23) { // SDIV
+				} else if (operation == 0x23) { // SDIV
 					memSlots.setValue((int)memSlots.getValue(sourceSlotY) / (int)memSlots.getValue(sourceSlotX), destinationZ);
-				} else if (commandWord[0] == 0x24) { // SMOD (modulo)
+				} else if (operation == 0x24) { // SMOD (modulo)
 					memSlots.setValue((int)memSlots.getValue(sourceSlotY) % (int)memSlots.getValue(sourceSlotX), destinationZ);
-				} else if (commandWord[0] == 0x25) { // SAND (bitwise AND)
+				} else if (operation == 0x25) { // SAND (bitwise AND)
 					memSlots.setValue(memSlots.getValue(sourceSlotX) & memSlots.getValue(sourceSlotY), destinationZ);
-				} else if (commandWord[0] == 0x26) { // SORR (bitwise OR)
+				} else if (operation == 0x26) { // SORR (bitwise OR)
 					memSlots.setValue(memSlots.getValue(sourceSlotX) | memSlots.getValue(sourceSlotY), destinationZ);
-				} else if (commandWord[0] == 0x27) { // SXOR (bitwise XOR)
+				} else if (operation == 0x27) { // SXOR (bitwise XOR)
 					memSlots.setValue(memSlots.getValue(sourceSlotX) ^ memSlots.getValue(sourceSlotY), destinationZ);
-				} else if (commandWord[0] == 0x28) { // SLSL (left shift)
+				} else if (operation == 0x28) { // SLSL (left shift)
 					memSlots.setValue(memSlots.getValue(sourceSlotY) << memSlots.getValue(sourceSlotX), destinationZ);
-				} else if (commandWord[0] == 0x29) { // SLSR (right shift)
+				} else if (operation == 0x29) { // SLSR (right shift)
 					memSlots.setValue(memSlots.getValue(sourceSlotY) >> memSlots.getValue(sourceSlotX), destinationZ);
 				} else {
 					assert false : "Unhandled slot operation.";
@@ -454,74 +461,61 @@ public class FE8Chapter implements GBAFEChapterData {
 			}
 			
 			// LOAD4 is not used, it seems. SPAWN_* looks like it's only for cutscenes. There's only Character ID, so presumably it reads the class from the character data, so we don't care.
-			
-			currentAddress += 4;
-			commandWord = handler.readBytesAtOffset(currentAddress, 4);
 		}
 		
-		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Finished searching for loading units at address 0x" + Long.toHexString(currentAddress));
+		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Finished searching for loading units at address 0x" + Long.toHexString(scanner.offset()));
 		
 		return addressesLoaded;
 	}
 	
-	private void loadUnitsFromAddress(FileHandler handler, long unitAddress) {
+	private void loadUnitsFromAddress(ROMBuffer buffer, long unitAddress) {
 		if (unitAddress >= 0x1000000) { return; }
 		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Loading units from 0x" + Long.toHexString(unitAddress));
 		long currentOffset = unitAddress;
-		byte[] unitData = handler.readBytesAtOffset(currentOffset, FE8Data.BytesPerChapterUnit);
-		while (unitData[0] != 0x00) {
+		while (buffer.byteAt(currentOffset) != 0x00) {
+			byte[] unitData = buffer.bytesAt(currentOffset, FE8Data.BytesPerChapterUnit);
 			DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Loaded unit with data " + WhyDoesJavaNotHaveThese.displayStringForBytes(unitData));
 			FE8ChapterUnit unit = new FE8ChapterUnit(unitData, currentOffset); 
 			if (!blacklistedClassIDs.contains(unit.getStartingClass())) { // Remove any characters starting as a blacklisted class from consideration.
 				allChapterUnits.add(unit);
+				unitArray = null;
 			}
 			
 			currentOffset += FE8Data.BytesPerChapterUnit;
-			unitData = handler.readBytesAtOffset(currentOffset, FE8Data.BytesPerChapterUnit);
 		}
 	}
 	
-	private void loadRewards(FileHandler handler) {
-		byte[] locationCommand;
+	private void loadRewards(ROMBuffer buffer, Set<Long> eventAddresses) {
 		long currentAddress = locationBasedEventsOffset;
-		locationCommand = handler.readBytesAtOffset(currentAddress, 12); // These events are only 12 bytes long.
-		while (locationCommand[0] == 0x05 || locationCommand[0] == 0x06 || locationCommand[0] == 0x0A || locationCommand[0] == 0x07 || locationCommand[0] == 0x08) {
-			if (locationCommand[0] == 0x07) {
+		byte locationCommand = buffer.byteAt(currentAddress); // These events are only 12 bytes long.
+		while (locationCommand == 0x05 || locationCommand == 0x06 || locationCommand == 0x0A || locationCommand == 0x07 || locationCommand == 0x08) {
+			if (locationCommand == 0x07) {
 				// We only care about CHES events.
 				// CHES includes money too, which we don't want, so only filter to those
 				// without money. The ID should only be in byte 4. Bytes 5, 6, and 7 should be 00s.
-				if (locationCommand[4] != 0x00 && locationCommand[5] == 0 && locationCommand[6] == 0 && locationCommand[7] == 0) {
-					allChapterRewards.add(new FE8ChapterItem(locationCommand, currentAddress));
+				if (buffer.byteAt(currentAddress + 4) != 0x00 && buffer.byteAt(currentAddress + 5) == 0 && buffer.byteAt(currentAddress + 6) == 0 && buffer.byteAt(currentAddress + 7) == 0) {
+					allChapterRewards.add(new FE8ChapterItem(buffer.bytesAt(currentAddress, 12), currentAddress));
 				}
 			}
 			
 			currentAddress += 12;
-			locationCommand = handler.readBytesAtOffset(currentAddress, 12);
+			locationCommand = buffer.byteAt(currentAddress);
 		}
-		if (locationCommand[0] != 0x00) {
+		if (locationCommand != 0x00) {
 			System.err.println("Unhandled character event type detected.");
 		}
 		
-		Set<Long> eventAddresses = eventAddressesFromTurnEvents(handler);
-		eventAddresses.addAll(eventAddressesFromCharacterEvents(handler));
-		eventAddresses.addAll(eventAddressesFromLocationEvents(handler));
-		eventAddresses.addAll(eventAddressesFromMiscEvents(handler));
-		eventAddresses.add(beginningSceneOffset);
-		eventAddresses.add(endingSceneOffset);
 		for (long eventOffset : eventAddresses) {
-			loadRewardsFromEventBlob(handler, eventOffset);
+			loadRewardsFromEventBlob(buffer, eventOffset);
 		}
 	}
 	
-	private void loadRewardsFromEventBlob(FileHandler handler, long eventOffset) {
-		loadRewardsFromEventBlob(handler, eventOffset, 0);
+	private void loadRewardsFromEventBlob(ROMBuffer buffer, long eventOffset) {
+		loadRewardsFromEventBlob(buffer, eventOffset, 0);
 	}
 	
-	private void loadRewardsFromEventBlob(FileHandler handler, long eventOffset, long lastSlot1Value) {
+	private void loadRewardsFromEventBlob(ROMBuffer buffer, long eventOffset, long lastSlot1Value) {
 		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Searching for rewards beginning at 0x" + Long.toHexString(eventOffset));
-		byte[] commandWord;
-		long currentAddress = eventOffset;
-		commandWord = handler.readBytesAtOffset(currentAddress, 4);
 		long lastStoredValueInSlot1 = lastSlot1Value;
 		// FE8 does this a bit differently. It uses a combination of SETVAL and GIVEITEMTO
 		// SETVAL is always setting the item ID into slot 3, so we should get the first word as
@@ -530,48 +524,35 @@ public class FE8Chapter implements GBAFEChapterData {
 		// and then -1 (0xFF, 0xFF), indicating to give to the current character.
 		// We'll just search for the whole 12 byte block, but advance only by 4s. So that we check every
 		// combination of 12 bytes to make sure we don't miss anything.
-		
-		List<Byte> format = new ArrayList<Byte>(Arrays.asList(
-				new Byte((byte)0x40), new Byte((byte)0x05), new Byte((byte)0x03), new Byte((byte)0x00), // SETVAL 0x03
-				null, new Byte((byte)0x00), new Byte((byte)0x00), new Byte((byte)0x00), // Item ID, followed by 0s.
-				new Byte((byte)0x20), new Byte((byte)0x37), new Byte((byte)0xFF), new Byte((byte)0xFF))); // GIVEITEMTO 0xFFFF
-		
-		List<Byte> targetedFormat = new ArrayList<Byte>(Arrays.asList(
-				new Byte((byte)0x40), new Byte((byte)0x05), new Byte((byte)0x03), new Byte((byte)0x00),
-				null, new Byte((byte)0x00), new Byte((byte)0x00), new Byte((byte)0x00),
-				new Byte((byte)0x20), new Byte((byte)0x37), null, null));
-						
-		
-		while (!WhyDoesJavaNotHaveThese.byteArraysAreEqual(commandWord, new byte[] {0x20, 0x01, 0x00, 0x00}) &&
-				!WhyDoesJavaNotHaveThese.byteArraysAreEqual(commandWord, new byte[] {0x21, 0x01, 0x00, 0x00})) {
-			// Read 12 bytes.
-			byte[] full = handler.readBytesAtOffset(currentAddress, 12);
-			if (WhyDoesJavaNotHaveThese.byteArrayMatchesFormat(full, format)) {
-				FE8ChapterItem chapterItem = new FE8ChapterItem(full, currentAddress);
+		EventScriptScanner scanner = new EventScriptScanner(buffer, EventCommands, eventOffset);
+		while (scanner.next()) {
+			long currentAddress = scanner.offset();
+			boolean isGiveItem = scanner.word() == 0x00030540 && // SETVAL 0x03
+					(buffer.wordAt(currentAddress + 4) & 0xFFFFFF00L) == 0 && // Item ID, followed by 0s.
+					buffer.halfWordAt(currentAddress + 8) == 0x3720; // GIVEITEMTO
+			if (isGiveItem && buffer.halfWordAt(currentAddress + 10) == 0xFFFF) { // to the current character
+				FE8ChapterItem chapterItem = new FE8ChapterItem(buffer.bytesAt(currentAddress, 12), currentAddress);
 				allChapterRewards.add(chapterItem);
 				DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Found reward at offset 0x" + Long.toHexString(currentAddress) + " Item ID: 0x" + Integer.toHexString(chapterItem.getItemID()));
-				currentAddress += 8;
-			} else if (WhyDoesJavaNotHaveThese.byteArrayMatchesFormat(full, targetedFormat)) {
-				int characterID = full[10];
+				scanner.skip(8);
+			} else if (isGiveItem) {
+				int characterID = buffer.byteAt(currentAddress + 10);
 				if (targetRewardRecipients.contains(characterID)) {
-					targetedChapterRewards.put(characterID, new FE8ChapterItem(full, currentAddress));
+					targetedChapterRewards.put(characterID, new FE8ChapterItem(buffer.bytesAt(currentAddress, 12), currentAddress));
 				}
-			} else if (WhyDoesJavaNotHaveThese.byteArrayHasPrefix(commandWord, new byte[] {0x40, 0x0A})) { // I don't think this ever happens, but in case items are hiding behind CALLs, let's check anyway.
-				long address = FileReadHelper.readAddress(handler, currentAddress + 4);
+			} else if ((scanner.word() & 0xFFFF) == 0x0A40) { // I don't think this ever happens, but in case items are hiding behind CALLs, let's check anyway.
+				long address = buffer.addressAt(currentAddress + 4);
 				if (address != -1) {
 					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "CALLing to address 0x" + Long.toHexString(address) + " to look for more rewards. Current Address: 0x" + Long.toHexString(currentAddress));
-					loadRewardsFromEventBlob(handler, address, lastStoredValueInSlot1);
+					loadRewardsFromEventBlob(buffer, address, lastStoredValueInSlot1);
 					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Returned from address 0x" + Long.toHexString(address));
 
-					currentAddress += 4;
+					scanner.skip(4);
 				}
 			}
-			
-			currentAddress += 4;
-			commandWord = handler.readBytesAtOffset(currentAddress, 4);
 		}
 		
-		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Finished searching for rewards at 0x" + Long.toHexString(currentAddress));
+		DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Finished searching for rewards at 0x" + Long.toHexString(scanner.offset()));
 	}
 	
 	public GBAFEChapterItemData chapterItemGivenToCharacter(int characterID) {
@@ -35,6 +35,7 @@ public class FE8Character implements GBAFECharacterData {
 	
 	private byte[] originalData;
 	private byte[] data;
+	private byte[] loadedData;
 	
 	private long originalOffset;
 	
@@ -49,6 +50,7 @@ public class FE8Character implements GBAFECharacterData {
 		super();
 		this.originalData = data;
 		this.data = data;
+		this.loadedData = Arrays.copyOf(data, data.length);
 		this.originalOffset = originalOffset;
 		this.isClassRestricted = isClassRestricted;
 	}
@@ -462,6 +464,10 @@ public class FE8Character implements GBAFECharacterData {
 		return data;
 	}
 	
+	public byte[] getLoadedData() {
+		return loadedData;
+	}
+	
 	public Boolean wasModified() {
 		return wasModified;
 	}
@@ -1,5 +1,7 @@
 package fedata.gba.fe8;
 
+import java.util.Arrays;
+
 import fedata.gba.GBAFEClassData;
 import fedata.gba.GBAFEItemData;
 import fedata.gba.general.WeaponRank;
@@ -10,6 +12,7 @@ public class FE8Class implements GBAFEClassData {
 
 	private byte[] originalData;
 	private byte[] data;
+	private byte[] loadedData;
 	
 	private long originalOffset;
 	
@@ -20,6 +23,7 @@ public class FE8Class implements GBAFEClassData {
 		super();
 		this.originalData = data;
 		this.data = data;
+		this.loadedData = Arrays.copyOf(data, data.length);
 		this.originalOffset = originalOffset;
 	}
 
@@ -407,6 +411,10 @@ public class FE8Class implements GBAFEClassData {
 		return data;
 	}
 	
+	public byte[] getLoadedData() {
+		return loadedData;
+	}
+	
 	public Boolean wasModified() {
 		return wasModified;
 	}
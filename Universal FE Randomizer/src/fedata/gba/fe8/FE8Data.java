@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -141,18 +143,24 @@ public class FE8Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 		
 		public int ID;
 		
-		private static Map<Integer, Character> map = new HashMap<Integer, Character>();
-		
-		static {
+		private static Character[] byID = createIDTable();
+		private static Character[] createIDTable() {
+			int maxID = 0;
+			for (Character character : Character.values()) {
+				maxID = Math.max(maxID, character.ID);
+			}
+			Character[] table = new Character[maxID + 1];
 			for (Character character : Character.values()) {
-				map.put(character.ID, character);
+				table[character.ID] = character;
 			}
+			return table;
 		}
 		
 		private Character(final int id) { ID = id; }
 		
 		public static Character valueOf(int characterId) {
-			return map.get(characterId);
+			if (characterId < 0 || characterId >= byID.length) { return null; }
+			return byID[characterId];
 		}
 		
 		public static int[] characterIDsForCharacters(Character[] charArray) {
@@ -200,33 +208,33 @@ public class FE8Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 			}
 		}
 		
-		public static Set<Character> allPlayableCharacters = new HashSet<Character>(Arrays.asList(EIRIKA, SETH, GILLIAM, FRANZ, MOULDER, VANESSA, ROSS, NEIMI, COLM, GARCIA, INNES, LUTE, NATASHA, CORMAG,
+		public static final Set<Character> allPlayableCharacters = Collections.unmodifiableSet(EnumSet.of(EIRIKA, SETH, GILLIAM, FRANZ, MOULDER, VANESSA, ROSS, NEIMI, COLM, GARCIA, INNES, LUTE, NATASHA, CORMAG,
 				EPHRAIM, FORDE, KYLE, AMELIA, ARTUR, GERIK, TETHYS, MARISA, SALEH, EWAN, LARACHEL, DOZLA, RENNAC, DUESSEL, MYRRH, KNOLL, JOSHUA, SYRENE, TANA));
 		
-		public static Set<Character> allBossCharacters = new HashSet<Character>(Arrays.asList(ORSON, SELENA, SELENA_10B_13B, VALTER, VALTER_CH15, VALTER_PROLOGUE, RIEV, CAELLACH, BREGUET, BONE, BAZBA, MUMMY_CH4,
+		public static final Set<Character> allBossCharacters = Collections.unmodifiableSet(EnumSet.of(ORSON, SELENA, SELENA_10B_13B, VALTER, VALTER_CH15, VALTER_PROLOGUE, RIEV, CAELLACH, BREGUET, BONE, BAZBA, MUMMY_CH4,
 				SAAR, NOVALA, MURRAY, TIRADO, BINKS, PABLO, MACDAIRE_12A, AIAS, CARLYLE, CAELLACH_CH15, PABLO_13A, GORGON_CH18,
 				RIEV_CH19_CH20, GHEB, BERAN, CYCLOPS_CH12B, HELLBONE_11A, DEATHGOYLE_11B, ONEILL, GLEN_CUTSCENE, ZONTA, VIGARDE, ORSON_CH16));
-		public static Set<Character> restrictedClassCharacters = new HashSet<Character>(Arrays.asList(VANESSA, CORMAG, VALTER, GLEN, GLEN_CUTSCENE, VALTER_CH15, VALTER_PROLOGUE, BONE));
+		public static final Set<Character> restrictedClassCharacters = Collections.unmodifiableSet(EnumSet.of(VANESSA, CORMAG, VALTER, GLEN, GLEN_CUTSCENE, VALTER_CH15, VALTER_PROLOGUE, BONE));
 		
-		public static Set<Character> allLords = new HashSet<Character>(Arrays.asList(EIRIKA, EPHRAIM));
-		public static Set<Character> allThieves = new HashSet<Character>(Arrays.asList(COLM, RENNAC));
-		public static Set<Character> doNotChange = new HashSet<Character>(Arrays.asList(MORVA, LYON, LYON_CH17, LYON_FINAL, DEMON_KING, DARA, KLIMT, MYRRH));
+		public static final Set<Character> allLords = Collections.unmodifiableSet(EnumSet.of(EIRIKA, EPHRAIM));
+		public static final Set<Character> allThieves = Collections.unmodifiableSet(EnumSet.of(COLM, RENNAC));
+		public static final Set<Character> doNotChange = Collections.unmodifiableSet(EnumSet.of(MORVA, LYON, LYON_CH17, LYON_FINAL, DEMON_KING, DARA, KLIMT, MYRRH));
 		
-		public static Set<Character> charactersThatRequireRange = new HashSet<Character>(Arrays.asList());
-		public static Set<Character> charactersThatRequireMelee = new HashSet<Character>(Arrays.asList(SETH)); // The prologue scripted battle.
+		public static final Set<Character> charactersThatRequireRange = Collections.unmodifiableSet(EnumSet.noneOf(Character.class));
+		public static final Set<Character> charactersThatRequireMelee = Collections.unmodifiableSet(EnumSet.of(SETH)); // The prologue scripted battle.
 		
 		// Vanessa isn't strictly required, but Ross is likely screwed otherwise.
-		public static Set<Character> requiredFliers = new HashSet<Character>(Arrays.asList(VANESSA, CORMAG, VALTER, GLEN, GLEN_CUTSCENE, VALTER_CH15, VALTER_PROLOGUE));
-		public static Set<Character> requiredAttackers = new HashSet<Character>(Arrays.asList(EIRIKA, EPHRAIM, SETH, ARTUR, GARCIA));
-		public static Set<Character> femaleSet = new HashSet<Character>(Arrays.asList(EIRIKA, VANESSA, NEIMI, LUTE, NATASHA, AMELIA, TETHYS, MARISA, LARACHEL, MYRRH, SYRENE, TANA, SELENA, SELENA_10B_13B, ISMAIRE));
-		public static Set<Character> requiresPromotion = new HashSet<Character>(Arrays.asList(EIRIKA, EPHRAIM));
+		public static final Set<Character> requiredFliers = Collections.unmodifiableSet(EnumSet.of(VANESSA, CORMAG, VALTER, GLEN, GLEN_CUTSCENE, VALTER_CH15, VALTER_PROLOGUE));
+		public static final Set<Character> requiredAttackers = Collections.unmodifiableSet(EnumSet.of(EIRIKA, EPHRAIM, SETH, ARTUR, GARCIA));
+		public static final Set<Character> femaleSet = Collections.unmodifiableSet(EnumSet.of(EIRIKA, VANESSA, NEIMI, LUTE, NATASHA, AMELIA, TETHYS, MARISA, LARACHEL, MYRRH, SYRENE, TANA, SELENA, SELENA_10B_13B, ISMAIRE));
+		public static final Set<Character> requiresPromotion = Collections.unmodifiableSet(EnumSet.of(EIRIKA, EPHRAIM));
 		
-		public static Set<Character> doNotBuff = new HashSet<Character>(Arrays.asList(VALTER_PROLOGUE)); // This is scripted, and Seth shouldn't die here.
+		public static final Set<Character> doNotBuff = Collections.unmodifiableSet(EnumSet.of(VALTER_PROLOGUE)); // This is scripted, and Seth shouldn't die here.
 		
 		// Playable characters only.
-		public static Map<Character, Set<Integer>> charactersWithMultiplePortraits = createMultiPortraitMap();
+		public static final Map<Character, Set<Integer>> charactersWithMultiplePortraits = Collections.unmodifiableMap(createMultiPortraitMap());
 		private static Map<Character, Set<Integer>> createMultiPortraitMap() {
-			Map<Character, Set<Integer>> map = new HashMap<Character, Set<Integer>>();
+			Map<Character, Set<Integer>> map = new EnumMap<Character, Set<Integer>>(Character.class);
 			map.put(EIRIKA, new HashSet<Integer>(Arrays.asList(0x02, 0x03)));
 			map.put(NEIMI, new HashSet<Integer>(Arrays.asList(0x0A, 0x0B)));
 			map.put(COLM, new HashSet<Integer>(Arrays.asList(0x0C, 0x0D)));
@@ -346,18 +354,24 @@ public class FE8Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 		
 		public int ID;
 		
-		private static Map<Integer, CharacterClass> map = new HashMap<Integer, CharacterClass>();
-		
-		static {
+		private static CharacterClass[] byID = createIDTable();
+		private static CharacterClass[] createIDTable() {
+			int maxID = 0;
 			for (CharacterClass charClass : CharacterClass.values()) {
-				map.put(charClass.ID, charClass);
+				maxID = Math.max(maxID, charClass.ID);
 			}
+			CharacterClass[] table = new CharacterClass[maxID + 1];
+			for (CharacterClass charClass : CharacterClass.values()) {
+				table[charClass.ID] = charClass;
+			}
+			return table;
 		}
 		
 		private CharacterClass(final int id) { ID = id; }
 		
 		public static CharacterClass valueOf(int classId) {
-			return map.get(classId);
+			if (classId < 0 || classId >= byID.length) { return null; }
+			return byID[classId];
 		}
 		
 		public static int[] classIDsForClassArray(CharacterClass[] classArray) {
@@ -373,49 +387,49 @@ public class FE8Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 			return new Comparator<CharacterClass>() { public int compare(CharacterClass o1, CharacterClass o2) { return Integer.compare(o1.ID, o2.ID); } };
 		}
 		
-		public static Set<CharacterClass> allMaleClasses = new HashSet<CharacterClass>(Arrays.asList(TRAINEE, PUPIL, EPHRAIM_LORD, CAVALIER, KNIGHT, THIEF, MERCENARY, MYRMIDON, ARCHER, WYVERN_RIDER, MAGE, SHAMAN, 
+		public static final Set<CharacterClass> allMaleClasses = Collections.unmodifiableSet(EnumSet.of(TRAINEE, PUPIL, EPHRAIM_LORD, CAVALIER, KNIGHT, THIEF, MERCENARY, MYRMIDON, ARCHER, WYVERN_RIDER, MAGE, SHAMAN, 
 				FIGHTER, BRIGAND, PIRATE, MONK, PRIEST, SOLDIER, TRAINEE_2, PUPIL_2, EPHRAIM_MASTER_LORD, PALADIN, GENERAL, HERO, SWORDMASTER, ASSASSIN, SNIPER, RANGER, WYVERN_LORD, WYVERN_KNIGHT, SAGE, 
 				MAGE_KNIGHT, BISHOP, DRUID, SUMMONER, ROGUE, GREAT_KNIGHT, SUPER_TRAINEE, SUPER_PUPIL, WARRIOR, BERSERKER));
-		public static Set<CharacterClass> allFemaleClasses = new HashSet<CharacterClass>(Arrays.asList(RECRUIT, EIRIKA_LORD, CAVALIER_F, KNIGHT_F, MYRMIDON_F, ARCHER_F, MAGE_F, PEGASUS_KNIGHT, CLERIC, TROUBADOUR, DANCER,
+		public static final Set<CharacterClass> allFemaleClasses = Collections.unmodifiableSet(EnumSet.of(RECRUIT, EIRIKA_LORD, CAVALIER_F, KNIGHT_F, MYRMIDON_F, ARCHER_F, MAGE_F, PEGASUS_KNIGHT, CLERIC, TROUBADOUR, DANCER,
 				RECRUIT_2, EIRIKA_MASTER_LORD, PALADIN_F, GENERAL_F, SWORDMASTER_F, ASSASSIN_F, SNIPER_F, RANGER_F, WYVERN_KNIGHT_F, SAGE_F, MAGE_KNIGHT_F, BISHOP_F,
 				GREAT_KNIGHT_F, SUPER_RECRUIT, MANAKETE_F, FALCON_KNIGHT, VALKYRIE));
-		public static Set<CharacterClass> allMonsterClasses = new HashSet<CharacterClass>(Arrays.asList(REVENANT, BONEWALKER, BONEWALKER_BOW, BAEL, MAUTHE_DOOG, TARVOS, MOGALL, GARGOYLE,
+		public static final Set<CharacterClass> allMonsterClasses = Collections.unmodifiableSet(EnumSet.of(REVENANT, BONEWALKER, BONEWALKER_BOW, BAEL, MAUTHE_DOOG, TARVOS, MOGALL, GARGOYLE,
 		ENTOMBED, WIGHT, WIGHT_BOW, ELDER_BAEL, CYCLOPS, GWYLLGI, MAELDUIN, ARCH_MOGALL, GORGON, DEATHGOYLE, CYCLOPS_2, ELDER_BAEL_2));
-		public static Set<CharacterClass> monsterWeaponClasses = new HashSet<CharacterClass>(Arrays.asList(REVENANT, BAEL, MAUTHE_DOOG, MOGALL, ENTOMBED, ELDER_BAEL, GWYLLGI, ARCH_MOGALL, GORGON, ELDER_BAEL_2));
+		public static final Set<CharacterClass> monsterWeaponClasses = Collections.unmodifiableSet(EnumSet.of(REVENANT, BAEL, MAUTHE_DOOG, MOGALL, ENTOMBED, ELDER_BAEL, GWYLLGI, ARCH_MOGALL, GORGON, ELDER_BAEL_2));
 		
-		public static Set<CharacterClass> allLordClasses = new HashSet<CharacterClass>(Arrays.asList(EIRIKA_LORD, EPHRAIM_LORD, EIRIKA_MASTER_LORD, EPHRAIM_MASTER_LORD));
-		public static Set<CharacterClass> allThiefClasses = new HashSet<CharacterClass>(Arrays.asList(THIEF, ASSASSIN, ROGUE));
+		public static final Set<CharacterClass> allLordClasses = Collections.unmodifiableSet(EnumSet.of(EIRIKA_LORD, EPHRAIM_LORD, EIRIKA_MASTER_LORD, EPHRAIM_MASTER_LORD));
+		public static final Set<CharacterClass> allThiefClasses = Collections.unmodifiableSet(EnumSet.of(THIEF, ASSASSIN, ROGUE));
 		
-		public static Set<CharacterClass> allTraineeClasses = new HashSet<CharacterClass>(Arrays.asList(TRAINEE, PUPIL, RECRUIT));
-		public static Set<CharacterClass> allUnpromotedClasses = new HashSet<CharacterClass>(Arrays.asList(EPHRAIM_LORD, CAVALIER, KNIGHT, THIEF, MERCENARY, MYRMIDON, ARCHER, WYVERN_RIDER, MAGE, SHAMAN, RECRUIT_2, 
+		public static final Set<CharacterClass> allTraineeClasses = Collections.unmodifiableSet(EnumSet.of(TRAINEE, PUPIL, RECRUIT));
+		public static final Set<CharacterClass> allUnpromotedClasses = Collections.unmodifiableSet(EnumSet.of(EPHRAIM_LORD, CAVALIER, KNIGHT, THIEF, MERCENARY, MYRMIDON, ARCHER, WYVERN_RIDER, MAGE, SHAMAN, RECRUIT_2, 
 				FIGHTER, BRIGAND, PIRATE, MONK, PRIEST, SOLDIER, TRAINEE_2, PUPIL_2, EIRIKA_LORD, CAVALIER_F, KNIGHT_F, MYRMIDON_F, ARCHER_F, MAGE_F, PEGASUS_KNIGHT, CLERIC, TROUBADOUR, DANCER, REVENANT, BONEWALKER, 
 				BONEWALKER_BOW, BAEL, MAUTHE_DOOG, TARVOS, MOGALL, GARGOYLE));
-		public static Set<CharacterClass> allPromotedClasses = new HashSet<CharacterClass>(Arrays.asList(EPHRAIM_MASTER_LORD, PALADIN, GENERAL, HERO, SWORDMASTER, ASSASSIN, SNIPER, RANGER, WYVERN_LORD, WYVERN_KNIGHT, 
+		public static final Set<CharacterClass> allPromotedClasses = Collections.unmodifiableSet(EnumSet.of(EPHRAIM_MASTER_LORD, PALADIN, GENERAL, HERO, SWORDMASTER, ASSASSIN, SNIPER, RANGER, WYVERN_LORD, WYVERN_KNIGHT, 
 				SAGE, MAGE_KNIGHT, BISHOP, DRUID, SUMMONER, ROGUE, GREAT_KNIGHT, SUPER_TRAINEE, SUPER_PUPIL, WARRIOR, BERSERKER, EIRIKA_MASTER_LORD, PALADIN_F, GENERAL_F, SWORDMASTER_F, ASSASSIN_F, SNIPER_F, RANGER_F, 
 				WYVERN_KNIGHT_F, SAGE_F, MAGE_KNIGHT_F, BISHOP_F, GREAT_KNIGHT_F, SUPER_RECRUIT, MANAKETE_F, FALCON_KNIGHT, VALKYRIE, ENTOMBED, WIGHT, WIGHT_BOW, ELDER_BAEL, CYCLOPS, GWYLLGI, MAELDUIN, ARCH_MOGALL, 
 				GORGON, DEATHGOYLE, CYCLOPS_2, ELDER_BAEL_2));
 		
-		public static Set<CharacterClass> allPacifistClasses = new HashSet<CharacterClass>(Arrays.asList(DANCER, CLERIC, TROUBADOUR, PRIEST));
-		public static Set<CharacterClass> allMeleeLockedClasses = new HashSet<CharacterClass>(Arrays.asList(MYRMIDON, MERCENARY, EIRIKA_LORD, THIEF, MYRMIDON_F, BAEL, ELDER_BAEL, ELDER_BAEL_2, MAUTHE_DOOG,
+		public static final Set<CharacterClass> allPacifistClasses = Collections.unmodifiableSet(EnumSet.of(DANCER, CLERIC, TROUBADOUR, PRIEST));
+		public static final Set<CharacterClass> allMeleeLockedClasses = Collections.unmodifiableSet(EnumSet.of(MYRMIDON, MERCENARY, EIRIKA_LORD, THIEF, MYRMIDON_F, BAEL, ELDER_BAEL, ELDER_BAEL_2, MAUTHE_DOOG,
 				GWYLLGI, REVENANT, ENTOMBED));
-		public static Set<CharacterClass> allRangeLockedClasses = new HashSet<CharacterClass>(Arrays.asList(ARCHER, ARCHER_F, SNIPER, SNIPER_F, BONEWALKER_BOW, WIGHT_BOW));
+		public static final Set<CharacterClass> allRangeLockedClasses = Collections.unmodifiableSet(EnumSet.of(ARCHER, ARCHER_F, SNIPER, SNIPER_F, BONEWALKER_BOW, WIGHT_BOW));
 		
-		public static Set<CharacterClass> allValidClasses = new HashSet<CharacterClass>(Arrays.asList(EPHRAIM_LORD, CAVALIER, KNIGHT, THIEF, MERCENARY, MYRMIDON, ARCHER, WYVERN_RIDER, MAGE, SHAMAN, 
+		public static final Set<CharacterClass> allValidClasses = Collections.unmodifiableSet(EnumSet.of(EPHRAIM_LORD, CAVALIER, KNIGHT, THIEF, MERCENARY, MYRMIDON, ARCHER, WYVERN_RIDER, MAGE, SHAMAN, 
 				FIGHTER, BRIGAND, PIRATE, MONK, PRIEST, SOLDIER, TRAINEE_2, PUPIL_2, EPHRAIM_MASTER_LORD, PALADIN, GENERAL, HERO, SWORDMASTER, ASSASSIN, SNIPER, RANGER, WYVERN_LORD, WYVERN_KNIGHT, SAGE, 
 				MAGE_KNIGHT, BISHOP, DRUID, SUMMONER, ROGUE, GREAT_KNIGHT, SUPER_TRAINEE, SUPER_PUPIL, WARRIOR, BERSERKER, EIRIKA_LORD, CAVALIER_F, KNIGHT_F, MYRMIDON_F, ARCHER_F, MAGE_F, PEGASUS_KNIGHT, CLERIC, 
 				TROUBADOUR, DANCER, RECRUIT_2, EIRIKA_MASTER_LORD, PALADIN_F, GENERAL_F, SWORDMASTER_F, ASSASSIN_F, SNIPER_F, RANGER_F, WYVERN_KNIGHT_F, SAGE_F, MAGE_KNIGHT_F, BISHOP_F,
 				GREAT_KNIGHT_F, SUPER_RECRUIT, /*MANAKETE_F,*/ FALCON_KNIGHT, VALKYRIE, REVENANT, BONEWALKER, BONEWALKER_BOW, BAEL, MAUTHE_DOOG, TARVOS, MOGALL, GARGOYLE,
 				ENTOMBED, WIGHT, WIGHT_BOW, ELDER_BAEL, CYCLOPS, GWYLLGI, MAELDUIN, ARCH_MOGALL, GORGON, DEATHGOYLE, CYCLOPS_2, ELDER_BAEL_2));
 		
-		public static Set<CharacterClass> flyingClasses = new HashSet<CharacterClass>(Arrays.asList(WYVERN_RIDER, PEGASUS_KNIGHT, MOGALL, GARGOYLE, WYVERN_LORD, WYVERN_KNIGHT, WYVERN_KNIGHT_F, FALCON_KNIGHT, ARCH_MOGALL, DEATHGOYLE));
+		public static final Set<CharacterClass> flyingClasses = Collections.unmodifiableSet(EnumSet.of(WYVERN_RIDER, PEGASUS_KNIGHT, MOGALL, GARGOYLE, WYVERN_LORD, WYVERN_KNIGHT, WYVERN_KNIGHT_F, FALCON_KNIGHT, ARCH_MOGALL, DEATHGOYLE));
 		
-		public static Set<CharacterClass> meleeOnlyClasses = new HashSet<CharacterClass>(Arrays.asList(THIEF, MERCENARY, MYRMIDON, SWORDMASTER, ASSASSIN, ROGUE, EIRIKA_LORD, MYRMIDON_F, MANAKETE_F, SWORDMASTER_F, ASSASSIN_F, REVENANT,
+		public static final Set<CharacterClass> meleeOnlyClasses = Collections.unmodifiableSet(EnumSet.of(THIEF, MERCENARY, MYRMIDON, SWORDMASTER, ASSASSIN, ROGUE, EIRIKA_LORD, MYRMIDON_F, MANAKETE_F, SWORDMASTER_F, ASSASSIN_F, REVENANT,
 				BAEL, MAUTHE_DOOG, ENTOMBED, ELDER_BAEL, GWYLLGI, ELDER_BAEL_2));
-		public static Set<CharacterClass> rangedOnlyClasses = new HashSet<CharacterClass>(Arrays.asList(ARCHER, SNIPER, ARCHER_F, SNIPER_F, BONEWALKER_BOW, WIGHT_BOW));
+		public static final Set<CharacterClass> rangedOnlyClasses = Collections.unmodifiableSet(EnumSet.of(ARCHER, SNIPER, ARCHER_F, SNIPER_F, BONEWALKER_BOW, WIGHT_BOW));
 		
-		public static Map<CharacterClass, Set<CharacterClass>> promotionMap = createPromotionMap();
+		public static final Map<CharacterClass, Set<CharacterClass>> promotionMap = Collections.unmodifiableMap(createPromotionMap());
 		private static Map<CharacterClass, Set<CharacterClass>> createPromotionMap() {
-			Map<CharacterClass, Set<CharacterClass>> map = new HashMap<CharacterClass, Set<CharacterClass>>();
+			Map<CharacterClass, Set<CharacterClass>> map = new EnumMap<CharacterClass, Set<CharacterClass>>(CharacterClass.class);
 			map.put(EPHRAIM_LORD, new HashSet<CharacterClass>(Arrays.asList(EPHRAIM_MASTER_LORD)));
 			map.put(CAVALIER, new HashSet<CharacterClass>(Arrays.asList(PALADIN, GREAT_KNIGHT)));
 			map.put(KNIGHT, new HashSet<CharacterClass>(Arrays.asList(GREAT_KNIGHT, GENERAL)));
@@ -745,18 +759,24 @@ public class FE8Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 		;
 		public int ID;
 		
-		private static Map<Integer, Item> map = new HashMap<Integer, Item>();
-		
-		static {
+		private static Item[] byID = createIDTable();
+		private static Item[] createIDTable() {
+			int maxID = 0;
+			for (Item item : Item.values()) {
+				maxID = Math.max(maxID, item.ID);
+			}
+			Item[] table = new Item[maxID + 1];
 			for (Item item : Item.values()) {
-				map.put(item.ID, item);
+				table[item.ID] = item;
 			}
+			return table;
 		}
 		
 		private Item(final int id) { ID = id; }
 		
 		public static Item valueOf(int itemId) {
-			return map.get(itemId);
+			if (itemId < 0 || itemId >= byID.length) { return null; }
+			return byID[itemId];
 		}
 		
 		public static int[] itemIDsForItemArray(Item[] itemArray) {
@@ -1010,29 +1030,29 @@ public class FE8Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 			}
 		}
 		
-		public static Set<Item> allSwords = new HashSet<Item>(Arrays.asList(IRON_SWORD, SLIM_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, POISON_SWORD, RAPIER,
+		public static final Set<Item> allSwords = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, SLIM_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, POISON_SWORD, RAPIER,
 				BRAVE_SWORD, SHAMSHIR, KILLING_EDGE, ARMORSLAYER, WYRMSLAYER, LIGHT_BRAND, RUNE_SWORD, LANCEREAVER, ZANBATO, SHADOWKILLER, SIEGLINDE, AUDHULMA, WIND_SWORD));
-		public static Set<Item> allLances = new HashSet<Item>(Arrays.asList(IRON_LANCE, SLIM_LANCE, STEEL_LANCE, SILVER_LANCE, TOXIN_LANCE, BRAVE_LANCE, KILLER_LANCE, HORSESLAYER, JAVELIN,
+		public static final Set<Item> allLances = Collections.unmodifiableSet(EnumSet.of(IRON_LANCE, SLIM_LANCE, STEEL_LANCE, SILVER_LANCE, TOXIN_LANCE, BRAVE_LANCE, KILLER_LANCE, HORSESLAYER, JAVELIN,
 				SPEAR, AXEREAVER, REGINLEIF, BRIGHT_LANCE, DRAGONSPEAR, VIDOFNIR, SIEGMUND, HEAVY_SPEAR, SHORT_SPEAR));
-		public static Set<Item> allAxes = new HashSet<Item>(Arrays.asList(IRON_AXE, STEEL_AXE, SILVER_AXE, POISON_AXE, BRAVE_AXE, KILLER_AXE, HALBERD, HAMMER, DEVIL_AXE, HAND_AXE,
+		public static final Set<Item> allAxes = Collections.unmodifiableSet(EnumSet.of(IRON_AXE, STEEL_AXE, SILVER_AXE, POISON_AXE, BRAVE_AXE, KILLER_AXE, HALBERD, HAMMER, DEVIL_AXE, HAND_AXE,
 				TOMAHAWK, SWORDREAVER, SWORDSLAYER, HATCHET, DRAGON_AXE, FIENDCLEAVER, BATTLE_AXE, GARM));
-		public static Set<Item> allBows = new HashSet<Item>(Arrays.asList(IRON_BOW, STEEL_BOW, SILVER_BOW, POISON_BOW, KILLER_BOW, BRAVE_BOW, SHORT_BOW, LONG_BOW, BEACON_BOW, NIDHOGG));
-		public static Set<Item> allAnima = new HashSet<Item>(Arrays.asList(FIRE, THUNDER, ELFIRE, BOLTING, FIMBULVETR, EXCALIBUR));
-		public static Set<Item> allLight = new HashSet<Item>(Arrays.asList(LIGHTNING, SHINE, DIVINE, PURGE, AURA, IVALDI));
-		public static Set<Item> allDark = new HashSet<Item>(Arrays.asList(FLUX, LUNA, NOSFERATU, ECLIPSE, FENRIR, GLEIPNIR, NAGLFAR));
-		public static Set<Item> allMonsterWeapons = new HashSet<Item>(Arrays.asList(SHARP_CLAW, WRETCHED_AIR, DRAGONSTONE, DEMON_SURGE, SHADOWSHOT, ROTTEN_CLAW, FETID_CLAW, POISON_CLAW, LETHAL_TALON,
+		public static final Set<Item> allBows = Collections.unmodifiableSet(EnumSet.of(IRON_BOW, STEEL_BOW, SILVER_BOW, POISON_BOW, KILLER_BOW, BRAVE_BOW, SHORT_BOW, LONG_BOW, BEACON_BOW, NIDHOGG));
+		public static final Set<Item> allAnima = Collections.unmodifiableSet(EnumSet.of(FIRE, THUNDER, ELFIRE, BOLTING, FIMBULVETR, EXCALIBUR));
+		public static final Set<Item> allLight = Collections.unmodifiableSet(EnumSet.of(LIGHTNING, SHINE, DIVINE, PURGE, AURA, IVALDI));
+		public static final Set<Item> allDark = Collections.unmodifiableSet(EnumSet.of(FLUX, LUNA, NOSFERATU, ECLIPSE, FENRIR, GLEIPNIR, NAGLFAR));
+		public static final Set<Item> allMonsterWeapons = Collections.unmodifiableSet(EnumSet.of(SHARP_CLAW, WRETCHED_AIR, DRAGONSTONE, DEMON_SURGE, SHADOWSHOT, ROTTEN_CLAW, FETID_CLAW, POISON_CLAW, LETHAL_TALON,
 		FIERY_FANG, HELLFANG, EVIL_EYE, CRIMSON_EYE, STONE));
 		
-		public static Set<Item> allHealingStaves = new HashSet<Item>(Arrays.asList(HEAL, MEND, RECOVER, PHYSIC, FORTIFY, LATONA));
-		public static Set<Item> allSupportStaves = new HashSet<Item>(Arrays.asList(RESTORE, WARP, RESCUE, TORCH_STAFF, HAMMERNE, UNLOCK, BARRIER));
-		public static Set<Item> allStatusStaves = new HashSet<Item>(Arrays.asList(SILENCE, SLEEP, BERSERK));
-		public static Set<Item> allStatBoosters = new HashSet<Item>(Arrays.asList(ANGELIC_ROBE, ENERGY_RING, SECRET_BOOK, SPEEDWINGS, GODDESS_ICON, DRAGONSHIELD, TALISMAN, BOOTS, BODY_RING));
-		public static Set<Item> allPromotionItems = new HashSet<Item>(Arrays.asList(HERO_CREST, KNIGHT_CREST, ORION_BOLT, ELYSIAN_WHIP, GUIDING_RING));
-		public static Set<Item> allSpecialItems = new HashSet<Item>(Arrays.asList(FILI_SHIELD, MEMBER_CARD, HOPLON_GUARD, SILVER_CARD, METIS_TOME));
-		public static Set<Item> allMoneyItems = new HashSet<Item>(Arrays.asList(WHITE_GEM, BLUE_GEM, RED_GEM, BLACK_GEM, GOLD_GEM));
-		public static Set<Item> usableItems = new HashSet<Item>(Arrays.asList(CHEST_KEY, CHEST_KEY_5, DOOR_KEY, LOCKPICK, VULNERARY, ELIXIR, PURE_WATER, ANTITOXIN, TORCH));
+		public static final Set<Item> allHealingStaves = Collections.unmodifiableSet(EnumSet.of(HEAL, MEND, RECOVER, PHYSIC, FORTIFY, LATONA));
+		public static final Set<Item> allSupportStaves = Collections.unmodifiableSet(EnumSet.of(RESTORE, WARP, RESCUE, TORCH_STAFF, HAMMERNE, UNLOCK, BARRIER));
+		public static final Set<Item> allStatusStaves = Collections.unmodifiableSet(EnumSet.of(SILENCE, SLEEP, BERSERK));
+		public static final Set<Item> allStatBoosters = Collections.unmodifiableSet(EnumSet.of(ANGELIC_ROBE, ENERGY_RING, SECRET_BOOK, SPEEDWINGS, GODDESS_ICON, DRAGONSHIELD, TALISMAN, BOOTS, BODY_RING));
+		public static final Set<Item> allPromotionItems = Collections.unmodifiableSet(EnumSet.of(HERO_CREST, KNIGHT_CREST, ORION_BOLT, ELYSIAN_WHIP, GUIDING_RING));
+		public static final Set<Item> allSpecialItems = Collections.unmodifiableSet(EnumSet.of(FILI_SHIELD, MEMBER_CARD, HOPLON_GUARD, SILVER_CARD, METIS_TOME));
+		public static final Set<Item> allMoneyItems = Collections.unmodifiableSet(EnumSet.of(WHITE_GEM, BLUE_GEM, RED_GEM, BLACK_GEM, GOLD_GEM));
+		public static final Set<Item> usableItems = Collections.unmodifiableSet(EnumSet.of(CHEST_KEY, CHEST_KEY_5, DOOR_KEY, LOCKPICK, VULNERARY, ELIXIR, PURE_WATER, ANTITOXIN, TORCH));
 		
-		public static Set<Item> allPotentialRewards = new HashSet<Item>(Arrays.asList(IRON_SWORD, SLIM_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, POISON_SWORD, RAPIER,
+		public static final Set<Item> allPotentialRewards = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, SLIM_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, POISON_SWORD, RAPIER,
 				BRAVE_SWORD, SHAMSHIR, KILLING_EDGE, ARMORSLAYER, WYRMSLAYER, LIGHT_BRAND, RUNE_SWORD, LANCEREAVER, ZANBATO, SHADOWKILLER, WIND_SWORD,
 				IRON_LANCE, SLIM_LANCE, STEEL_LANCE, SILVER_LANCE, TOXIN_LANCE, BRAVE_LANCE, KILLER_LANCE, HORSESLAYER, JAVELIN,
 				SPEAR, AXEREAVER, REGINLEIF, BRIGHT_LANCE, DRAGONSPEAR, HEAVY_SPEAR, SHORT_SPEAR,
@@ -1051,7 +1071,7 @@ public class FE8Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 				WHITE_GEM, BLUE_GEM, RED_GEM, BLACK_GEM, GOLD_GEM,
 				CHEST_KEY, CHEST_KEY_5, DOOR_KEY, LOCKPICK, VULNERARY, ELIXIR, PURE_WATER, ANTITOXIN, TORCH));
 		
-		public static Set<Item> allWeapons = new HashSet<Item>(Arrays.asList(IRON_SWORD, SLIM_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, POISON_SWORD, RAPIER,
+		public static final Set<Item> allWeapons = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, SLIM_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, POISON_SWORD, RAPIER,
 				BRAVE_SWORD, SHAMSHIR, KILLING_EDGE, ARMORSLAYER, WYRMSLAYER, LIGHT_BRAND, RUNE_SWORD, LANCEREAVER, ZANBATO, SHADOWKILLER, SIEGLINDE, AUDHULMA, WIND_SWORD,
 				IRON_LANCE, SLIM_LANCE, STEEL_LANCE, SILVER_LANCE, TOXIN_LANCE, BRAVE_LANCE, KILLER_LANCE, HORSESLAYER, JAVELIN,
 				SPEAR, AXEREAVER, REGINLEIF, BRIGHT_LANCE, DRAGONSPEAR, VIDOFNIR, SIEGMUND, HEAVY_SPEAR, SHORT_SPEAR,
@@ -1063,47 +1083,47 @@ public class FE8Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 				FLUX, LUNA, NOSFERATU, ECLIPSE, FENRIR, GLEIPNIR, NAGLFAR,
 				SHARP_CLAW, WRETCHED_AIR, DRAGONSTONE, DEMON_SURGE, SHADOWSHOT, ROTTEN_CLAW, FETID_CLAW, POISON_CLAW, LETHAL_TALON,
 				FIERY_FANG, HELLFANG, EVIL_EYE, CRIMSON_EYE, STONE));
-		public static Set<Item> allRangedWeapons = new HashSet<Item>(Arrays.asList(LIGHT_BRAND, RUNE_SWORD, WIND_SWORD, JAVELIN, SPEAR, SHORT_SPEAR, HAND_AXE, TOMAHAWK, IRON_BOW, STEEL_BOW,
+		public static final Set<Item> allRangedWeapons = Collections.unmodifiableSet(EnumSet.of(LIGHT_BRAND, RUNE_SWORD, WIND_SWORD, JAVELIN, SPEAR, SHORT_SPEAR, HAND_AXE, TOMAHAWK, IRON_BOW, STEEL_BOW,
 				SILVER_BOW, POISON_BOW, KILLER_BOW, BRAVE_BOW, SHORT_BOW, LONG_BOW, BEACON_BOW, NIDHOGG, FIRE, THUNDER, ELFIRE, FIMBULVETR, EXCALIBUR, LIGHTNING, SHINE, DIVINE, 
 				AURA, IVALDI, FLUX, LUNA, NOSFERATU, FENRIR, GLEIPNIR, NAGLFAR, WRETCHED_AIR, DEMON_SURGE, EVIL_EYE, CRIMSON_EYE));
-		public static Set<Item> allRangedOnlyWeapons = new HashSet<Item>(Arrays.asList(IRON_BOW, STEEL_BOW, SILVER_BOW, POISON_BOW, KILLER_BOW, BRAVE_BOW, SHORT_BOW, LONG_BOW, BEACON_BOW, NIDHOGG));
-		public static Set<Item> allStaves = new HashSet<Item>(Arrays.asList(HEAL, MEND, RECOVER, PHYSIC, FORTIFY, RESTORE, WARP, RESCUE, TORCH_STAFF, HAMMERNE, UNLOCK, BARRIER, SILENCE, SLEEP, BERSERK));
+		public static final Set<Item> allRangedOnlyWeapons = Collections.unmodifiableSet(EnumSet.of(IRON_BOW, STEEL_BOW, SILVER_BOW, POISON_BOW, KILLER_BOW, BRAVE_BOW, SHORT_BOW, LONG_BOW, BEACON_BOW, NIDHOGG));
+		public static final Set<Item> allStaves = Collections.unmodifiableSet(EnumSet.of(HEAL, MEND, RECOVER, PHYSIC, FORTIFY, RESTORE, WARP, RESCUE, TORCH_STAFF, HAMMERNE, UNLOCK, BARRIER, SILENCE, SLEEP, BERSERK));
 		
-		public static Set<Item> allSiegeTomes = new HashSet<Item>(Arrays.asList(BOLTING, PURGE, ECLIPSE, SHADOWSHOT));
+		public static final Set<Item> allSiegeTomes = Collections.unmodifiableSet(EnumSet.of(BOLTING, PURGE, ECLIPSE, SHADOWSHOT));
 		
-		public static Set<Item> allERank = new HashSet<Item>(Arrays.asList(IRON_SWORD, SLIM_SWORD, SHADOWKILLER, IRON_LANCE, SLIM_LANCE, TOXIN_LANCE, JAVELIN, BRIGHT_LANCE, IRON_AXE, STEEL_AXE, DEVIL_AXE,
+		public static final Set<Item> allERank = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, SLIM_SWORD, SHADOWKILLER, IRON_LANCE, SLIM_LANCE, TOXIN_LANCE, JAVELIN, BRIGHT_LANCE, IRON_AXE, STEEL_AXE, DEVIL_AXE,
 				HAND_AXE, HATCHET, FIENDCLEAVER, IRON_BOW, BEACON_BOW, HEAL, FIRE, LIGHTNING));
-		public static Set<Item> allDRank = new HashSet<Item>(Arrays.asList(STEEL_SWORD, IRON_BLADE, POISON_SWORD, SHAMSHIR, ARMORSLAYER, ZANBATO, STEEL_LANCE, HORSESLAYER, HEAVY_SPEAR,
+		public static final Set<Item> allDRank = Collections.unmodifiableSet(EnumSet.of(STEEL_SWORD, IRON_BLADE, POISON_SWORD, SHAMSHIR, ARMORSLAYER, ZANBATO, STEEL_LANCE, HORSESLAYER, HEAVY_SPEAR,
 				POISON_AXE, HALBERD, HAMMER, STEEL_BOW, POISON_BOW, SHORT_BOW, LONG_BOW, MEND, TORCH_STAFF, UNLOCK, THUNDER, SHINE, FLUX));
-		public static Set<Item> allCRank = new HashSet<Item>(Arrays.asList(STEEL_BLADE, KILLING_EDGE, WYRMSLAYER, LIGHT_BRAND, LANCEREAVER, KILLER_LANCE, AXEREAVER, DRAGONSPEAR, SHORT_SPEAR, KILLER_AXE,
+		public static final Set<Item> allCRank = Collections.unmodifiableSet(EnumSet.of(STEEL_BLADE, KILLING_EDGE, WYRMSLAYER, LIGHT_BRAND, LANCEREAVER, KILLER_LANCE, AXEREAVER, DRAGONSPEAR, SHORT_SPEAR, KILLER_AXE,
 				SWORDREAVER, SWORDSLAYER, DRAGON_AXE, KILLER_BOW, RECOVER, RESTORE, SLEEP, HAMMERNE, BARRIER, ELFIRE, DIVINE, LUNA, NOSFERATU));
-		public static Set<Item> allBRank = new HashSet<Item>(Arrays.asList(BRAVE_SWORD, WIND_SWORD, BRAVE_LANCE, SPEAR, BRAVE_AXE, BATTLE_AXE, BRAVE_BOW, PHYSIC, SILENCE, BERSERK, RESCUE, BOLTING, PURGE, ECLIPSE));
-		public static Set<Item> allARank = new HashSet<Item>(Arrays.asList(SILVER_SWORD, SILVER_BLADE, RUNE_SWORD, SILVER_LANCE, SILVER_AXE, TOMAHAWK, SILVER_BOW, FORTIFY, WARP, FIMBULVETR, AURA, FENRIR));
-		public static Set<Item> allSRank = new HashSet<Item>(Arrays.asList(AUDHULMA, VIDOFNIR, GARM, NIDHOGG, LATONA, EXCALIBUR, IVALDI, GLEIPNIR, NAGLFAR));
-		public static Set<Item> allPrfRank = new HashSet<Item>(Arrays.asList(REGINLEIF, RAPIER, SIEGMUND, SIEGLINDE));
+		public static final Set<Item> allBRank = Collections.unmodifiableSet(EnumSet.of(BRAVE_SWORD, WIND_SWORD, BRAVE_LANCE, SPEAR, BRAVE_AXE, BATTLE_AXE, BRAVE_BOW, PHYSIC, SILENCE, BERSERK, RESCUE, BOLTING, PURGE, ECLIPSE));
+		public static final Set<Item> allARank = Collections.unmodifiableSet(EnumSet.of(SILVER_SWORD, SILVER_BLADE, RUNE_SWORD, SILVER_LANCE, SILVER_AXE, TOMAHAWK, SILVER_BOW, FORTIFY, WARP, FIMBULVETR, AURA, FENRIR));
+		public static final Set<Item> allSRank = Collections.unmodifiableSet(EnumSet.of(AUDHULMA, VIDOFNIR, GARM, NIDHOGG, LATONA, EXCALIBUR, IVALDI, GLEIPNIR, NAGLFAR));
+		public static final Set<Item> allPrfRank = Collections.unmodifiableSet(EnumSet.of(REGINLEIF, RAPIER, SIEGMUND, SIEGLINDE));
 		
-		public static Set<Item> normalSet = new HashSet<Item>(Arrays.asList(IRON_SWORD, SLIM_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, IRON_LANCE, SLIM_LANCE, STEEL_LANCE, SILVER_LANCE, 
+		public static final Set<Item> normalSet = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, SLIM_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, IRON_LANCE, SLIM_LANCE, STEEL_LANCE, SILVER_LANCE, 
 				IRON_AXE, STEEL_AXE, SILVER_AXE, BATTLE_AXE, IRON_BOW, STEEL_BOW, SILVER_BOW, SHORT_BOW, BEACON_BOW, FIRE, THUNDER, ELFIRE, FIMBULVETR, LIGHTNING, SHINE, DIVINE, AURA, FLUX, FENRIR,
 				SHARP_CLAW, WRETCHED_AIR, DRAGONSTONE, DEMON_SURGE, ROTTEN_CLAW, FETID_CLAW, FIERY_FANG, HELLFANG, EVIL_EYE, CRIMSON_EYE));
-		public static Set<Item> interestingSet = new HashSet<Item>(Arrays.asList(POISON_SWORD, RAPIER, BRAVE_SWORD, SHAMSHIR, KILLING_EDGE, ARMORSLAYER, WYRMSLAYER, LIGHT_BRAND, RUNE_SWORD, LANCEREAVER, ZANBATO, 
+		public static final Set<Item> interestingSet = Collections.unmodifiableSet(EnumSet.of(POISON_SWORD, RAPIER, BRAVE_SWORD, SHAMSHIR, KILLING_EDGE, ARMORSLAYER, WYRMSLAYER, LIGHT_BRAND, RUNE_SWORD, LANCEREAVER, ZANBATO, 
 				SHADOWKILLER, WIND_SWORD, TOXIN_LANCE, BRAVE_LANCE, KILLER_LANCE, HORSESLAYER, JAVELIN, SPEAR, AXEREAVER, REGINLEIF, BRIGHT_LANCE, DRAGONSPEAR, HEAVY_SPEAR, SHORT_SPEAR,
 				POISON_AXE, BRAVE_AXE, KILLER_AXE, HALBERD, HAMMER, DEVIL_AXE, HAND_AXE, TOMAHAWK, SWORDREAVER, SWORDSLAYER, HATCHET, DRAGON_AXE, FIENDCLEAVER,
 				POISON_BOW, KILLER_BOW, BRAVE_BOW, LONG_BOW, BEACON_BOW, BOLTING, PURGE, LUNA, NOSFERATU, ECLIPSE, SHADOWSHOT, POISON_CLAW, LETHAL_TALON, STONE));
 		
 		// These must be of lower rank than the siege tomes set, and each weapon type needs to have an equivalent analogue.
-		public static Set<Item> siegeReplacementSet = new HashSet<Item>(Arrays.asList(NOSFERATU, DIVINE, ELFIRE, DEMON_SURGE));
+		public static final Set<Item> siegeReplacementSet = Collections.unmodifiableSet(EnumSet.of(NOSFERATU, DIVINE, ELFIRE, DEMON_SURGE));
 		
-		public static Set<Item> killerSet = new HashSet<Item>(Arrays.asList(KILLING_EDGE, SHAMSHIR, KILLER_LANCE, KILLER_AXE, KILLER_BOW));
-		public static Set<Item> effectiveSet = new HashSet<Item>(Arrays.asList(RAPIER, ARMORSLAYER, WYRMSLAYER, ZANBATO, SHADOWKILLER, HORSESLAYER, REGINLEIF, BRIGHT_LANCE, DRAGONSPEAR, HEAVY_SPEAR,
+		public static final Set<Item> killerSet = Collections.unmodifiableSet(EnumSet.of(KILLING_EDGE, SHAMSHIR, KILLER_LANCE, KILLER_AXE, KILLER_BOW));
+		public static final Set<Item> effectiveSet = Collections.unmodifiableSet(EnumSet.of(RAPIER, ARMORSLAYER, WYRMSLAYER, ZANBATO, SHADOWKILLER, HORSESLAYER, REGINLEIF, BRIGHT_LANCE, DRAGONSPEAR, HEAVY_SPEAR,
 				HALBERD, HAMMER, SWORDSLAYER, DRAGON_AXE, FIENDCLEAVER, BEACON_BOW));
-		public static Set<Item> poisonSet = new HashSet<Item>(Arrays.asList(POISON_SWORD, POISON_AXE, TOXIN_LANCE, POISON_BOW, POISON_CLAW, LETHAL_TALON));
-		public static Set<Item> rangedSet = new HashSet<Item>(Arrays.asList(LIGHT_BRAND, RUNE_SWORD, WIND_SWORD, JAVELIN, SPEAR, SHORT_SPEAR, HAND_AXE, TOMAHAWK, HATCHET, LONG_BOW, BOLTING, PURGE, ECLIPSE, SHADOWSHOT));
-		public static Set<Item> reaverSet = new HashSet<Item>(Arrays.asList(LANCEREAVER, AXEREAVER, SWORDREAVER, SWORDSLAYER));
-		public static Set<Item> braveSet = new HashSet<Item>(Arrays.asList(BRAVE_SWORD, BRAVE_LANCE, BRAVE_AXE, BRAVE_BOW));
+		public static final Set<Item> poisonSet = Collections.unmodifiableSet(EnumSet.of(POISON_SWORD, POISON_AXE, TOXIN_LANCE, POISON_BOW, POISON_CLAW, LETHAL_TALON));
+		public static final Set<Item> rangedSet = Collections.unmodifiableSet(EnumSet.of(LIGHT_BRAND, RUNE_SWORD, WIND_SWORD, JAVELIN, SPEAR, SHORT_SPEAR, HAND_AXE, TOMAHAWK, HATCHET, LONG_BOW, BOLTING, PURGE, ECLIPSE, SHADOWSHOT));
+		public static final Set<Item> reaverSet = Collections.unmodifiableSet(EnumSet.of(LANCEREAVER, AXEREAVER, SWORDREAVER, SWORDSLAYER));
+		public static final Set<Item> braveSet = Collections.unmodifiableSet(EnumSet.of(BRAVE_SWORD, BRAVE_LANCE, BRAVE_AXE, BRAVE_BOW));
 		
-		public static Set<Item> allRestrictedWeapons = new HashSet<Item>(Arrays.asList(SHAMSHIR));
+		public static final Set<Item> allRestrictedWeapons = Collections.unmodifiableSet(EnumSet.of(SHAMSHIR));
 		
-		public static Set<Item> allBasicWeapons = new HashSet<Item>(Arrays.asList(IRON_SWORD, IRON_LANCE, IRON_AXE, IRON_BOW, FIRE, LIGHTNING, FLUX, ROTTEN_CLAW, FIERY_FANG, EVIL_EYE));
+		public static final Set<Item> allBasicWeapons = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, IRON_LANCE, IRON_AXE, IRON_BOW, FIRE, LIGHTNING, FLUX, ROTTEN_CLAW, FIERY_FANG, EVIL_EYE));
 		
 		public static Set<Item> basicItemsOfType(WeaponType type) {
 			Set<Item> set = new HashSet<Item>();
@@ -2374,11 +2394,11 @@ public class FE8Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 	}
 
 	public Set<GBAFECharacter> allPlayableCharacters() {
-		return new HashSet<GBAFECharacter>(Character.allPlayableCharacters);
+		return Collections.unmodifiableSet(Character.allPlayableCharacters);
 	}
 
 	public Set<GBAFECharacter> allBossCharacters() {
-		return new HashSet<GBAFECharacter>(Character.allBossCharacters);
+		return Collections.unmodifiableSet(Character.allBossCharacters);
 	}
 
 	public Set<GBAFECharacter> linkedCharacters(int characterID) {
@@ -2399,19 +2419,19 @@ public class FE8Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 	}
 	
 	public Set<GBAFECharacter> allFliers() {
-		return new HashSet<GBAFECharacter>(Character.requiredFliers);
+		return Collections.unmodifiableSet(Character.requiredFliers);
 	}
 	
 	public Set<GBAFECharacter> mustAttack() {
-		return new HashSet<GBAFECharacter>(Character.requiredAttackers);
+		return Collections.unmodifiableSet(Character.requiredAttackers);
 	}
 	
 	public Set<GBAFECharacter> femaleSet() {
-		return new HashSet<GBAFECharacter>(Character.femaleSet);
+		return Collections.unmodifiableSet(Character.femaleSet);
 	}
 	
 	public Set<GBAFECharacter> mustPromote() {
-		return new HashSet<GBAFECharacter>(Character.requiresPromotion);
+		return Collections.unmodifiableSet(Character.requiresPromotion);
 	}
 	
 	public GBAFECharacter characterWithID(int characterID) {
@@ -2460,7 +2480,7 @@ public class FE8Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 	}
 
 	public Set<GBAFEClass> allValidClasses() {
-		return new HashSet<GBAFEClass>(CharacterClass.allValidClasses);
+		return Collections.unmodifiableSet(CharacterClass.allValidClasses);
 	}
 	
 	public Set<GBAFEClass> meleeSupportedClasses() {
@@ -2606,7 +2626,7 @@ public class FE8Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 	}
 	
 	public Set<GBAFEItem> allWeapons() {
-		return new HashSet<GBAFEItem>(Item.allWeapons);
+		return Collections.unmodifiableSet(Item.allWeapons);
 	}
 	
 	public Set<GBAFEItem> weaponsWithStatBoosts() {
@@ -2663,7 +2683,7 @@ public class FE8Data implements GBAFECharacterProvider, GBAFEClassProvider, GBAF
 	}
 	
 	public Set<GBAFEItem> allPotentialChestRewards() {
-		return new HashSet<GBAFEItem>(Item.allPotentialRewards);
+		return Collections.unmodifiableSet(Item.allPotentialRewards);
 	}
 	
 	public Set<GBAFEItem> relatedItemsToItem(GBAFEItemData itemData) {
@@ -1,6 +1,7 @@
 package fedata.gba.fe8;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,7 @@ public class FE8Item implements GBAFEItemData {
 
 	private byte[] originalData;
 	private byte[] data;
+	private byte[] loadedData;
 	
 	private long originalOffset;
 	
@@ -38,6 +40,7 @@ public class FE8Item implements GBAFEItemData {
 		super();
 		this.originalData = data;
 		this.data = data;
+		this.loadedData = Arrays.copyOf(data, data.length);
 		this.originalOffset = originalOffset;
 		this.itemID = itemID;
 	}
@@ -264,6 +267,10 @@ public class FE8Item implements GBAFEItemData {
 		return data;
 	}
 	
+	public byte[] getLoadedData() {
+		return loadedData;
+	}
+	
 	public Boolean wasModified() {
 		return wasModified;
 	}
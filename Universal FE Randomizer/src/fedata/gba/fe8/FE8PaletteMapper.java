@@ -1,17 +1,15 @@
 package fedata.gba.fe8;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import util.DebugPrinter;
 import util.Diff;
 import util.DiffCompiler;
 import util.FileReadHelper;
-import util.WhyDoesJavaNotHaveThese;
 import io.FileHandler;
 
 // FE8 uses two auxiliary tables to map palettes based on class.
@@ -35,20 +33,43 @@ public class FE8PaletteMapper {
 		TRAINEE, PRIMARY_BASE, SECONDARY_BASE, FIRST_PROMOTION, SECOND_PROMOTION, THIRD_PROMOTION, FOURTH_PROMOTION;
 	}
 	
-	private class MapEntry {
-		byte[] originalData;
-		byte[] data;
-		
-		long originalOffset;
+	// One of the two tables, read all at once and indexed by character ID. Entries are views into it,
+	// so copying a table only means copying its arrays.
+	private static class MapTable {
+		private long baseOffset; // Where the entry for character ID 0 would be.
+		private int entrySize;
+		
+		private byte[] originalData;
+		private byte[] data;
+		private boolean[] modified;
+		
+		private MapTable(FileHandler handler, long tableOffset, int entrySize, int characterCount) {
+			// As far as the indices go, it looks like the offsets follow the same order as the characters' IDs, albeit - 1, so Eirika starts at 0x0 instead of 0x1, Seth at 0x1 instead of 0x2, and so on.
+			baseOffset = tableOffset - entrySize;
+			this.entrySize = entrySize;
+			originalData = handler.readBytesAtOffset(baseOffset, characterCount * entrySize);
+			data = originalData.clone();
+			modified = new boolean[characterCount];
+		}
 		
-		Boolean wasModified;
+		private MapTable(MapTable other) {
+			baseOffset = other.baseOffset;
+			entrySize = other.entrySize;
+			originalData = other.originalData;
+			data = other.data.clone();
+			modified = other.modified.clone();
+		}
+	}
+	
+	private class MapEntry {
+		MapTable table;
+		int characterID;
+		int dataOffset;
 		
-		private MapEntry(FileHandler handler, long offset) {
-			originalOffset = offset;
-			originalData = handler.readBytesAtOffset(offset, FE8Data.BytesPerPaletteTableEntry);
-			data = originalData.clone();
-			
-			wasModified = false;
+		private MapEntry(MapTable table, int characterID) {
+			this.table = table;
+			this.characterID = characterID;
+			dataOffset = characterID * table.entrySize;
 		}
 		
 		public void synchronize(MapEntry otherMap) {
@@ -61,77 +82,52 @@ public class FE8PaletteMapper {
 			setByte6(otherMap.getByte6());
 		}
 		
-		public int getByte0() {
-			return data[0] & 0xFF;
+		private int getByte(int index) {
+			return table.data[dataOffset + index] & 0xFF;
 		}
-		public void setByte0(int value) {
-			data[0] = (byte)(value & 0xFF);
-			wasModified = true;
+		private void setByte(int index, int value) {
+			table.data[dataOffset + index] = (byte)(value & 0xFF);
+			table.modified[characterID] = true;
 		}
 		
-		public int getByte1() {
-			return data[1] & 0xFF;
-		}
-		public void setByte1(int value) {
-			data[1] = (byte)(value & 0xFF);
-			wasModified = true;
-		}
+		public int getByte0() { return getByte(0); }
+		public void setByte0(int value) { setByte(0, value); }
 		
-		public int getByte2() {
-			return data[2] & 0xFF;
-		}
-		public void setByte2(int value) {
-			data[2] = (byte)(value & 0xFF);
-			wasModified = true;
-		}
+		public int getByte1() { return getByte(1); }
+		public void setByte1(int value) { setByte(1, value); }
 		
-		public int getByte3() {
-			return data[3] & 0xFF;
-		}
-		public void setByte3(int value) {
-			data[3] = (byte)(value & 0xFF);
-			wasModified = true;
-		}
+		public int getByte2() { return getByte(2); }
+		public void setByte2(int value) { setByte(2, value); }
 		
-		public int getByte4() {
-			return data[4] & 0xFF;
-		}
-		public void setByte4(int value) {
-			data[4] = (byte)(value & 0xFF);
-			wasModified = true;
-		}
+		public int getByte3() { return getByte(3); }
+		public void setByte3(int value) { setByte(3, value); }
 		
-		public int getByte5() {
-			return data[5] & 0xFF;
-		}
-		public void setByte5(int value) {
-			data[5] = (byte)(value & 0xFF);
-			wasModified = true;
-		}
+		public int getByte4() { return getByte(4); }
+		public void setByte4(int value) { setByte(4, value); }
 		
-		public int getByte6() {
-			return data[6] & 0xFF;
-		}
-		public void setByte6(int value) {
-			data[6] = (byte)(value & 0xFF);
-			wasModified = true;
-		}
+		public int getByte5() { return getByte(5); }
+		public void setByte5(int value) { setByte(5, value); }
+		
+		public int getByte6() { return getByte(6); }
+		public void setByte6(int value) { setByte(6, value); }
 		
 		@SuppressWarnings("unused")
 		public void reset() {
-			data = originalData.clone();
-			wasModified = false;
+			System.arraycopy(table.originalData, dataOffset, table.data, dataOffset, FE8Data.BytesPerPaletteTableEntry);
+			table.modified[characterID] = false;
 		}
 		
 		public void commit(DiffCompiler compiler) {
-			if (wasModified) {
-				compiler.addDiff(new Diff(originalOffset, data.length, data, originalData));
+			if (table.modified[characterID]) {
+				byte[] data = Arrays.copyOfRange(table.data, dataOffset, dataOffset + FE8Data.BytesPerPaletteTableEntry);
+				byte[] originalData = Arrays.copyOfRange(table.originalData, dataOffset, dataOffset + FE8Data.BytesPerPaletteTableEntry);
+				compiler.addDiff(new Diff(table.baseOffset + dataOffset, data.length, data, originalData));
 			}
 		}
 	}
 	
 	private class PaletteMapEntry extends MapEntry {
-		private PaletteMapEntry(FileHandler handler, long offset) { super(handler, offset); }
+		private PaletteMapEntry(MapTable table, int characterID) { super(table, characterID); }
 		
 		private int getTraineePaletteID() { return getByte0(); }
 		private void setTraineePaletteID(int paletteID) { setByte0(paletteID); }
@@ -169,7 +165,7 @@ public class FE8PaletteMapper {
 			}
 		}
 		
-		private ClassMapEntry(FileHandler handler, long offset) { super(handler, offset); }
+		private ClassMapEntry(MapTable table, int characterID) { super(table, characterID); }
 		
 		private int getTraineeClassID() { return getByte0(); }
 		private void setTraineeClassID(int newClassID) { setByte0(newClassID); }
@@ -193,80 +189,123 @@ public class FE8PaletteMapper {
 		private void setFourthPromotionClassID(int newClassID) { setByte6(newClassID); }
 	}
 	
-	private Map<FE8Data.Character, ClassMapEntry> paletteClassMap;
-	private Map<FE8Data.Character, PaletteMapEntry> paletteIndexMap;
+	private MapTable classTable;
+	private MapTable indexTable;
 	
-	private Map<Integer, Integer> registeredPaletteLengths;
-	private Map<Integer, Long> registeredPaletteOffsets;
-	private Set<Long> registeredOffsets;
+	// Both indexed by character ID. Null for IDs that aren't characters.
+	private ClassMapEntry[] paletteClassMap;
+	private PaletteMapEntry[] paletteIndexMap;
 	
-	private Map<FE8Data.Character, List<SlotType>> charactersThatNeedPalettes; // Maps to array of slots.
+	// Indexed by palette ID. -1 for palette IDs that haven't been registered (or have no known offset).
+	private int[] registeredPaletteLengths;
+	private long[] registeredPaletteOffsets;
 	
-	private List<Integer> emptyPaletteIDs; // Can be used as long as the address is written after the pointer table.
-	private Map<Integer, List<Integer>> recycledPaletteIDsByLength; // Maps lengths to recycled paletteIDs of that length.
+	private int[] slotsNeededByCharacter; // Indexed by character ID. Bit n is set if SlotType n still needs a palette.
+	
+	private long[] emptyPaletteIDs; // Bitmap by palette ID. Can be used as long as the address is written after the pointer table.
+	
+	// Palette IDs that were freed, in the order they were freed, with the length of each. Handed out IDs are set to 0.
+	private int[] recycledPaletteIDs;
+	private int[] recycledPaletteLengths;
+	private int recycledPaletteCount;
 	
 	private FE8PromotionManager promotionManager;
 	
 	public FE8PaletteMapper(FileHandler handler, FE8PromotionManager promotionManager, List<Integer> emptyIDs) {
-		paletteClassMap = new HashMap<FE8Data.Character, ClassMapEntry>();
-		paletteIndexMap = new HashMap<FE8Data.Character, PaletteMapEntry>();
-		
-		charactersThatNeedPalettes = new HashMap<FE8Data.Character, List<SlotType>>();
-		
-		long tableOffset = FileReadHelper.readAddress(handler, FE8Data.PaletteClassTablePointer);
-		// As far as the indices go, it looks like the offsets follow the same order as the characters' IDs, albeit - 1, so Eirika starts at 0x0 instead of 0x1, Seth at 0x1 instead of 0x2, and so on.
-		
 		FE8Data.Character[] characters = FE8Data.Character.values();
+		int characterCount = 0;
 		for (FE8Data.Character currentCharacter : characters) {
-			int index = currentCharacter.ID - 1;
-			long offset = FE8Data.BytesPerPaletteTableEntry * index + tableOffset;
-			ClassMapEntry characterMapEntry = new ClassMapEntry(handler, offset);
-			paletteClassMap.put(currentCharacter, characterMapEntry);
+			characterCount = Math.max(characterCount, currentCharacter.ID + 1);
 		}
 		
-		tableOffset = FileReadHelper.readAddress(handler, FE8Data.PaletteIndexTablePointer);
+		classTable = new MapTable(handler, FileReadHelper.readAddress(handler, FE8Data.PaletteClassTablePointer), FE8Data.BytesPerPaletteTableEntry, characterCount);
 		// Same as above. The IDs are offset by 1.
-		
-		for (FE8Data.Character currentCharacter : characters) {
-			int index = currentCharacter.ID - 1;
-			long offset = FE8Data.BytesPerPaletteIndexTableEntry * index + tableOffset;
-			PaletteMapEntry paletteMapEntry = new PaletteMapEntry(handler, offset);
-			paletteIndexMap.put(currentCharacter, paletteMapEntry);
-		}
+		indexTable = new MapTable(handler, FileReadHelper.readAddress(handler, FE8Data.PaletteIndexTablePointer), FE8Data.BytesPerPaletteIndexTableEntry, characterCount);
+		createEntries();
 		
 		this.promotionManager = promotionManager;
 		
-		this.emptyPaletteIDs = new ArrayList<Integer>(emptyIDs);
-		this.registeredPaletteLengths = new HashMap<Integer, Integer>();
-		this.registeredPaletteOffsets = new HashMap<Integer, Long>();
-		this.recycledPaletteIDsByLength = new HashMap<Integer, List<Integer>>();
-		this.registeredOffsets = new HashSet<Long>();
+		// Palette IDs are a single byte in the index table, so every one of them has room, even past maxPaletteIndex.
+		int paletteCount = Math.max(FE8Data.Palette.maxPaletteIndex() + 1, 0x100);
+		registeredPaletteLengths = new int[paletteCount];
+		registeredPaletteOffsets = new long[paletteCount];
+		Arrays.fill(registeredPaletteLengths, -1);
+		Arrays.fill(registeredPaletteOffsets, -1);
+		
+		slotsNeededByCharacter = new int[characterCount];
+		
+		emptyPaletteIDs = new long[(paletteCount + 63) / 64];
+		for (int emptyID : emptyIDs) {
+			if (emptyID == 0) { continue; }
+			if (emptyID < 0 || emptyID >= paletteCount) { throw new IllegalArgumentException("Palette ID out of range. ID = 0x" + Integer.toHexString(emptyID)); }
+			emptyPaletteIDs[emptyID / 64] |= 1L << (emptyID % 64);
+		}
+		
+		recycledPaletteIDs = new int[16];
+		recycledPaletteLengths = new int[16];
+		recycledPaletteCount = 0;
+	}
+	
+	// Copies the mapper's current state. Changes to either one afterwards don't affect the other.
+	// The promotion manager is still shared.
+	public FE8PaletteMapper(FE8PaletteMapper other) {
+		classTable = new MapTable(other.classTable);
+		indexTable = new MapTable(other.indexTable);
+		createEntries();
+		
+		promotionManager = other.promotionManager;
+		
+		registeredPaletteLengths = other.registeredPaletteLengths.clone();
+		registeredPaletteOffsets = other.registeredPaletteOffsets.clone();
+		slotsNeededByCharacter = other.slotsNeededByCharacter.clone();
+		emptyPaletteIDs = other.emptyPaletteIDs.clone();
+		recycledPaletteIDs = other.recycledPaletteIDs.clone();
+		recycledPaletteLengths = other.recycledPaletteLengths.clone();
+		recycledPaletteCount = other.recycledPaletteCount;
+	}
+	
+	private void createEntries() {
+		paletteClassMap = new ClassMapEntry[classTable.modified.length];
+		paletteIndexMap = new PaletteMapEntry[indexTable.modified.length];
+		for (FE8Data.Character currentCharacter : FE8Data.Character.values()) {
+			paletteClassMap[currentCharacter.ID] = new ClassMapEntry(classTable, currentCharacter.ID);
+			paletteIndexMap[currentCharacter.ID] = new PaletteMapEntry(indexTable, currentCharacter.ID);
+		}
 	}
 	
 	public void registerPaletteID(int paletteID, int length, Long offset) {
 		if (paletteID == 0) { return; }
-		if (registeredPaletteLengths.get(paletteID) != null) { return; }
-		registeredPaletteLengths.put(paletteID, length);
-		assert registeredPaletteOffsets.get(paletteID) == null : "Already registered this paletteID";
+		if (paletteID < 0 || paletteID >= registeredPaletteLengths.length) { throw new IllegalArgumentException("Palette ID out of range. ID = 0x" + Integer.toHexString(paletteID)); }
+		if (registeredPaletteLengths[paletteID] != -1) { return; }
+		registeredPaletteLengths[paletteID] = length;
+		assert registeredPaletteOffsets[paletteID] == -1 : "Already registered this paletteID";
 		if (offset != null) {
-			assert registeredOffsets.contains(offset) == false : "This offset has already been registered.";
-			registeredOffsets.add(offset);
-			registeredPaletteOffsets.put(paletteID, offset);
+			assert isOffsetRegistered(offset) == false : "This offset has already been registered.";
+			registeredPaletteOffsets[paletteID] = offset;
+		}
+	}
+	
+	private boolean isOffsetRegistered(long offset) {
+		for (long registeredOffset : registeredPaletteOffsets) {
+			if (registeredOffset == offset) { return true; }
 		}
+		return false;
 	}
 	
 	public Integer getRegisteredPaletteLength(int paletteID) {
-		return registeredPaletteLengths.get(paletteID);
+		if (paletteID < 0 || paletteID >= registeredPaletteLengths.length || registeredPaletteLengths[paletteID] == -1) { return null; }
+		return registeredPaletteLengths[paletteID];
 	}
 	
 	public Long getRegisteredPaletteOffset(int paletteID) {
-		return registeredPaletteOffsets.get(paletteID);
+		if (paletteID < 0 || paletteID >= registeredPaletteOffsets.length || registeredPaletteOffsets[paletteID] == -1) { return null; }
+		return registeredPaletteOffsets[paletteID];
 	}
 	
 	public ClassMapType getMapTypeForCharacter(int characterID) {
 		FE8Data.Character character = FE8Data.Character.valueOf(characterID);
 		if (character == null) { return ClassMapType.UNKNOWN; }
-		return paletteClassMap.get(character).getMapType();
+		return paletteClassMap[character.ID].getMapType();
 	}
 	
 	private void markPaletteIDAsFree(int paletteID) {
@@ -275,54 +314,89 @@ public class FE8PaletteMapper {
 		assert length != null : "No length found for palette being marked as free. ID = 0x" + Integer.toHexString(paletteID);
 		DebugPrinter.log(DebugPrinter.Key.PALETTE_RECYCLER, "Freed up palette with ID 0x" + Integer.toHexString(paletteID) + "(size: " + Integer.toString(length) + ")");
 		if (length != null) {
-			List<Integer> paletteIDList = recycledPaletteIDsByLength.get(length);
-			if (paletteIDList == null) {
-				paletteIDList = new ArrayList<Integer>();
-				recycledPaletteIDsByLength.put(length, paletteIDList);
+			if (recycledPaletteCount == recycledPaletteIDs.length) {
+				recycledPaletteIDs = Arrays.copyOf(recycledPaletteIDs, recycledPaletteCount * 2);
+				recycledPaletteLengths = Arrays.copyOf(recycledPaletteLengths, recycledPaletteCount * 2);
 			}
 			
-			paletteIDList.add(paletteID);
+			recycledPaletteIDs[recycledPaletteCount] = paletteID;
+			recycledPaletteLengths[recycledPaletteCount] = length;
+			recycledPaletteCount++;
 		}
 	}
 	
+	// Hands out the earliest freed palette of the smallest length that fits.
 	private Integer requestRecycledPaletteForSize(int paletteSize) {
-		if (recycledPaletteIDsByLength.keySet().stream().filter(size -> (size >= paletteSize)).min(WhyDoesJavaNotHaveThese.ascendingIntegerComparator).isPresent()) {
-			int length = recycledPaletteIDsByLength.keySet().stream().filter(size -> (size >= paletteSize)).min(WhyDoesJavaNotHaveThese.ascendingIntegerComparator).get();
-			List<Integer> availableIDs = recycledPaletteIDsByLength.get(length);
-			if (availableIDs.isEmpty()) {
-				recycledPaletteIDsByLength.remove(length);
-				return requestRecycledPaletteForSize(paletteSize); // Ask again for the next closest available slot.
-			} else {
-				DebugPrinter.log(DebugPrinter.Key.PALETTE_RECYCLER, "Recycled palette with ID 0x" + Integer.toHexString(availableIDs.get(0)) + "(size: " + Integer.toString(length) + ", requested size: " + Integer.toString(paletteSize) + ")");
-				return availableIDs.remove(0);
+		int bestLength = -1;
+		for (int i = 0; i < recycledPaletteCount; i++) {
+			int length = recycledPaletteLengths[i];
+			if (recycledPaletteIDs[i] != 0 && length >= paletteSize && (bestLength == -1 || length < bestLength)) {
+				bestLength = length;
+			}
+		}
+		if (bestLength == -1) { return null; }
+		
+		for (int i = 0; i < recycledPaletteCount; i++) {
+			if (recycledPaletteIDs[i] != 0 && recycledPaletteLengths[i] == bestLength) {
+				int paletteID = recycledPaletteIDs[i];
+				recycledPaletteIDs[i] = 0;
+				DebugPrinter.log(DebugPrinter.Key.PALETTE_RECYCLER, "Recycled palette with ID 0x" + Integer.toHexString(paletteID) + "(size: " + Integer.toString(bestLength) + ", requested size: " + Integer.toString(paletteSize) + ")");
+				return paletteID;
 			}
 		}
 		return null;
 	}
 	
-	private Integer requestEmptyPaletteForSize(int paletteSize) {
-		Integer emptyID = emptyPaletteIDs.remove(0);
-		if (emptyID != null) {
-			registerPaletteID(emptyID, paletteSize, null);
+	// Takes the lowest empty palette ID, or returns 0 if there aren't any left.
+	private int takeEmptyPaletteID() {
+		for (int word = 0; word < emptyPaletteIDs.length; word++) {
+			if (emptyPaletteIDs[word] != 0) {
+				int bit = Long.numberOfTrailingZeros(emptyPaletteIDs[word]);
+				emptyPaletteIDs[word] &= ~(1L << bit);
+				return word * 64 + bit;
+			}
 		}
-		
+		return 0;
+	}
+	
+	private int emptyPaletteIDCount() {
+		int count = 0;
+		for (long word : emptyPaletteIDs) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+	
+	private Integer requestEmptyPaletteForSize(int paletteSize) {
+		int emptyID = takeEmptyPaletteID();
+		if (emptyID == 0) { return null; }
+		registerPaletteID(emptyID, paletteSize, null);
 		return emptyID;
 	}
 	
 	public int[] getCharactersNeedingAdditionalPalettes() {
-		int[] charIDs = new int[charactersThatNeedPalettes.size()];
+		int count = 0;
+		for (int slots : slotsNeededByCharacter) {
+			if (slots != 0) { count++; }
+		}
+		
+		int[] charIDs = new int[count];
 		int index = 0;
-		for (FE8Data.Character character : charactersThatNeedPalettes.keySet()) {
-			charIDs[index++] = character.ID;
+		for (int characterID = 0; characterID < slotsNeededByCharacter.length; characterID++) {
+			if (slotsNeededByCharacter[characterID] != 0) { charIDs[index++] = characterID; }
 		}
 		
 		return charIDs;
 	}
 	
+	private static int slotBit(SlotType type) {
+		return 1 << type.ordinal();
+	}
+	
 	public int classIDMappedToCharacterForType(int characterID, SlotType type) {
 		int charID = FE8Data.Character.canonicalIDForCharacterID(characterID);
 		FE8Data.Character character = FE8Data.Character.valueOf(charID);
-		ClassMapEntry map = paletteClassMap.get(character);
+		ClassMapEntry map = paletteClassMap[character.ID];
 		switch (type) {
 		case TRAINEE:
 			return map.getTraineeClassID();
@@ -345,7 +419,7 @@ public class FE8PaletteMapper {
 	
 	public int paletteIDForCharacterInClassType(int characterID, SlotType type) {
 		FE8Data.Character character = FE8Data.Character.valueOf(FE8Data.Character.canonicalIDForCharacterID(characterID));
-		PaletteMapEntry paletteMap = paletteIndexMap.get(character);
+		PaletteMapEntry paletteMap = paletteIndexMap[character.ID];
 		switch (type) {
 		case TRAINEE:
 			return paletteMap.getTraineePaletteID();
@@ -370,15 +444,17 @@ public class FE8PaletteMapper {
 		assert false : "Shouldn't be using this anymore.";
 		int canonicalID = FE8Data.Character.canonicalIDForCharacterID(characterID);
 		FE8Data.Character character = FE8Data.Character.valueOf(canonicalID);
-		List<SlotType> palettesNeeded = charactersThatNeedPalettes.get(character);
-		List<SlotType> slotsRemaining = new ArrayList<SlotType>(palettesNeeded);
+		List<SlotType> slotsRemaining = new ArrayList<SlotType>();
+		for (SlotType type : SlotType.values()) {
+			if ((slotsNeededByCharacter[character.ID] & slotBit(type)) != 0) { slotsRemaining.add(type); }
+		}
 		
 		DebugPrinter.log(DebugPrinter.Key.PALETTE_RECYCLER, "Handing out free palettes to character 0x" + Integer.toHexString(characterID));
 		
-		if (palettesNeeded.size() < emptyPaletteIDs.size()) {
+		if (slotsRemaining.size() < emptyPaletteIDCount()) {
 			Map<SlotType, Integer> recycledIndices = new HashMap<SlotType, Integer>();
 			while (!slotsRemaining.isEmpty()) {
-				int paletteIndex = emptyPaletteIDs.remove(0);
+				int paletteIndex = takeEmptyPaletteID();
 				DebugPrinter.log(DebugPrinter.Key.PALETTE_RECYCLER, "Handed out palette index 0x" + Integer.toHexString(paletteIndex));
 				recycledIndices.put(slotsRemaining.remove(0), paletteIndex);
 				if (slotsRemaining.isEmpty()) {
@@ -401,15 +477,15 @@ public class FE8PaletteMapper {
 		int canonicalCharID = FE8Data.Character.canonicalIDForCharacterID(characterID);
 		
 		FE8Data.Character character = FE8Data.Character.valueOf(canonicalCharID);
-		PaletteMapEntry existingPaletteMap = paletteIndexMap.get(character);
-		List<SlotType> palettesNeeded = new ArrayList<SlotType>();
+		PaletteMapEntry existingPaletteMap = paletteIndexMap[character.ID];
+		int palettesNeeded = 0;
 		
 		DebugPrinter.log(DebugPrinter.Key.PALETTE, "Assigning unpromoted class ID 0x" + Integer.toHexString(unpromotedClassID) + " (" + unpromotedClass.toString() + ") to character 0x" + Integer.toHexString(characterID) + " (" + character.toString() + ")");
 		
-		ClassMapEntry classMap = paletteClassMap.get(character);
+		ClassMapEntry classMap = paletteClassMap[character.ID];
 		classMap.setBaseClassID(unpromotedClassID);
 		
-		Integer paletteLength = registeredPaletteLengths.get(existingPaletteMap.getBasePaletteID());
+		Integer paletteLength = getRegisteredPaletteLength(existingPaletteMap.getBasePaletteID());
 		
 		if (existingPaletteMap.getBasePaletteID() == 0 || (paletteLength != null && basePaletteSize > paletteLength)) {
 			if (existingPaletteMap.getBasePaletteID() != 0) {
@@ -430,7 +506,7 @@ public class FE8PaletteMapper {
 					existingPaletteMap.setBasePaletteID(emptyID);
 					DebugPrinter.log(DebugPrinter.Key.PALETTE, "Using empty palette 0x" + Integer.toHexString(emptyID));
 				} else {
-					palettesNeeded.add(SlotType.PRIMARY_BASE);
+					palettesNeeded |= slotBit(SlotType.PRIMARY_BASE);
 					DebugPrinter.log(DebugPrinter.Key.PALETTE, "No Palettes currently available. Adding to waitlist.");
 				}
 			}
@@ -441,7 +517,7 @@ public class FE8PaletteMapper {
 		if (setPromotions) {
 			if (primaryPromotionID != 0) {
 				classMap.setFirstPromotionClassID(primaryPromotionID);
-				paletteLength = registeredPaletteLengths.get(existingPaletteMap.getFirstPromotionPaletteID());
+				paletteLength = getRegisteredPaletteLength(existingPaletteMap.getFirstPromotionPaletteID());
 				if (existingPaletteMap.getFirstPromotionPaletteID() == 0 || (paletteLength != null && promotedPaletteSize > paletteLength)) {
 					if (existingPaletteMap.getFirstPromotionPaletteID() != 0) {
 						DebugPrinter.log(DebugPrinter.Key.PALETTE, "Current palette (0x" + Integer.toHexString(existingPaletteMap.getFirstPromotionPaletteID()) + ") is too small or doesn't exist, looking for alternatives...");
@@ -459,7 +535,7 @@ public class FE8PaletteMapper {
 							existingPaletteMap.setFirstPromotionPaletteID(emptyID);
 							DebugPrinter.log(DebugPrinter.Key.PALETTE, "Using empty palette 0x" + Integer.toHexString(emptyID));
 						} else {
-							palettesNeeded.add(SlotType.FIRST_PROMOTION);
+							palettesNeeded |= slotBit(SlotType.FIRST_PROMOTION);
 							DebugPrinter.log(DebugPrinter.Key.PALETTE, "No Palettes currently available. Adding to waitlist.");
 						}
 					}
@@ -476,7 +552,7 @@ public class FE8PaletteMapper {
 			
 			if (secondaryPromotionID != 0) {
 				classMap.setSecondaryPromotionClassID(secondaryPromotionID);
-				paletteLength = registeredPaletteLengths.get(existingPaletteMap.getSecondaryPromotionPaletteID());
+				paletteLength = getRegisteredPaletteLength(existingPaletteMap.getSecondaryPromotionPaletteID());
 				if (existingPaletteMap.getSecondaryPromotionPaletteID() == 0 || (paletteLength != null && secondPromotionPaletteSize > paletteLength)) {
 					if (existingPaletteMap.getSecondaryPromotionPaletteID() != 0) {
 						DebugPrinter.log(DebugPrinter.Key.PALETTE, "Current palette (0x" + Integer.toHexString(existingPaletteMap.getSecondaryPromotionPaletteID()) + ") is too small or doesn't exist, looking for alternatives...");
@@ -494,7 +570,7 @@ public class FE8PaletteMapper {
 							existingPaletteMap.setSecondaryPromotionPaletteID(emptyID);
 							DebugPrinter.log(DebugPrinter.Key.PALETTE, "Using empty palette 0x" + Integer.toHexString(emptyID));
 						} else {
-							palettesNeeded.add(SlotType.SECOND_PROMOTION);
+							palettesNeeded |= slotBit(SlotType.SECOND_PROMOTION);
 							DebugPrinter.log(DebugPrinter.Key.PALETTE, "No Palettes currently available. Adding to waitlist.");
 						}
 					}
@@ -509,8 +585,8 @@ public class FE8PaletteMapper {
 				}
 			}
 		}
-		if (!palettesNeeded.isEmpty()) {
-			charactersThatNeedPalettes.put(character, palettesNeeded);
+		if (palettesNeeded != 0) {
+			slotsNeededByCharacter[character.ID] = palettesNeeded;
 		}
 		
 		// We can recycle any existing third/fourth promotion, trainee, and secondary base class palettes.
@@ -537,8 +613,8 @@ public class FE8PaletteMapper {
 		
 		for (FE8Data.Character linked : FE8Data.Character.allLinkedCharactersFor(character)) {
 			// Sync all linked characters to the same palette and class map.
-			ClassMapEntry linkedClassMap = paletteClassMap.get(linked);
-			PaletteMapEntry linkedPaletteMap = paletteIndexMap.get(linked);
+			ClassMapEntry linkedClassMap = paletteClassMap[linked.ID];
+			PaletteMapEntry linkedPaletteMap = paletteIndexMap[linked.ID];
 			
 			linkedClassMap.synchronize(classMap);
 			linkedPaletteMap.synchronize(existingPaletteMap);
@@ -553,16 +629,16 @@ public class FE8PaletteMapper {
 		int canonicalCharID = FE8Data.Character.canonicalIDForCharacterID(characterID);
 		
 		FE8Data.Character character = FE8Data.Character.valueOf(canonicalCharID);
-		PaletteMapEntry existingPaletteMap = paletteIndexMap.get(character);
-		List<SlotType> palettesNeeded = new ArrayList<SlotType>();
+		PaletteMapEntry existingPaletteMap = paletteIndexMap[character.ID];
+		int palettesNeeded = 0;
 		
 		DebugPrinter.log(DebugPrinter.Key.PALETTE, "Assigning promoted class ID 0x" + Integer.toHexString(promotedClassID) + " (" + promotedClass.toString() + ") to character 0x" + Integer.toHexString(characterID) + " (" + character.toString() + ")");
 		
-		ClassMapEntry classMap = paletteClassMap.get(character);
+		ClassMapEntry classMap = paletteClassMap[character.ID];
 		
 		classMap.setFirstPromotionClassID(promotedClassID);
 
-		Integer paletteLength = registeredPaletteLengths.get(existingPaletteMap.getFirstPromotionPaletteID());
+		Integer paletteLength = getRegisteredPaletteLength(existingPaletteMap.getFirstPromotionPaletteID());
 		
 		if (existingPaletteMap.getFirstPromotionPaletteID() == 0 || (paletteLength != null && paletteSize > paletteLength)) {
 			if (existingPaletteMap.getFirstPromotionPaletteID() != 0) {
@@ -581,7 +657,7 @@ public class FE8PaletteMapper {
 					existingPaletteMap.setFirstPromotionPaletteID(emptyID);
 					DebugPrinter.log(DebugPrinter.Key.PALETTE, "Using empty palette 0x" + Integer.toHexString(emptyID));
 				} else {
-					palettesNeeded.add(SlotType.FIRST_PROMOTION);
+					palettesNeeded |= slotBit(SlotType.FIRST_PROMOTION);
 					DebugPrinter.log(DebugPrinter.Key.PALETTE, "No Palettes currently available. Adding to waitlist.");
 				}
 			}
@@ -589,8 +665,8 @@ public class FE8PaletteMapper {
 			DebugPrinter.log(DebugPrinter.Key.PALETTE, "Palette (0x" + Integer.toHexString(existingPaletteMap.getFirstPromotionPaletteID()) + ") OK! (oldSize: " + Integer.toString(paletteLength) + " newSize: " + Integer.toString(paletteSize) + ")");
 		}
 		
-		if (!palettesNeeded.isEmpty()) {
-			charactersThatNeedPalettes.put(character, palettesNeeded);
+		if (palettesNeeded != 0) {
+			slotsNeededByCharacter[character.ID] = palettesNeeded;
 		}
 		
 		// We can free any trainee or base class palettes, as well as any other promoted palettes.
@@ -627,8 +703,8 @@ public class FE8PaletteMapper {
 		
 		for (FE8Data.Character linked : FE8Data.Character.allLinkedCharactersFor(character)) {
 			// Sync all linked characters to the same palette and class map.
-			ClassMapEntry linkedClassMap = paletteClassMap.get(linked);
-			PaletteMapEntry linkedPaletteMap = paletteIndexMap.get(linked);
+			ClassMapEntry linkedClassMap = paletteClassMap[linked.ID];
+			PaletteMapEntry linkedPaletteMap = paletteIndexMap[linked.ID];
 			
 			linkedClassMap.synchronize(classMap);
 			linkedPaletteMap.synchronize(existingPaletteMap);
@@ -665,13 +741,13 @@ public class FE8PaletteMapper {
 		}
 		
 		FE8Data.Character character = FE8Data.Character.valueOf(canonicalCharID);
-		PaletteMapEntry existingPaletteMap = paletteIndexMap.get(character);
-		List<SlotType> palettesNeeded = new ArrayList<SlotType>();
+		PaletteMapEntry existingPaletteMap = paletteIndexMap[character.ID];
+		int palettesNeeded = 0;
 		
-		ClassMapEntry classMap = paletteClassMap.get(character);
+		ClassMapEntry classMap = paletteClassMap[character.ID];
 		classMap.setTraineeClassID(traineeClassID);
 		
-		Integer paletteLength = registeredPaletteLengths.get(existingPaletteMap.getTraineePaletteID());
+		Integer paletteLength = getRegisteredPaletteLength(existingPaletteMap.getTraineePaletteID());
 		
 		if (existingPaletteMap.getTraineePaletteID() == 0 || (paletteLength != null && traineePaletteSize > paletteLength)) {
 			if (existingPaletteMap.getTraineePaletteID() != 0) {
@@ -684,13 +760,13 @@ public class FE8PaletteMapper {
 			else {
 				Integer emptyPaletteID = requestEmptyPaletteForSize(traineePaletteSize);
 				if (emptyPaletteID != null) { existingPaletteMap.setTraineePaletteID(emptyPaletteID); }
-				else { palettesNeeded.add(SlotType.TRAINEE); }
+				else { palettesNeeded |= slotBit(SlotType.TRAINEE); }
 			}
 		}
 		
 		if (primaryBaseClassID != 0) {
 			classMap.setBaseClassID(primaryBaseClassID);
-			paletteLength = registeredPaletteLengths.get(existingPaletteMap.getBasePaletteID());
+			paletteLength = getRegisteredPaletteLength(existingPaletteMap.getBasePaletteID());
 			if ((paletteLength != null && base1PaletteSize > paletteLength) || existingPaletteMap.getBasePaletteID() == 0) {
 				if (existingPaletteMap.getBasePaletteID() != 0) {
 					markPaletteIDAsFree(existingPaletteMap.getBasePaletteID());
@@ -702,7 +778,7 @@ public class FE8PaletteMapper {
 				else {
 					Integer emptyPaletteID = requestEmptyPaletteForSize(base1PaletteSize);
 					if (emptyPaletteID != null) { existingPaletteMap.setBasePaletteID(emptyPaletteID); }
-					else { palettesNeeded.add(SlotType.PRIMARY_BASE); }
+					else { palettesNeeded |= slotBit(SlotType.PRIMARY_BASE); }
 				}
 			}
 		} else {
@@ -715,7 +791,7 @@ public class FE8PaletteMapper {
 		
 		if (secondaryBaseClassID != 0) {
 			classMap.setSecondaryBaseClassID(secondaryBaseClassID);
-			paletteLength = registeredPaletteLengths.get(existingPaletteMap.getSecondaryBasePaletteID());
+			paletteLength = getRegisteredPaletteLength(existingPaletteMap.getSecondaryBasePaletteID());
 			if (existingPaletteMap.getSecondaryBasePaletteID() == 0 || (paletteLength != null && base2PaletteSize > paletteLength)) {
 				if (existingPaletteMap.getSecondaryBasePaletteID() != 0) {
 					markPaletteIDAsFree(existingPaletteMap.getSecondaryBasePaletteID());
@@ -727,7 +803,7 @@ public class FE8PaletteMapper {
 				else {
 					Integer emptyPaletteID = requestEmptyPaletteForSize(base2PaletteSize);
 					if (emptyPaletteID != null) { existingPaletteMap.setSecondaryBasePaletteID(emptyPaletteID); }
-					else { palettesNeeded.add(SlotType.SECONDARY_BASE); }
+					else { palettesNeeded |= slotBit(SlotType.SECONDARY_BASE); }
 				}
 			}
 		} else {
@@ -740,7 +816,7 @@ public class FE8PaletteMapper {
 		
 		if (primaryPromotedClassID != 0) {
 			classMap.setFirstPromotionClassID(primaryPromotedClassID);
-			paletteLength = registeredPaletteLengths.get(existingPaletteMap.getFirstPromotionPaletteID());
+			paletteLength = getRegisteredPaletteLength(existingPaletteMap.getFirstPromotionPaletteID());
 			if (existingPaletteMap.getFirstPromotionPaletteID() == 0 || (paletteLength != null && promo1PaletteSize > paletteLength)) {
 				if (existingPaletteMap.getFirstPromotionPaletteID() != 0) {
 					markPaletteIDAsFree(existingPaletteMap.getFirstPromotionPaletteID());
@@ -752,7 +828,7 @@ public class FE8PaletteMapper {
 				else {
 					Integer emptyPaletteID = requestEmptyPaletteForSize(promo1PaletteSize);
 					if (emptyPaletteID != null) { existingPaletteMap.setFirstPromotionPaletteID(emptyPaletteID); }
-					else { palettesNeeded.add(SlotType.FIRST_PROMOTION); }
+					else { palettesNeeded |= slotBit(SlotType.FIRST_PROMOTION); }
 				}
 			}
 		} else {
@@ -765,7 +841,7 @@ public class FE8PaletteMapper {
 		
 		if (secondaryPromotedClassID != 0) {
 			classMap.setSecondaryPromotionClassID(secondaryPromotedClassID);
-			paletteLength = registeredPaletteLengths.get(existingPaletteMap.getSecondaryPromotionPaletteID());
+			paletteLength = getRegisteredPaletteLength(existingPaletteMap.getSecondaryPromotionPaletteID());
 			if (existingPaletteMap.getSecondaryPromotionPaletteID() == 0 || (paletteLength != null && promo2PaletteSize > paletteLength)) {
 				if (existingPaletteMap.getSecondaryPromotionPaletteID() != 0) {
 					markPaletteIDAsFree(existingPaletteMap.getSecondaryPromotionPaletteID());
@@ -777,7 +853,7 @@ public class FE8PaletteMapper {
 				else {
 					Integer emptyPaletteID = requestEmptyPaletteForSize(promo2PaletteSize);
 					if (emptyPaletteID != null) { existingPaletteMap.setSecondaryPromotionPaletteID(emptyPaletteID); }
-					else { palettesNeeded.add(SlotType.SECOND_PROMOTION); }
+					else { palettesNeeded |= slotBit(SlotType.SECOND_PROMOTION); }
 				}
 			}
 		} else {
@@ -795,7 +871,7 @@ public class FE8PaletteMapper {
 			} else if (thirdPromotedClassID == secondaryPromotedClassID) {
 				existingPaletteMap.setThirdPromotionPaletteID(existingPaletteMap.getSecondaryPromotionPaletteID());
 			} else {
-				paletteLength = registeredPaletteLengths.get(existingPaletteMap.getThirdPromotionPaletteID());
+				paletteLength = getRegisteredPaletteLength(existingPaletteMap.getThirdPromotionPaletteID());
 				if (existingPaletteMap.getThirdPromotionPaletteID() == 0 || (paletteLength != null && promo3PaletteSize > paletteLength)) {
 					if (existingPaletteMap.getThirdPromotionPaletteID() != 0) {
 						markPaletteIDAsFree(existingPaletteMap.getThirdPromotionPaletteID());
@@ -807,7 +883,7 @@ public class FE8PaletteMapper {
 					else {
 						Integer emptyPaletteID = requestEmptyPaletteForSize(promo3PaletteSize);
 						if (emptyPaletteID != null) { existingPaletteMap.setThirdPromotionPaletteID(emptyPaletteID); }
-						else { palettesNeeded.add(SlotType.THIRD_PROMOTION); }
+						else { palettesNeeded |= slotBit(SlotType.THIRD_PROMOTION); }
 					}
 				}
 			}
@@ -826,7 +902,7 @@ public class FE8PaletteMapper {
 			} else if (fourthPromotedClassID == secondaryPromotedClassID) {
 				existingPaletteMap.setFourthPromotionPaletteID(existingPaletteMap.getSecondaryPromotionPaletteID());
 			} else {
-				paletteLength = registeredPaletteLengths.get(existingPaletteMap.getFourthPromotionPaletteID());
+				paletteLength = getRegisteredPaletteLength(existingPaletteMap.getFourthPromotionPaletteID());
 				if (existingPaletteMap.getFourthPromotionPaletteID() == 0 || (paletteLength != null && promo4PaletteSize > paletteLength)) {
 					if (existingPaletteMap.getFourthPromotionPaletteID() != 0) {
 						markPaletteIDAsFree(existingPaletteMap.getFourthPromotionPaletteID());
@@ -838,7 +914,7 @@ public class FE8PaletteMapper {
 					else {
 						Integer emptyPaletteID = requestEmptyPaletteForSize(promo4PaletteSize);
 						if (emptyPaletteID != null) { existingPaletteMap.setFourthPromotionPaletteID(emptyPaletteID); }
-						else { palettesNeeded.add(SlotType.FOURTH_PROMOTION); }
+						else { palettesNeeded |= slotBit(SlotType.FOURTH_PROMOTION); }
 					}
 				}
 			}
@@ -850,14 +926,14 @@ public class FE8PaletteMapper {
 			}
 		}
 		
-		if (!palettesNeeded.isEmpty()) {
-			charactersThatNeedPalettes.put(character, palettesNeeded);
+		if (palettesNeeded != 0) {
+			slotsNeededByCharacter[character.ID] = palettesNeeded;
 		}
 		
 		for (FE8Data.Character linked : FE8Data.Character.allLinkedCharactersFor(character)) {
 			// Sync all linked characters to the same palette and class map.
-			ClassMapEntry linkedClassMap = paletteClassMap.get(linked);
-			PaletteMapEntry linkedPaletteMap = paletteIndexMap.get(linked);
+			ClassMapEntry linkedClassMap = paletteClassMap[linked.ID];
+			PaletteMapEntry linkedPaletteMap = paletteIndexMap[linked.ID];
 			
 			linkedClassMap.synchronize(classMap);
 			linkedPaletteMap.synchronize(existingPaletteMap);
@@ -865,11 +941,11 @@ public class FE8PaletteMapper {
 	}
 	
 	public void commitChanges(DiffCompiler compiler) {
-		for (MapEntry entry : paletteClassMap.values()) {
-			entry.commit(compiler);
+		for (MapEntry entry : paletteClassMap) {
+			if (entry != null) { entry.commit(compiler); }
 		}
-		for (MapEntry entry : paletteIndexMap.values()) {
-			entry.commit(compiler);
+		for (MapEntry entry : paletteIndexMap) {
+			if (entry != null) { entry.commit(compiler); }
 		}
 	}
 }
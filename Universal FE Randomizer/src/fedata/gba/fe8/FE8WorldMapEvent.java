@@ -6,8 +6,7 @@ import java.util.List;
 import fedata.gba.GBAFEWorldMapData;
 import fedata.gba.GBAFEWorldMapPortraitData;
 import fedata.gba.GBAFEWorldMapSpriteData;
-import io.FileHandler;
-import util.FileReadHelper;
+import io.ROMBuffer;
 import util.WhyDoesJavaNotHaveThese;
 
 public class FE8WorldMapEvent implements GBAFEWorldMapData {
@@ -170,19 +169,21 @@ public class FE8WorldMapEvent implements GBAFEWorldMapData {
 	private List<FE8WorldMapPortrait> portraitList = new ArrayList<FE8WorldMapPortrait>();
 	private List<FE8WorldMapSprite> spriteList = new ArrayList<FE8WorldMapSprite>();
 	
-	public FE8WorldMapEvent(FileHandler handler, long offset) {
+	public FE8WorldMapEvent(ROMBuffer buffer, long offset) {
 		// We need one jump.
-		long pointerTableOffset = FileReadHelper.readAddress(handler, offset);
+		long pointerTableOffset = buffer.addressAt(offset);
+		if (pointerTableOffset < 0) { return; }
 		
 		// FE8 uses two halves of events. Each ends with an ENDA, so we keep reading until our second ENDA.
-		handler.setNextReadOffset(pointerTableOffset);
+		long currentOffset = pointerTableOffset;
 		
 		boolean terminateOnNextEnd = false;
 		
-		for(;;) {
+		while (currentOffset < buffer.getLength()) {
 			// Unlike FE6 and FE7, FE8's opcodes are 2 bytes. They have a minimum of 4 bytes, so we'll just read all 4 for the instruction.
 			// Remember that we're in Little Endian. So an opcode of 0x1020 will show up as 20 10.
-			byte[] opcode = handler.continueReadingBytes(4);
+			byte[] opcode = buffer.bytesAt(currentOffset, 4);
+			currentOffset += 4;
 			// These are the two valid terminators that we can encounter.
 			// ENDA (0x0120), ENDB(0x0121)
 			if (WhyDoesJavaNotHaveThese.byteArrayHasPrefix(opcode, new byte[] {(byte)0x20, (byte)0x01}) || WhyDoesJavaNotHaveThese.byteArrayHasPrefix(opcode, new byte[] {(byte)0x21, (byte)0x01})) {
@@ -192,30 +193,32 @@ public class FE8WorldMapEvent implements GBAFEWorldMapData {
 			// This is what we came here for.
 			// WM_SHOWPORTRAIT (0xC460) - 12 bytes
 			else if (WhyDoesJavaNotHaveThese.byteArrayHasPrefix(opcode, new byte[] {(byte)0x60, (byte)0xC4})) {
-				long address = handler.getNextReadOffset() - 4;
-				portraitList.add(new FE8WorldMapPortrait(handler.readBytesAtOffset(address, 12), address));
+				long address = currentOffset - 4;
+				portraitList.add(new FE8WorldMapPortrait(buffer.bytesAt(address, 12), address));
+				currentOffset = address + 12;
 			}
 			// Will probably have to tackle this later.
 			// PUTSPRITE (0x9E60) - 12 bytes
 			else if (WhyDoesJavaNotHaveThese.byteArrayHasPrefix(opcode, new byte[] {(byte)0x60, (byte)0x9E})) {
-				long address = handler.getNextReadOffset() - 4;
-				spriteList.add(new FE8WorldMapSprite(handler.readBytesAtOffset(address, 12), address, SpriteType.PUTSPRITE));
+				long address = currentOffset - 4;
+				spriteList.add(new FE8WorldMapSprite(buffer.bytesAt(address, 12), address, SpriteType.PUTSPRITE));
+				currentOffset = address + 12;
 			}
 			// May be able to roll this into a universal sprite handler.
 			// I don't think these load in new sprites.
 			// WM_PUTMOVINGSPRITE (0xA8C0) - 24 bytes
 			else if (WhyDoesJavaNotHaveThese.byteArrayHasPrefix(opcode, new byte[] {(byte)0xC0, (byte)0xA8})) {
-				//long address = handler.getNextReadOffset() - 4;
-				//spriteList.add(new FE8WorldMapSprite(handler.readBytesAtOffset(address, 24), address, SpriteType.WM_PUTMOVINGSPRITE));
-				handler.continueReadingBytes(20);
+				//long address = currentOffset - 4;
+				//spriteList.add(new FE8WorldMapSprite(buffer.bytesAt(address, 24), address, SpriteType.WM_PUTMOVINGSPRITE));
+				currentOffset += 20;
 			}
 			// There's a third type of sprite. o_o
 			// I don't think these load in new sprites though, they just modify existing sprites.
 			// WM_PUTSPRITE (0xA760) - 12 bytes
 			else if (WhyDoesJavaNotHaveThese.byteArrayHasPrefix(opcode, new byte[] {(byte)0x60, (byte)0xA7})) {
-				//long address = handler.getNextReadOffset() - 4;
-				//spriteList.add(new FE8WorldMapSprite(handler.readBytesAtOffset(address, 12), address, SpriteType.WM_PUTSPRITE));
-				handler.continueReadingBytes(8);
+				//long address = currentOffset - 4;
+				//spriteList.add(new FE8WorldMapSprite(buffer.bytesAt(address, 12), address, SpriteType.WM_PUTSPRITE));
+				currentOffset += 8;
 			}
 			
 			// I have a sneaking suspicion that the number of bytes an instruction takes is encoded into that first half of the first byte.
@@ -251,7 +254,7 @@ public class FE8WorldMapEvent implements GBAFEWorldMapData {
 					WhyDoesJavaNotHaveThese.byteArrayHasPrefix(opcode, new byte[] {(byte)0x40, (byte)0xC5}) ||
 					
 					(byte)(opcode[0] & 0xF0) == 0x40) {
-				handler.continueReadingBytes(4);
+				currentOffset += 4;
 			}
 			// These opcodes are 12 bytes and we don't care about them (right now).
 			// WM_SPAWNLORD (0xC360), WM_SHOWDRAWNMAP (0xB460), PLACEDOT (0xBC60), etc.
@@ -260,14 +263,14 @@ public class FE8WorldMapEvent implements GBAFEWorldMapData {
 					WhyDoesJavaNotHaveThese.byteArrayHasPrefix(opcode, new byte[] {(byte)0x60, (byte)0xBC}) ||
 					
 					(byte)(opcode[0] & 0xF0) == 0x60) {
-				handler.continueReadingBytes(8);
+				currentOffset += 8;
 			}
 			// These opcodes are 16 bytes and we don't care about them (right now).
 			// WM_MOVECAM2 (0xB680), etc.
 			else if (WhyDoesJavaNotHaveThese.byteArrayHasPrefix(opcode, new byte[] {(byte)0x80, (byte)0xB6}) ||
 					
 					(byte)(opcode[0] & 0xF0) == (byte)0x80) {
-				handler.continueReadingBytes(12);
+				currentOffset += 12;
 			}
 			else {
 				assert false : "Unhandled world map event opcode 0x" + WhyDoesJavaNotHaveThese.displayStringForBytes(opcode);
@@ -0,0 +1,148 @@
+package fedata.gba.general;
+
+import io.ROMBuffer;
+
+// Steps through a GBA event script one command word at a time, straight out of a ROMBuffer, without allocating anything per command.
+// We don't know the real length of every command, so each walker has a CommandTable saying how far to skip past the ones whose
+// arguments would otherwise be mistaken for commands (or terminators) of their own. Anything that depends on what the walker
+// finds (like an argument that turns out not to be a valid address) is added with skip().
+public class EventScriptScanner {
+
+	public static class CommandTable {
+		// Extra bytes after the command word, by the word's first byte.
+		// The first only applies when the rest of the word is 0, the second applies either way. Both are added if both are set.
+		private final int[] extraLengthsWithoutArguments = new int[256];
+		private final int[] extraLengthsWithAnyArguments = new int[256];
+
+		private final boolean[] terminatingOpcodes = new boolean[256];
+		private int[] terminatingWords = new int[0];
+
+		public CommandTable() {
+			super();
+		}
+
+		public CommandTable copy() {
+			CommandTable copy = new CommandTable();
+			System.arraycopy(extraLengthsWithoutArguments, 0, copy.extraLengthsWithoutArguments, 0, 256);
+			System.arraycopy(extraLengthsWithAnyArguments, 0, copy.extraLengthsWithAnyArguments, 0, 256);
+			System.arraycopy(terminatingOpcodes, 0, copy.terminatingOpcodes, 0, 256);
+			copy.terminatingWords = terminatingWords.clone();
+			return copy;
+		}
+
+		// commandLength is the whole command, including the command word.
+		public CommandTable setLength(int commandLength, int... opcodes) {
+			for (int opcode : opcodes) {
+				extraLengthsWithoutArguments[opcode & 0xFF] = commandLength - 4;
+			}
+			return this;
+		}
+
+		public CommandTable setLengthWithAnyArguments(int commandLength, int... opcodes) {
+			for (int opcode : opcodes) {
+				extraLengthsWithAnyArguments[opcode & 0xFF] = commandLength - 4;
+			}
+			return this;
+		}
+
+		// Moves every length set with setLength over to apply regardless of the command's arguments.
+		public CommandTable ignoringArguments() {
+			for (int i = 0; i < 256; i++) {
+				extraLengthsWithAnyArguments[i] += extraLengthsWithoutArguments[i];
+				extraLengthsWithoutArguments[i] = 0;
+			}
+			return this;
+		}
+
+		// Ends the script at any command word starting with one of these bytes.
+		public CommandTable terminateOnOpcodes(int... opcodes) {
+			for (int opcode : opcodes) {
+				terminatingOpcodes[opcode & 0xFF] = true;
+			}
+			return this;
+		}
+
+		// Ends the script only at these exact command words (read little endian, so 0x0120 is 20 01 00 00).
+		public CommandTable terminateOnWords(int... words) {
+			int[] newWords = new int[terminatingWords.length + words.length];
+			System.arraycopy(terminatingWords, 0, newWords, 0, terminatingWords.length);
+			System.arraycopy(words, 0, newWords, terminatingWords.length, words.length);
+			terminatingWords = newWords;
+			return this;
+		}
+
+		private boolean terminates(int word) {
+			if (terminatingOpcodes[word & 0xFF]) { return true; }
+			for (int terminatingWord : terminatingWords) {
+				if (terminatingWord == word) { return true; }
+			}
+			return false;
+		}
+
+		private int extraLength(int word) {
+			int opcode = word & 0xFF;
+			int extra = extraLengthsWithAnyArguments[opcode];
+			if ((word & 0xFFFFFF00) == 0) {
+				extra += extraLengthsWithoutArguments[opcode];
+			}
+			return extra;
+		}
+	}
+
+	private final ROMBuffer buffer;
+	private final CommandTable table;
+
+	private long offset;
+	private int word;
+	private int pendingSkip = 0;
+	private boolean started = false;
+
+	public EventScriptScanner(ROMBuffer buffer, CommandTable table, long startOffset) {
+		super();
+		this.buffer = buffer;
+		this.table = table;
+		this.offset = startOffset;
+	}
+
+	// Moves to the next command. Returns false once it lands on a terminator, which is left as the current command,
+	// or if the script runs off either end of the ROM.
+	public boolean next() {
+		if (started) {
+			offset += 4 + table.extraLength(word) + pendingSkip;
+			pendingSkip = 0;
+		}
+		started = true;
+		if (offset < 0 || offset >= buffer.getLength()) {
+			word = 0;
+			return false;
+		}
+		word = (int)buffer.wordAt(offset);
+		return !table.terminates(word);
+	}
+
+	// Skips this many more bytes on top of the command's length from the table.
+	public void skip(int numBytes) {
+		pendingSkip += numBytes;
+	}
+
+	public long offset() {
+		return offset;
+	}
+
+	public int word() {
+		return word;
+	}
+
+	public int opcode() {
+		return word & 0xFF;
+	}
+
+	// The same byte as commandWord[index] would have been.
+	public byte byteAt(int index) {
+		return (byte)(word >> (index * 8));
+	}
+
+	public boolean hasNoArguments() {
+		return (word & 0xFFFFFF00) == 0;
+	}
+}
@@ -0,0 +1,39 @@
+package fedata.gba.general;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.FileHandler;
+import util.LZ77;
+
+// Decompresses each palette in the ROM at most once, no matter how many palettes are made from it.
+// Palettes handed out share the cached bytes until they're modified, at which point they make their own copy.
+public class PaletteCache {
+	
+	private FileHandler handler;
+	
+	private Map<Long, LZ77.DecompressedData> dataByOffset = new HashMap<Long, LZ77.DecompressedData>();
+	
+	public PaletteCache(FileHandler handler) {
+		super();
+		this.handler = handler;
+	}
+	
+	public PaletteV2 paletteForInfo(PaletteInfo info) {
+		return new PaletteV2(info, dataAtOffset(info.getOffset()), false);
+	}
+	
+	public LZ77.DecompressedData dataAtOffset(long offset) {
+		LZ77.DecompressedData data = dataByOffset.get(offset);
+		if (data == null && !dataByOffset.containsKey(offset)) {
+			data = LZ77.decompressWithLength(handler, offset);
+			dataByOffset.put(offset, data);
+		}
+		return data;
+	}
+	
+	// Drops the cached data. Palettes already handed out are unaffected.
+	public void clear() {
+		dataByOffset.clear();
+	}
+}
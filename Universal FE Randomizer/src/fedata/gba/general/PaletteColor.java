@@ -23,22 +23,54 @@ public class PaletteColor implements Comparable<PaletteColor> {
 		}
 	};
 	
-	public PaletteColor(byte[] colorTuple) {
-		int colorValue = ((colorTuple[1] << 8) & 0xFF00) | (colorTuple[0] & 0xFF);
-		
-		int redComponent = ((colorValue & 0x1F)) & 0xFF;
-		int greenComponent = ((colorValue & 0x3E0) >> 5) & 0xFF;
-		int blueComponent = ((colorValue & 0x7C00) >> 10) & 0xFF;
+	// Every 15-bit color's HSB values, worked out once the first time a color is read out of the ROM.
+	private static class PackedColorTable {
+		private static final double[] hues = new double[0x8000];
+		private static final double[] saturations = new double[0x8000];
+		private static final double[] brightnesses = new double[0x8000];
 		
-		int redValue = redComponent * 8;
-		int greenValue = greenComponent * 8;
-		int blueValue = blueComponent * 8;
+		static {
+			PaletteColor color = new PaletteColor(0, 0, 0);
+			for (int packedColor = 0; packedColor < 0x8000; packedColor++) {
+				color.red = redFromPackedColor(packedColor);
+				color.green = greenFromPackedColor(packedColor);
+				color.blue = blueFromPackedColor(packedColor);
+				color.calculateValuesWithRGB();
+				
+				hues[packedColor] = color.hue;
+				saturations[packedColor] = color.saturation;
+				brightnesses[packedColor] = color.brightness;
+			}
+		}
+	}
+	
+	public PaletteColor(byte[] colorTuple) {
+		this(((colorTuple[1] << 8) & 0xFF00) | (colorTuple[0] & 0xFF));
+	}
+	
+	// Takes a color in the GBA's 15-bit BGR format.
+	public PaletteColor(int packedColor) {
+		packedColor &= 0x7FFF;
 		
-		red = redValue / 255.0;
-		green = greenValue / 255.0;
-		blue = blueValue / 255.0;
+		red = redFromPackedColor(packedColor);
+		green = greenFromPackedColor(packedColor);
+		blue = blueFromPackedColor(packedColor);
 		
-		calculateValuesWithRGB();
+		hue = PackedColorTable.hues[packedColor];
+		saturation = PackedColorTable.saturations[packedColor];
+		brightness = PackedColorTable.brightnesses[packedColor];
+	}
+	
+	private static double redFromPackedColor(int packedColor) {
+		return ((packedColor & 0x1F) * 8) / 255.0;
+	}
+	
+	private static double greenFromPackedColor(int packedColor) {
+		return (((packedColor & 0x3E0) >> 5) * 8) / 255.0;
+	}
+	
+	private static double blueFromPackedColor(int packedColor) {
+		return (((packedColor & 0x7C00) >> 10) * 8) / 255.0;
 	}
 	
 	public PaletteColor(int r, int g, int b) {
@@ -224,6 +256,12 @@ public class PaletteColor implements Comparable<PaletteColor> {
 	}
 	
 	public byte[] toColorTuple() {
+		int colorValue = toPackedColor();
+		return new byte[] { (byte)(colorValue & 0xFF), (byte)((colorValue & 0xFF00) >> 8) };
+	}
+	
+	// The color in the GBA's 15-bit BGR format.
+	public int toPackedColor() {
 		int redValue = (int)(red * 255.0);
 		int greenValue = (int)(green * 255.0);
 		int blueValue = (int)(blue * 255.0);
@@ -232,8 +270,7 @@ public class PaletteColor implements Comparable<PaletteColor> {
 		int greenComponent = (greenValue / 8) & 0x1F;
 		int blueComponent = (blueValue / 8) & 0x1F;
 		
-		int colorValue = (blueComponent << 10) | (greenComponent << 5) | redComponent;
-		return new byte[] { (byte)(colorValue & 0xFF), (byte)((colorValue & 0xFF00) >> 8) };
+		return (blueComponent << 10) | (greenComponent << 5) | redComponent;
 	}
 	
 	public String toRGBString() {
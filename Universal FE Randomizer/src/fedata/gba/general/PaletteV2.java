@@ -2,8 +2,11 @@ package fedata.gba.general;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 import io.FileHandler;
@@ -11,7 +14,6 @@ import util.DebugPrinter;
 import util.Diff;
 import util.DiffCompiler;
 import util.LZ77;
-import util.WhyDoesJavaNotHaveThese;
 
 public class PaletteV2 {
 	
@@ -19,59 +21,15 @@ public class PaletteV2 {
 		PLAYER, ENEMY, NPC, OTHER, LINK
 	}
 	
-	private static class ColorSet {
-		private PaletteColor playerColor;
-		private PaletteColor enemyColor;
-		private PaletteColor npcColor;
-		private PaletteColor otherColor;
-		private PaletteColor linkColor; // Not always used.
-		
-		private ColorSet(byte[] decompressedData, int colorIndex) {
-			assert decompressedData.length >= 0x80 : "Insufficient data for palette color set.";
-			
-			int byteIndex = colorIndex * 2;
-			
-			playerColor = new PaletteColor(new byte[] {decompressedData[byteIndex], decompressedData[byteIndex + 1]});
-			byteIndex += 0x20;
-			enemyColor = new PaletteColor(new byte[] {decompressedData[byteIndex], decompressedData[byteIndex + 1]});
-			byteIndex += 0x20;
-			npcColor = new PaletteColor(new byte[] {decompressedData[byteIndex], decompressedData[byteIndex + 1]});
-			byteIndex += 0x20;
-			otherColor = new PaletteColor(new byte[] {decompressedData[byteIndex], decompressedData[byteIndex + 1]});
-			
-			if (decompressedData.length == 0xA0) {
-				// Link color is not available.
-				byteIndex += 0x20;
-				linkColor = new PaletteColor(new byte[] {decompressedData[byteIndex], decompressedData[byteIndex + 1]});
-			}
-		}
-		
-		private PaletteColor getColor(PaletteType type) {
-			switch (type) {
-			case PLAYER: return playerColor;
-			case ENEMY: return enemyColor;
-			case NPC: return npcColor;
-			case OTHER: return otherColor;
-			case LINK: return linkColor;
-			}
-			
-			return null;
-		}
-		
-		private void setColor(PaletteColor newColor, PaletteType type) {
-			switch (type) {
-			case PLAYER: playerColor = newColor; break;
-			case ENEMY: enemyColor = newColor; break;
-			case NPC: npcColor = newColor; break;
-			case OTHER: otherColor = newColor; break;
-			case LINK: if (linkColor != null) { linkColor = newColor; } break;
-			}
-		}
-	}
-	
 	private byte[] decompressedData;
+	// False while decompressedData is still shared with a PaletteCache. It's copied before the first write.
+	private boolean ownsData;
+	// Compressed copy of decompressedData. Cleared whenever decompressedData changes.
+	private byte[] compressedData;
 	
-	private ColorSet[] colorArray;
+	// The data holds 16 player colors, then 16 each of enemy, NPC, other, and (sometimes) link colors, in PaletteType order.
+	// Color objects are only made for slots that are read or replaced. Any other slot is whatever decompressedData has in it.
+	private PaletteColor[] colors = new PaletteColor[PaletteType.values().length * 16];
 	
 	private PaletteInfo info;
 	private long destinationOffset;
@@ -80,23 +38,22 @@ public class PaletteV2 {
 	private int identifier;
 	
 	public PaletteV2(FileHandler handler, PaletteInfo info) {
-		decompressedData = LZ77.decompress(handler, info.getOffset());
-		colorArray = new ColorSet[16];
-		for (int i = 0; i < 16; i++) {
-			colorArray[i] = new ColorSet(decompressedData, i);
-		}
+		this(info, LZ77.decompressWithLength(handler, info.getOffset()), true);
+	}
+	
+	PaletteV2(PaletteInfo info, LZ77.DecompressedData data, boolean ownsData) {
+		assert data.bytes.length >= 0x80 : "Insufficient data for palette color set.";
+		decompressedData = data.bytes;
+		this.ownsData = ownsData;
 		this.info = info;
 		destinationOffset = info.getOffset();
-		originalCompressedLength = LZ77.compressedLength(handler, info.getOffset());
+		originalCompressedLength = data.compressedLength;
 		identifier = info.paletteID;
 	}
 	
 	public PaletteV2(PaletteV2 other) {
 		decompressedData = Arrays.copyOf(other.decompressedData, other.decompressedData.length);
-		colorArray = new ColorSet[16];
-		for (int i = 0; i < 16; i++) {
-			colorArray[i] = new ColorSet(decompressedData, i);
-		}
+		ownsData = true;
 		this.info = other.info;
 		destinationOffset = other.destinationOffset;
 		originalCompressedLength = other.originalCompressedLength;
@@ -111,8 +68,29 @@ public class PaletteV2 {
 		this.identifier = identifier;
 	}
 	
-	public byte[] getCompressedData() {
-		return LZ77.compress(decompressedData);
+	public synchronized byte[] getCompressedData() {
+		if (compressedData == null) {
+			compressedData = LZ77.compress(decompressedData);
+		}
+		return compressedData;
+	}
+	
+	// Brings every palette's compressed data up to date, compressing them in parallel.
+	// Committing them afterwards only writes what was already compressed.
+	public static void prepareForCommit(Collection<PaletteV2> palettes) {
+		List<ForkJoinTask<byte[]>> tasks = new ArrayList<ForkJoinTask<byte[]>>(palettes.size());
+		for (PaletteV2 palette : palettes) {
+			tasks.add(ForkJoinPool.commonPool().submit(() -> {
+				synchronized (palette) {
+					palette.applyColorsToData();
+					return palette.getCompressedData();
+				}
+			}));
+		}
+		
+		for (ForkJoinTask<byte[]> task : tasks) {
+			task.join();
+		}
 	}
 	
 	public long getDestinationOffset() {
@@ -128,7 +106,7 @@ public class PaletteV2 {
 	public boolean hasSecondary() { return info.secondaryColorOffsets.length > 0; }
 	public boolean hasTertiary() { return info.tertiaryColorOffsets.length > 0; }
 	
-	public boolean hasLinkColors() { return colorArray[0].linkColor != null; }
+	public boolean hasLinkColors() { return decompressedData.length == 0xA0; }
 	
 	public PaletteColor[] getHairColors(PaletteType paletteType) {
 		if (!hasHair()) { return new PaletteColor[] {}; }
@@ -137,7 +115,7 @@ public class PaletteV2 {
 		PaletteColor[] result = new PaletteColor[info.hairColorOffsets.length];
 		int resultIndex = 0;
 		for (int colorIndex : info.hairColorOffsets) {
-			result[resultIndex++] = colorArray[colorIndex].getColor(paletteType);
+			result[resultIndex++] = getColor(paletteType, colorIndex);
 		}
 		
 		return result;
@@ -150,7 +128,7 @@ public class PaletteV2 {
 		PaletteColor[] result = new PaletteColor[info.primaryColorOffsets.length];
 		int resultIndex = 0;
 		for (int colorIndex : info.primaryColorOffsets) {
-			result[resultIndex++] = colorArray[colorIndex].getColor(paletteType);
+			result[resultIndex++] = getColor(paletteType, colorIndex);
 		}
 		
 		return result;
@@ -163,7 +141,7 @@ public class PaletteV2 {
 		PaletteColor[] result = new PaletteColor[info.secondaryColorOffsets.length];
 		int resultIndex = 0;
 		for (int colorIndex : info.secondaryColorOffsets) {
-			result[resultIndex++] = colorArray[colorIndex].getColor(paletteType);
+			result[resultIndex++] = getColor(paletteType, colorIndex);
 		}
 		
 		return result;
@@ -176,7 +154,7 @@ public class PaletteV2 {
 		PaletteColor[] result = new PaletteColor[info.tertiaryColorOffsets.length];
 		int resultIndex = 0;
 		for (int colorIndex : info.tertiaryColorOffsets) {
-			result[resultIndex++] = colorArray[colorIndex].getColor(paletteType);
+			result[resultIndex++] = getColor(paletteType, colorIndex);
 		}
 		
 		return result;
@@ -225,7 +203,7 @@ public class PaletteV2 {
 	public void forceCommit(DiffCompiler compiler) {
 		applyColorsToData();
 		
-		byte[] compressed = LZ77.compress(decompressedData);
+		byte[] compressed = getCompressedData();
 		
 		compiler.addDiff(new Diff(getDestinationOffset(), compressed.length, compressed, null));
 		
@@ -240,7 +218,7 @@ public class PaletteV2 {
 		
 		applyColorsToData();
 		
-		byte[] compressed = LZ77.compress(decompressedData);
+		byte[] compressed = getCompressedData();
 		
 		compiler.addDiff(new Diff(getDestinationOffset(), compressed.length, compressed, null));
 		
@@ -256,8 +234,7 @@ public class PaletteV2 {
 		PaletteColor[] newHairColor = PaletteColor.coerceColors(sortedHair.toArray(new PaletteColor[sortedHair.size()]), info.hairColorOffsets.length);
 		int newIndex = 0;
 		for (int colorIndex : info.hairColorOffsets) {
-			ColorSet set = colorArray[colorIndex];
-			set.setColor(newHairColor[newIndex++], paletteType);
+			setColor(newHairColor[newIndex++], paletteType, colorIndex);
 		}
 		
 		applyColorsToData();
@@ -272,8 +249,7 @@ public class PaletteV2 {
 		PaletteColor[] newPrimaryColor = PaletteColor.coerceColors(sortedPrimary.toArray(new PaletteColor[sortedPrimary.size()]), info.primaryColorOffsets.length);
 		int newIndex = 0;
 		for (int colorIndex : info.primaryColorOffsets) {
-			ColorSet set = colorArray[colorIndex];
-			set.setColor(newPrimaryColor[newIndex++], paletteType);
+			setColor(newPrimaryColor[newIndex++], paletteType, colorIndex);
 		}
 		
 		applyColorsToData();
@@ -288,8 +264,7 @@ public class PaletteV2 {
 		PaletteColor[] newSecondaryColor = PaletteColor.coerceColors(sortedSecondary.toArray(new PaletteColor[sortedSecondary.size()]), info.secondaryColorOffsets.length);
 		int newIndex = 0;
 		for (int colorIndex : info.secondaryColorOffsets) {
-			ColorSet set = colorArray[colorIndex];
-			set.setColor(newSecondaryColor[newIndex++], paletteType);
+			setColor(newSecondaryColor[newIndex++], paletteType, colorIndex);
 		}
 		
 		applyColorsToData();
@@ -304,28 +279,47 @@ public class PaletteV2 {
 		PaletteColor[] newTertiaryColor = PaletteColor.coerceColors(sortedTertiary.toArray(new PaletteColor[sortedTertiary.size()]), info.tertiaryColorOffsets.length);
 		int newIndex = 0;
 		for (int colorIndex : info.tertiaryColorOffsets) {
-			ColorSet set = colorArray[colorIndex];
-			set.setColor(newTertiaryColor[newIndex++], paletteType);
+			setColor(newTertiaryColor[newIndex++], paletteType, colorIndex);
 		}
 		
 		applyColorsToData();
 	}
 	
+	private PaletteColor getColor(PaletteType type, int colorIndex) {
+		if (type == PaletteType.LINK && !hasLinkColors()) { return null; }
+		
+		int slot = type.ordinal() * 16 + colorIndex;
+		if (colors[slot] == null) {
+			colors[slot] = new PaletteColor(((decompressedData[slot * 2 + 1] << 8) & 0xFF00) | (decompressedData[slot * 2] & 0xFF));
+		}
+		return colors[slot];
+	}
+	
+	private void setColor(PaletteColor newColor, PaletteType type, int colorIndex) {
+		if (type == PaletteType.LINK && !hasLinkColors()) { return; }
+		colors[type.ordinal() * 16 + colorIndex] = newColor;
+	}
+	
 	private void applyColorsToData() {
-		for (int i = 0; i < colorArray.length; i++) {
-			ColorSet color = colorArray[i];
-			int offset = 0;
-			WhyDoesJavaNotHaveThese.copyBytesIntoByteArrayAtIndex(color.getColor(PaletteType.PLAYER).toColorTuple(), decompressedData, offset + i * 2, 2);
-			offset += 0x20;
-			WhyDoesJavaNotHaveThese.copyBytesIntoByteArrayAtIndex(color.getColor(PaletteType.ENEMY).toColorTuple(), decompressedData, offset + i * 2, 2);
-			offset += 0x20;
-			WhyDoesJavaNotHaveThese.copyBytesIntoByteArrayAtIndex(color.getColor(PaletteType.NPC).toColorTuple(), decompressedData, offset + i * 2, 2);
-			offset += 0x20;
-			WhyDoesJavaNotHaveThese.copyBytesIntoByteArrayAtIndex(color.getColor(PaletteType.OTHER).toColorTuple(), decompressedData, offset + i * 2, 2);
-			if (color.getColor(PaletteType.LINK) != null && decompressedData.length > 0x80) {
-				offset += 0x20;
-				WhyDoesJavaNotHaveThese.copyBytesIntoByteArrayAtIndex(color.getColor(PaletteType.LINK).toColorTuple(), decompressedData, offset + i * 2, 2);
+		for (int slot = 0; slot < colors.length; slot++) {
+			if (colors[slot] != null) {
+				writeColorToData(colors[slot].toPackedColor(), slot * 2);
 			}
 		}
 	}
+	
+	private void writeColorToData(int packedColor, int byteIndex) {
+		byte low = (byte)(packedColor & 0xFF);
+		byte high = (byte)((packedColor >> 8) & 0xFF);
+		if (decompressedData[byteIndex] == low && decompressedData[byteIndex + 1] == high) { return; }
+		
+		if (!ownsData) {
+			decompressedData = Arrays.copyOf(decompressedData, decompressedData.length);
+			ownsData = true;
+		}
+		
+		decompressedData[byteIndex] = low;
+		decompressedData[byteIndex + 1] = high;
+		compressedData = null;
+	}
 }
@@ -0,0 +1,6 @@
+package fedata.general;
+
+// Modifiable data that keeps a copy of the bytes it was loaded with, so that only the bytes that actually changed need to be written back.
+public interface FEChangeTrackingData extends FEModifiableData {
+	public byte[] getLoadedData();
+}
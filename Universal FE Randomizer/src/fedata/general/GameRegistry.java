@@ -0,0 +1,167 @@
+package fedata.general;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Set;
+
+import fedata.gba.fe6.FE6Data;
+import fedata.gba.fe7.FE7Data;
+import fedata.gba.fe8.FE8Data;
+import fedata.general.FEBase.GameType;
+import fedata.snes.fe4.FE4Data;
+import io.FileHandler;
+
+// The one place that knows which games exist and how to recognize them.
+// Fingerprints are built only from compile-time constants, which javac copies into this class, so identifying a ROM
+// never initializes a game's data classes. Those (characters, classes, items, chapters, palettes) are only loaded
+// when something asks for that game's data, so only the game that was actually opened pays for them.
+public class GameRegistry {
+
+	public static class GameFingerprint {
+		public final GameType type;
+		public final String friendlyName;
+
+		// GBA games have a game code in their header. SNES games only have an internal name.
+		public final String gameCode;
+		public final String internalName;
+
+		public final long[] cleanCRC32s;
+		public final long[] cleanSizes;
+		
+		// Where the internal name lives for each of cleanSizes (SNES ROMs may or may not have a copier header).
+		private final long[] internalNameOffsets;
+
+		private GameFingerprint(GameType type, String friendlyName, String gameCode, String internalName, long[] cleanCRC32s, long[] cleanSizes, long[] internalNameOffsets) {
+			this.type = type;
+			this.friendlyName = friendlyName;
+			this.gameCode = gameCode;
+			this.internalName = internalName;
+			this.cleanCRC32s = cleanCRC32s;
+			this.cleanSizes = cleanSizes;
+			this.internalNameOffsets = internalNameOffsets;
+		}
+
+		public boolean matchesCRC32(long crc32) {
+			for (long cleanCRC32 : cleanCRC32s) {
+				if (cleanCRC32 == crc32) { return true; }
+			}
+			return false;
+		}
+
+		public boolean matchesSize(long size) {
+			return indexOfSize(size) != -1;
+		}
+		
+		private int indexOfSize(long size) {
+			for (int i = 0; i < cleanSizes.length; i++) {
+				if (cleanSizes[i] == size) { return i; }
+			}
+			return -1;
+		}
+		
+		private boolean matchesHeader(FileHandler handler) {
+			int sizeIndex = indexOfSize(handler.getFileLength());
+			if (sizeIndex == -1) { return false; }
+			
+			if (gameCode != null) {
+				byte[] header = handler.readBytesAtOffset(GBAHeaderOffset, GBAHeaderLength);
+				if (header == null || header.length < GBAHeaderLength) { return false; }
+				String headerGameCode = new String(header, GBAGameCodeIndex, gameCode.length(), StandardCharsets.US_ASCII);
+				return headerGameCode.equals(gameCode) && hasValidGBAHeaderChecksum(header);
+			}
+			
+			if (internalName != null && internalNameOffsets != null) {
+				byte[] name = handler.readBytesAtOffset(internalNameOffsets[sizeIndex], internalName.length());
+				return name != null && new String(name, StandardCharsets.US_ASCII).equals(internalName);
+			}
+			
+			return false;
+		}
+	}
+	
+	// GBA header layout: title at 0xA0, game code at 0xAC, complement check at 0xBD.
+	private static final long GBAHeaderOffset = 0xA0;
+	private static final int GBAHeaderLength = 0x1E;
+	private static final int GBAGameCodeIndex = 0x0C;
+	private static final int GBAComplementCheckIndex = 0x1D;
+	
+	private static boolean hasValidGBAHeaderChecksum(byte[] header) {
+		int sum = 0;
+		for (int i = 0; i < GBAComplementCheckIndex; i++) {
+			sum += header[i] & 0xFF;
+		}
+		return ((-(sum + 0x19)) & 0xFF) == (header[GBAComplementCheckIndex] & 0xFF);
+	}
+
+	private static final GameFingerprint[] KnownGames = new GameFingerprint[] {
+			new GameFingerprint(GameType.FE6, FE6Data.FriendlyName, FE6Data.GameCode, null, new long[] {FE6Data.CleanCRC32}, new long[] {FE6Data.CleanSize}, null),
+			new GameFingerprint(GameType.FE7, FE7Data.FriendlyName, FE7Data.GameCode, null, new long[] {FE7Data.CleanCRC32}, new long[] {FE7Data.CleanSize}, null),
+			new GameFingerprint(GameType.FE8, FE8Data.FriendlyName, FE8Data.GameCode, null, new long[] {FE8Data.CleanCRC32}, new long[] {FE8Data.CleanSize}, null),
+			new GameFingerprint(GameType.FE4, FE4Data.FriendlyName, null, FE4Data.InternalName,
+					new long[] {FE4Data.CleanHeaderedCRC32, FE4Data.CleanUnheaderedCRC32}, new long[] {FE4Data.CleanHeaderedSize, FE4Data.CleanUnheaderedSize},
+					new long[] {FE4Data.InternalNameHeaderedOffset, FE4Data.InternalNameUnheaderedOffset})
+	};
+
+	private static final Set<GameType> loadedGames = EnumSet.noneOf(GameType.class);
+
+	public static GameFingerprint fingerprintForCRC32(long crc32) {
+		for (GameFingerprint fingerprint : KnownGames) {
+			if (fingerprint.matchesCRC32(crc32)) { return fingerprint; }
+		}
+		return null;
+	}
+
+	// Picks a candidate game from the file size and header alone, which only takes a few small reads.
+	// A match means the ROM claims to be that game; only the CRC says whether it's a clean copy.
+	public static GameFingerprint fingerprintForHeader(FileHandler handler) {
+		for (GameFingerprint fingerprint : KnownGames) {
+			if (fingerprint.matchesHeader(handler)) { return fingerprint; }
+		}
+		return null;
+	}
+
+	// Initializes all of the game's static data. Loading happens on first use anyway, so this is only needed
+	// to get it out of the way ahead of time. Safe to call more than once, and from any thread.
+	public static void loadGameData(GameType type) {
+		synchronized (loadedGames) {
+			if (type == GameType.UNKNOWN || loadedGames.contains(type)) { return; }
+			loadedGames.add(type);
+		}
+
+		switch (type) {
+		case FE4:
+			FE4Data.Character.values();
+			FE4Data.CharacterClass.values();
+			FE4Data.Item.values();
+			FE4Data.Skill.values();
+			FE4Data.HolyBlood.values();
+			FE4Data.EnemyTable.values();
+			FE4Data.HolyEnemyTable.values();
+			FE4Data.Shops.values();
+			break;
+		case FE6:
+			FE6Data.Character.values();
+			FE6Data.CharacterClass.values();
+			FE6Data.Item.values();
+			FE6Data.ChapterPointer.values();
+			FE6Data.Palette.values();
+			break;
+		case FE7:
+			FE7Data.Character.values();
+			FE7Data.CharacterClass.values();
+			FE7Data.Item.values();
+			FE7Data.ChapterPointer.values();
+			FE7Data.Palette.values();
+			break;
+		case FE8:
+			FE8Data.Character.values();
+			FE8Data.CharacterClass.values();
+			FE8Data.Item.values();
+			FE8Data.ChapterPointer.values();
+			FE8Data.Palette.values();
+			break;
+		default:
+			break;
+		}
+	}
+}
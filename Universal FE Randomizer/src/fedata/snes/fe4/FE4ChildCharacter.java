@@ -1,9 +1,11 @@
 package fedata.snes.fe4;
 
-import fedata.general.FEModifiableData;
+import java.util.Arrays;
+
+import fedata.general.FEChangeTrackingData;
 
 // Only for use with characters that inherit from parents (Gen 2 Children)
-public class FE4ChildCharacter implements FEModifiableData {
+public class FE4ChildCharacter implements FEChangeTrackingData {
 	
 	public enum Influence {
 		MOTHER, FATHER;
@@ -25,6 +27,7 @@ public class FE4ChildCharacter implements FEModifiableData {
 	
 	private byte[] originalData;
 	private byte[] data;
+	private byte[] loadedData;
 	
 	private long originalOffset;
 	
@@ -35,6 +38,7 @@ public class FE4ChildCharacter implements FEModifiableData {
 		super();
 		this.originalData = data;
 		this.data = data;
+		this.loadedData = Arrays.copyOf(data, data.length);
 		this.originalOffset = originalOffset;
 	}
 	
@@ -97,6 +101,10 @@ public class FE4ChildCharacter implements FEModifiableData {
 		return data;
 	}
 	
+	public byte[] getLoadedData() {
+		return loadedData;
+	}
+	
 	public Boolean wasModified() {
 		return wasModified;
 	}
@@ -1,11 +1,12 @@
 package fedata.snes.fe4;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
-import fedata.general.FEModifiableData;
+import fedata.general.FEChangeTrackingData;
 
-public class FE4Class implements FEModifiableData {
+public class FE4Class implements FEChangeTrackingData {
 	
 	public enum ClassSkills {
 		CANTO(1, 0x1), GREAT_SHIELD(1, 0x2), WRATH(1, 0x4), PURSUIT(1, 0x8), ADEPT(1, 0x10), STEAL(1, 0x20), DANCE(1, 0x80),
@@ -19,6 +20,7 @@ public class FE4Class implements FEModifiableData {
 
 	private byte[] originalData;
 	private byte[] data;
+	private byte[] loadedData;
 	
 	private long originalOffset;
 	
@@ -29,6 +31,7 @@ public class FE4Class implements FEModifiableData {
 		super();
 		this.originalData = data;
 		this.data = data;
+		this.loadedData = Arrays.copyOf(data, data.length);
 		this.originalOffset = originalOffset;
 	}
 	
@@ -301,6 +304,10 @@ public class FE4Class implements FEModifiableData {
 		return data;
 	}
 	
+	public byte[] getLoadedData() {
+		return loadedData;
+	}
+	
 	public Boolean wasModified() {
 		return wasModified;
 	}
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -320,9 +322,9 @@ public class FE4Data {
 		return gifts;
 	}
 	
-	public static final Map<Character, List<Integer>> EventItemInventoryIDsByRecipient = createEventItemMap();
+	public static final Map<Character, List<Integer>> EventItemInventoryIDsByRecipient = Collections.unmodifiableMap(createEventItemMap());
 	private static Map<Character, List<Integer>> createEventItemMap() {
-		Map<Character, List<Integer>> map = new HashMap<Character, List<Integer>>();
+		Map<Character, List<Integer>> map = new EnumMap<Character, List<Integer>>(Character.class);
 		map.put(Character.LACHESIS, new ArrayList<Integer>(Arrays.asList(0x16, 0x22))); // Thief Sword, Earth Sword
 		map.put(Character.ETHLYN, new ArrayList<Integer>(Arrays.asList(0x25, 0x6D))); // Light Brand, Return Staff
 		map.put(Character.AYRA, new ArrayList<Integer>(Arrays.asList(0x19))); // Brave Sword (Technically needs to work for Coruta (boss) as well...)
@@ -348,9 +350,9 @@ public class FE4Data {
 	}
 	
 	// These characters need to at least share one weapon type if their class is randomized.
-	public static final Map<Character, Character> WeaklyLinkedCharacters = createWeakLinkMap();
+	public static final Map<Character, Character> WeaklyLinkedCharacters = Collections.unmodifiableMap(createWeakLinkMap());
 	private static Map<Character, Character> createWeakLinkMap() {
-		Map<Character, Character> map = new HashMap<Character, Character>();
+		Map<Character, Character> map = new EnumMap<Character, Character>(Character.class);
 		// Reflective relationships makes this easier.
 		map.put(Character.AYRA, Character.CORUTA);
 		map.put(Character.CORUTA, Character.AYRA);
@@ -361,7 +363,7 @@ public class FE4Data {
 		return map;
 	}
 	
-	public static final Map<Item, Integer> HolyWeaponInventoryIDs = createHolyWeaponMap();
+	public static final Map<Item, Integer> HolyWeaponInventoryIDs = Collections.unmodifiableMap(createHolyWeaponMap());
 	private static Map<Item, Integer> createHolyWeaponMap() {
 		Map<Item, Integer> map = new HashMap<Item, Integer>();
 		map.put(Item.TYRFING, 0x27); // Tyrfing
@@ -934,7 +936,7 @@ public class FE4Data {
 			}
 		}
 		
-		public static final Set<Character> RangedOnlyArenaCharacters = new HashSet<Character>(Arrays.asList(
+		public static final Set<Character> RangedOnlyArenaCharacters = Collections.unmodifiableSet(EnumSet.of(
 				ARENA_HOOD, 
 				ARENA_MILLET, ARENA_MARILYN_CH2, 
 				ARENA_RIP_CH3, ARENA_GELLER, ARENA_MARIO_CH3,
@@ -947,7 +949,7 @@ public class FE4Data {
 				ARENA_MARILYN_FINAL, ARENA_JACKSON_FINAL, ARENA_MARIO_FINAL
 				));
 		
-		public static final Set<Character> MeleeOnlyArenaCharacters = new HashSet<Character>(Arrays.asList(
+		public static final Set<Character> MeleeOnlyArenaCharacters = Collections.unmodifiableSet(EnumSet.of(
 				ARENA_SHARK, 
 				ARENA_BARKNIN, ARENA_KEIMOS_CH2,
 				ARENA_TYLER, ARENA_TREVICK, ARENA_TORTON_CH3,
@@ -960,30 +962,30 @@ public class FE4Data {
 				ARENA_KEIMOS_FINAL, ARENA_XENON_FINAL, ARENA_TORTON_FINAL
 				));
 		
-		public static final Set<Character> LordCharacters = new HashSet<Character>(Arrays.asList(SIGURD, SELIPH));
-		public static final Set<Character> ThiefCharacters = new HashSet<Character>(Arrays.asList(DEW, PATTY, DAISY));
-		public static final Set<Character> DancerCharacters = new HashSet<Character>(Arrays.asList(SILVIA, LENE, LAYLEA));
-		public static final Set<Character> HealerCharacters = new HashSet<Character>(Arrays.asList(EDAIN, CLAUD, LANA, MUIRNE, COIRPRE, CHARLOT));
+		public static final Set<Character> LordCharacters = Collections.unmodifiableSet(EnumSet.of(SIGURD, SELIPH));
+		public static final Set<Character> ThiefCharacters = Collections.unmodifiableSet(EnumSet.of(DEW, PATTY, DAISY));
+		public static final Set<Character> DancerCharacters = Collections.unmodifiableSet(EnumSet.of(SILVIA, LENE, LAYLEA));
+		public static final Set<Character> HealerCharacters = Collections.unmodifiableSet(EnumSet.of(EDAIN, CLAUD, LANA, MUIRNE, COIRPRE, CHARLOT));
 		
 		// Elliot and his squad must lose to Eldigan and his Cross Knights. We'll make sure the minions win or lose, but Eldigan can probably solo all of them.
-		public static final Set<Character> MustWin1 = new HashSet<Character>(Arrays.asList(CH1_CROSS_KNIGHTS));
-		public static final Set<Character> MustLose1 = new HashSet<Character>(Arrays.asList(CH1_HEIRHEIN_ARMY));
+		public static final Set<Character> MustWin1 = Collections.unmodifiableSet(EnumSet.of(CH1_CROSS_KNIGHTS));
+		public static final Set<Character> MustLose1 = Collections.unmodifiableSet(EnumSet.of(CH1_HEIRHEIN_ARMY));
 		// Quan and Ethlyn (and their squad) must lose to Travant (and Magorn) and his squad.
-		public static final Set<Character> MustWin2 = new HashSet<Character>(Arrays.asList(TRAVANT_CH5, CH5_THRACIA_ARMY, MAGORN));
-		public static final Set<Character> MustLose2 = new HashSet<Character>(Arrays.asList(QUAN, ETHLYN, CH5_LEONSTER_ARMY));
+		public static final Set<Character> MustWin2 = Collections.unmodifiableSet(EnumSet.of(TRAVANT_CH5, CH5_THRACIA_ARMY, MAGORN));
+		public static final Set<Character> MustLose2 = Collections.unmodifiableSet(EnumSet.of(QUAN, ETHLYN, CH5_LEONSTER_ARMY));
 		// Mahnya and her Squad must lose to Andorey and the Beige Ritter. (Andorey himself probably isn't necessary, since his squad gets all Brave Bows.)
-		public static final Set<Character> MustWin3 = new HashSet<Character>(Arrays.asList(CH4_BEIGE_RITTER));
-		public static final Set<Character> MustLose3 = new HashSet<Character>(Arrays.asList(MAHNYA, CH4_MAHNYA_SQUAD));
+		public static final Set<Character> MustWin3 = Collections.unmodifiableSet(EnumSet.of(CH4_BEIGE_RITTER));
+		public static final Set<Character> MustLose3 = Collections.unmodifiableSet(EnumSet.of(MAHNYA, CH4_MAHNYA_SQUAD));
 		
-		public static final Set<Character> Gen1PlayableCharacters = new HashSet<Character>(Arrays.asList(SIGURD, NAOISE, ALEC, ARDEN, FINN_GEN_1, QUAN, MIDIR, LEWYN, CHULAINN, AZELLE,
+		public static final Set<Character> Gen1PlayableCharacters = Collections.unmodifiableSet(EnumSet.of(SIGURD, NAOISE, ALEC, ARDEN, FINN_GEN_1, QUAN, MIDIR, LEWYN, CHULAINN, AZELLE,
 				JAMKE, CLAUD, BEOWOLF, LEX, DEW, DEIRDRE, ETHLYN, LACHESIS, AYRA, ERINYS, TAILTIU, SILVIA, EDAIN, BRIGID));
-		public static final Set<Character> Gen2StaticCharacters = new HashSet<Character>(Arrays.asList(SHANNAN, IUCHAR, FINN_GEN_2, HANNIBAL, ARES, OIFEY, IUCHARBA, JULIA));
-		public static final Set<Character> Gen2ChildCharacters = new HashSet<Character>(Arrays.asList(SELIPH, LEIF, ALTENA, ULSTER, FEBAIL, COIRPRE, CED, DIARMUID, LESTER, ARTHUR, 
+		public static final Set<Character> Gen2StaticCharacters = Collections.unmodifiableSet(EnumSet.of(SHANNAN, IUCHAR, FINN_GEN_2, HANNIBAL, ARES, OIFEY, IUCHARBA, JULIA));
+		public static final Set<Character> Gen2ChildCharacters = Collections.unmodifiableSet(EnumSet.of(SELIPH, LEIF, ALTENA, ULSTER, FEBAIL, COIRPRE, CED, DIARMUID, LESTER, ARTHUR, 
 				PATTY, LARCEI, LANA, FEE, TINE, LENE, NANNA));
-		public static final Set<Character> Gen2SubstituteCharacters = new HashSet<Character>(Arrays.asList(DALVIN, ASAELLO, CHARLOT, HAWK, TRISTAN, DEIMNE, AMID, DAISY, CREIDNE, MUIRNE,
+		public static final Set<Character> Gen2SubstituteCharacters = Collections.unmodifiableSet(EnumSet.of(DALVIN, ASAELLO, CHARLOT, HAWK, TRISTAN, DEIMNE, AMID, DAISY, CREIDNE, MUIRNE,
 				HERMINA, LINDA, LAYLEA, JEANNE));
 		
-		public static final Set<Character> Gen1Bosses = new HashSet<Character>(Arrays.asList(
+		public static final Set<Character> Gen1Bosses = Collections.unmodifiableSet(EnumSet.of(
 				DIMAGGIO, GERRARD,
 				CIMBAETH, MUNNIR, SANDIMA,
 				ELLIOT_CH2, PHILLIP, BOLDOR, MACBETH, VOLTZ, CLEMENT, ZYNE, CHAGALL_CH2,
@@ -991,7 +993,7 @@ public class FE4Data {
 				CUVULI, DEETVAR, MAIOS, PAMELA, DONOVAN, LAMIA, DACCAR,
 				SLAYDER, ANDOREY_CH5, LOMBARD, MAGORN, VAHA, REPTOR));
 		
-		public static final Set<Character> Gen2Bosses = new HashSet<Character>(Arrays.asList(
+		public static final Set<Character> Gen2Bosses = Collections.unmodifiableSet(EnumSet.of(
 				HAROLD, SCHMIDT, DANANN,
 				KUTUZOV, KUTUZOV_TURN_12, LIZA, ISHTORE, JAVARRO, BRAMSEL, VAMPA_CH7, FETRA_CH7, ELIU_CH7, BLOOM_CH7,
 				MUHAMMAD, OVO, VAMPA_CH8, FETRA_CH8, ELIU_CH8, ISHTAR_CH8, BLOOM_CH8, CORUTA, MAIKOV,
@@ -999,7 +1001,7 @@ public class FE4Data {
 				RIDALE, HILDA_CH10, MORRIGAN, ISHTAR_CH10, JULIUS_CH10, ZAGAM, ARVIS_CH10,
 				ROBERT, BOYCE, RODAN, YUPHEEL, FISHER, BRIAN, DAGGON, SCIPIO, HILDA_FINAL, BARAN, MENG, BLEG, MAYBELL, ISHTAR_FINAL, ARION_FINAL, MANFROY, MUS, BOVIS, TIGRIS, LEPUS, DRACO, ANGUILLA, EQUUS, OVIS, SIMIA, GALLUS, CANIS, PORCUS, JULIUS_FINAL));
 		
-		public static final Set<Character> CastleGuards = new HashSet<Character>(Arrays.asList(
+		public static final Set<Character> CastleGuards = Collections.unmodifiableSet(EnumSet.of(
 				DIMAGGIO, GERRARD,
 				CH1_GENOA_COMMANDER, MUNNIR, SANDIMA,
 				BOLDOR, MACBETH, CLEMENT, CHAGALL_CH2,
@@ -1016,31 +1018,37 @@ public class FE4Data {
 		
 		// Midir will make the game confused if he can't attack in his opening scene.
 		// Seliph *technically* doesn't need to attack.
-		public static final Set<Character> CharactersThatMustBeAbleToAttack = new HashSet<Character>(Arrays.asList(SIGURD, /*SELIPH,*/ MIDIR));
-		public static final Set<Character> CharactersThatMustAttackAtMeleeRange = new HashSet<Character>(Arrays.asList(CHULAINN, BEOWOLF)); // For whatever reason, Beowolf's AI likes to attack at melee range, even if he's bow locked.
-		public static final Set<Character> CharactersThatRequireHorses = new HashSet<Character>(Arrays.asList(QUAN, ETHLYN)); // :(
+		public static final Set<Character> CharactersThatMustBeAbleToAttack = Collections.unmodifiableSet(EnumSet.of(SIGURD, /*SELIPH,*/ MIDIR));
+		public static final Set<Character> CharactersThatMustAttackAtMeleeRange = Collections.unmodifiableSet(EnumSet.of(CHULAINN, BEOWOLF)); // For whatever reason, Beowolf's AI likes to attack at melee range, even if he's bow locked.
+		public static final Set<Character> CharactersThatRequireHorses = Collections.unmodifiableSet(EnumSet.of(QUAN, ETHLYN)); // :(
 		
 		// These bosses can drop their holy weapon if they were randomized to get them.
-		public static final Set<Character> HolyBossesWithFreeDrops = new HashSet<Character>(Arrays.asList(HILDA_CH10, MUSAR, ARION_CH9));
+		public static final Set<Character> HolyBossesWithFreeDrops = Collections.unmodifiableSet(EnumSet.of(HILDA_CH10, MUSAR, ARION_CH9));
 		// These bosses can be assigned holy blood, even if they didn't have any before.
-		public static final Set<Character> HolyBossesThatReceiveNewHolyBlood = new HashSet<Character>(Arrays.asList(VAMPA_CH7, VAMPA_CH8, RIDALE, ROBERT, BOYCE, SCIPIO, MUS, BOVIS, TIGRIS, LEPUS, DRACO, SIMIA, GALLUS, CANIS, PORCUS, MANFROY));
+		public static final Set<Character> HolyBossesThatReceiveNewHolyBlood = Collections.unmodifiableSet(EnumSet.of(VAMPA_CH7, VAMPA_CH8, RIDALE, ROBERT, BOYCE, SCIPIO, MUS, BOVIS, TIGRIS, LEPUS, DRACO, SIMIA, GALLUS, CANIS, PORCUS, MANFROY));
 		// These are the only bosses that can drop their holy weapon.
-		public static final Set<Character> HolyBossesThatCanDropHolyWeapons = new HashSet<Character>(Arrays.asList(ANDOREY_CH5, LOMBARD, VAMPA_CH7, VAMPA_CH8, ISHTAR_CH8, BLOOM_CH8, MUSAR, ARION_CH9, HILDA_CH10, RIDALE, ROBERT, BOYCE, BRIAN, SCIPIO));
+		public static final Set<Character> HolyBossesThatCanDropHolyWeapons = Collections.unmodifiableSet(EnumSet.of(ANDOREY_CH5, LOMBARD, VAMPA_CH7, VAMPA_CH8, ISHTAR_CH8, BLOOM_CH8, MUSAR, ARION_CH9, HILDA_CH10, RIDALE, ROBERT, BOYCE, BRIAN, SCIPIO));
 
 		public int ID;
 		
-		private static Map<Integer, Character> map = new HashMap<Integer, Character>();
-		
-		static {
+		private static Character[] byID = createIDTable();
+		private static Character[] createIDTable() {
+			int maxID = 0;
+			for (Character character : Character.values()) {
+				maxID = Math.max(maxID, character.ID);
+			}
+			Character[] table = new Character[maxID + 1];
 			for (Character character : Character.values()) {
-				map.put(character.ID, character);
+				table[character.ID] = character;
 			}
+			return table;
 		}
 		
 		private Character(final int id) { ID = id; }
 		
 		public static Character valueOf(int characterId) {
-			return map.get(characterId);
+			if (characterId < 0 || characterId >= byID.length) { return null; }
+			return byID[characterId];
 		}
 		
 		public Character[] getChildren() {
@@ -1524,106 +1532,112 @@ public class FE4Data {
 			ANY, MALE_ONLY, FEMALE_ONLY;
 		}
 		
-		public static final Set<CharacterClass> unpromotedClasses = new HashSet<CharacterClass>(Arrays.asList(SOCIAL_KNIGHT, LANCE_KNIGHT, ARCH_KNIGHT, AXE_KNIGHT, FREE_KNIGHT, TROUBADOUR, 
+		public static final Set<CharacterClass> unpromotedClasses = Collections.unmodifiableSet(EnumSet.of(SOCIAL_KNIGHT, LANCE_KNIGHT, ARCH_KNIGHT, AXE_KNIGHT, FREE_KNIGHT, TROUBADOUR, 
 				PEGASUS_KNIGHT, DRAGON_RIDER, DRAGON_KNIGHT, BOW_FIGHTER, SWORD_FIGHTER, ARMOR, AXE_ARMOR, BOW_ARMOR, SWORD_ARMOR, AXE_FIGHTER, JUNIOR_LORD, PRINCE, PRINCESS, PRIEST, MAGE,
 				FIRE_MAGE, THUNDER_MAGE, WIND_MAGE, BARD, LIGHT_PRIESTESS, THIEF, BARBARIAN, MOUNTAIN_THIEF, PIRATE, HUNTER, DARK_MAGE, DANCER));
-		public static final Set<CharacterClass> promotedClasses = new HashSet<CharacterClass>(Arrays.asList(LORD_KNIGHT, DUKE_KNIGHT, MASTER_KNIGHT, PALADIN, PALADIN_F, BOW_KNIGHT, FORREST_KNIGHT,
+		public static final Set<CharacterClass> promotedClasses = Collections.unmodifiableSet(EnumSet.of(LORD_KNIGHT, DUKE_KNIGHT, MASTER_KNIGHT, PALADIN, PALADIN_F, BOW_KNIGHT, FORREST_KNIGHT,
 				MAGE_KNIGHT, GREAT_KNIGHT, FALCON_KNIGHT, DRAGON_MASTER, SWORD_MASTER, SNIPER, FORREST, GENERAL, WARRIOR, MAGE_FIGHTER, MAGE_FIGHTER_F, HIGH_PRIEST, SAGE, THIEF_FIGHTER, EMPEROR,
 				BARON, QUEEN, BISHOP, DARK_BISHOP));
 		
 		// We can blacklist as necessary, but this list includes all of the classes we don't give out to playable characters freely.
 		// Emperor and Queen are blocked as we don't give out advanced classes freely (but we allow playable characters to promote into them under the right settings).
-		public static final Set<CharacterClass> enemyOnlyClasses = new HashSet<CharacterClass>(Arrays.asList(/*BARBARIAN, MOUNTAIN_THIEF, PIRATE, HUNTER, DARK_MAGE, EMPEROR,*/ BARON/*, QUEEN*/, BISHOP, DARK_BISHOP));
+		public static final Set<CharacterClass> enemyOnlyClasses = Collections.unmodifiableSet(EnumSet.of(/*BARBARIAN, MOUNTAIN_THIEF, PIRATE, HUNTER, DARK_MAGE, EMPEROR,*/ BARON/*, QUEEN*/, BISHOP, DARK_BISHOP));
 		// Princess should be ok, so long as we adhere to gender flags.
-		public static final Set<CharacterClass> playerOnlyClasses = new HashSet<CharacterClass>(Arrays.asList(/*PRINCESS*/));
+		public static final Set<CharacterClass> playerOnlyClasses = Collections.unmodifiableSet(EnumSet.noneOf(CharacterClass.class)); // PRINCESS
 		
-		public static final Set<CharacterClass> swordUsers = new HashSet<CharacterClass>(Arrays.asList(JUNIOR_LORD, LORD_KNIGHT, PRINCE, PRINCESS, MASTER_KNIGHT, SWORD_FIGHTER, SWORD_MASTER, FORREST, THIEF,
+		public static final Set<CharacterClass> swordUsers = Collections.unmodifiableSet(EnumSet.of(JUNIOR_LORD, LORD_KNIGHT, PRINCE, PRINCESS, MASTER_KNIGHT, SWORD_FIGHTER, SWORD_MASTER, FORREST, THIEF,
 				THIEF_FIGHTER, DANCER, SOCIAL_KNIGHT, PALADIN, TROUBADOUR, PALADIN_F, FREE_KNIGHT, FORREST_KNIGHT, SWORD_ARMOR, GENERAL, BARON, EMPEROR, PEGASUS_KNIGHT, FALCON_KNIGHT, DRAGON_RIDER,
 				DRAGON_KNIGHT, DRAGON_MASTER, MAGE_FIGHTER, MAGE_FIGHTER_F, MAGE_KNIGHT));
-		public static final Set<CharacterClass> lanceUsers = new HashSet<CharacterClass>(Arrays.asList(LORD_KNIGHT, MASTER_KNIGHT, SOCIAL_KNIGHT, PALADIN, PALADIN_F, LANCE_KNIGHT, DUKE_KNIGHT, ARMOR, GENERAL, BARON,
+		public static final Set<CharacterClass> lanceUsers = Collections.unmodifiableSet(EnumSet.of(LORD_KNIGHT, MASTER_KNIGHT, SOCIAL_KNIGHT, PALADIN, PALADIN_F, LANCE_KNIGHT, DUKE_KNIGHT, ARMOR, GENERAL, BARON,
 				EMPEROR, PEGASUS_KNIGHT, FALCON_KNIGHT, DRAGON_RIDER, DRAGON_KNIGHT, DRAGON_MASTER));
-		public static final Set<CharacterClass> axeUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, AXE_FIGHTER, WARRIOR, MOUNTAIN_THIEF, BARBARIAN, PIRATE, AXE_KNIGHT, GREAT_KNIGHT, AXE_ARMOR, GENERAL,
+		public static final Set<CharacterClass> axeUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, AXE_FIGHTER, WARRIOR, MOUNTAIN_THIEF, BARBARIAN, PIRATE, AXE_KNIGHT, GREAT_KNIGHT, AXE_ARMOR, GENERAL,
 				BARON, EMPEROR));
-		public static final Set<CharacterClass> bowUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, WARRIOR, BOW_FIGHTER, SNIPER, HUNTER, ARCH_KNIGHT, BOW_KNIGHT, BOW_ARMOR, GENERAL, BARON, EMPEROR));
-		public static final Set<CharacterClass> fireUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, BARON, EMPEROR, FIRE_MAGE, MAGE_FIGHTER, MAGE_FIGHTER_F, MAGE, MAGE_KNIGHT, BARD, SAGE, HIGH_PRIEST,
+		public static final Set<CharacterClass> bowUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, WARRIOR, BOW_FIGHTER, SNIPER, HUNTER, ARCH_KNIGHT, BOW_KNIGHT, BOW_ARMOR, GENERAL, BARON, EMPEROR));
+		public static final Set<CharacterClass> fireUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, BARON, EMPEROR, FIRE_MAGE, MAGE_FIGHTER, MAGE_FIGHTER_F, MAGE, MAGE_KNIGHT, BARD, SAGE, HIGH_PRIEST,
 				BISHOP, QUEEN, DARK_BISHOP));
-		public static final Set<CharacterClass> thunderUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, BARON, EMPEROR, THUNDER_MAGE, MAGE_FIGHTER, MAGE_FIGHTER_F, MAGE, MAGE_KNIGHT, BARD, SAGE,
+		public static final Set<CharacterClass> thunderUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, BARON, EMPEROR, THUNDER_MAGE, MAGE_FIGHTER, MAGE_FIGHTER_F, MAGE, MAGE_KNIGHT, BARD, SAGE,
 				HIGH_PRIEST, BISHOP, QUEEN, DARK_BISHOP));
-		public static final Set<CharacterClass> windUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, BARON, EMPEROR, WIND_MAGE, MAGE_FIGHTER, MAGE_FIGHTER_F, MAGE, MAGE_KNIGHT, BARD, SAGE, HIGH_PRIEST,
+		public static final Set<CharacterClass> windUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, BARON, EMPEROR, WIND_MAGE, MAGE_FIGHTER, MAGE_FIGHTER_F, MAGE, MAGE_KNIGHT, BARD, SAGE, HIGH_PRIEST,
 				BISHOP, QUEEN, DARK_BISHOP));
-		public static final Set<CharacterClass> lightUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, BARD, LIGHT_PRIESTESS, SAGE));
-		public static final Set<CharacterClass> darkUsers = new HashSet<CharacterClass>(Arrays.asList(DARK_MAGE, DARK_BISHOP));
-		public static final Set<CharacterClass> staffUsers = new HashSet<CharacterClass>(Arrays.asList(PRINCESS, MASTER_KNIGHT, TROUBADOUR, PALADIN_F, BARON, EMPEROR, FALCON_KNIGHT, MAGE_FIGHTER_F, LIGHT_PRIESTESS, SAGE,
+		public static final Set<CharacterClass> lightUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, BARD, LIGHT_PRIESTESS, SAGE));
+		public static final Set<CharacterClass> darkUsers = Collections.unmodifiableSet(EnumSet.of(DARK_MAGE, DARK_BISHOP));
+		public static final Set<CharacterClass> staffUsers = Collections.unmodifiableSet(EnumSet.of(PRINCESS, MASTER_KNIGHT, TROUBADOUR, PALADIN_F, BARON, EMPEROR, FALCON_KNIGHT, MAGE_FIGHTER_F, LIGHT_PRIESTESS, SAGE,
 				PRIEST, HIGH_PRIEST, BISHOP, QUEEN, DARK_MAGE, DARK_BISHOP));
 		
-		public static final Set<CharacterClass> B_swordUsers = new HashSet<CharacterClass>(Arrays.asList(JUNIOR_LORD, LORD_KNIGHT, PRINCE, PRINCESS, MASTER_KNIGHT, SWORD_FIGHTER, SWORD_MASTER, FORREST,
+		public static final Set<CharacterClass> B_swordUsers = Collections.unmodifiableSet(EnumSet.of(JUNIOR_LORD, LORD_KNIGHT, PRINCE, PRINCESS, MASTER_KNIGHT, SWORD_FIGHTER, SWORD_MASTER, FORREST,
 				THIEF_FIGHTER, SOCIAL_KNIGHT, PALADIN, TROUBADOUR, PALADIN_F, FREE_KNIGHT, FORREST_KNIGHT, SWORD_ARMOR, GENERAL, BARON, EMPEROR, PEGASUS_KNIGHT, FALCON_KNIGHT,
 				DRAGON_KNIGHT, DRAGON_MASTER, MAGE_KNIGHT));
-		public static final Set<CharacterClass> B_lanceUsers = new HashSet<CharacterClass>(Arrays.asList(LORD_KNIGHT, MASTER_KNIGHT, PALADIN, LANCE_KNIGHT, DUKE_KNIGHT, ARMOR, GENERAL, BARON,
+		public static final Set<CharacterClass> B_lanceUsers = Collections.unmodifiableSet(EnumSet.of(LORD_KNIGHT, MASTER_KNIGHT, PALADIN, LANCE_KNIGHT, DUKE_KNIGHT, ARMOR, GENERAL, BARON,
 				EMPEROR, PEGASUS_KNIGHT, FALCON_KNIGHT, DRAGON_KNIGHT, DRAGON_MASTER));
-		public static final Set<CharacterClass> B_axeUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, AXE_FIGHTER, WARRIOR, MOUNTAIN_THIEF, BARBARIAN, PIRATE, AXE_KNIGHT, GREAT_KNIGHT, AXE_ARMOR, GENERAL,
+		public static final Set<CharacterClass> B_axeUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, AXE_FIGHTER, WARRIOR, MOUNTAIN_THIEF, BARBARIAN, PIRATE, AXE_KNIGHT, GREAT_KNIGHT, AXE_ARMOR, GENERAL,
 				BARON, EMPEROR));
-		public static final Set<CharacterClass> B_bowUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, WARRIOR, BOW_FIGHTER, SNIPER, HUNTER, ARCH_KNIGHT, BOW_KNIGHT, BOW_ARMOR, GENERAL, BARON, EMPEROR));
-		public static final Set<CharacterClass> B_fireUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, BARON, EMPEROR, FIRE_MAGE, MAGE_FIGHTER, MAGE_FIGHTER_F, MAGE_KNIGHT, SAGE, BISHOP, QUEEN, DARK_BISHOP));
-		public static final Set<CharacterClass> B_thunderUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, BARON, EMPEROR, THUNDER_MAGE, MAGE_FIGHTER, MAGE_FIGHTER_F, MAGE_KNIGHT, SAGE, BISHOP, QUEEN, DARK_BISHOP));
-		public static final Set<CharacterClass> B_windUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, BARON, EMPEROR, WIND_MAGE, MAGE_FIGHTER, MAGE_FIGHTER_F, MAGE_KNIGHT, SAGE,
+		public static final Set<CharacterClass> B_bowUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, WARRIOR, BOW_FIGHTER, SNIPER, HUNTER, ARCH_KNIGHT, BOW_KNIGHT, BOW_ARMOR, GENERAL, BARON, EMPEROR));
+		public static final Set<CharacterClass> B_fireUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, BARON, EMPEROR, FIRE_MAGE, MAGE_FIGHTER, MAGE_FIGHTER_F, MAGE_KNIGHT, SAGE, BISHOP, QUEEN, DARK_BISHOP));
+		public static final Set<CharacterClass> B_thunderUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, BARON, EMPEROR, THUNDER_MAGE, MAGE_FIGHTER, MAGE_FIGHTER_F, MAGE_KNIGHT, SAGE, BISHOP, QUEEN, DARK_BISHOP));
+		public static final Set<CharacterClass> B_windUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, BARON, EMPEROR, WIND_MAGE, MAGE_FIGHTER, MAGE_FIGHTER_F, MAGE_KNIGHT, SAGE,
 				BISHOP, QUEEN, DARK_BISHOP));
-		public static final Set<CharacterClass> B_lightUsers = new HashSet<CharacterClass>(Arrays.asList(LIGHT_PRIESTESS, SAGE));
-		public static final Set<CharacterClass> B_darkUsers = new HashSet<CharacterClass>(Arrays.asList(DARK_MAGE, DARK_BISHOP));
-		public static final Set<CharacterClass> B_staffUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, BARON, EMPEROR, MAGE_FIGHTER_F, LIGHT_PRIESTESS, SAGE, PRIEST, HIGH_PRIEST, BISHOP, QUEEN, DARK_MAGE, 
+		public static final Set<CharacterClass> B_lightUsers = Collections.unmodifiableSet(EnumSet.of(LIGHT_PRIESTESS, SAGE));
+		public static final Set<CharacterClass> B_darkUsers = Collections.unmodifiableSet(EnumSet.of(DARK_MAGE, DARK_BISHOP));
+		public static final Set<CharacterClass> B_staffUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, BARON, EMPEROR, MAGE_FIGHTER_F, LIGHT_PRIESTESS, SAGE, PRIEST, HIGH_PRIEST, BISHOP, QUEEN, DARK_MAGE, 
 				DARK_BISHOP));
 		
-		public static final Set<CharacterClass> A_swordUsers = new HashSet<CharacterClass>(Arrays.asList(LORD_KNIGHT, PRINCE, MASTER_KNIGHT, SWORD_FIGHTER, SWORD_MASTER, FORREST, THIEF_FIGHTER, FORREST_KNIGHT, GENERAL, 
+		public static final Set<CharacterClass> A_swordUsers = Collections.unmodifiableSet(EnumSet.of(LORD_KNIGHT, PRINCE, MASTER_KNIGHT, SWORD_FIGHTER, SWORD_MASTER, FORREST, THIEF_FIGHTER, FORREST_KNIGHT, GENERAL, 
 				BARON, EMPEROR, FALCON_KNIGHT, DRAGON_MASTER));
-		public static final Set<CharacterClass> A_lanceUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, DUKE_KNIGHT, GENERAL, BARON, EMPEROR, FALCON_KNIGHT, DRAGON_MASTER));
-		public static final Set<CharacterClass> A_axeUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, AXE_FIGHTER, WARRIOR, GREAT_KNIGHT, BARON, EMPEROR));
-		public static final Set<CharacterClass> A_bowUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, BOW_FIGHTER, SNIPER, BOW_KNIGHT, BARON, EMPEROR));
-		public static final Set<CharacterClass> A_fireUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, BARON, EMPEROR, QUEEN, DARK_BISHOP));
-		public static final Set<CharacterClass> A_thunderUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, BARON, EMPEROR, QUEEN, DARK_BISHOP));
-		public static final Set<CharacterClass> A_windUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, BARON, EMPEROR, QUEEN, DARK_BISHOP));
-		public static final Set<CharacterClass> A_lightUsers = new HashSet<CharacterClass>(Arrays.asList(LIGHT_PRIESTESS));
-		public static final Set<CharacterClass> A_darkUsers = new HashSet<CharacterClass>(Arrays.asList(DARK_BISHOP));
-		public static final Set<CharacterClass> A_staffUsers = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, BARON, EMPEROR, HIGH_PRIEST, BISHOP, QUEEN, DARK_BISHOP));
-		
-		public static final Set<CharacterClass> maleOnlyClasses = new HashSet<CharacterClass>(Arrays.asList(JUNIOR_LORD, LORD_KNIGHT, PRINCE, AXE_FIGHTER, WARRIOR, BARBARIAN, PIRATE, HUNTER, SWORD_ARMOR, ARMOR, 
+		public static final Set<CharacterClass> A_lanceUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, DUKE_KNIGHT, GENERAL, BARON, EMPEROR, FALCON_KNIGHT, DRAGON_MASTER));
+		public static final Set<CharacterClass> A_axeUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, AXE_FIGHTER, WARRIOR, GREAT_KNIGHT, BARON, EMPEROR));
+		public static final Set<CharacterClass> A_bowUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, BOW_FIGHTER, SNIPER, BOW_KNIGHT, BARON, EMPEROR));
+		public static final Set<CharacterClass> A_fireUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, BARON, EMPEROR, QUEEN, DARK_BISHOP));
+		public static final Set<CharacterClass> A_thunderUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, BARON, EMPEROR, QUEEN, DARK_BISHOP));
+		public static final Set<CharacterClass> A_windUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, BARON, EMPEROR, QUEEN, DARK_BISHOP));
+		public static final Set<CharacterClass> A_lightUsers = Collections.unmodifiableSet(EnumSet.of(LIGHT_PRIESTESS));
+		public static final Set<CharacterClass> A_darkUsers = Collections.unmodifiableSet(EnumSet.of(DARK_BISHOP));
+		public static final Set<CharacterClass> A_staffUsers = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, BARON, EMPEROR, HIGH_PRIEST, BISHOP, QUEEN, DARK_BISHOP));
+		
+		public static final Set<CharacterClass> maleOnlyClasses = Collections.unmodifiableSet(EnumSet.of(JUNIOR_LORD, LORD_KNIGHT, PRINCE, AXE_FIGHTER, WARRIOR, BARBARIAN, PIRATE, HUNTER, SWORD_ARMOR, ARMOR, 
 				AXE_ARMOR, BOW_ARMOR, DRAGON_RIDER, MAGE_FIGHTER, FREE_KNIGHT, FORREST_KNIGHT, PALADIN, MOUNTAIN_THIEF, BISHOP, DARK_MAGE));
-		public static final Set<CharacterClass> femaleOnlyClasses = new HashSet<CharacterClass>(Arrays.asList(PRINCESS, DANCER, TROUBADOUR, PALADIN_F, FALCON_KNIGHT, PEGASUS_KNIGHT, MAGE_FIGHTER_F, LIGHT_PRIESTESS, QUEEN));
+		public static final Set<CharacterClass> femaleOnlyClasses = Collections.unmodifiableSet(EnumSet.of(PRINCESS, DANCER, TROUBADOUR, PALADIN_F, FALCON_KNIGHT, PEGASUS_KNIGHT, MAGE_FIGHTER_F, LIGHT_PRIESTESS, QUEEN));
 		
-		public static final Set<CharacterClass> noWeaknessClasses = new HashSet<CharacterClass>(Arrays.asList(BOW_FIGHTER, SWORD_FIGHTER, AXE_FIGHTER, JUNIOR_LORD, PRINCE, PRINCESS, PRIEST, MAGE,
+		public static final Set<CharacterClass> noWeaknessClasses = Collections.unmodifiableSet(EnumSet.of(BOW_FIGHTER, SWORD_FIGHTER, AXE_FIGHTER, JUNIOR_LORD, PRINCE, PRINCESS, PRIEST, MAGE,
 				FIRE_MAGE, THUNDER_MAGE, WIND_MAGE, BARD, LIGHT_PRIESTESS, THIEF, BARBARIAN, MOUNTAIN_THIEF, PIRATE, HUNTER, DARK_MAGE, DANCER, SWORD_MASTER, SNIPER, FORREST, WARRIOR, MAGE_FIGHTER, MAGE_FIGHTER_F, HIGH_PRIEST, 
 				SAGE, THIEF_FIGHTER, QUEEN, BISHOP, DARK_BISHOP));
 		
-		public static final Set<CharacterClass> lordClasses = new HashSet<CharacterClass>(Arrays.asList(JUNIOR_LORD, LORD_KNIGHT));
-		public static final Set<CharacterClass> thiefClasses = new HashSet<CharacterClass>(Arrays.asList(THIEF, THIEF_FIGHTER));
+		public static final Set<CharacterClass> lordClasses = Collections.unmodifiableSet(EnumSet.of(JUNIOR_LORD, LORD_KNIGHT));
+		public static final Set<CharacterClass> thiefClasses = Collections.unmodifiableSet(EnumSet.of(THIEF, THIEF_FIGHTER));
 		
-		public static final Set<CharacterClass> pacifistClasses = new HashSet<CharacterClass>(Arrays.asList(PRIEST, DANCER));
-		public static final Set<CharacterClass> healingClasses = new HashSet<CharacterClass>(Arrays.asList(PRIEST, TROUBADOUR, PRINCESS));
+		public static final Set<CharacterClass> pacifistClasses = Collections.unmodifiableSet(EnumSet.of(PRIEST, DANCER));
+		public static final Set<CharacterClass> healingClasses = Collections.unmodifiableSet(EnumSet.of(PRIEST, TROUBADOUR, PRINCESS));
 		
-		public static final Set<CharacterClass> horsebackClasses = new HashSet<CharacterClass>(Arrays.asList(SOCIAL_KNIGHT, LANCE_KNIGHT, ARCH_KNIGHT, AXE_KNIGHT, FREE_KNIGHT, TROUBADOUR, 
+		public static final Set<CharacterClass> horsebackClasses = Collections.unmodifiableSet(EnumSet.of(SOCIAL_KNIGHT, LANCE_KNIGHT, ARCH_KNIGHT, AXE_KNIGHT, FREE_KNIGHT, TROUBADOUR, 
 				LORD_KNIGHT, DUKE_KNIGHT, MASTER_KNIGHT, PALADIN, PALADIN_F, BOW_KNIGHT, FORREST_KNIGHT, MAGE_KNIGHT, GREAT_KNIGHT));
-		public static final Set<CharacterClass> fliers = new HashSet<CharacterClass>(Arrays.asList(PEGASUS_KNIGHT, DRAGON_RIDER, DRAGON_KNIGHT, FALCON_KNIGHT, DRAGON_MASTER));
-		public static final Set<CharacterClass> armoredClasses = new HashSet<CharacterClass>(Arrays.asList(ARMOR, AXE_ARMOR, BOW_ARMOR, SWORD_ARMOR, GENERAL, EMPEROR, BARON));
+		public static final Set<CharacterClass> fliers = Collections.unmodifiableSet(EnumSet.of(PEGASUS_KNIGHT, DRAGON_RIDER, DRAGON_KNIGHT, FALCON_KNIGHT, DRAGON_MASTER));
+		public static final Set<CharacterClass> armoredClasses = Collections.unmodifiableSet(EnumSet.of(ARMOR, AXE_ARMOR, BOW_ARMOR, SWORD_ARMOR, GENERAL, EMPEROR, BARON));
 		
-		public static final Set<CharacterClass> rangedOnlyClasses = new HashSet<CharacterClass>(Arrays.asList(ARCH_KNIGHT, BOW_KNIGHT, HUNTER, BOW_ARMOR, BOW_FIGHTER, SNIPER));
+		public static final Set<CharacterClass> rangedOnlyClasses = Collections.unmodifiableSet(EnumSet.of(ARCH_KNIGHT, BOW_KNIGHT, HUNTER, BOW_ARMOR, BOW_FIGHTER, SNIPER));
 		
-		public static final Set<CharacterClass> advancedClasses = new HashSet<CharacterClass>(Arrays.asList(EMPEROR, QUEEN));
+		public static final Set<CharacterClass> advancedClasses = Collections.unmodifiableSet(EnumSet.of(EMPEROR, QUEEN));
 		
-		public static final Set<CharacterClass> reducedChanceClasses = new HashSet<CharacterClass>(Arrays.asList(MASTER_KNIGHT, EMPEROR, QUEEN, BARON));
+		public static final Set<CharacterClass> reducedChanceClasses = Collections.unmodifiableSet(EnumSet.of(MASTER_KNIGHT, EMPEROR, QUEEN, BARON));
 		
 		public int ID;
 		
-		private static Map<Integer, CharacterClass> map = new HashMap<Integer, CharacterClass>();
-		
-		static {
+		private static CharacterClass[] byID = createIDTable();
+		private static CharacterClass[] createIDTable() {
+			int maxID = 0;
 			for (CharacterClass charClass : CharacterClass.values()) {
-				map.put(charClass.ID, charClass);
+				maxID = Math.max(maxID, charClass.ID);
 			}
+			CharacterClass[] table = new CharacterClass[maxID + 1];
+			for (CharacterClass charClass : CharacterClass.values()) {
+				table[charClass.ID] = charClass;
+			}
+			return table;
 		}
 		
 		private CharacterClass(final int id) { ID = id; }
 		
 		public static CharacterClass valueOf(int classId) {
-			return map.get(classId);
+			if (classId < 0 || classId >= byID.length) { return null; }
+			return byID[classId];
 		}
 		
 		public boolean isHorseback() { return horsebackClasses.contains(this); }
@@ -2457,30 +2471,30 @@ public class FE4Data {
 			}
 		};
 		
-		public static final Set<Item> swords = new HashSet<Item>(Arrays.asList(IRON_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, MIRACLE_SWORD,
+		public static final Set<Item> swords = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, MIRACLE_SWORD,
 				THIEF_SWORD, BARRIER_BLADE, BERSERK_SWORD, BRAVE_SWORD, SILENCE_SWORD, SLEEP_SWORD, SLIM_SWORD,
 				SAFEGUARD, FLAME_SWORD, EARTH_SWORD, LEVIN_SWORD, WIND_SWORD, LIGHT_BRAND, MYSTLETAINN, TYRFING,
 				BALMUNG, ARMORSLAYER, WING_CLIPPER, BROKEN_SWORD_C, BROKEN_SWORD_B, BROKEN_SWORD_A, BROKEN_HOLY_SWORD));
-		public static final Set<Item> lances = new HashSet<Item>(Arrays.asList(IRON_LANCE, STEEL_LANCE, SILVER_LANCE, JAVELIN, HORSESLAYER, BRAVE_LANCE, SLIM_LANCE,
+		public static final Set<Item> lances = Collections.unmodifiableSet(EnumSet.of(IRON_LANCE, STEEL_LANCE, SILVER_LANCE, JAVELIN, HORSESLAYER, BRAVE_LANCE, SLIM_LANCE,
 				GUNGNIR, GAE_BOLG, BROKEN_LANCE_C, BROKEN_LANCE_B, BROKEN_LANCE_A, BROKEN_HOLY_SPEAR));
-		public static final Set<Item> axes = new HashSet<Item>(Arrays.asList(IRON_AXE, STEEL_AXE, SILVER_AXE, BRAVE_AXE, HELSWATH, HAND_AXE, BROKEN_AXE_C, BROKEN_AXE_B, BROKEN_AXE_A));
-		public static final Set<Item> bows = new HashSet<Item>(Arrays.asList(IRON_BOW, STEEL_BOW, SILVER_BOW, BRAVE_BOW, KILLER_BOW, YEWFELLE, BROKEN_BOW_C, BROKEN_BOW_B, BROKEN_BOW_A, BROKEN_HOLY_BOW));
-		public static final Set<Item> fireMagic = new HashSet<Item>(Arrays.asList(FIRE, ELFIRE, BOLGANONE, VALFLAME, METEOR, EMPTY_BOOK_C_FIRE, EMPTY_BOOK_B_FIRE, EMPTY_BOOK_A_FIRE));
-		public static final Set<Item> thunderMagic = new HashSet<Item>(Arrays.asList(THUNDER, ELTHUNDER, THORON, MJOLNIR, BOLTING, EMPTY_BOOK_C_THUNDER, EMPTY_BOOK_B_THUNDER, EMPTY_BOOK_A_THUNDER));
-		public static final Set<Item> windMagic = new HashSet<Item>(Arrays.asList(WIND, ELWIND, TORNADO, FORSETI, BLIZZARD, EMPTY_BOOK_C_WIND, EMPTY_BOOK_B_WIND, EMPTY_BOOK_A_WIND, EMPTY_BOOK_S_WIND));
-		public static final Set<Item> lightMagic = new HashSet<Item>(Arrays.asList(LIGHT, NOSFERATU, AURA, NAGA, EMPTY_BOOK_C_LIGHT, EMPTY_BOOK_B_LIGHT, EMPTY_BOOK_A_LIGHT, EMPTY_BOOK_S_LIGHT));
-		public static final Set<Item> darkMagic = new HashSet<Item>(Arrays.asList(YOTSMUNGAND, FENRIR, HEL, LOPTYR));
-		public static final Set<Item> staves = new HashSet<Item>(Arrays.asList(HEAL, MEND, RECOVER, PHYSIC, FORTIFY, RETURN, WARP, RESCUE, RESTORE, VALKYRIE, SILENCE, SLEEP, BERSERK, BROKEN_STAFF_C, BROKEN_STAFF_B, BROKEN_STAFF_A, BROKEN_HOLY_STAFF));
-		
-		public static final Set<Item> healingStaves = new HashSet<Item>(Arrays.asList(HEAL, MEND, RECOVER, PHYSIC, FORTIFY));
-		public static final Set<Item> siegeTomes = new HashSet<Item>(Arrays.asList(METEOR, BOLTING, BLIZZARD, FENRIR));
-		
-		public static final Set<Item> brokenWeapons = new HashSet<Item>(Arrays.asList(BROKEN_SWORD_A, BROKEN_SWORD_B, BROKEN_SWORD_C, BROKEN_LANCE_A, BROKEN_LANCE_B, BROKEN_LANCE_C, BROKEN_AXE_A, BROKEN_AXE_B, BROKEN_AXE_C,
+		public static final Set<Item> axes = Collections.unmodifiableSet(EnumSet.of(IRON_AXE, STEEL_AXE, SILVER_AXE, BRAVE_AXE, HELSWATH, HAND_AXE, BROKEN_AXE_C, BROKEN_AXE_B, BROKEN_AXE_A));
+		public static final Set<Item> bows = Collections.unmodifiableSet(EnumSet.of(IRON_BOW, STEEL_BOW, SILVER_BOW, BRAVE_BOW, KILLER_BOW, YEWFELLE, BROKEN_BOW_C, BROKEN_BOW_B, BROKEN_BOW_A, BROKEN_HOLY_BOW));
+		public static final Set<Item> fireMagic = Collections.unmodifiableSet(EnumSet.of(FIRE, ELFIRE, BOLGANONE, VALFLAME, METEOR, EMPTY_BOOK_C_FIRE, EMPTY_BOOK_B_FIRE, EMPTY_BOOK_A_FIRE));
+		public static final Set<Item> thunderMagic = Collections.unmodifiableSet(EnumSet.of(THUNDER, ELTHUNDER, THORON, MJOLNIR, BOLTING, EMPTY_BOOK_C_THUNDER, EMPTY_BOOK_B_THUNDER, EMPTY_BOOK_A_THUNDER));
+		public static final Set<Item> windMagic = Collections.unmodifiableSet(EnumSet.of(WIND, ELWIND, TORNADO, FORSETI, BLIZZARD, EMPTY_BOOK_C_WIND, EMPTY_BOOK_B_WIND, EMPTY_BOOK_A_WIND, EMPTY_BOOK_S_WIND));
+		public static final Set<Item> lightMagic = Collections.unmodifiableSet(EnumSet.of(LIGHT, NOSFERATU, AURA, NAGA, EMPTY_BOOK_C_LIGHT, EMPTY_BOOK_B_LIGHT, EMPTY_BOOK_A_LIGHT, EMPTY_BOOK_S_LIGHT));
+		public static final Set<Item> darkMagic = Collections.unmodifiableSet(EnumSet.of(YOTSMUNGAND, FENRIR, HEL, LOPTYR));
+		public static final Set<Item> staves = Collections.unmodifiableSet(EnumSet.of(HEAL, MEND, RECOVER, PHYSIC, FORTIFY, RETURN, WARP, RESCUE, RESTORE, VALKYRIE, SILENCE, SLEEP, BERSERK, BROKEN_STAFF_C, BROKEN_STAFF_B, BROKEN_STAFF_A, BROKEN_HOLY_STAFF));
+		
+		public static final Set<Item> healingStaves = Collections.unmodifiableSet(EnumSet.of(HEAL, MEND, RECOVER, PHYSIC, FORTIFY));
+		public static final Set<Item> siegeTomes = Collections.unmodifiableSet(EnumSet.of(METEOR, BOLTING, BLIZZARD, FENRIR));
+		
+		public static final Set<Item> brokenWeapons = Collections.unmodifiableSet(EnumSet.of(BROKEN_SWORD_A, BROKEN_SWORD_B, BROKEN_SWORD_C, BROKEN_LANCE_A, BROKEN_LANCE_B, BROKEN_LANCE_C, BROKEN_AXE_A, BROKEN_AXE_B, BROKEN_AXE_C,
 				BROKEN_BOW_A, BROKEN_BOW_B, BROKEN_BOW_C, BROKEN_STAFF_A, BROKEN_STAFF_B, BROKEN_STAFF_C, EMPTY_BOOK_A_FIRE, EMPTY_BOOK_A_THUNDER, EMPTY_BOOK_A_WIND, EMPTY_BOOK_A_LIGHT, EMPTY_BOOK_B_FIRE, EMPTY_BOOK_B_THUNDER, 
 				EMPTY_BOOK_B_WIND, EMPTY_BOOK_B_LIGHT, EMPTY_BOOK_C_FIRE, EMPTY_BOOK_C_THUNDER, EMPTY_BOOK_C_WIND, EMPTY_BOOK_C_LIGHT, 
 				EMPTY_BOOK_S_WIND, EMPTY_BOOK_S_LIGHT, BROKEN_HOLY_SWORD, BROKEN_HOLY_SPEAR, BROKEN_HOLY_BOW, BROKEN_HOLY_STAFF));
 		
-		public static final Set<Item> meleeWeapons = new HashSet<Item>(Arrays.asList(IRON_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, MIRACLE_SWORD, THIEF_SWORD, BARRIER_BLADE,
+		public static final Set<Item> meleeWeapons = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, MIRACLE_SWORD, THIEF_SWORD, BARRIER_BLADE,
 				BERSERK_SWORD, BRAVE_SWORD, SILENCE_SWORD, SLEEP_SWORD, SLIM_SWORD, SAFEGUARD, FLAME_SWORD, EARTH_SWORD, LEVIN_SWORD, WIND_SWORD, LIGHT_BRAND, MYSTLETAINN, TYRFING, BALMUNG, ARMORSLAYER, WING_CLIPPER,
 				IRON_LANCE, STEEL_LANCE, SILVER_LANCE, JAVELIN, HORSESLAYER, BRAVE_LANCE, SLIM_LANCE, GUNGNIR, GAE_BOLG,
 				IRON_AXE, STEEL_AXE, SILVER_AXE, BRAVE_AXE, HELSWATH, HAND_AXE,
@@ -2490,7 +2504,7 @@ public class FE4Data {
 				LIGHT, NOSFERATU, AURA, NAGA,
 				YOTSMUNGAND
 				));
-		public static final Set<Item> rangedWeapons = new HashSet<Item>(Arrays.asList(FLAME_SWORD, EARTH_SWORD, LEVIN_SWORD, WIND_SWORD, LIGHT_BRAND, JAVELIN, HAND_AXE, HELSWATH, IRON_BOW, STEEL_BOW, SILVER_BOW,
+		public static final Set<Item> rangedWeapons = Collections.unmodifiableSet(EnumSet.of(FLAME_SWORD, EARTH_SWORD, LEVIN_SWORD, WIND_SWORD, LIGHT_BRAND, JAVELIN, HAND_AXE, HELSWATH, IRON_BOW, STEEL_BOW, SILVER_BOW,
 				BRAVE_BOW, KILLER_BOW, YEWFELLE,
 				FIRE, ELFIRE, BOLGANONE, VALFLAME,
 				THUNDER, ELTHUNDER, THORON, MJOLNIR,
@@ -2498,61 +2512,67 @@ public class FE4Data {
 				LIGHT, NOSFERATU, AURA, NAGA,
 				YOTSMUNGAND));
 		
-		public static final Set<Item> normalWeapons = new HashSet<Item>(Arrays.asList(IRON_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, SILVER_BLADE, SLIM_SWORD, IRON_LANCE, STEEL_LANCE, SILVER_LANCE, JAVELIN,
+		public static final Set<Item> normalWeapons = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, STEEL_SWORD, SILVER_SWORD, IRON_BLADE, SILVER_BLADE, SLIM_SWORD, IRON_LANCE, STEEL_LANCE, SILVER_LANCE, JAVELIN,
 				SLIM_LANCE, IRON_AXE, STEEL_AXE, SILVER_AXE, HAND_AXE, IRON_BOW, STEEL_BOW, SILVER_BOW, FIRE, ELFIRE, WIND, ELWIND, THUNDER, ELTHUNDER, LIGHT, YOTSMUNGAND));
-		public static final Set<Item> interestingWeapons = new HashSet<Item>(Arrays.asList(MIRACLE_SWORD, THIEF_SWORD,
+		public static final Set<Item> interestingWeapons = Collections.unmodifiableSet(EnumSet.of(MIRACLE_SWORD, THIEF_SWORD,
 				BARRIER_BLADE, BERSERK_SWORD, BRAVE_SWORD, SILENCE_SWORD, SLEEP_SWORD, SLIM_SWORD, SAFEGUARD,
 				FLAME_SWORD, EARTH_SWORD, LEVIN_SWORD, WIND_SWORD, LIGHT_BRAND, ARMORSLAYER, WING_CLIPPER, BRAVE_AXE, 
 				BRAVE_LANCE, HORSESLAYER, BRAVE_BOW, KILLER_BOW, NOSFERATU, HEL));
 		
-		public static final Set<Item> powerfulWeapons = new HashSet<Item>(Arrays.asList(SILVER_SWORD, STEEL_BLADE, SILVER_BLADE, SILVER_LANCE,
+		public static final Set<Item> powerfulWeapons = Collections.unmodifiableSet(EnumSet.of(SILVER_SWORD, STEEL_BLADE, SILVER_BLADE, SILVER_LANCE,
 				SILVER_AXE, SILVER_BOW, BOLGANONE, THORON, TORNADO, AURA, FENRIR));
 		
-		public static final Set<Item> ironSet = new HashSet<Item>(Arrays.asList(IRON_SWORD, IRON_BLADE, SLIM_SWORD, IRON_LANCE, SLIM_LANCE, IRON_AXE, IRON_BOW, FIRE, WIND, THUNDER, LIGHT, YOTSMUNGAND, HEAL));
-		public static final Set<Item> steelSet = new HashSet<Item>(Arrays.asList(STEEL_SWORD, STEEL_BLADE, STEEL_LANCE, STEEL_AXE, STEEL_BOW, ELFIRE, ELTHUNDER, ELWIND, LIGHT, YOTSMUNGAND, MEND));
-		public static final Set<Item> silverSet = new HashSet<Item>(Arrays.asList(SILVER_SWORD, SILVER_BLADE, SILVER_LANCE, SILVER_AXE, SILVER_BOW, BOLGANONE, THORON, TORNADO, AURA, YOTSMUNGAND, RECOVER));
-		public static final Set<Item> rangedSet = new HashSet<Item>(Arrays.asList(FLAME_SWORD, LEVIN_SWORD, WIND_SWORD, LIGHT_BRAND, JAVELIN, HAND_AXE, STEEL_BOW, ELFIRE, ELTHUNDER, ELWIND, LIGHT, YOTSMUNGAND, PHYSIC));
-		public static final Set<Item> effectiveSet = new HashSet<Item>(Arrays.asList(WING_CLIPPER, ARMORSLAYER, HORSESLAYER, HAND_AXE, KILLER_BOW, ELFIRE, ELWIND, ELTHUNDER, LIGHT, YOTSMUNGAND, RECOVER));
-		public static final Set<Item> braveSet = new HashSet<Item>(Arrays.asList(BRAVE_SWORD, BRAVE_LANCE, BRAVE_AXE, BRAVE_BOW, ELFIRE, ELWIND, ELTHUNDER, LIGHT, YOTSMUNGAND, RECOVER));
+		public static final Set<Item> ironSet = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, IRON_BLADE, SLIM_SWORD, IRON_LANCE, SLIM_LANCE, IRON_AXE, IRON_BOW, FIRE, WIND, THUNDER, LIGHT, YOTSMUNGAND, HEAL));
+		public static final Set<Item> steelSet = Collections.unmodifiableSet(EnumSet.of(STEEL_SWORD, STEEL_BLADE, STEEL_LANCE, STEEL_AXE, STEEL_BOW, ELFIRE, ELTHUNDER, ELWIND, LIGHT, YOTSMUNGAND, MEND));
+		public static final Set<Item> silverSet = Collections.unmodifiableSet(EnumSet.of(SILVER_SWORD, SILVER_BLADE, SILVER_LANCE, SILVER_AXE, SILVER_BOW, BOLGANONE, THORON, TORNADO, AURA, YOTSMUNGAND, RECOVER));
+		public static final Set<Item> rangedSet = Collections.unmodifiableSet(EnumSet.of(FLAME_SWORD, LEVIN_SWORD, WIND_SWORD, LIGHT_BRAND, JAVELIN, HAND_AXE, STEEL_BOW, ELFIRE, ELTHUNDER, ELWIND, LIGHT, YOTSMUNGAND, PHYSIC));
+		public static final Set<Item> effectiveSet = Collections.unmodifiableSet(EnumSet.of(WING_CLIPPER, ARMORSLAYER, HORSESLAYER, HAND_AXE, KILLER_BOW, ELFIRE, ELWIND, ELTHUNDER, LIGHT, YOTSMUNGAND, RECOVER));
+		public static final Set<Item> braveSet = Collections.unmodifiableSet(EnumSet.of(BRAVE_SWORD, BRAVE_LANCE, BRAVE_AXE, BRAVE_BOW, ELFIRE, ELWIND, ELTHUNDER, LIGHT, YOTSMUNGAND, RECOVER));
 		
-		public static final Set<Item> statusSet = new HashSet<Item>(Arrays.asList(THIEF_SWORD, BERSERK_SWORD, SILENCE_SWORD, SLEEP_SWORD));
+		public static final Set<Item> statusSet = Collections.unmodifiableSet(EnumSet.of(THIEF_SWORD, BERSERK_SWORD, SILENCE_SWORD, SLEEP_SWORD));
 		
-		public static final Set<Item> playerOnlySet = new HashSet<Item>(Arrays.asList(BERSERK, BERSERK_SWORD));
+		public static final Set<Item> playerOnlySet = Collections.unmodifiableSet(EnumSet.of(BERSERK, BERSERK_SWORD));
 		
-		public static final Set<Item> rings = new HashSet<Item>(Arrays.asList(LIFE_RING, ELITE_RING, THIEF_RING, PRAYER_RING, PURSUIT_RING, RECOVER_RING, BARGAIN_RING, 
+		public static final Set<Item> rings = Collections.unmodifiableSet(EnumSet.of(LIFE_RING, ELITE_RING, THIEF_RING, PRAYER_RING, PURSUIT_RING, RECOVER_RING, BARGAIN_RING, 
 				KNIGHT_RING, RETURN_RING, SPEED_RING, MAGIC_RING, POWER_RING, SHIELD_RING, BARRIER_RING, LEG_RING, SKILL_RING));
 		
-		public static final Set<Item> statRings = new HashSet<Item>(Arrays.asList(SPEED_RING, MAGIC_RING, POWER_RING, SHIELD_RING, BARRIER_RING, SKILL_RING));
+		public static final Set<Item> statRings = Collections.unmodifiableSet(EnumSet.of(SPEED_RING, MAGIC_RING, POWER_RING, SHIELD_RING, BARRIER_RING, SKILL_RING));
 		
-		public static final Set<Item> blacklistedRings = new HashSet<Item>(Arrays.asList(RECOVER_RING));
+		public static final Set<Item> blacklistedRings = Collections.unmodifiableSet(EnumSet.of(RECOVER_RING));
 		
-		public static final Set<Item> cWeapons = new HashSet<Item>(Arrays.asList(IRON_SWORD, MIRACLE_SWORD, THIEF_SWORD, BARRIER_BLADE, BERSERK_SWORD, SILENCE_SWORD, SLEEP_SWORD, SLIM_SWORD, SAFEGUARD, FLAME_SWORD,
+		public static final Set<Item> cWeapons = Collections.unmodifiableSet(EnumSet.of(IRON_SWORD, MIRACLE_SWORD, THIEF_SWORD, BARRIER_BLADE, BERSERK_SWORD, SILENCE_SWORD, SLEEP_SWORD, SLIM_SWORD, SAFEGUARD, FLAME_SWORD,
 				EARTH_SWORD, LEVIN_SWORD, WIND_SWORD, LIGHT_BRAND, IRON_LANCE, JAVELIN, HORSESLAYER, SLIM_LANCE, IRON_AXE, HAND_AXE, IRON_BOW, KILLER_BOW, FIRE, METEOR, THUNDER, BOLTING, WIND, BLIZZARD, LIGHT, YOTSMUNGAND,
 				HEAL, MEND, RETURN, BROKEN_SWORD_C, BROKEN_LANCE_C, BROKEN_AXE_C, BROKEN_BOW_C, EMPTY_BOOK_C_FIRE, EMPTY_BOOK_C_THUNDER, EMPTY_BOOK_C_WIND, EMPTY_BOOK_C_LIGHT, BROKEN_STAFF_C));
-		public static final Set<Item> bWeapons = new HashSet<Item>(Arrays.asList(STEEL_SWORD, BRAVE_SWORD, ARMORSLAYER, WING_CLIPPER, STEEL_LANCE, BRAVE_LANCE, STEEL_AXE, BRAVE_AXE, STEEL_BOW, BRAVE_BOW, ELFIRE, 
+		public static final Set<Item> bWeapons = Collections.unmodifiableSet(EnumSet.of(STEEL_SWORD, BRAVE_SWORD, ARMORSLAYER, WING_CLIPPER, STEEL_LANCE, BRAVE_LANCE, STEEL_AXE, BRAVE_AXE, STEEL_BOW, BRAVE_BOW, ELFIRE, 
 				ELTHUNDER, ELWIND, FENRIR, HEL, RECOVER, PHYSIC, WARP, RESTORE, SILENCE, SLEEP, BERSERK, BROKEN_SWORD_B, BROKEN_LANCE_B, BROKEN_AXE_B, BROKEN_BOW_B, EMPTY_BOOK_B_FIRE, EMPTY_BOOK_B_THUNDER, 
 				EMPTY_BOOK_B_WIND, EMPTY_BOOK_B_LIGHT, BROKEN_STAFF_B));
-		public static final Set<Item> aWeapons = new HashSet<Item>(Arrays.asList(SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, SILVER_LANCE, SILVER_AXE, SILVER_BOW, BOLGANONE, THORON, TORNADO, NOSFERATU,
+		public static final Set<Item> aWeapons = Collections.unmodifiableSet(EnumSet.of(SILVER_SWORD, IRON_BLADE, STEEL_BLADE, SILVER_BLADE, SILVER_LANCE, SILVER_AXE, SILVER_BOW, BOLGANONE, THORON, TORNADO, NOSFERATU,
 				AURA, FORTIFY, RESCUE, BROKEN_SWORD_A, BROKEN_LANCE_A, BROKEN_AXE_A, BROKEN_BOW_A, EMPTY_BOOK_A_FIRE, EMPTY_BOOK_A_THUNDER, EMPTY_BOOK_A_WIND, EMPTY_BOOK_A_LIGHT, BROKEN_STAFF_A));
-		public static final Set<Item> holyWeapons = new HashSet<Item>(Arrays.asList(MYSTLETAINN, TYRFING, BALMUNG, GUNGNIR, GAE_BOLG, HELSWATH, YEWFELLE, VALFLAME, MJOLNIR, FORSETI, NAGA, LOPTYR, VALKYRIE,
+		public static final Set<Item> holyWeapons = Collections.unmodifiableSet(EnumSet.of(MYSTLETAINN, TYRFING, BALMUNG, GUNGNIR, GAE_BOLG, HELSWATH, YEWFELLE, VALFLAME, MJOLNIR, FORSETI, NAGA, LOPTYR, VALKYRIE,
 				BROKEN_HOLY_SWORD, BROKEN_HOLY_SPEAR, BROKEN_HOLY_BOW, EMPTY_BOOK_S_WIND, EMPTY_BOOK_S_LIGHT, BROKEN_HOLY_STAFF));
 		
-		public static final Set<Item> femaleOnlyWeapons = new HashSet<Item>(Arrays.asList(MIRACLE_SWORD));
+		public static final Set<Item> femaleOnlyWeapons = Collections.unmodifiableSet(EnumSet.of(MIRACLE_SWORD));
 		
 		public int ID;
 		
-		private static Map<Integer, Item> map = new HashMap<Integer, Item>();
-		
-		static {
+		private static Item[] byID = createIDTable();
+		private static Item[] createIDTable() {
+			int maxID = 0;
+			for (Item item : Item.values()) {
+				maxID = Math.max(maxID, item.ID);
+			}
+			Item[] table = new Item[maxID + 1];
 			for (Item item : Item.values()) {
-				map.put(item.ID, item);
+				table[item.ID] = item;
 			}
+			return table;
 		}
 		
 		private Item(final int id) { ID = id; }
 		
 		public static Item valueOf(int itemId) {
-			return map.get(itemId);
+			if (itemId < 0 || itemId >= byID.length) { return null; }
+			return byID[itemId];
 		}
 		
 		public enum WeaponRank {
@@ -1,11 +1,14 @@
 package fedata.snes.fe4;
 
-import fedata.general.FEModifiableData;
+import java.util.Arrays;
+
+import fedata.general.FEChangeTrackingData;
 
 // Only for use with enemy characters definitions (not army definitions).
-public class FE4EnemyCharacter implements FEModifiableData {
+public class FE4EnemyCharacter implements FEChangeTrackingData {
 	private byte[] originalData;
 	private byte[] data;
+	private byte[] loadedData;
 	
 	private long originalOffset;
 	
@@ -16,6 +19,7 @@ public class FE4EnemyCharacter implements FEModifiableData {
 		super();
 		this.originalData = data;
 		this.data = data;
+		this.loadedData = Arrays.copyOf(data, data.length);
 		this.originalOffset = originalOffset;
 	}
 	
@@ -91,6 +95,10 @@ public class FE4EnemyCharacter implements FEModifiableData {
 		return data;
 	}
 	
+	public byte[] getLoadedData() {
+		return loadedData;
+	}
+	
 	public Boolean wasModified() {
 		return wasModified;
 	}
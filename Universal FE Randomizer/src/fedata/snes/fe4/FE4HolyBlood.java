@@ -1,13 +1,15 @@
 package fedata.snes.fe4;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
-import fedata.general.FEModifiableData;
+import fedata.general.FEChangeTrackingData;
 
-public class FE4HolyBlood implements FEModifiableData {
+public class FE4HolyBlood implements FEChangeTrackingData {
 	private byte[] originalData;
 	private byte[] data;
+	private byte[] loadedData;
 	
 	private long originalOffset;
 	
@@ -51,6 +53,7 @@ public class FE4HolyBlood implements FEModifiableData {
 		super();
 		this.originalData = data;
 		this.data = data;
+		this.loadedData = Arrays.copyOf(data, data.length);
 		this.originalOffset = originalOffset;
 	}
 	
@@ -210,6 +213,10 @@ public class FE4HolyBlood implements FEModifiableData {
 		return data;
 	}
 	
+	public byte[] getLoadedData() {
+		return loadedData;
+	}
+	
 	public Boolean wasModified() {
 		return wasModified;
 	}
@@ -1,13 +1,16 @@
 package fedata.snes.fe4;
 
-import fedata.general.FEModifiableData;
+import java.util.Arrays;
+
+import fedata.general.FEChangeTrackingData;
 
 // Only for use for playable characters that do not inherit anything (i.e. Gen 1, non-child Gen 2, and Gen 2 replacements).
 // Also used for Boss characters with holy blood (major bosses with skills).
-public class FE4StaticCharacter implements FEModifiableData {
+public class FE4StaticCharacter implements FEChangeTrackingData {
 
 	private byte[] originalData;
 	private byte[] data;
+	private byte[] loadedData;
 	
 	private long originalOffset;
 	
@@ -18,6 +21,7 @@ public class FE4StaticCharacter implements FEModifiableData {
 		super();
 		this.originalData = data;
 		this.data = data;
+		this.loadedData = Arrays.copyOf(data, data.length);
 		this.originalOffset = originalOffset;
 	}
 	
@@ -303,6 +307,10 @@ public class FE4StaticCharacter implements FEModifiableData {
 		return data;
 	}
 	
+	public byte[] getLoadedData() {
+		return loadedData;
+	}
+	
 	public Boolean wasModified() {
 		return wasModified;
 	}
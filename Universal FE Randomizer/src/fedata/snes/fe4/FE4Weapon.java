@@ -2,12 +2,13 @@ package fedata.snes.fe4;
 
 import java.util.Arrays;
 
-import fedata.general.FEModifiableData;
+import fedata.general.FEChangeTrackingData;
 
-public class FE4Weapon implements FEModifiableData {
+public class FE4Weapon implements FEChangeTrackingData {
 
 	private byte[] originalData;
 	private byte[] data;
+	private byte[] loadedData;
 	
 	private long originalOffset;
 	
@@ -30,6 +31,7 @@ public class FE4Weapon implements FEModifiableData {
 		super();
 		this.originalData = Arrays.copyOf(data, data.length);
 		this.data = Arrays.copyOf(data, data.length);
+		this.loadedData = Arrays.copyOf(data, data.length);
 		this.originalOffset = originalOffset;
 	}
 	
@@ -136,6 +138,10 @@ public class FE4Weapon implements FEModifiableData {
 		return data;
 	}
 	
+	public byte[] getLoadedData() {
+		return loadedData;
+	}
+	
 	public Boolean wasModified() {
 		return wasModified;
 	}
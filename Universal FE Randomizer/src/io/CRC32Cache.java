@@ -0,0 +1,107 @@
+package io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.prefs.Preferences;
+import java.util.zip.CRC32;
+
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+// Remembers the CRC-32 of files we've already checksummed, keyed by path, size, and last modified time,
+// so that reopening the same ROM doesn't mean reading the whole thing again. Saved alongside the option settings.
+public class CRC32Cache {
+
+	private static final String CacheKey = "crc32_cache";
+	private static final int MaxEntries = 16;
+	private static final int ReadBufferSize = 1024 * 1024;
+
+	private static Map<String, Long> cache = loadCache();
+
+	public static synchronized Long cachedCRC32ForFile(File file) {
+		return cache.get(keyForFile(file));
+	}
+
+	public static long crc32ForFile(File file) throws IOException {
+		String key = keyForFile(file);
+		synchronized (CRC32Cache.class) {
+			Long cachedValue = cache.get(key);
+			if (cachedValue != null) { return cachedValue; }
+		}
+
+		long crc32 = computeCRC32(file);
+
+		synchronized (CRC32Cache.class) {
+			cache.put(key, crc32);
+			saveCache();
+		}
+
+		return crc32;
+	}
+
+	// Always reads the file, and leaves the cache alone. For files we just wrote, whose checksum is the thing being checked.
+	static long computeCRC32(File file) throws IOException {
+		CRC32 checksum = new CRC32();
+		ByteBuffer buffer = ByteBuffer.allocateDirect(ReadBufferSize);
+
+		RandomAccessFile inputFile = new RandomAccessFile(file, "r");
+		try {
+			FileChannel channel = inputFile.getChannel();
+			while (channel.read(buffer) != -1) {
+				buffer.flip();
+				checksum.update(buffer);
+				buffer.clear();
+			}
+		} finally {
+			inputFile.close();
+		}
+
+		return checksum.getValue();
+	}
+
+	private static String keyForFile(File file) {
+		return file.getAbsolutePath() + "|" + file.length() + "|" + file.lastModified();
+	}
+
+	private static Map<String, Long> loadCache() {
+		// Least recently inserted entries are dropped first.
+		Map<String, Long> loadedCache = new LinkedHashMap<String, Long>() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+				return size() > MaxEntries;
+			}
+		};
+
+		try {
+			Preferences prefs = Preferences.userRoot().node(CRC32Cache.class.getName());
+			String jsonString = prefs.get(CacheKey, null);
+			if (jsonString != null) {
+				Type mapType = new TypeToken<LinkedHashMap<String, Long>>() {}.getType();
+				Map<String, Long> savedCache = new Gson().fromJson(jsonString, mapType);
+				if (savedCache != null) { loadedCache.putAll(savedCache); }
+			}
+		} catch (Exception e) {
+			// A broken cache just means checksumming files again.
+			System.err.println("Failed to load saved checksums.");
+		}
+
+		return loadedCache;
+	}
+
+	private static void saveCache() {
+		try {
+			Preferences prefs = Preferences.userRoot().node(CRC32Cache.class.getName());
+			prefs.put(CacheKey, new Gson().toJson(new LinkedHashMap<String, Long>(cache)));
+		} catch (Exception e) {
+			System.err.println("Failed to save checksums.");
+		}
+	}
+}
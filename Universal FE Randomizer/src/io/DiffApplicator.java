@@ -1,18 +1,18 @@
 package io;
 
-import java.io.BufferedReader;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.RandomAccessFile;
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 import util.DebugPrinter;
 import util.Diff;
 import util.DiffCompiler;
+import util.DiffResource;
 import util.WhyDoesJavaNotHaveThese;
 
 public class DiffApplicator {
@@ -51,31 +51,33 @@ public class DiffApplicator {
 		
 		RandomAccessFile resultFile = new RandomAccessFile(outputPath, "rw");
 		
-		// Apply all the diffs.
-		for (int i = 0; i < compiler.diffArray.size(); i++) {
-			Diff currentDiff = compiler.diffArray.get(i);
-			long nextAddress = currentDiff.address;
-			int length = currentDiff.length;
-			byte[] oldValue = currentDiff.requiredOldValues;
-			byte[] newValue = currentDiff.changes;
-			
-			DebugPrinter.log(DebugPrinter.Key.DIFF, "Address: 0x" + Long.toHexString(nextAddress).toUpperCase() + " - Length: " + length + ", Old Value: " + 
-					WhyDoesJavaNotHaveThese.displayStringForBytes(oldValue) + ", New Value: " + WhyDoesJavaNotHaveThese.displayStringForBytes(newValue));
-			
+		// Apply all the diffs, merged into as few writes as possible.
+		for (DiffCompiler.CompiledDiff compiledDiff : compiler.compile()) {
 			try {
-				resultFile.seek(nextAddress);
-				if (oldValue != null) {
-					byte[] existingValue = new byte[length];
-					resultFile.read(existingValue);
-					if (!WhyDoesJavaNotHaveThese.byteArraysAreEqual(existingValue, oldValue)) {
-						failedDiffs.add(currentDiff);
-						continue;
+				byte[] existingValues = null;
+				if (compiledDiff.hasExpectedValues()) {
+					existingValues = new byte[compiledDiff.length];
+					resultFile.seek(compiledDiff.address);
+					resultFile.read(existingValues);
+				}
+				
+				if (compiledDiff.canApplyWrites(existingValues)) {
+					for (Diff write : compiledDiff.writes) {
+						DebugPrinter.log(DebugPrinter.Key.DIFF, "Address: 0x" + Long.toHexString(write.address).toUpperCase() + " - Length: " + write.length + ", New Value: " + WhyDoesJavaNotHaveThese.displayStringForBytes(write.changes));
+						resultFile.seek(write.address);
+						resultFile.write(write.changes);
 					}
+					failedDiffs.addAll(compiledDiff.conflicts);
+					continue;
 				}
-				resultFile.seek(nextAddress);
-				resultFile.write(newValue);
 			} catch (IOException e) {
 				e.printStackTrace();
+				continue;
+			}
+			
+			// The file isn't what the group expected, so every diff has to check for itself.
+			for (Diff currentDiff : compiledDiff.diffs) {
+				applyDiff(currentDiff, resultFile, failedDiffs);
 			}
 		}
 		
@@ -88,48 +90,120 @@ public class DiffApplicator {
 		return failedDiffs;
 	}
 	
+	// The diffs applyDiffs would actually write if it were applying compiler to the file behind handler, in the order they
+	// were added. Worked out the same way applyDiffs does it, but against an in-memory copy, so nothing is written.
+	// The handler shouldn't have any applied diffs of its own.
+	public static DiffCompiler appliedDiffs(DiffCompiler compiler, FileHandler handler) {
+		Set<Diff> unappliedDiffs = Collections.newSetFromMap(new IdentityHashMap<Diff, Boolean>());
+		for (DiffCompiler.CompiledDiff compiledDiff : compiler.compile()) {
+			byte[] values = new byte[compiledDiff.length];
+			long readStart = Math.max(0, compiledDiff.address);
+			long readEnd = Math.min(handler.getFileLength(), compiledDiff.address + compiledDiff.length);
+			if (readEnd > readStart) {
+				byte[] existingValues = handler.readBytesAtOffset(readStart, (int)(readEnd - readStart));
+				if (existingValues != null) {
+					System.arraycopy(existingValues, 0, values, (int)(readStart - compiledDiff.address), existingValues.length);
+				}
+			}
+			
+			if (compiledDiff.canApplyWrites(values)) {
+				unappliedDiffs.addAll(compiledDiff.conflicts);
+				continue;
+			}
+			
+			for (Diff currentDiff : compiledDiff.diffs) {
+				// applyDiff can't seek to these.
+				if (currentDiff.address < 0) {
+					unappliedDiffs.add(currentDiff);
+					continue;
+				}
+				
+				int offset = (int)(currentDiff.address - compiledDiff.address);
+				byte[] oldValue = currentDiff.requiredOldValues;
+				if (oldValue != null) {
+					boolean matches = oldValue.length == currentDiff.length;
+					for (int i = 0; matches && i < currentDiff.length; i++) {
+						matches = values[offset + i] == oldValue[i];
+					}
+					if (!matches) {
+						unappliedDiffs.add(currentDiff);
+						continue;
+					}
+				}
+				System.arraycopy(currentDiff.changes, 0, values, offset, currentDiff.changes.length);
+			}
+		}
+		
+		DiffCompiler applied = new DiffCompiler();
+		for (Diff diff : compiler.diffArray) {
+			if (!unappliedDiffs.contains(diff)) {
+				applied.addDiff(diff);
+			}
+		}
+		return applied;
+	}
+	
+	private static void applyDiff(Diff currentDiff, RandomAccessFile resultFile, ArrayList<Diff> failedDiffs) {
+		long nextAddress = currentDiff.address;
+		int length = currentDiff.length;
+		byte[] oldValue = currentDiff.requiredOldValues;
+		byte[] newValue = currentDiff.changes;
+		
+		DebugPrinter.log(DebugPrinter.Key.DIFF, "Address: 0x" + Long.toHexString(nextAddress).toUpperCase() + " - Length: " + length + ", Old Value: " + 
+				WhyDoesJavaNotHaveThese.displayStringForBytes(oldValue) + ", New Value: " + WhyDoesJavaNotHaveThese.displayStringForBytes(newValue));
+		
+		try {
+			resultFile.seek(nextAddress);
+			if (oldValue != null) {
+				byte[] existingValue = new byte[length];
+				resultFile.read(existingValue);
+				if (!WhyDoesJavaNotHaveThese.byteArraysAreEqual(existingValue, oldValue)) {
+					failedDiffs.add(currentDiff);
+					return;
+				}
+			}
+			resultFile.seek(nextAddress);
+			resultFile.write(newValue);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+	
 	public static Boolean applyDiff(String diffName, FileHandler handler, String outputPath) {
 		try {
 			long currentOffset = 0;
 			FileOutputStream outputStream = new FileOutputStream(outputPath);
 			
-			InputStream stream = DiffApplicator.class.getClassLoader().getResourceAsStream(diffName + ".diff");;
-			BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(stream));
-			String currentLine = bufferedReader.readLine();
-			while(currentLine != null) {
-				Scanner scanner = new Scanner(currentLine);
-				scanner.useDelimiter("[\\s\\W]+");
-				long nextAddress = scanner.nextLong(16);
-				int existingValue = scanner.nextInt(16);
-				int newValue = scanner.nextInt(16);
-				
-				
-				
-				long lengthDiff = nextAddress - currentOffset;
-				while (lengthDiff > 0) {
-					int bytesToRead = (int) Math.min(1024, lengthDiff);
-					byte[] batch = handler.readBytesAtOffset(currentOffset, bytesToRead);
-					outputStream.write(batch);
-					lengthDiff -= batch.length;
-					currentOffset += batch.length;
-				}
-				
-				byte[] byteToChange = handler.readBytesAtOffset(nextAddress, 1);
-				if (byteToChange.length == 1) {
-					if ((byteToChange[0] & 0xFF) == existingValue) {
-						outputStream.write(newValue & 0xFF);
+			DiffResource resource = DiffResource.named(diffName);
+			for (int run = 0; run < resource.getRunCount(); run++) {
+				for (int i = 0; i < resource.getRunLength(run); i++) {
+					long nextAddress = resource.getRunAddress(run) + i;
+					int existingValue = resource.getOldValue(run, i) & 0xFF;
+					int newValue = resource.getNewValue(run, i) & 0xFF;
+					
+					long lengthDiff = nextAddress - currentOffset;
+					while (lengthDiff > 0) {
+						int bytesToRead = (int) Math.min(1024, lengthDiff);
+						byte[] batch = handler.readBytesAtOffset(currentOffset, bytesToRead);
+						outputStream.write(batch);
+						lengthDiff -= batch.length;
+						currentOffset += batch.length;
+					}
+					
+					byte[] byteToChange = handler.readBytesAtOffset(nextAddress, 1);
+					if (byteToChange.length == 1) {
+						if ((byteToChange[0] & 0xFF) == existingValue) {
+							outputStream.write(newValue);
+						} else {
+							System.err.println("Value Mismatch detected at address 0x" + Long.toHexString(nextAddress).toUpperCase() + ". Expected: " + 
+									Integer.toHexString(existingValue).toUpperCase() + ", but found " + Integer.toHexString(byteToChange[0]));	
+						}
 					} else {
-						System.err.println("Value Mismatch detected at address 0x" + Long.toHexString(nextAddress).toUpperCase() + ". Expected: " + 
-								Integer.toHexString(existingValue).toUpperCase() + ", but found " + Integer.toHexString(byteToChange[0]));	
+						System.err.println("No Value Found at address 0x" + Long.toHexString(nextAddress).toUpperCase());
 					}
-				} else {
-					System.err.println("No Value Found at address 0x" + Long.toHexString(nextAddress).toUpperCase());
+					
+					currentOffset += 1;
 				}
-				
-				currentOffset += 1;
-				
-				scanner.close();
-;				currentLine = bufferedReader.readLine();
 			}
 			
 			long lengthDiff = handler.getFileLength() - currentOffset;
@@ -141,7 +215,6 @@ public class DiffApplicator {
 				currentOffset += batch.length;
 			}
 			
-			bufferedReader.close();
 			outputStream.flush();
 			outputStream.close();
 			
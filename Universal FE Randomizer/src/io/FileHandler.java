@@ -1,10 +1,8 @@
 package io;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.RandomAccessFile;
-import java.util.zip.CRC32;
 
 import util.DiffCompiler;
 
@@ -12,7 +10,10 @@ public class FileHandler {
 	public String pathToFile;
 	
 	private RandomAccessFile inputFile;
-	private long crc32;
+	// Null until the checksum has been read. Kept apart from the handler's own lock, which readers like ROMBuffer hold
+	// while they read, so that asking whether it's known never waits on a full pass over the file.
+	private volatile Long crc32;
+	private final Object crc32Lock = new Object();
 	private long fileLength;
 	
 	private DiffCompiler appliedDiffs;
@@ -26,22 +27,8 @@ public class FileHandler {
 		inputFile = new RandomAccessFile(file, "r");
 		fileLength = inputFile.length();
 		
-		FileInputStream inputStream = new FileInputStream(pathToFile);
-		
-		CRC32 checksum = new CRC32();
-		long currentOffset = 0;
-		int numBytes = Math.min(1024, (int)(fileLength - currentOffset));
-		while (numBytes > 0) {
-			byte[] batch = new byte[numBytes];
-			if (inputStream.read(batch) == -1) { break; }
-			checksum.update(batch);
-			currentOffset += batch.length;
-			numBytes = Math.min(1024, (int)(fileLength - currentOffset));
-		}
-		
-		crc32 = checksum.getValue();
-		
-		inputStream.close();
+		// The checksum is only read in full the first time someone asks for it, unless we've seen this file before.
+		crc32 = CRC32Cache.cachedCRC32ForFile(new File(pathToFile));
 	}
 
 	public FileHandler(String pathToFile) throws IOException {
@@ -51,22 +38,8 @@ public class FileHandler {
 		inputFile = new RandomAccessFile(pathToFile, "r");
 		fileLength = inputFile.length();
 		
-		FileInputStream inputStream = new FileInputStream(pathToFile);
-		
-		CRC32 checksum = new CRC32();
-		long currentOffset = 0;
-		int numBytes = Math.min(1024, (int)(fileLength - currentOffset));
-		while (numBytes > 0) {
-			byte[] batch = new byte[numBytes];
-			if (inputStream.read(batch) == -1) { break; }
-			checksum.update(batch);
-			currentOffset += batch.length;
-			numBytes = Math.min(1024, (int)(fileLength - currentOffset));
-		}
-		
-		crc32 = checksum.getValue();
-		
-		inputStream.close();
+		// The checksum is only read in full the first time someone asks for it, unless we've seen this file before.
+		crc32 = CRC32Cache.cachedCRC32ForFile(new File(pathToFile));
 	}
 	
 	public void close() {
@@ -225,10 +198,30 @@ public class FileHandler {
 		return outputBytes;
 	}
 	
-	public long getCRC32() {
+	// Reads the whole file the first time, unless it was already cached. Nothing is remembered if the read fails,
+	// so the next call tries again.
+	public long getCRC32() throws IOException {
+		Long knownCRC32 = crc32;
+		if (knownCRC32 != null) { return knownCRC32; }
+		
+		synchronized (crc32Lock) {
+			if (crc32 == null) {
+				crc32 = CRC32Cache.crc32ForFile(new File(pathToFile));
+			}
+			return crc32;
+		}
+	}
+	
+	// The checksum if it has already been read, or null. Never reads the file.
+	public Long getKnownCRC32() {
 		return crc32;
 	}
 	
+	// True if getCRC32 can answer without reading the file.
+	public boolean hasCRC32() {
+		return crc32 != null;
+	}
+	
 	public long getFileLength() {
 		return fileLength;
 	}
@@ -0,0 +1,112 @@
+package io;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// An in-memory copy of a file, read in large pages through a FileHandler the first time any byte in them is needed.
+// Meant for code that makes lots of tiny reads (event scripts, unit tables), which would otherwise each be a seek and
+// a read on the file. Pages are read with whatever diffs the handler has applied at the time, so the buffer should
+// only be used while those stay the same.
+// Reads past the end of the file return 0.
+// Safe to read from several threads at once. Pages are read through the handler one at a time, since its file pointer is shared.
+public class ROMBuffer {
+
+	private static final int PageShift = 14;
+	private static final int PageSize = 1 << PageShift;
+	private static final int PageMask = PageSize - 1;
+
+	private final FileHandler handler;
+	private final long length;
+	private final AtomicReferenceArray<byte[]> pages;
+
+	public ROMBuffer(FileHandler handler) {
+		super();
+		this.handler = handler;
+		this.length = handler.getFileLength();
+		this.pages = new AtomicReferenceArray<byte[]>((int)((length + PageSize - 1) >> PageShift));
+	}
+
+	public long getLength() {
+		return length;
+	}
+
+	public byte byteAt(long offset) {
+		if (offset < 0 || offset >= length) { return 0; }
+		return page((int)(offset >> PageShift))[(int)(offset & PageMask)];
+	}
+
+	public int unsignedByteAt(long offset) {
+		return byteAt(offset) & 0xFF;
+	}
+
+	// Little endian, as the GBA stores them.
+	public int halfWordAt(long offset) {
+		return unsignedByteAt(offset) | (unsignedByteAt(offset + 1) << 8);
+	}
+
+	public long wordAt(long offset) {
+		if (offset >= 0 && offset + 4 <= length && (offset & PageMask) <= PageSize - 4) {
+			byte[] page = page((int)(offset >> PageShift));
+			int index = (int)(offset & PageMask);
+			return ((page[index] & 0xFF) | ((page[index + 1] & 0xFF) << 8) | ((page[index + 2] & 0xFF) << 16) | ((long)(page[index + 3] & 0xFF) << 24));
+		}
+		return (long)halfWordAt(offset) | ((long)halfWordAt(offset + 2) << 16);
+	}
+
+	// Same rules as FileReadHelper.readAddress: a ROM pointer converted to a file offset, or -1 if it doesn't look like one.
+	public long addressAt(long offset) {
+		long address = wordAt(offset);
+		if (address <= 0x8000000) { return -1; }
+		address -= 0x8000000;
+		if (address >= 0x1000 && address <= 0x1FFFFFF) {
+			return address;
+		} else {
+			return -1;
+		}
+	}
+
+	public boolean matchesAt(long offset, byte[] expected) {
+		for (int i = 0; i < expected.length; i++) {
+			if (byteAt(offset + i) != expected[i]) { return false; }
+		}
+		return true;
+	}
+
+	// Always a new array, so callers may keep it.
+	public byte[] bytesAt(long offset, int numBytes) {
+		byte[] result = new byte[numBytes];
+		int copied = 0;
+		while (copied < numBytes) {
+			long current = offset + copied;
+			if (current < 0 || current >= length) {
+				copied++;
+				continue;
+			}
+
+			byte[] page = page((int)(current >> PageShift));
+			int index = (int)(current & PageMask);
+			int count = (int)Math.min(Math.min(numBytes - copied, PageSize - index), length - current);
+			System.arraycopy(page, index, result, copied, count);
+			copied += count;
+		}
+		return result;
+	}
+
+	private byte[] page(int pageIndex) {
+		byte[] page = pages.get(pageIndex);
+		if (page == null) {
+			synchronized (handler) {
+				page = pages.get(pageIndex);
+				if (page == null) {
+					long pageStart = (long)pageIndex << PageShift;
+					page = new byte[PageSize];
+					byte[] read = handler.readBytesAtOffset(pageStart, (int)Math.min(PageSize, length - pageStart));
+					if (read != null) {
+						System.arraycopy(read, 0, page, 0, read.length);
+					}
+					pages.set(pageIndex, page);
+				}
+			}
+		}
+		return page;
+	}
+}
@@ -1,5 +1,6 @@
 package io;
 
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -137,10 +138,7 @@ public class UPSPatcher {
 			
 			long targetCRC = FileReadHelper.readWord(patchHandler, patchHandler.getFileLength() - 8, false);
 			
-			FileHandler resultHandler = new FileHandler(targetFile);
-			long resultCRC = resultHandler.getCRC32();
-			resultHandler.close();
-			resultHandler = null;
+			long resultCRC = CRC32Cache.computeCRC32(new File(targetFile));
 			
 			if (targetCRC != resultCRC) {
 				System.err.println("Resulting checksum is incorrect. Expected: " + Long.toHexString(targetCRC).toUpperCase() + " Actual: " + Long.toHexString(resultCRC).toUpperCase());
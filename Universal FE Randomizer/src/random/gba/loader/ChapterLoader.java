@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import fedata.gba.GBAFEChapterData;
 import fedata.gba.GBAFEChapterItemData;
@@ -26,6 +28,7 @@ import fedata.gba.fe8.FE8WorldMapEvent;
 import fedata.gba.general.CharacterNudge;
 import fedata.general.FEBase;
 import io.FileHandler;
+import io.ROMBuffer;
 import util.DebugPrinter;
 import util.Diff;
 import util.DiffCompiler;
@@ -41,12 +44,25 @@ public class ChapterLoader {
 	private Map<Integer, GBAFEWorldMapData> worldMapEventsByChapterID = new HashMap<Integer, GBAFEWorldMapData>();
 	private Map<Integer, GBAFEChapterData> mappedChapters = new HashMap<Integer, GBAFEChapterData>();
 	
+	// Every unit each character appears as, by chapter, in chapter order.
+	// Units never change which character they represent after loading, so this only needs to be built once.
+	private Map<Integer, Map<GBAFEChapterData, GBAFEChapterUnitData[]>> unitsByCharacterID = new HashMap<Integer, Map<GBAFEChapterData, GBAFEChapterUnitData[]>>();
+	private Map<Integer, GBAFEChapterUnitData[]> allUnitsByCharacterID = new HashMap<Integer, GBAFEChapterUnitData[]>();
+	
+	private static final GBAFEChapterUnitData[] NoUnits = new GBAFEChapterUnitData[] {};
+	
 	public static final String RecordKeeperCategoryKey = "Chapters";
 
 	public ChapterLoader(FEBase.GameType gameType, FileHandler handler) {
 		super();
 		this.gameType = gameType;
 		
+		// Chapters are read out of event scripts a few bytes at a time, so they read from memory instead of the file.
+		// That also lets every chapter and world map event load at the same time. They're put in order once they're all done.
+		ROMBuffer buffer = new ROMBuffer(handler);
+		List<ForkJoinTask<GBAFEChapterData>> chapterTasks = new ArrayList<ForkJoinTask<GBAFEChapterData>>();
+		List<ForkJoinTask<GBAFEWorldMapData>> worldMapTasks = new ArrayList<ForkJoinTask<GBAFEWorldMapData>>();
+		
 		switch (gameType) {
 			case FE6:
 				int numberOfChapters = FE6Data.ChapterPointer.values().length;
@@ -54,7 +70,6 @@ public class ChapterLoader {
 				int i = 0;
 				long baseAddress = FileReadHelper.readAddress(handler, FE6Data.ChapterTablePointer);
 				for (FE6Data.ChapterPointer chapter : FE6Data.ChapterPointer.values()) {
-					int chapterID = chapter.chapterID;
 					int[] classBlacklist = new int[chapter.blacklistedClasses().length];
 					for (int index = 0; index < chapter.blacklistedClasses().length; index++) {
 						classBlacklist[index] = chapter.blacklistedClasses()[index].ID;
@@ -62,19 +77,34 @@ public class ChapterLoader {
 					
 					CharacterNudge[] nudges = chapter.nudgesRequired();
 					long chapterOffset = baseAddress + (4 * chapter.chapterID);
+					Boolean isClassSafe = chapter.isClassSafe();
+					Boolean removeFightScenes = chapter.shouldRemoveFightScenes();
+					String friendlyName = chapter.toString();
+					Boolean shouldBeEasy = chapter.shouldBeEasy();
 					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Loading " + chapter.toString());
-					FE6Chapter fe6Chapter = new FE6Chapter(handler, chapterOffset, chapter.isClassSafe(), chapter.shouldRemoveFightScenes(), classBlacklist, chapter.toString(), chapter.shouldBeEasy(), nudges); 
-					chapters[i++] = fe6Chapter;
-					mappedChapters.put(chapterID, fe6Chapter);
-					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Chapter " + chapter.toString() + " loaded " + fe6Chapter.allUnits().length + " characters and " + fe6Chapter.allRewards().length + " rewards");
+					chapterTasks.add(ForkJoinPool.commonPool().submit(() -> new FE6Chapter(buffer, chapterOffset, isClassSafe, removeFightScenes, classBlacklist, friendlyName, shouldBeEasy, nudges)));
 					
 					if (chapter.hasWorldMapEvents()) {
 						long worldMapOffset = baseAddress + (4 * chapter.worldMapEvents);
 						DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Loading World Map Events for " + chapter.toString());
-						FE6WorldMapEvent fe6WorldMapEvent = new FE6WorldMapEvent(handler, worldMapOffset);
-						worldMapEventsByChapterID.put(chapterID, fe6WorldMapEvent);
+						worldMapTasks.add(ForkJoinPool.commonPool().submit(() -> new FE6WorldMapEvent(buffer, worldMapOffset)));
+					} else {
+						worldMapTasks.add(null);
+					}
+				}
+				
+				for (FE6Data.ChapterPointer chapter : FE6Data.ChapterPointer.values()) {
+					GBAFEChapterData fe6Chapter = chapterTasks.get(i).join();
+					chapters[i] = fe6Chapter;
+					mappedChapters.put(chapter.chapterID, fe6Chapter);
+					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Chapter " + chapter.toString() + " loaded " + fe6Chapter.allUnits().length + " characters and " + fe6Chapter.allRewards().length + " rewards");
+					
+					if (worldMapTasks.get(i) != null) {
+						GBAFEWorldMapData fe6WorldMapEvent = worldMapTasks.get(i).join();
+						worldMapEventsByChapterID.put(chapter.chapterID, fe6WorldMapEvent);
 						DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Chapter " + chapter.toString() + " loaded " + fe6WorldMapEvent.allPortraits().length + " world map portraits.");
 					}
+					i++;
 				}
 				break;
 			case FE7:
@@ -83,24 +113,36 @@ public class ChapterLoader {
 				i = 0;
 				baseAddress = FileReadHelper.readAddress(handler, FE7Data.ChapterTablePointer);
 				for (FE7Data.ChapterPointer chapter : FE7Data.ChapterPointer.values()) {
-					int chapterID = chapter.chapterID;
 					int[] classBlacklist = new int[chapter.blacklistedClasses().length];
 					for (int index = 0; index < chapter.blacklistedClasses().length; index++) {
 						classBlacklist[index] = chapter.blacklistedClasses()[index].ID;
 					}
 					long chapterOffset = baseAddress + (4 * chapter.chapterID);
+					Boolean isClassSafe = chapter.isClassSafe();
+					Boolean removeFightScenes = chapter.shouldRemoveFightScenes();
+					String friendlyName = chapter.toString();
+					Boolean shouldBeEasy = chapter.shouldBeEasy();
 					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Loading " + chapter.toString());
-					FE7Chapter fe7Chapter = new FE7Chapter(handler, chapterOffset, chapter.isClassSafe(), chapter.shouldRemoveFightScenes(), classBlacklist, chapter.toString(), chapter.shouldBeEasy()); 
+					chapterTasks.add(ForkJoinPool.commonPool().submit(() -> new FE7Chapter(buffer, chapterOffset, isClassSafe, removeFightScenes, classBlacklist, friendlyName, shouldBeEasy)));
+				}
+				
+				for (int j = 0; j < FE7Data.WorldMapEventCount; j++) {
+					long offset = FE7Data.WorldMapEventTableOffset + (j * FE7Data.WorldMapEventItemSize);
+					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Loading World Map Events from offset 0x" + Long.toHexString(offset));
+					worldMapTasks.add(ForkJoinPool.commonPool().submit(() -> new FE7WorldMapEvent(buffer, offset)));
+				}
+				
+				for (FE7Data.ChapterPointer chapter : FE7Data.ChapterPointer.values()) {
+					GBAFEChapterData fe7Chapter = chapterTasks.get(i).join();
 					chapters[i++] = fe7Chapter;
-					mappedChapters.put(chapterID, fe7Chapter);
+					mappedChapters.put(chapter.chapterID, fe7Chapter);
 					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Chapter " + chapter.toString() + " loaded " + fe7Chapter.allUnits().length + " characters and " + fe7Chapter.allRewards().length + " rewards");
 				}
 				
 				for (int j = 0; j < FE7Data.WorldMapEventCount; j++) {
 					long offset = FE7Data.WorldMapEventTableOffset + (j * FE7Data.WorldMapEventItemSize);
-					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Loading World Map Events from offset 0x" + Long.toHexString(offset));
-					FE7WorldMapEvent fe7WorldMapEvent = new FE7WorldMapEvent(handler, offset);
-					long dereferencedAddress = FileReadHelper.readAddress(handler, offset);
+					GBAFEWorldMapData fe7WorldMapEvent = worldMapTasks.get(j).join();
+					long dereferencedAddress = buffer.addressAt(offset);
 					FE7Data.ChapterPointer chapter = FE7Data.ChapterPointer.chapterForWorldMapEventOffset(dereferencedAddress);
 					worldMapEventsByChapterID.put(chapter.chapterID, fe7WorldMapEvent);
 					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Loaded " + fe7WorldMapEvent.allPortraits().length + " world map portraits.");
@@ -112,7 +154,6 @@ public class ChapterLoader {
 				i = 0;
 				baseAddress = FileReadHelper.readAddress(handler, FE8Data.ChapterTablePointer);
 				for (FE8Data.ChapterPointer chapter : FE8Data.ChapterPointer.values()) {
-					int chapterID = chapter.chapterID;
 					int[] classBlacklist = new int[chapter.blacklistedClasses().length];
 					for (int index = 0; index < chapter.blacklistedClasses().length; index++) {
 						classBlacklist[index] = chapter.blacklistedClasses()[index].ID;
@@ -129,18 +170,32 @@ public class ChapterLoader {
 					
 					CharacterNudge[] nudges = chapter.nudgesRequired();
 					long chapterOffset = baseAddress + (4 * chapter.chapterID);
+					Boolean isClassSafe = chapter.isClassSafe();
+					Boolean removeFightScenes = chapter.shouldRemoveFightScenes();
+					String friendlyName = chapter.toString();
+					Boolean shouldBeEasy = chapter.shouldBeEasy();
+					long[] additionalUnitOffsets = chapter.additionalUnitOffsets();
 					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Loading " + chapter.toString());
-					FE8Chapter fe8Chapter = new FE8Chapter(handler, chapterOffset, chapter.isClassSafe(), chapter.shouldRemoveFightScenes(), classBlacklist, chapter.toString(), chapter.shouldBeEasy(), trackedRewardRecipients, unarmedCharacterIDs, chapter.additionalUnitOffsets(), nudges); 
+					chapterTasks.add(ForkJoinPool.commonPool().submit(() -> new FE8Chapter(buffer, chapterOffset, isClassSafe, removeFightScenes, classBlacklist, friendlyName, shouldBeEasy, trackedRewardRecipients, unarmedCharacterIDs, additionalUnitOffsets, nudges)));
+				}
+				
+				for (int j = 0; j < FE8Data.WorldMapEventCount; j++) {
+					long offset = FE8Data.WorldMapEventTableOffset + (j * FE8Data.WorldMapEventItemSize);
+					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Loading World Map Events from offset 0x" + Long.toHexString(offset));
+					worldMapTasks.add(ForkJoinPool.commonPool().submit(() -> new FE8WorldMapEvent(buffer, offset)));
+				}
+				
+				for (FE8Data.ChapterPointer chapter : FE8Data.ChapterPointer.values()) {
+					GBAFEChapterData fe8Chapter = chapterTasks.get(i).join();
 					chapters[i++] = fe8Chapter;
-					mappedChapters.put(chapterID, fe8Chapter);
+					mappedChapters.put(chapter.chapterID, fe8Chapter);
 					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Chapter " + chapter.toString() + " loaded " + fe8Chapter.allUnits().length + " characters and " + fe8Chapter.allRewards().length + " rewards");
 				}
 				
 				for (int j = 0; j < FE8Data.WorldMapEventCount; j++) {
 					long offset = FE8Data.WorldMapEventTableOffset + (j * FE8Data.WorldMapEventItemSize);
-					DebugPrinter.log(DebugPrinter.Key.CHAPTER_LOADER, "Loading World Map Events from offset 0x" + Long.toHexString(offset));
-					FE8WorldMapEvent fe8WorldMapEvent = new FE8WorldMapEvent(handler, offset);
-					long dereferencedAddress = FileReadHelper.readAddress(handler, offset);
+					GBAFEWorldMapData fe8WorldMapEvent = worldMapTasks.get(j).join();
+					long dereferencedAddress = buffer.addressAt(offset);
 					FE8Data.ChapterPointer chapter = FE8Data.ChapterPointer.chapterForWorldMapEventOffset(dereferencedAddress);
 					if (chapter == null) { continue; }
 					worldMapEventsByChapterID.put(chapter.chapterID, fe8WorldMapEvent);
@@ -150,6 +205,44 @@ public class ChapterLoader {
 			default:
 				break;
 		}
+		
+		indexUnitsByCharacter();
+	}
+	
+	private void indexUnitsByCharacter() {
+		if (chapters == null) { return; }
+		
+		Map<Integer, Map<GBAFEChapterData, List<GBAFEChapterUnitData>>> unitLists = new HashMap<Integer, Map<GBAFEChapterData, List<GBAFEChapterUnitData>>>();
+		Map<Integer, List<GBAFEChapterUnitData>> allUnitLists = new HashMap<Integer, List<GBAFEChapterUnitData>>();
+		for (GBAFEChapterData chapter : chapters) {
+			for (GBAFEChapterUnitData unit : chapter.allUnits()) {
+				int characterID = unit.getCharacterNumber();
+				Map<GBAFEChapterData, List<GBAFEChapterUnitData>> unitsByChapter = unitLists.get(characterID);
+				if (unitsByChapter == null) {
+					unitsByChapter = new HashMap<GBAFEChapterData, List<GBAFEChapterUnitData>>();
+					unitLists.put(characterID, unitsByChapter);
+					allUnitLists.put(characterID, new ArrayList<GBAFEChapterUnitData>());
+				}
+				List<GBAFEChapterUnitData> units = unitsByChapter.get(chapter);
+				if (units == null) {
+					units = new ArrayList<GBAFEChapterUnitData>();
+					unitsByChapter.put(chapter, units);
+				}
+				units.add(unit);
+				allUnitLists.get(characterID).add(unit);
+			}
+		}
+		
+		for (int characterID : unitLists.keySet()) {
+			Map<GBAFEChapterData, GBAFEChapterUnitData[]> unitsByChapter = new HashMap<GBAFEChapterData, GBAFEChapterUnitData[]>();
+			for (Map.Entry<GBAFEChapterData, List<GBAFEChapterUnitData>> entry : unitLists.get(characterID).entrySet()) {
+				unitsByChapter.put(entry.getKey(), entry.getValue().toArray(new GBAFEChapterUnitData[entry.getValue().size()]));
+			}
+			unitsByCharacterID.put(characterID, unitsByChapter);
+			
+			List<GBAFEChapterUnitData> allUnits = allUnitLists.get(characterID);
+			allUnitsByCharacterID.put(characterID, allUnits.toArray(new GBAFEChapterUnitData[allUnits.size()]));
+		}
 	}
 	
 	public GBAFEChapterData[] allChapters() {
@@ -182,13 +275,23 @@ public class ChapterLoader {
 		return mappedChapters.get(chapterID);
 	}
 	
+	// All units representing the character, across all chapters, in chapter order.
+	public GBAFEChapterUnitData[] unitsForCharacter(int characterID) {
+		GBAFEChapterUnitData[] units = allUnitsByCharacterID.get(characterID);
+		return units != null ? units : NoUnits;
+	}
+	
+	public GBAFEChapterUnitData[] unitsForCharacterInChapter(int characterID, GBAFEChapterData chapter) {
+		Map<GBAFEChapterData, GBAFEChapterUnitData[]> unitsByChapter = unitsByCharacterID.get(characterID);
+		if (unitsByChapter == null) { return NoUnits; }
+		GBAFEChapterUnitData[] units = unitsByChapter.get(chapter);
+		return units != null ? units : NoUnits;
+	}
+	
 	public int getStartingLevelForCharacter(int characterID) {
-		for (GBAFEChapterData chapter : allChapters()) {
-			for (GBAFEChapterUnitData unit : chapter.allUnits()) {
-				if (unit.getCharacterNumber() == characterID) {
-					return unit.getStartingLevel();
-				}
-			}
+		GBAFEChapterUnitData[] units = unitsForCharacter(characterID);
+		if (units.length > 0) {
+			return units[0].getStartingLevel();
 		}
 		
 		return 0;
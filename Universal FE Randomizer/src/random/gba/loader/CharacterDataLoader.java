@@ -1,10 +1,8 @@
 package random.gba.loader;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -15,16 +13,26 @@ import fedata.gba.GBAFEClassData;
 import fedata.gba.general.GBAFECharacter;
 import fedata.gba.general.GBAFECharacterProvider;
 import io.FileHandler;
-import util.Diff;
 import util.DiffCompiler;
 import util.FileReadHelper;
 import util.recordkeeper.RecordKeeper;
+import util.recordkeeper.RecordKeeper.ValueFormat;
 
 public class CharacterDataLoader {
 	private GBAFECharacterProvider provider;
 	
-	private Map<Integer, GBAFECharacterData> characterMap = new HashMap<Integer, GBAFECharacterData>();
-	private Map<Integer, GBAFECharacterData> counterMap = new HashMap<Integer, GBAFECharacterData>();
+	// Indexed by character ID. IDs are small and dense, so this is cheaper than boxing them into a map.
+	private GBAFECharacterData[] charactersByID;
+	private GBAFECharacterData[] countersByID;
+	
+	// Everything below is sorted by character ID and built once at load time.
+	private GBAFECharacterData[] allCharacters;
+	private GBAFECharacterData[] playableCharacters;
+	private GBAFECharacterData[] bossCharacters;
+	private List<GBAFECharacterData> canonicalPlayableCharacters;
+	
+	// Filled in as characters are asked for.
+	private GBAFECharacterData[][] linkedCharactersByID;
 	
 	public static final String RecordKeeperCategoryKey = "Characters";
 	
@@ -32,15 +40,43 @@ public class CharacterDataLoader {
 		super();
 		this.provider = provider;
 		long baseAddress = FileReadHelper.readAddress(handler, provider.characterDataTablePointer());
-		for (GBAFECharacter character : provider.allCharacters()) {
+		
+		GBAFECharacter[] characters = provider.allCharacters();
+		int maxID = 0;
+		for (GBAFECharacter character : characters) {
+			maxID = Math.max(maxID, character.getID());
+		}
+		charactersByID = new GBAFECharacterData[maxID + 1];
+		countersByID = new GBAFECharacterData[maxID + 1];
+		linkedCharactersByID = new GBAFECharacterData[maxID + 1][];
+		
+		for (GBAFECharacter character : characters) {
 			long offset = baseAddress + (provider.bytesPerCharacter() * character.getID());
 			byte[] charData = handler.readBytesAtOffset(offset, provider.bytesPerCharacter());
-			characterMap.put(character.getID(), provider.characterDataWithData(charData, offset, provider.characterWithID(character.getID()).isClassLimited()));
+			charactersByID[character.getID()] = provider.characterDataWithData(charData, offset, provider.characterWithID(character.getID()).isClassLimited());
 		}
 		Map<Integer, GBAFECharacter> counters = provider.counters();
 		for (int characterID : counters.keySet()) {
-			counterMap.put(characterID, characterMap.get(counters.get(characterID).getID()));
+			if (characterID >= 0 && characterID < countersByID.length) {
+				countersByID[characterID] = characterWithID(counters.get(characterID).getID());
+			}
+		}
+		
+		List<GBAFECharacterData> loadedCharacters = new ArrayList<GBAFECharacterData>();
+		for (GBAFECharacterData character : charactersByID) {
+			if (character != null) { loadedCharacters.add(character); }
+		}
+		allCharacters = loadedCharacters.toArray(new GBAFECharacterData[loadedCharacters.size()]);
+		playableCharacters = feCharactersFromSet(provider.allPlayableCharacters());
+		bossCharacters = feCharactersFromSet(provider.allBossCharacters());
+		
+		List<GBAFECharacterData> canonicalCharacters = new ArrayList<GBAFECharacterData>();
+		for (GBAFECharacterData character : playableCharacters) {
+			if (provider.canonicalID(character.getID()) == character.getID()) {
+				canonicalCharacters.add(character);
+			}
 		}
+		canonicalPlayableCharacters = Collections.unmodifiableList(canonicalCharacters);
 	}
 	
 	public String debugStringForCharacter(int characterID) {
@@ -48,18 +84,17 @@ public class CharacterDataLoader {
 	}
 	
 	public GBAFECharacterData characterWithID(int characterID) {
-		return characterMap.get(characterID);
+		if (characterID < 0 || characterID >= charactersByID.length) { return null; }
+		return charactersByID[characterID];
 	}
 	
+	// Returns a copy, since callers are free to rearrange it.
 	public GBAFECharacterData[] playableCharacters() {
-		return feCharactersFromSet(provider.allPlayableCharacters());
+		return playableCharacters.clone();
 	}
 	
 	public List<GBAFECharacterData> canonicalPlayableCharacters() {
-		List<GBAFECharacterData> charList = new ArrayList<GBAFECharacterData>(Arrays.asList(playableCharacters()));
-		return charList.stream().filter(character -> {
-			return provider.canonicalID(character.getID()) == character.getID();
-		}).collect(Collectors.toList());
+		return canonicalPlayableCharacters;
 	}
 	
 	public List<GBAFECharacterData> charactersExcludedFromRandomRecruitment() {
@@ -69,7 +104,7 @@ public class CharacterDataLoader {
 	}
 	
 	public GBAFECharacterData[] bossCharacters() {
-		return feCharactersFromSet(provider.allBossCharacters());
+		return bossCharacters.clone();
 	}
 	
 	public Boolean isPlayableCharacterID(int characterID) {
@@ -126,7 +161,9 @@ public class CharacterDataLoader {
 	}
 	
 	public GBAFECharacterData characterRequiresCounterToCharacter(GBAFECharacterData character) {
-		return counterMap.get(character.getID());
+		int characterID = character.getID();
+		if (characterID < 0 || characterID >= countersByID.length) { return null; }
+		return countersByID[characterID];
 	}
 	
 	public Set<Integer> multiPortraitsForCharacter(int characterID) {
@@ -134,7 +171,14 @@ public class CharacterDataLoader {
 	}
 	
 	public GBAFECharacterData[] linkedCharactersForCharacter(GBAFECharacterData character) {
-		return feCharactersFromSet(provider.linkedCharacters(character.getID()));
+		int characterID = character.getID();
+		if (characterID < 0 || characterID >= linkedCharactersByID.length) {
+			return feCharactersFromSet(provider.linkedCharacters(characterID));
+		}
+		if (linkedCharactersByID[characterID] == null) {
+			linkedCharactersByID[characterID] = feCharactersFromSet(provider.linkedCharacters(characterID));
+		}
+		return linkedCharactersByID[characterID].clone();
 	}
 	
 	public Boolean isFlyingCharacter(int characterID) {
@@ -147,17 +191,16 @@ public class CharacterDataLoader {
 	}
 	
 	public void commit() {
-		for (GBAFECharacterData character : characterMap.values()) {
+		for (GBAFECharacterData character : allCharacters) {
 			character.commitChanges();
 		}
 	}
 	
 	public void compileDiffs(DiffCompiler compiler) {
-		for (GBAFECharacterData character : characterMap.values()) {
+		for (GBAFECharacterData character : allCharacters) {
 			character.commitChanges();
 			if (character.hasCommittedChanges()) {
-				Diff charDiff = new Diff(character.getAddressOffset(), character.getData().length, character.getData(), null);
-				compiler.addDiff(charDiff);
+				compiler.addDiffsForChanges(character);
 			}
 		}
 	}
@@ -177,10 +220,10 @@ public class CharacterDataLoader {
 	}
 	
 	public void recordCharacters(RecordKeeper rk, Boolean isInitial, ClassDataLoader classData, TextLoader textData) {
-		for (GBAFECharacterData character : playableCharacters()) {
+		for (GBAFECharacterData character : playableCharacters) {
 			recordCharacter(rk, character, isInitial, classData, textData);
 		}
-		for (GBAFECharacterData boss : bossCharacters()) {
+		for (GBAFECharacterData boss : bossCharacters) {
 			recordCharacter(rk, boss, isInitial, classData, textData);
 		}
 	}
@@ -201,46 +244,46 @@ public class CharacterDataLoader {
 			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Name", name);
 			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Class", classValue);
 			
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "HP Growth", String.format("%d%%", character.getHPGrowth()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "STR/MAG Growth", String.format("%d%%", character.getSTRGrowth()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "SKL Growth", String.format("%d%%", character.getSKLGrowth()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "SPD Growth", String.format("%d%%", character.getSPDGrowth()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "LCK Growth", String.format("%d%%", character.getLCKGrowth()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "DEF Growth", String.format("%d%%", character.getDEFGrowth()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "RES Growth", String.format("%d%%", character.getRESGrowth()));
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "HP Growth", character.getHPGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "STR/MAG Growth", character.getSTRGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "SKL Growth", character.getSKLGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "SPD Growth", character.getSPDGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "LCK Growth", character.getLCKGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "DEF Growth", character.getDEFGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "RES Growth", character.getRESGrowth(), ValueFormat.PERCENTAGE);
 			
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Base HP", Integer.toString(character.getBaseHP() + charClass.getBaseHP()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Base STR/MAG", Integer.toString(character.getBaseSTR() + charClass.getBaseSTR()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Base SKL", Integer.toString(character.getBaseSKL() + charClass.getBaseSKL()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Base SPD", Integer.toString(character.getBaseSPD() + charClass.getBaseSPD()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Base LCK", Integer.toString(character.getBaseLCK() + charClass.getBaseLCK()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Base DEF", Integer.toString(character.getBaseDEF() + charClass.getBaseDEF()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Base RES", Integer.toString(character.getBaseRES() + charClass.getBaseRES()));
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Base HP", character.getBaseHP() + charClass.getBaseHP(), ValueFormat.INTEGER);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Base STR/MAG", character.getBaseSTR() + charClass.getBaseSTR(), ValueFormat.INTEGER);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Base SKL", character.getBaseSKL() + charClass.getBaseSKL(), ValueFormat.INTEGER);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Base SPD", character.getBaseSPD() + charClass.getBaseSPD(), ValueFormat.INTEGER);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Base LCK", character.getBaseLCK() + charClass.getBaseLCK(), ValueFormat.INTEGER);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Base DEF", character.getBaseDEF() + charClass.getBaseDEF(), ValueFormat.INTEGER);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Base RES", character.getBaseRES() + charClass.getBaseRES(), ValueFormat.INTEGER);
 			
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Base CON", Integer.toString(character.getConstitution() + charClass.getCON()));
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Base CON", character.getConstitution() + charClass.getCON(), ValueFormat.INTEGER);
 			
 			rk.recordOriginalEntry(RecordKeeperCategoryKey, internalName, "Affinity", character.getAffinityName() + " (0x" + Integer.toHexString(character.getAffinityValue()).toUpperCase() + ")");
 		} else {
 			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Name", name);
 			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Class", classValue);
 			
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "HP Growth", String.format("%d%%", character.getHPGrowth()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "STR/MAG Growth", String.format("%d%%", character.getSTRGrowth()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "SKL Growth", String.format("%d%%", character.getSKLGrowth()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "SPD Growth", String.format("%d%%", character.getSPDGrowth()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "LCK Growth", String.format("%d%%", character.getLCKGrowth()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "DEF Growth", String.format("%d%%", character.getDEFGrowth()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "RES Growth", String.format("%d%%", character.getRESGrowth()));
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "HP Growth", character.getHPGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "STR/MAG Growth", character.getSTRGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "SKL Growth", character.getSKLGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "SPD Growth", character.getSPDGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "LCK Growth", character.getLCKGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "DEF Growth", character.getDEFGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "RES Growth", character.getRESGrowth(), ValueFormat.PERCENTAGE);
 			
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Base HP", Integer.toString(character.getBaseHP() + charClass.getBaseHP()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Base STR/MAG", Integer.toString(character.getBaseSTR() + charClass.getBaseSTR()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Base SKL", Integer.toString(character.getBaseSKL() + charClass.getBaseSKL()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Base SPD", Integer.toString(character.getBaseSPD() + charClass.getBaseSPD()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Base LCK", Integer.toString(character.getBaseLCK() + charClass.getBaseLCK()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Base DEF", Integer.toString(character.getBaseDEF() + charClass.getBaseDEF()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Base RES", Integer.toString(character.getBaseRES() + charClass.getBaseRES()));
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Base HP", character.getBaseHP() + charClass.getBaseHP(), ValueFormat.INTEGER);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Base STR/MAG", character.getBaseSTR() + charClass.getBaseSTR(), ValueFormat.INTEGER);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Base SKL", character.getBaseSKL() + charClass.getBaseSKL(), ValueFormat.INTEGER);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Base SPD", character.getBaseSPD() + charClass.getBaseSPD(), ValueFormat.INTEGER);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Base LCK", character.getBaseLCK() + charClass.getBaseLCK(), ValueFormat.INTEGER);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Base DEF", character.getBaseDEF() + charClass.getBaseDEF(), ValueFormat.INTEGER);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Base RES", character.getBaseRES() + charClass.getBaseRES(), ValueFormat.INTEGER);
 			
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Base CON", Integer.toString(character.getConstitution() + charClass.getCON()));
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Base CON", character.getConstitution() + charClass.getCON(), ValueFormat.INTEGER);
 			
 			rk.recordUpdatedEntry(RecordKeeperCategoryKey, internalName, "Affinity", character.getAffinityName() + " (0x" + Integer.toHexString(character.getAffinityValue()).toUpperCase() + ")");
 		}
@@ -14,10 +14,10 @@ import fedata.gba.GBAFEClassData;
 import fedata.gba.general.GBAFEClass;
 import fedata.gba.general.GBAFEClassProvider;
 import io.FileHandler;
-import util.Diff;
 import util.DiffCompiler;
 import util.FileReadHelper;
 import util.recordkeeper.RecordKeeper;
+import util.recordkeeper.RecordKeeper.ValueFormat;
 
 public class ClassDataLoader {
 	
@@ -85,8 +85,7 @@ public class ClassDataLoader {
 		for (GBAFEClassData charClass : classMap.values()) {
 			charClass.commitChanges();
 			if (charClass.hasCommittedChanges()) {
-				Diff charDiff = new Diff(charClass.getAddressOffset(), charClass.getData().length, charClass.getData(), null);
-				compiler.addDiff(charDiff);
+				compiler.addDiffsForChanges(charClass);
 			}
 		}
 	}
@@ -232,25 +231,25 @@ public class ClassDataLoader {
 		if (isFemale) { name = name + " (F)"; }
 		
 		if (isInitial) {
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, name, "HP Growth", String.format("%d%%", charClass.getHPGrowth()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, name, "STR/MAG Growth", String.format("%d%%", charClass.getSTRGrowth()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, name, "SKL Growth", String.format("%d%%", charClass.getSKLGrowth()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, name, "SPD Growth", String.format("%d%%", charClass.getSPDGrowth()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, name, "LCK Growth", String.format("%d%%", charClass.getLCKGrowth()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, name, "DEF Growth", String.format("%d%%", charClass.getDEFGrowth()));
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, name, "RES Growth", String.format("%d%%", charClass.getRESGrowth()));
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, name, "HP Growth", charClass.getHPGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, name, "STR/MAG Growth", charClass.getSTRGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, name, "SKL Growth", charClass.getSKLGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, name, "SPD Growth", charClass.getSPDGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, name, "LCK Growth", charClass.getLCKGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, name, "DEF Growth", charClass.getDEFGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, name, "RES Growth", charClass.getRESGrowth(), ValueFormat.PERCENTAGE);
 			
-			rk.recordOriginalEntry(RecordKeeperCategoryKey, name, "Movement Range", Integer.toString(charClass.getMOV()));
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, name, "Movement Range", charClass.getMOV(), ValueFormat.INTEGER);
 		} else {
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, name, "HP Growth", String.format("%d%%", charClass.getHPGrowth()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, name, "STR/MAG Growth", String.format("%d%%", charClass.getSTRGrowth()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, name, "SKL Growth", String.format("%d%%", charClass.getSKLGrowth()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, name, "SPD Growth", String.format("%d%%", charClass.getSPDGrowth()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, name, "LCK Growth", String.format("%d%%", charClass.getLCKGrowth()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, name, "DEF Growth", String.format("%d%%", charClass.getDEFGrowth()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, name, "RES Growth", String.format("%d%%", charClass.getRESGrowth()));
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, name, "HP Growth", charClass.getHPGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, name, "STR/MAG Growth", charClass.getSTRGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, name, "SKL Growth", charClass.getSKLGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, name, "SPD Growth", charClass.getSPDGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, name, "LCK Growth", charClass.getLCKGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, name, "DEF Growth", charClass.getDEFGrowth(), ValueFormat.PERCENTAGE);
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, name, "RES Growth", charClass.getRESGrowth(), ValueFormat.PERCENTAGE);
 			
-			rk.recordUpdatedEntry(RecordKeeperCategoryKey, name, "Movement Range", Integer.toString(charClass.getMOV()));
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, name, "Movement Range", charClass.getMOV(), ValueFormat.INTEGER);
 		}
 	}
 }
@@ -27,6 +27,7 @@ import util.FileReadHelper;
 import util.FreeSpaceManager;
 import util.WhyDoesJavaNotHaveThese;
 import util.recordkeeper.RecordKeeper;
+import util.recordkeeper.RecordKeeper.ValueFormat;
 
 public class ItemDataLoader {
 	private GBAFEItemProvider provider;
@@ -45,6 +46,16 @@ public class ItemDataLoader {
 	
 	private Map<Integer, GBAFEItemData> itemMap = new HashMap<Integer, GBAFEItemData>();
 	
+	// Weapons by type, rank, and range restrictions, in the order feItemsFromItemSet returns them.
+	// The provider answers these from static game data, so a bucket never changes once it's been filled in.
+	private GBAFEItemData[][][] weaponBuckets = new GBAFEItemData[WeaponType.values().length][WeaponRank.values().length * 4][];
+	private Map<Integer, GBAFEItemData[]> basicWeaponsByClassID = new HashMap<Integer, GBAFEItemData[]>();
+	
+	// The order weapon types are pooled in when picking a random weapon for a character.
+	private static final WeaponType[] CharacterWeaponTypes = new WeaponType[] {
+			WeaponType.SWORD, WeaponType.LANCE, WeaponType.AXE, WeaponType.BOW, WeaponType.ANIMA, WeaponType.LIGHT, WeaponType.DARK, WeaponType.STAFF
+	};
+	
 	// TODO: Put this somewhere else.
 	public GBAFESpellAnimationCollection spellAnimations;
 	
@@ -271,7 +282,19 @@ public class ItemDataLoader {
 	}
 	
 	public GBAFEItemData[] itemsOfTypeAndBelowRank(WeaponType type, WeaponRank rank, Boolean rangedOnly, Boolean requiresMelee) {
-		return feItemsFromItemSet(provider.weaponsOfTypeUpToRank(type, rank, rangedOnly, requiresMelee));
+		return weaponBucket(type, rank, rangedOnly, requiresMelee).clone();
+	}
+	
+	private GBAFEItemData[] weaponBucket(WeaponType type, WeaponRank rank, Boolean rangedOnly, Boolean requiresMelee) {
+		boolean ranged = rangedOnly != null && rangedOnly;
+		boolean melee = requiresMelee != null && requiresMelee;
+		int bucketIndex = rank.ordinal() * 4 + (ranged ? 2 : 0) + (melee ? 1 : 0);
+		GBAFEItemData[] bucket = weaponBuckets[type.ordinal()][bucketIndex];
+		if (bucket == null) {
+			bucket = feItemsFromItemSet(provider.weaponsOfTypeUpToRank(type, rank, ranged, melee));
+			weaponBuckets[type.ordinal()][bucketIndex] = bucket;
+		}
+		return bucket;
 	}
 	
 	public GBAFEItemData[] itemsOfTypeAndEqualRankValue(WeaponType type, int rankValue, Boolean rangedOnly, Boolean requiresMelee, Boolean allowLower) {
@@ -318,11 +341,20 @@ public class ItemDataLoader {
 	
 	public GBAFEItemData getBasicWeaponForCharacter(GBAFECharacterData character, Boolean ranged, Boolean mustAttack, Random rng) {
 		int classID = character.getClassID();
-		Set<GBAFEItem> weapons = provider.basicWeaponsForClass(classID);
-		GBAFEItem[] weaponArray = weapons.toArray(new GBAFEItem[weapons.size()]);
-		if (weapons.size() == 1) { return itemMap.get(weaponArray[0].getID()); }
-		else if (weapons.isEmpty()) { return null; }
-		return itemMap.get(weaponArray[rng.nextInt(weapons.size())].getID());
+		GBAFEItemData[] weapons = basicWeaponsByClassID.get(classID);
+		if (weapons == null) {
+			Set<GBAFEItem> weaponSet = provider.basicWeaponsForClass(classID);
+			GBAFEItem[] weaponArray = weaponSet.toArray(new GBAFEItem[weaponSet.size()]);
+			weapons = new GBAFEItemData[weaponArray.length];
+			for (int i = 0; i < weaponArray.length; i++) {
+				weapons[i] = itemMap.get(weaponArray[i].getID());
+			}
+			basicWeaponsByClassID.put(classID, weapons);
+		}
+		
+		if (weapons.length == 1) { return weapons[0]; }
+		else if (weapons.length == 0) { return null; }
+		return weapons[rng.nextInt(weapons.length)];
 	}
 	
 	public GBAFEItemData getSidegradeWeapon(GBAFEClassData targetClass, GBAFEItemData originalWeapon, boolean strict, Random rng) {
@@ -364,32 +396,47 @@ public class ItemDataLoader {
 	}
 	
 	public GBAFEItemData getRandomWeaponForCharacter(GBAFECharacterData character, Boolean ranged, Boolean melee, Random rng) {
-		GBAFEItemData[] potentialItems = usableWeaponsForCharacter(character, ranged, melee);
-		if (potentialItems == null || potentialItems.length < 1) {
+		// Picks from the character's weapon buckets as if they were concatenated, without building the combined list.
+		int totalCount = 0;
+		for (WeaponType type : CharacterWeaponTypes) {
+			int rankValue = rankValueForWeaponType(character, type);
+			if (rankValue > 0) { totalCount += weaponBucket(type, provider.rankWithValue(rankValue), ranged, melee).length; }
+		}
+		
+		if (totalCount < 1) {
 			// Check class specific weapons (e.g. FE8 monsters)
-			potentialItems = feItemsFromItemSet(provider.weaponsForClass(character.getClassID()));
+			GBAFEItemData[] potentialItems = feItemsFromItemSet(provider.weaponsForClass(character.getClassID()));
 			if (potentialItems == null || potentialItems.length < 1) {
 				return null;
 			}
+			
+			return potentialItems[rng.nextInt(potentialItems.length)];
+		}
+		
+		int index = rng.nextInt(totalCount);
+		for (WeaponType type : CharacterWeaponTypes) {
+			int rankValue = rankValueForWeaponType(character, type);
+			if (rankValue <= 0) { continue; }
+			GBAFEItemData[] bucket = weaponBucket(type, provider.rankWithValue(rankValue), ranged, melee);
+			if (index < bucket.length) { return bucket[index]; }
+			index -= bucket.length;
 		}
 		
-		int index = rng.nextInt(potentialItems.length);
-		return potentialItems[index];
+		return null;
 	}
 	
-	private GBAFEItemData[] usableWeaponsForCharacter(GBAFECharacterData character, Boolean ranged, Boolean melee) {
-		ArrayList<GBAFEItemData> items = new ArrayList<GBAFEItemData>();
-		
-		if (character.getSwordRank() > 0) { items.addAll(Arrays.asList(itemsOfTypeAndBelowRankValue(WeaponType.SWORD, character.getSwordRank(), ranged, melee))); }
-		if (character.getLanceRank() > 0) { items.addAll(Arrays.asList(itemsOfTypeAndBelowRankValue(WeaponType.LANCE, character.getLanceRank(), ranged, melee))); }
-		if (character.getAxeRank() > 0) { items.addAll(Arrays.asList(itemsOfTypeAndBelowRankValue(WeaponType.AXE, character.getAxeRank(), ranged, melee))); }
-		if (character.getBowRank() > 0) { items.addAll(Arrays.asList(itemsOfTypeAndBelowRankValue(WeaponType.BOW, character.getBowRank(), ranged, melee))); }
-		if (character.getAnimaRank() > 0) { items.addAll(Arrays.asList(itemsOfTypeAndBelowRankValue(WeaponType.ANIMA, character.getAnimaRank(), ranged, melee))); }
-		if (character.getLightRank() > 0) { items.addAll(Arrays.asList(itemsOfTypeAndBelowRankValue(WeaponType.LIGHT, character.getLightRank(), ranged, melee))); }
-		if (character.getDarkRank() > 0) { items.addAll(Arrays.asList(itemsOfTypeAndBelowRankValue(WeaponType.DARK, character.getDarkRank(), ranged, melee))); }
-		if (character.getStaffRank() > 0) { items.addAll(Arrays.asList(itemsOfTypeAndBelowRankValue(WeaponType.STAFF, character.getStaffRank(), ranged, melee))); }
-		
-		return items.toArray(new GBAFEItemData[items.size()]);
+	private int rankValueForWeaponType(GBAFECharacterData character, WeaponType type) {
+		switch (type) {
+		case SWORD: return character.getSwordRank();
+		case LANCE: return character.getLanceRank();
+		case AXE: return character.getAxeRank();
+		case BOW: return character.getBowRank();
+		case ANIMA: return character.getAnimaRank();
+		case LIGHT: return character.getLightRank();
+		case DARK: return character.getDarkRank();
+		case STAFF: return character.getStaffRank();
+		default: return 0;
+		}
 	}
 	
 	public GBAFEItemData[] formerThiefInventory() {
@@ -416,8 +463,7 @@ public class ItemDataLoader {
 		for (GBAFEItemData item : itemMap.values()) {
 			item.commitChanges();
 			if (item.hasCommittedChanges()) {
-				Diff charDiff = new Diff(item.getAddressOffset(), item.getData().length, item.getData(), null);
-				compiler.addDiff(charDiff);
+				compiler.addDiffsForChanges(item);
 			}
 		}
 		
@@ -460,11 +506,11 @@ public class ItemDataLoader {
 		
 		if (isInitial) {
 			rk.recordOriginalEntry(RecordKeeperCategoryWeaponKey, name, "Description", description);
-			rk.recordOriginalEntry(RecordKeeperCategoryWeaponKey, name, "Power (MT)", String.format("%d", item.getMight()));
-			rk.recordOriginalEntry(RecordKeeperCategoryWeaponKey, name, "Accuracy (Hit)", String.format("%d", item.getHit()));
-			rk.recordOriginalEntry(RecordKeeperCategoryWeaponKey, name, "Weight (WT)", String.format("%d", item.getWeight()));
-			rk.recordOriginalEntry(RecordKeeperCategoryWeaponKey, name, "Durability", String.format("%d", item.getDurability()));
-			rk.recordOriginalEntry(RecordKeeperCategoryWeaponKey, name, "Critical", String.format("%d",  item.getCritical()));
+			rk.recordOriginalEntry(RecordKeeperCategoryWeaponKey, name, "Power (MT)", item.getMight(), ValueFormat.INTEGER);
+			rk.recordOriginalEntry(RecordKeeperCategoryWeaponKey, name, "Accuracy (Hit)", item.getHit(), ValueFormat.INTEGER);
+			rk.recordOriginalEntry(RecordKeeperCategoryWeaponKey, name, "Weight (WT)", item.getWeight(), ValueFormat.INTEGER);
+			rk.recordOriginalEntry(RecordKeeperCategoryWeaponKey, name, "Durability", item.getDurability(), ValueFormat.INTEGER);
+			rk.recordOriginalEntry(RecordKeeperCategoryWeaponKey, name, "Critical", item.getCritical(), ValueFormat.INTEGER);
 			
 			long statPointerAddress = item.getStatBonusPointer();
 			if (statPointerAddress != 0) {
@@ -536,11 +582,11 @@ public class ItemDataLoader {
 			
 		} else {
 			rk.recordUpdatedEntry(RecordKeeperCategoryWeaponKey, name, "Description", description);
-			rk.recordUpdatedEntry(RecordKeeperCategoryWeaponKey, name, "Power (MT)", String.format("%d", item.getMight()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryWeaponKey, name, "Accuracy (Hit)", String.format("%d", item.getHit()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryWeaponKey, name, "Weight (WT)", String.format("%d", item.getWeight()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryWeaponKey, name, "Durability", String.format("%d", item.getDurability()));
-			rk.recordUpdatedEntry(RecordKeeperCategoryWeaponKey, name, "Critical", String.format("%d",  item.getCritical()));
+			rk.recordUpdatedEntry(RecordKeeperCategoryWeaponKey, name, "Power (MT)", item.getMight(), ValueFormat.INTEGER);
+			rk.recordUpdatedEntry(RecordKeeperCategoryWeaponKey, name, "Accuracy (Hit)", item.getHit(), ValueFormat.INTEGER);
+			rk.recordUpdatedEntry(RecordKeeperCategoryWeaponKey, name, "Weight (WT)", item.getWeight(), ValueFormat.INTEGER);
+			rk.recordUpdatedEntry(RecordKeeperCategoryWeaponKey, name, "Durability", item.getDurability(), ValueFormat.INTEGER);
+			rk.recordUpdatedEntry(RecordKeeperCategoryWeaponKey, name, "Critical", item.getCritical(), ValueFormat.INTEGER);
 			
 			long statPointerAddress = item.getStatBonusPointer();
 			if (statPointerAddress != 0) {
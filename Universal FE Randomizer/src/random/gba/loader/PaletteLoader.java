@@ -2,9 +2,15 @@ package random.gba.loader;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 import fedata.gba.GBAFECharacterData;
@@ -14,6 +20,7 @@ import fedata.gba.fe8.FE8Data;
 import fedata.gba.fe8.FE8PaletteMapper;
 import fedata.gba.fe8.FE8PromotionManager;
 import fedata.gba.fe8.FE8PaletteMapper.SlotType;
+import fedata.gba.general.PaletteCache;
 import fedata.gba.general.PaletteColor;
 import fedata.gba.general.PaletteInfo;
 import fedata.gba.general.PaletteV2;
@@ -59,6 +66,9 @@ public class PaletteLoader {
 	public PaletteLoader(FEBase.GameType gameType, FileHandler handler, CharacterDataLoader charData, ClassDataLoader classData) {
 		this.gameType = gameType;
 		
+		// Every character palette is also loaded as a reference palette, and classes often share palettes with characters.
+		PaletteCache paletteCache = new PaletteCache(handler);
+		
 		switch (gameType) {
 		case FE6:
 			for (FE6Data.Character character : FE6Data.Character.allPlayableCharacters) {
@@ -73,11 +83,11 @@ public class PaletteLoader {
 				}
 				for (PaletteInfo paletteInfo : FE6Data.Palette.palettesForCharacter(charID)) {
 					int classID = paletteInfo.getClassID();
-					PaletteV2 palette = new PaletteV2(handler, paletteInfo);
+					PaletteV2 palette = paletteCache.paletteForInfo(paletteInfo);
 					paletteByPaletteIDV2.put(paletteInfo.getPaletteID(), palette);
 					if (classData.isPromotedClass(classID)) { paletteEntry.promotedPalette = palette; }
 					else { paletteEntry.unpromotedPalette = palette; }
-					referenceMap.put(classID, new PaletteV2(handler, paletteInfo));
+					referenceMap.put(classID, paletteCache.paletteForInfo(paletteInfo));
 					FE6Data.CharacterClass fe6class = FE6Data.CharacterClass.valueOf(classID);
 					FE6Data.Character fe6char = FE6Data.Character.valueOf(charID);
 					DebugPrinter.log(DebugPrinter.Key.PALETTE, "Initializing Character 0x" + Integer.toHexString(charID) + " (" + fe6char.toString() + ")" + " with palette at offset 0x" + Long.toHexString(paletteInfo.getOffset()) + " (Class: " + Integer.toHexString(classID) + " (" + fe6class.toString() + "))");
@@ -95,18 +105,18 @@ public class PaletteLoader {
 				}
 				for (PaletteInfo paletteInfo : FE6Data.Palette.palettesForCharacter(charID)) {
 					int classID = paletteInfo.getClassID();
-					PaletteV2 palette = new PaletteV2(handler, paletteInfo);
+					PaletteV2 palette = paletteCache.paletteForInfo(paletteInfo);
 					paletteByPaletteIDV2.put(paletteInfo.getPaletteID(), palette);
 					if (classData.isPromotedClass(classID)) { paletteEntry.promotedPalette = palette; }
 					else { paletteEntry.unpromotedPalette = palette; }
-					referenceMap.put(classID, new PaletteV2(handler, paletteInfo));
+					referenceMap.put(classID, paletteCache.paletteForInfo(paletteInfo));
 					FE6Data.Character fe6char = FE6Data.Character.valueOf(charID);
 					DebugPrinter.log(DebugPrinter.Key.PALETTE, "Initializing Boss 0x" + Integer.toHexString(charID) + " (" + fe6char.toString() + ")" + " with palette at offset 0x" + Long.toHexString(paletteInfo.getOffset()));
 				}
 			}
 			
 			for (FE6Data.CharacterClass characterClass : FE6Data.CharacterClass.allValidClasses) {
-				templatesV2.put(characterClass.ID, new PaletteV2(handler, FE6Data.Palette.defaultPaletteForClass(characterClass.ID)));
+				templatesV2.put(characterClass.ID, paletteCache.paletteForInfo(FE6Data.Palette.defaultPaletteForClass(characterClass.ID)));
 			}
 			
 			for (int i = FE6Data.Palette.maxUsedPaletteIndex() + 1; i < FE6Data.Palette.maxPaletteIndex(); i++) {
@@ -133,11 +143,11 @@ public class PaletteLoader {
 				}
 				for (PaletteInfo paletteInfo : FE7Data.Palette.palettesForCharacter(charID)) {
 					int classID = paletteInfo.getClassID();
-					PaletteV2 palette = new PaletteV2(handler, paletteInfo);
+					PaletteV2 palette = paletteCache.paletteForInfo(paletteInfo);
 					paletteByPaletteIDV2.put(paletteInfo.getPaletteID(), palette);
 					if (classData.isPromotedClass(classID)) { paletteEntry.promotedPalette = palette; }
 					else { paletteEntry.unpromotedPalette = palette; }
-					referenceMap.put(classID, new PaletteV2(handler, paletteInfo));
+					referenceMap.put(classID, paletteCache.paletteForInfo(paletteInfo));
 					FE7Data.CharacterClass fe7class = FE7Data.CharacterClass.valueOf(classID);
 					FE7Data.Character fe7char = FE7Data.Character.valueOf(charID);
 					DebugPrinter.log(DebugPrinter.Key.PALETTE, "Initializing Character 0x" + Integer.toHexString(charID) + " (" + fe7char.toString() + ")" + " with palette at offset 0x" + Long.toHexString(paletteInfo.getOffset()) + " (Class: " + Integer.toHexString(classID) + " (" + fe7class.toString() + "))");
@@ -155,18 +165,18 @@ public class PaletteLoader {
 				}
 				for (PaletteInfo paletteInfo : FE7Data.Palette.palettesForCharacter(charID)) {
 					int classID = paletteInfo.getClassID();
-					PaletteV2 palette = new PaletteV2(handler, paletteInfo);
+					PaletteV2 palette = paletteCache.paletteForInfo(paletteInfo);
 					paletteByPaletteIDV2.put(paletteInfo.getPaletteID(), palette);
 					if (classData.isPromotedClass(classID)) { paletteEntry.promotedPalette = palette; }
 					else { paletteEntry.unpromotedPalette = palette; }
-					referenceMap.put(classID, new PaletteV2(handler, paletteInfo));
+					referenceMap.put(classID, paletteCache.paletteForInfo(paletteInfo));
 					FE7Data.Character fe7char = FE7Data.Character.valueOf(charID);
 					DebugPrinter.log(DebugPrinter.Key.PALETTE, "Initializing Boss 0x" + Integer.toHexString(charID) + " (" + fe7char.toString() + ")" + " with palette at offset 0x" + Long.toHexString(paletteInfo.getOffset()));
 				}
 			}
 			
 			for (FE7Data.CharacterClass characterClass : FE7Data.CharacterClass.allValidClasses) {
-				templatesV2.put(characterClass.ID, new PaletteV2(handler, FE7Data.Palette.defaultPaletteForClass(characterClass.ID)));
+				templatesV2.put(characterClass.ID, paletteCache.paletteForInfo(FE7Data.Palette.defaultPaletteForClass(characterClass.ID)));
 			}
 			
 			for (int i = FE7Data.Palette.maxUsedPaletteIndex() + 1; i < FE7Data.Palette.maxPaletteIndex(); i++) {
@@ -187,9 +197,9 @@ public class PaletteLoader {
 				referencePalettesV2.put(charID, referenceMap);
 				for (PaletteInfo paletteInfo : FE8Data.Palette.palettesForCharacter(charID)) {
 					int classID = paletteInfo.getClassID();
-					PaletteV2 palette = new PaletteV2(handler, paletteInfo);
+					PaletteV2 palette = paletteCache.paletteForInfo(paletteInfo);
 					paletteByPaletteIDV2.put(paletteInfo.getPaletteID(), palette);
-					referenceMap.put(classID, new PaletteV2(handler, paletteInfo));
+					referenceMap.put(classID, paletteCache.paletteForInfo(paletteInfo));
 					FE8Data.CharacterClass fe8class = FE8Data.CharacterClass.valueOf(classID);
 					FE8Data.Character fe8char = FE8Data.Character.valueOf(charID);
 					DebugPrinter.log(DebugPrinter.Key.PALETTE, "Initializing Character 0x" + Integer.toHexString(charID) + " (" + fe8char.toString() + ")" + " with palette at offset 0x" + Long.toHexString(paletteInfo.getOffset()) + " (Class: " + Integer.toHexString(classID) + " (" + fe8class.toString() + "))");
@@ -201,9 +211,9 @@ public class PaletteLoader {
 				Map<Integer, PaletteV2> referenceMap = new HashMap<Integer, PaletteV2>();
 				referencePalettesV2.put(charID, referenceMap);
 				for (PaletteInfo paletteInfo : FE8Data.Palette.palettesForCharacter(charID)) {
-					PaletteV2 palette = new PaletteV2(handler, paletteInfo);
+					PaletteV2 palette = paletteCache.paletteForInfo(paletteInfo);
 					paletteByPaletteIDV2.put(paletteInfo.getPaletteID(), palette);
-					referenceMap.put(paletteInfo.getClassID(), new PaletteV2(handler, paletteInfo));
+					referenceMap.put(paletteInfo.getClassID(), paletteCache.paletteForInfo(paletteInfo));
 					FE8Data.Character fe8char = FE8Data.Character.valueOf(charID);
 					DebugPrinter.log(DebugPrinter.Key.PALETTE, "Initializing Boss 0x" + Integer.toHexString(charID) + " (" + fe8char.toString() + ")" + " with palette at offset 0x" + Long.toHexString(paletteInfo.getOffset()));
 					DebugPrinter.log(DebugPrinter.Key.PALETTE, "Palette size: " + Integer.toString(palette.getOriginalCompressedLength()) + " bytes");
@@ -211,14 +221,14 @@ public class PaletteLoader {
 			}
 			
 			for (FE8Data.CharacterClass characterClass : FE8Data.CharacterClass.allValidClasses) {
-				PaletteV2 classPalette = new PaletteV2(handler, FE8Data.Palette.defaultPaletteForClass(characterClass.ID));
+				PaletteV2 classPalette = paletteCache.paletteForInfo(FE8Data.Palette.defaultPaletteForClass(characterClass.ID));
 				DebugPrinter.log(DebugPrinter.Key.PALETTE, "Registering palette for class " + characterClass.toString() + " (" + classPalette.getOriginalCompressedLength() + " bytes)");
 				DebugPrinter.log(DebugPrinter.Key.PALETTE, WhyDoesJavaNotHaveThese.displayStringForBytes(classPalette.getCompressedData()));
 				templatesV2.put(characterClass.ID, classPalette);
 			}
 			// Trainee classes aren't technically valid classes in other contexts, but here they are.
 			for (FE8Data.CharacterClass characterClass : FE8Data.CharacterClass.allTraineeClasses) {
-				PaletteV2 classPalette = new PaletteV2(handler, FE8Data.Palette.defaultPaletteForClass(characterClass.ID));
+				PaletteV2 classPalette = paletteCache.paletteForInfo(FE8Data.Palette.defaultPaletteForClass(characterClass.ID));
 				DebugPrinter.log(DebugPrinter.Key.PALETTE, "Registering palette for class " + characterClass.toString() + " (" + classPalette.getOriginalCompressedLength() + " bytes)");
 				DebugPrinter.log(DebugPrinter.Key.PALETTE, WhyDoesJavaNotHaveThese.displayStringForBytes(classPalette.getCompressedData()));
 				templatesV2.put(characterClass.ID, classPalette);
@@ -282,6 +292,48 @@ public class PaletteLoader {
 		assert gameType == GameType.FE8 : "This method is only for FE8.";
 		assert fe8Mapper != null : "FE8 requires additional setup before it can adapt palettes.";
 		
+		FE8Change change = new FE8Change(characterID, referenceID, newClassID, isBoss);
+		adaptFE8Palettes(change);
+		registerFE8Palettes(change);
+	}
+	
+	// Same as adaptFE8CharacterToClass, except the palettes are adapted in flushChangeQueue, along with every other queued change.
+	public void enqueueFE8Change(int characterID, int referenceID, int newClassID, Boolean isBoss) {
+		assert gameType == GameType.FE8 : "This method is only for FE8.";
+		assert fe8Mapper != null : "FE8 requires additional setup before it can adapt palettes.";
+		
+		queuedFE8Changes.add(new FE8Change(characterID, referenceID, newClassID, isBoss));
+	}
+	
+	private static class FE8Change {
+		private int characterID;
+		private int referenceID;
+		private int newClassID;
+		private Boolean isBoss;
+		
+		private Boolean newClassHasPromotions;
+		private Boolean willBecomeTrainee;
+		private Boolean newClassIsPromoted;
+		
+		private Map<SlotType, PaletteV2> adaptedPalettes = new EnumMap<SlotType, PaletteV2>(SlotType.class);
+		
+		private FE8Change(int characterID, int referenceID, int newClassID, Boolean isBoss) {
+			this.characterID = characterID;
+			this.referenceID = referenceID;
+			this.newClassID = newClassID;
+			this.isBoss = isBoss;
+		}
+	}
+	
+	private List<FE8Change> queuedFE8Changes = new ArrayList<FE8Change>();
+	
+	// Only reads shared data, aside from the reference's colors. See adaptGroupedByReference.
+	private void adaptFE8Palettes(FE8Change change) {
+		int characterID = change.characterID;
+		int referenceID = change.referenceID;
+		int newClassID = change.newClassID;
+		Boolean isBoss = change.isBoss;
+		
 		DebugPrinter.log(DebugPrinter.Key.PALETTE, "Adapting Character " + FE8Data.Character.valueOf(characterID).toString() + " to class " + FE8Data.CharacterClass.valueOf(newClassID).toString() + " using Reference " + FE8Data.Character.valueOf(referenceID).toString());
 		
 		Boolean newClassHasPromotions = fe8Promotions.hasPromotions(newClassID);
@@ -291,11 +343,17 @@ public class PaletteLoader {
 		Boolean willBecomeTrainee = fe8Promotions.hasPromotions(newPromotion1) || fe8Promotions.hasPromotions(newPromotion2);
 		Boolean newClassIsPromoted = FE8Data.CharacterClass.valueOf(newClassID).isPromoted();
 		
-		int charID = canonicalCharacterID(characterID);
+		change.newClassHasPromotions = newClassHasPromotions;
+		change.willBecomeTrainee = willBecomeTrainee;
+		change.newClassIsPromoted = newClassIsPromoted;
+		
 		PaletteV2[] referencePalettes = getV2ReferencePalettesForCharacter(referenceID);
 		
 		PaletteColor[] supplementalHair = FE8Data.Palette.supplementaryHairColorForCharacter(referenceID);
 		
+		PaletteType type = isBoss ? PaletteType.ENEMY : PaletteType.PLAYER;
+		Map<SlotType, PaletteV2> adapted = change.adaptedPalettes;
+		
 		if (willBecomeTrainee) {
 			int base1 = newPromotion1;
 			int base2 = newPromotion2;
@@ -305,56 +363,64 @@ public class PaletteLoader {
 			int promoted4 = fe8Promotions.getSecondPromotionOptionClassID(newPromotion2);
 			
 			// Adapt every palette over as is.
-			PaletteV2 adaptedTrainee = v2PaletteForClass(newClassID, referencePalettes, isBoss ? PaletteType.ENEMY : PaletteType.PLAYER, supplementalHair);
-			PaletteV2 adaptedBase1 = v2PaletteForClass(base1, referencePalettes, isBoss ? PaletteType.ENEMY : PaletteType.PLAYER, supplementalHair);
-			PaletteV2 adaptedBase2 = v2PaletteForClass(base2, referencePalettes, isBoss ? PaletteType.ENEMY : PaletteType.PLAYER, supplementalHair);
-			PaletteV2 adaptedPromoted1 = v2PaletteForClass(promoted1, referencePalettes, isBoss ? PaletteType.ENEMY : PaletteType.PLAYER, supplementalHair);
-			PaletteV2 adaptedPromoted2 = v2PaletteForClass(promoted2, referencePalettes, isBoss ? PaletteType.ENEMY : PaletteType.PLAYER, supplementalHair);
-			PaletteV2 adaptedPromoted3 = v2PaletteForClass(promoted3, referencePalettes, isBoss ? PaletteType.ENEMY : PaletteType.PLAYER, supplementalHair);
-			PaletteV2 adaptedPromoted4 = v2PaletteForClass(promoted4, referencePalettes, isBoss ? PaletteType.ENEMY : PaletteType.PLAYER, supplementalHair);
-			
-			fe8Mapper.setTraineeClass(newClassID, charID,
-					adaptedTrainee.getCompressedData().length,
-					adaptedBase1.getCompressedData().length,
-					adaptedBase2.getCompressedData().length,
-					adaptedPromoted1.getCompressedData().length,
-					adaptedPromoted2.getCompressedData().length,
-					adaptedPromoted3.getCompressedData().length,
-					adaptedPromoted4.getCompressedData().length);
-			
-			integrateFE8PaletteIfPossible(charID, adaptedTrainee, SlotType.TRAINEE);
-			integrateFE8PaletteIfPossible(charID, adaptedBase1, SlotType.PRIMARY_BASE);
-			integrateFE8PaletteIfPossible(charID, adaptedBase2, SlotType.SECONDARY_BASE);
-			integrateFE8PaletteIfPossible(charID, adaptedPromoted1, SlotType.FIRST_PROMOTION);
-			integrateFE8PaletteIfPossible(charID, adaptedPromoted2, SlotType.SECOND_PROMOTION);
-			integrateFE8PaletteIfPossible(charID, adaptedPromoted3, SlotType.THIRD_PROMOTION);
-			integrateFE8PaletteIfPossible(charID, adaptedPromoted4, SlotType.FOURTH_PROMOTION);
-			
+			adapted.put(SlotType.TRAINEE, v2PaletteForClass(newClassID, referencePalettes, type, supplementalHair));
+			adapted.put(SlotType.PRIMARY_BASE, v2PaletteForClass(base1, referencePalettes, type, supplementalHair));
+			adapted.put(SlotType.SECONDARY_BASE, v2PaletteForClass(base2, referencePalettes, type, supplementalHair));
+			adapted.put(SlotType.FIRST_PROMOTION, v2PaletteForClass(promoted1, referencePalettes, type, supplementalHair));
+			adapted.put(SlotType.SECOND_PROMOTION, v2PaletteForClass(promoted2, referencePalettes, type, supplementalHair));
+			adapted.put(SlotType.THIRD_PROMOTION, v2PaletteForClass(promoted3, referencePalettes, type, supplementalHair));
+			adapted.put(SlotType.FOURTH_PROMOTION, v2PaletteForClass(promoted4, referencePalettes, type, supplementalHair));
 		} else if (!newClassIsPromoted) {
+			adapted.put(SlotType.PRIMARY_BASE, v2PaletteForClass(newClassID, referencePalettes, type, supplementalHair));
 			if (newClassHasPromotions && !isBoss) {
 				int promoted1 = newPromotion1;
 				int promoted2 = newPromotion2;
-				PaletteV2 adaptedBase = v2PaletteForClass(newClassID, referencePalettes, isBoss ? PaletteType.ENEMY : PaletteType.PLAYER, supplementalHair);
-				PaletteV2 adaptedPromotion1 = v2PaletteForClass(promoted1, referencePalettes, isBoss ? PaletteType.ENEMY : PaletteType.PLAYER, supplementalHair);
-				PaletteV2 adaptedPromotion2 = promoted2 != 0 ? v2PaletteForClass(promoted2, referencePalettes, isBoss ? PaletteType.ENEMY : PaletteType.PLAYER, supplementalHair) : null;
-				
+				adapted.put(SlotType.FIRST_PROMOTION, v2PaletteForClass(promoted1, referencePalettes, type, supplementalHair));
+				if (promoted2 != 0) { adapted.put(SlotType.SECOND_PROMOTION, v2PaletteForClass(promoted2, referencePalettes, type, supplementalHair)); }
+			}
+		} else { // New class is promoted
+			adapted.put(SlotType.FIRST_PROMOTION, v2PaletteForClass(newClassID, referencePalettes, type, supplementalHair));
+		}
+		
+		// The mapper needs every palette's compressed length, so compress them here too.
+		for (PaletteV2 palette : adapted.values()) {
+			palette.getCompressedData();
+		}
+	}
+	
+	// Assigns palette IDs and offsets. Changes must be registered in the order they were made.
+	private void registerFE8Palettes(FE8Change change) {
+		int charID = canonicalCharacterID(change.characterID);
+		int newClassID = change.newClassID;
+		Boolean isBoss = change.isBoss;
+		Map<SlotType, PaletteV2> adapted = change.adaptedPalettes;
+		
+		if (change.willBecomeTrainee) {
+			fe8Mapper.setTraineeClass(newClassID, charID,
+					adapted.get(SlotType.TRAINEE).getCompressedData().length,
+					adapted.get(SlotType.PRIMARY_BASE).getCompressedData().length,
+					adapted.get(SlotType.SECONDARY_BASE).getCompressedData().length,
+					adapted.get(SlotType.FIRST_PROMOTION).getCompressedData().length,
+					adapted.get(SlotType.SECOND_PROMOTION).getCompressedData().length,
+					adapted.get(SlotType.THIRD_PROMOTION).getCompressedData().length,
+					adapted.get(SlotType.FOURTH_PROMOTION).getCompressedData().length);
+		} else if (!change.newClassIsPromoted) {
+			if (change.newClassHasPromotions && !isBoss) {
+				PaletteV2 adaptedPromotion2 = adapted.get(SlotType.SECOND_PROMOTION);
 				fe8Mapper.setUnpromotedClass(newClassID, charID, !isBoss,
-						adaptedBase.getCompressedData().length,
-						adaptedPromotion1.getCompressedData().length,
+						adapted.get(SlotType.PRIMARY_BASE).getCompressedData().length,
+						adapted.get(SlotType.FIRST_PROMOTION).getCompressedData().length,
 						adaptedPromotion2 != null ? adaptedPromotion2.getCompressedData().length : 0);
-				
-				integrateFE8PaletteIfPossible(charID, adaptedBase, SlotType.PRIMARY_BASE);
-				integrateFE8PaletteIfPossible(charID, adaptedPromotion1, SlotType.FIRST_PROMOTION);
-				if (adaptedPromotion2 != null) { integrateFE8PaletteIfPossible(charID, adaptedPromotion2, SlotType.SECOND_PROMOTION); }		
 			} else {
-				PaletteV2 adaptedBase = v2PaletteForClass(newClassID, referencePalettes, isBoss ? PaletteType.ENEMY : PaletteType.PLAYER, supplementalHair);
-				fe8Mapper.setUnpromotedClass(newClassID, charID, !isBoss, adaptedBase.getCompressedData().length, 0, 0);
-				integrateFE8PaletteIfPossible(charID, adaptedBase, SlotType.PRIMARY_BASE);
+				fe8Mapper.setUnpromotedClass(newClassID, charID, !isBoss, adapted.get(SlotType.PRIMARY_BASE).getCompressedData().length, 0, 0);
 			}
 		} else { // New class is promoted
-			PaletteV2 adaptedPromotion = v2PaletteForClass(newClassID, referencePalettes, isBoss ? PaletteType.ENEMY : PaletteType.PLAYER, supplementalHair);
-			fe8Mapper.setPromotedClass(newClassID, charID, adaptedPromotion.getCompressedData().length);
-			integrateFE8PaletteIfPossible(charID, adaptedPromotion, SlotType.FIRST_PROMOTION);
+			fe8Mapper.setPromotedClass(newClassID, charID, adapted.get(SlotType.FIRST_PROMOTION).getCompressedData().length);
+		}
+		
+		// Slots are in the same order the palettes were always integrated in.
+		for (Map.Entry<SlotType, PaletteV2> entry : adapted.entrySet()) {
+			integrateFE8PaletteIfPossible(charID, entry.getValue(), entry.getKey());
 		}
 	}
 	
@@ -404,11 +470,19 @@ public class PaletteLoader {
 	
 	private static class Change {
 		private GBAFECharacterData character;
+		private int referenceID;
+		
+		private int targetClassID;
+		private int promotedClassID;
+		private boolean isPromoted;
+		private boolean canPromote;
 		
 		private PaletteV2 basePalette;
 		private PaletteV2 promotedPalette;
 	}
 	
+	// Changes waiting for their palettes to be adapted in flushChangeQueue.
+	private List<Change> pendingChanges = new ArrayList<Change>();
 	private List<Change> queuedChanges = new ArrayList<Change>();
 	
 	public void enqueueChange(GBAFECharacterData character, GBAFECharacterData reference, CharacterDataLoader charData, ClassDataLoader classData, Integer targetClassID, boolean needsPromotion) {
@@ -422,37 +496,105 @@ public class PaletteLoader {
 		
 		Change change = new Change();
 		change.character = character;
+		change.referenceID = referenceID;
+		change.targetClassID = targetClassID;
+		change.isPromoted = isPromoted;
+		change.canPromote = canPromote;
 		
 		PaletteV2[] referencePalettes = getV2ReferencePalettesForCharacter(referenceID);
 		if (referencePalettes == null || referencePalettes.length == 0) {
 			return; // If we have no references, this character probably has no palettes to begin with.
 		}
 		
-		if (isPromoted) {
-			PaletteV2 adaptedPromotion = v2PaletteForClass(targetClassID, referencePalettes, PaletteType.PLAYER, supplementalHairColors.get(referenceID));
-			mapper.setCharacterToPromotedClass(characterID, targetClassID, adaptedPromotion.getCompressedData().length);
-			adaptedPromotion.setIdentifier(character.getPromotedPaletteIndex());
-			change.promotedPalette = adaptedPromotion;
-		} else if (!canPromote) {
-			PaletteV2 adaptedBase = v2PaletteForClass(targetClassID, referencePalettes, PaletteType.PLAYER, supplementalHairColors.get(referenceID));
-			mapper.setCharacterToUnpromotedOnlyClass(characterID, targetClassID, adaptedBase.getCompressedData().length);
-			adaptedBase.setIdentifier(character.getUnpromotedPaletteIndex());
-			change.basePalette = adaptedBase;
+		if (!isPromoted && canPromote) {
+			change.promotedClassID = classData.classForID(targetClassID).getTargetPromotionID();
+		}
+		
+		pendingChanges.add(change);
+	}
+	
+	// Only reads shared data, aside from the reference's colors. See adaptGroupedByReference.
+	private void adaptPalettes(Change change) {
+		int referenceID = change.referenceID;
+		PaletteV2[] referencePalettes = getV2ReferencePalettesForCharacter(referenceID);
+		
+		if (change.isPromoted) {
+			change.promotedPalette = v2PaletteForClass(change.targetClassID, referencePalettes, PaletteType.PLAYER, supplementalHairColors.get(referenceID));
+		} else if (!change.canPromote) {
+			change.basePalette = v2PaletteForClass(change.targetClassID, referencePalettes, PaletteType.PLAYER, supplementalHairColors.get(referenceID));
+		} else {
+			change.basePalette = v2PaletteForClass(change.targetClassID, referencePalettes, PaletteType.PLAYER, supplementalHairColors.get(referenceID));
+			change.promotedPalette = v2PaletteForClass(change.promotedClassID, referencePalettes, PaletteType.PLAYER, supplementalHairColors.get(referenceID));
+		}
+		
+		// The mapper needs their compressed lengths, so compress them here too.
+		if (change.basePalette != null) { change.basePalette.getCompressedData(); }
+		if (change.promotedPalette != null) { change.promotedPalette.getCompressedData(); }
+	}
+	
+	// Changes must be registered in the order they were queued.
+	private void registerPalettes(Change change) {
+		GBAFECharacterData character = change.character;
+		int characterID = character.getID();
+		int targetClassID = change.targetClassID;
+		
+		if (change.isPromoted) {
+			mapper.setCharacterToPromotedClass(characterID, targetClassID, change.promotedPalette.getCompressedData().length);
+			change.promotedPalette.setIdentifier(character.getPromotedPaletteIndex());
+		} else if (!change.canPromote) {
+			mapper.setCharacterToUnpromotedOnlyClass(characterID, targetClassID, change.basePalette.getCompressedData().length);
+			change.basePalette.setIdentifier(character.getUnpromotedPaletteIndex());
 		} else {
-			PaletteV2 adaptedBase = v2PaletteForClass(targetClassID, referencePalettes, PaletteType.PLAYER, supplementalHairColors.get(referenceID));
-			int promotedClassID = classData.classForID(targetClassID).getTargetPromotionID();
-			PaletteV2 adaptedPromotion = v2PaletteForClass(promotedClassID, referencePalettes, PaletteType.PLAYER, supplementalHairColors.get(referenceID));
-			mapper.setCharacterToUnpromotedClass(characterID, targetClassID, adaptedBase.getCompressedData().length, adaptedPromotion.getCompressedData().length);
-			adaptedBase.setIdentifier(character.getUnpromotedPaletteIndex());
-			adaptedPromotion.setIdentifier(character.getPromotedPaletteIndex());
-			change.basePalette = adaptedBase;
-			change.promotedPalette = adaptedPromotion;
+			mapper.setCharacterToUnpromotedClass(characterID, targetClassID, change.basePalette.getCompressedData().length, change.promotedPalette.getCompressedData().length);
+			change.basePalette.setIdentifier(character.getUnpromotedPaletteIndex());
+			change.promotedPalette.setIdentifier(character.getPromotedPaletteIndex());
 		}
 		
 		queuedChanges.add(change);
 	}
 	
+	// Adapts every queued change's palettes, then hands them to the mappers in the order they were queued,
+	// so palette IDs and free space come out the same as adapting them one at a time.
+	private void adaptQueuedChanges() {
+		adaptGroupedByReference(queuedFE8Changes, change -> change.referenceID, this::adaptFE8Palettes);
+		for (FE8Change change : queuedFE8Changes) {
+			registerFE8Palettes(change);
+		}
+		queuedFE8Changes.clear();
+		
+		adaptGroupedByReference(pendingChanges, change -> change.referenceID, this::adaptPalettes);
+		for (Change change : pendingChanges) {
+			registerPalettes(change);
+		}
+		pendingChanges.clear();
+	}
+	
+	// Averaging colors shifts the hue of the reference colors it's given, and later adaptations from the same reference
+	// see that. So changes sharing a reference character are adapted one after another, in order. Different references
+	// share nothing, so each reference's changes are adapted in parallel with the others.
+	private <T> void adaptGroupedByReference(List<T> changes, ToIntFunction<T> referenceID, Consumer<T> adaptation) {
+		if (changes.size() < 2) {
+			changes.forEach(adaptation);
+			return;
+		}
+		
+		Map<Integer, List<T>> changesByReference = new LinkedHashMap<Integer, List<T>>();
+		for (T change : changes) {
+			int canonicalReferenceID = canonicalCharacterID(referenceID.applyAsInt(change));
+			changesByReference.computeIfAbsent(canonicalReferenceID, id -> new ArrayList<T>()).add(change);
+		}
+		
+		List<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>(changesByReference.size());
+		for (List<T> group : changesByReference.values()) {
+			tasks.add(ForkJoinPool.commonPool().submit(() -> group.forEach(adaptation)));
+		}
+		for (ForkJoinTask<?> task : tasks) {
+			task.join();
+		}
+	}
+	
 	public void flushChangeQueue(CharacterDataLoader charData, FreeSpaceManager freeSpace) {
+		adaptQueuedChanges();
 		finalizePreparations();
 		if (gameType == GameType.FE8) {
 			List<Integer> orderedIDsToWrite = newPalettesV2.keySet().stream().sorted().collect(Collectors.toList());
@@ -511,6 +653,7 @@ public class PaletteLoader {
 	
 	public void compileDiffs(DiffCompiler compiler) {
 		if (gameType == GameType.FE8) {
+			PaletteV2.prepareForCommit(paletteByPaletteIDV2.values());
 			for (PaletteV2 palette : paletteByPaletteIDV2.values()) {
 				palette.commitPalette(compiler);
 			}
@@ -526,6 +669,13 @@ public class PaletteLoader {
 			}
 			
 		} else {
+			List<PaletteV2> changedPalettes = new ArrayList<PaletteV2>();
+			for (Change change : queuedChanges) {
+				if (change.basePalette != null) { changedPalettes.add(change.basePalette); }
+				if (change.promotedPalette != null) { changedPalettes.add(change.promotedPalette); }
+			}
+			PaletteV2.prepareForCommit(changedPalettes);
+			
 			for (Change change : queuedChanges) {
 				if (change.basePalette != null) { change.basePalette.commitPalette(compiler); }
 				if (change.promotedPalette != null) { change.promotedPalette.commitPalette(compiler); }
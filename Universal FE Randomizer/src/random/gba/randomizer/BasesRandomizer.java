@@ -1,31 +1,53 @@
 package random.gba.randomizer;
 
+import java.util.Arrays;
 import java.util.Random;
 
 import fedata.gba.GBAFECharacterData;
 import fedata.gba.GBAFEClassData;
 import random.gba.loader.CharacterDataLoader;
 import random.gba.loader.ClassDataLoader;
+import random.general.PerEntityStage;
 import util.WhyDoesJavaNotHaveThese;
 
 public class BasesRandomizer {
 	
 	public static int rngSalt = 9001;
 	
+	private static class Bases {
+		int hp;
+		int str;
+		int skl;
+		int spd;
+		int lck;
+		int def;
+		int res;
+		
+		Bases(int hp, int str, int skl, int spd, int lck, int def, int res) {
+			this.hp = hp;
+			this.str = str;
+			this.skl = skl;
+			this.spd = spd;
+			this.lck = lck;
+			this.def = def;
+			this.res = res;
+		}
+	}
+	
 	public static void randomizeBasesByRedistribution(int variance, CharacterDataLoader charactersData, ClassDataLoader classData, Random rng) {
 		GBAFECharacterData[] allPlayableCharacters = charactersData.playableCharacters();
-		for (GBAFECharacterData character : allPlayableCharacters) {
+		PerEntityStage.run(Arrays.asList(allPlayableCharacters), character -> character.getID(), rng, (character, characterRNG) -> {
 			int baseTotal = character.getBaseHP() + character.getBaseSTR() + character.getBaseSKL() + character.getBaseSPD() + character.getBaseDEF() +
 					character.getBaseRES() + character.getBaseLCK();
 			
 			int classID = character.getClassID();
 			GBAFEClassData charClass = classData.classForID(classID);
 			
-			int randomNum = rng.nextInt(2);
+			int randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				baseTotal += rng.nextInt(variance + 1);
+				baseTotal += characterRNG.nextInt(variance + 1);
 			} else {
-				baseTotal -= rng.nextInt(variance + 1);
+				baseTotal -= characterRNG.nextInt(variance + 1);
 			}
 			
 			int newHPBase = 0;
@@ -36,7 +58,7 @@ public class BasesRandomizer {
 			int newDEFBase = 0;
 			int newRESBase = 0;
 			
-			int initialLuck = rng.nextInt(Math.max(1, baseTotal / 7)) + 2;
+			int initialLuck = characterRNG.nextInt(Math.max(1, baseTotal / 7)) + 2;
 			newLCKBase += initialLuck;
 			baseTotal -= initialLuck;
 			if (baseTotal < 0) {
@@ -45,8 +67,8 @@ public class BasesRandomizer {
 			
 			if (baseTotal > 0) {	
 				do {
-					randomNum = rng.nextInt(10);
-					int amount = rng.nextInt(3) + 1;
+					randomNum = characterRNG.nextInt(10);
+					int amount = characterRNG.nextInt(3) + 1;
 					
 					switch (randomNum) {
 					case 0:
@@ -102,21 +124,15 @@ public class BasesRandomizer {
 				} while (baseTotal > 0);
 			}
 			
-			character.setBaseHP(newHPBase);
-			character.setBaseSTR(newSTRBase);
-			character.setBaseSKL(newSKLBase);
-			character.setBaseSPD(newSPDBase);
-			character.setBaseLCK(newLCKBase);
-			character.setBaseDEF(newDEFBase);
-			character.setBaseRES(newRESBase);
-		}
+			return new Bases(newHPBase, newSTRBase, newSKLBase, newSPDBase, newLCKBase, newDEFBase, newRESBase);
+		}, (character, bases) -> applyBases(bases, character));
 		
 		charactersData.commit();
 	}
 	
 	public static void randomizeBasesByRandomDelta(int maxDelta, CharacterDataLoader charactersData, ClassDataLoader classData, Random rng) {
 		GBAFECharacterData[] allPlayableCharacters = charactersData.playableCharacters();
-		for (GBAFECharacterData character : allPlayableCharacters) {
+		PerEntityStage.run(Arrays.asList(allPlayableCharacters), character -> character.getID(), rng, (character, characterRNG) -> {
 			
 			int classID = character.getClassID();
 			GBAFEClassData charClass = classData.classForID(classID);
@@ -129,77 +145,81 @@ public class BasesRandomizer {
 			int newDEFBase = character.getBaseDEF();
 			int newRESBase = character.getBaseRES();
 			
-			int randomNum = rng.nextInt(2);
+			int randomNum = characterRNG.nextInt(2);
 			int multiplier = 1;
 			if (randomNum == 0) {
 				multiplier = -1;
 			}
-			newHPBase = WhyDoesJavaNotHaveThese.clamp(rng.nextInt(maxDelta + 1) * multiplier + newHPBase, 
+			newHPBase = WhyDoesJavaNotHaveThese.clamp(characterRNG.nextInt(maxDelta + 1) * multiplier + newHPBase, 
 					-1 * charClass.getBaseHP(), charClass.getMaxHP() - charClass.getBaseHP());
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
 				multiplier = 1;
 			} else {
 				multiplier = -1;
 			}
-			newSTRBase = WhyDoesJavaNotHaveThese.clamp(rng.nextInt(maxDelta + 1) * multiplier + newSTRBase, 
+			newSTRBase = WhyDoesJavaNotHaveThese.clamp(characterRNG.nextInt(maxDelta + 1) * multiplier + newSTRBase, 
 					-1 * charClass.getBaseSTR(), charClass.getMaxSTR() - charClass.getBaseSTR());
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
 				multiplier = 1;
 			} else {
 				multiplier = -1;
 			}
-			newSKLBase = WhyDoesJavaNotHaveThese.clamp(rng.nextInt(maxDelta + 1) * multiplier + newSKLBase, 
+			newSKLBase = WhyDoesJavaNotHaveThese.clamp(characterRNG.nextInt(maxDelta + 1) * multiplier + newSKLBase, 
 					-1 * charClass.getBaseSKL(), charClass.getMaxSKL() - charClass.getBaseSKL());
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
 				multiplier = 1;
 			} else {
 				multiplier = -1;
 			}
-			newSPDBase = WhyDoesJavaNotHaveThese.clamp(rng.nextInt(maxDelta + 1) * multiplier + newSPDBase, 
+			newSPDBase = WhyDoesJavaNotHaveThese.clamp(characterRNG.nextInt(maxDelta + 1) * multiplier + newSPDBase, 
 					-1 * charClass.getBaseSPD(), charClass.getMaxSPD() - charClass.getBaseSPD());
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
 				multiplier = 1;
 			} else {
 				multiplier = -1;
 			}
-			newLCKBase = WhyDoesJavaNotHaveThese.clamp(rng.nextInt(maxDelta + 1) * multiplier + newLCKBase, 
+			newLCKBase = WhyDoesJavaNotHaveThese.clamp(characterRNG.nextInt(maxDelta + 1) * multiplier + newLCKBase, 
 					-1 * charClass.getBaseLCK(), charClass.getMaxLCK() - charClass.getBaseLCK());
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
 				multiplier = 1;
 			} else {
 				multiplier = -1;
 			}
-			newDEFBase = WhyDoesJavaNotHaveThese.clamp(rng.nextInt(maxDelta + 1) * multiplier + newDEFBase, 
+			newDEFBase = WhyDoesJavaNotHaveThese.clamp(characterRNG.nextInt(maxDelta + 1) * multiplier + newDEFBase, 
 					-1 * charClass.getBaseDEF(), charClass.getMaxDEF() - charClass.getBaseDEF());
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
 				multiplier = 1;
 			} else {
 				multiplier = -1;
 			}
-			newRESBase = WhyDoesJavaNotHaveThese.clamp(rng.nextInt(maxDelta + 1) * multiplier + newRESBase, 
+			newRESBase = WhyDoesJavaNotHaveThese.clamp(characterRNG.nextInt(maxDelta + 1) * multiplier + newRESBase, 
 					-1 * charClass.getBaseRES(), charClass.getMaxRES() - charClass.getBaseRES());
 			
-			character.setBaseHP(newHPBase);
-			character.setBaseSTR(newSTRBase);
-			character.setBaseSKL(newSKLBase);
-			character.setBaseSPD(newSPDBase);
-			character.setBaseLCK(newLCKBase);
-			character.setBaseDEF(newDEFBase);
-			character.setBaseRES(newRESBase);
-		}
+			return new Bases(newHPBase, newSTRBase, newSKLBase, newSPDBase, newLCKBase, newDEFBase, newRESBase);
+		}, (character, bases) -> applyBases(bases, character));
 		
 		charactersData.commit();
 	}
+	
+	private static void applyBases(Bases bases, GBAFECharacterData character) {
+		character.setBaseHP(bases.hp);
+		character.setBaseSTR(bases.str);
+		character.setBaseSKL(bases.skl);
+		character.setBaseSPD(bases.spd);
+		character.setBaseLCK(bases.lck);
+		character.setBaseDEF(bases.def);
+		character.setBaseRES(bases.res);
+	}
 }
@@ -27,6 +27,7 @@ import ui.model.ClassOptions;
 import ui.model.ItemAssignmentOptions;
 import ui.model.ItemAssignmentOptions.WeaponReplacementPolicy;
 import util.DebugPrinter;
+import util.StreamedRandom;
 
 public class ClassRandomizer {
 	
@@ -65,6 +66,8 @@ public class ClassRandomizer {
 			if (isThiefCharacter && !includeThieves) { continue; }
 			if (!canChange) { continue; }
 			
+			Random characterRNG = StreamedRandom.forEntity(rng, character.getID());
+			
 			Boolean characterRequiresRange = charactersData.characterIDRequiresRange(character.getID());
 			Boolean characterRequiresMelee = charactersData.characterIDRequiresMelee(character.getID());
 			
@@ -82,7 +85,7 @@ public class ClassRandomizer {
 					continue;
 				}
 			
-				int randomIndex = rng.nextInt(possibleClasses.length);
+				int randomIndex = characterRNG.nextInt(possibleClasses.length);
 				targetClass = possibleClasses[randomIndex];
 			}
 			
@@ -94,7 +97,7 @@ public class ClassRandomizer {
 			
 			for (GBAFECharacterData linked : charactersData.linkedCharactersForCharacter(character)) {
 				determinedClasses.put(linked.getID(), targetClass);
-				updateCharacterToClass(inventoryOptions, linked, originalClass, targetClass, characterRequiresRange, characterRequiresMelee, classData, chapterData, itemData, textData, false, rng);
+				updateCharacterToClass(inventoryOptions, linked, originalClass, targetClass, characterRequiresRange, characterRequiresMelee, classData, chapterData, itemData, textData, false, characterRNG);
 				if (isLordCharacter) {
 					linked.setIsLord();
 				}
@@ -121,6 +124,8 @@ public class ClassRandomizer {
 			Boolean canChange = charactersData.canChangeCharacterID(character.getID());
 			if (!canChange) { continue; }
 			
+			Random characterRNG = StreamedRandom.forEntity(rng, character.getID());
+			
 			Boolean characterRequiresRange = charactersData.characterIDRequiresRange(character.getID());
 			Boolean characterRequiresMelee = charactersData.characterIDRequiresMelee(character.getID());
 			
@@ -154,7 +159,7 @@ public class ClassRandomizer {
 					continue;
 				}
 			
-				int randomIndex = rng.nextInt(possibleClasses.length);
+				int randomIndex = characterRNG.nextInt(possibleClasses.length);
 				targetClass = possibleClasses[randomIndex];
 			}
 			
@@ -164,7 +169,7 @@ public class ClassRandomizer {
 			
 			for (GBAFECharacterData linked : charactersData.linkedCharactersForCharacter(character)) {
 				determinedClasses.put(linked.getID(), targetClass);
-				updateCharacterToClass(inventoryOptions, linked, originalClass, targetClass, characterRequiresRange, characterRequiresMelee, classData, chapterData, itemData, textData, forceBasicWeaponry && linked.getID() == character.getID(), rng);
+				updateCharacterToClass(inventoryOptions, linked, originalClass, targetClass, characterRequiresRange, characterRequiresMelee, classData, chapterData, itemData, textData, forceBasicWeaponry && linked.getID() == character.getID(), characterRNG);
 				if (shouldNerf) { // Halve skill, speed, defense, and resistance if we need to make sure he loses to us.
 					linked.setBaseSKL(linked.getBaseSKL() >> 1);
 					linked.setBaseSPD(linked.getBaseSPD() >> 1);
@@ -247,18 +252,16 @@ public class ClassRandomizer {
 				reward.setItemID(item.getID());
 			}
 			
-			for (GBAFEChapterUnitData chapterUnit : chapter.allUnits()) {
-				if (chapterUnit.getCharacterNumber() == character.getID()) {
-					if (chapterUnit.getStartingClass() != sourceClass.getID()) {
-						System.err.println("Class mismatch for character with ID " + character.getID() + ". Expected Class " + sourceClass.getID() + " but found " + chapterUnit.getStartingClass());
-					}
-					chapterUnit.setStartingClass(targetClass.getID());
-					validateCharacterInventory(inventoryOptions, character, targetClass, chapterUnit, ranged, melee, classData, itemData, textData, forceBasicWeapons, rng);
-					if (classData.isThief(sourceClass.getID())) {
-						validateFormerThiefInventory(chapterUnit, itemData);
-					}
-					validateSpecialClassInventory(chapterUnit, itemData, rng);
+			for (GBAFEChapterUnitData chapterUnit : chapterData.unitsForCharacterInChapter(character.getID(), chapter)) {
+				if (chapterUnit.getStartingClass() != sourceClass.getID()) {
+					System.err.println("Class mismatch for character with ID " + character.getID() + ". Expected Class " + sourceClass.getID() + " but found " + chapterUnit.getStartingClass());
+				}
+				chapterUnit.setStartingClass(targetClass.getID());
+				validateCharacterInventory(inventoryOptions, character, targetClass, chapterUnit, ranged, melee, classData, itemData, textData, forceBasicWeapons, rng);
+				if (classData.isThief(sourceClass.getID())) {
+					validateFormerThiefInventory(chapterUnit, itemData);
 				}
+				validateSpecialClassInventory(chapterUnit, itemData, rng);
 			}
 		}
 	}
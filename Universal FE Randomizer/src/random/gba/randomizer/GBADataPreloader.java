@@ -0,0 +1,116 @@
+package random.gba.randomizer;
+
+import java.io.File;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import fedata.general.FEBase.GameType;
+import fedata.general.GameRegistry;
+import io.FileHandler;
+import util.DiffCompiler;
+
+// Loads a GBA ROM's data on a background thread while the user is still picking options, so that most of the
+// loading is already done by the time they press Randomize. The data is read through its own file handle,
+// and can be claimed by exactly one randomizer. Anything that doesn't match (another file, the file changed on disk,
+// different base diffs) is thrown away and the randomizer loads from scratch like it always has.
+public class GBADataPreloader {
+
+	private final String sourcePath;
+	private final GameType gameType;
+	private final DiffCompiler appliedDiffs;
+
+	private final long sourceLength;
+	private final long sourceLastModified;
+
+	private final FutureTask<GBAGameData> loadTask;
+
+	private boolean claimed = false;
+	private boolean discarded = false;
+	private GBAGameData loadedData;
+
+	public GBADataPreloader(String sourcePath, GameType gameType, DiffCompiler baseDiffs) {
+		super();
+		this.sourcePath = sourcePath;
+		this.gameType = gameType;
+		this.appliedDiffs = baseDiffs;
+
+		File sourceFile = new File(sourcePath);
+		sourceLength = sourceFile.length();
+		sourceLastModified = sourceFile.lastModified();
+
+		loadTask = new FutureTask<GBAGameData>(() -> {
+			GameRegistry.loadGameData(gameType);
+			FileHandler handler = new FileHandler(sourcePath);
+			GBAGameData data;
+			try {
+				data = GBAGameData.load(gameType, handler, appliedDiffs, false, null);
+			} catch (RuntimeException e) {
+				handler.close();
+				throw e;
+			}
+
+			synchronized (this) {
+				if (discarded && !claimed) {
+					handler.close();
+					return null;
+				}
+				loadedData = data;
+			}
+			return data;
+		});
+	}
+
+	public void start() {
+		Thread loader = new Thread(loadTask, "Game Data Preloader");
+		loader.setDaemon(true);
+		loader.setPriority(Thread.MIN_PRIORITY);
+		loader.start();
+	}
+
+	public boolean isPreloading(String sourcePath, GameType gameType) {
+		synchronized (this) {
+			if (claimed || discarded) { return false; }
+		}
+		return this.sourcePath.equals(sourcePath) && this.gameType == gameType;
+	}
+
+	// Called when the data is no longer wanted. Closes the file once loading finishes, if it hasn't already.
+	public void discard() {
+		GBAGameData dataToClose = null;
+		synchronized (this) {
+			if (claimed || discarded) { return; }
+			discarded = true;
+			dataToClose = loadedData;
+			loadedData = null;
+		}
+
+		if (dataToClose != null) {
+			dataToClose.handler.close();
+		}
+	}
+
+	// Waits for loading to finish and hands over the data, or returns null if it can't be used for this run.
+	// Either way, the preloader is used up afterwards.
+	GBAGameData claim(String sourcePath, GameType gameType, DiffCompiler diffs) {
+		File sourceFile = new File(sourcePath);
+		boolean matches = this.sourcePath.equals(sourcePath) && this.gameType == gameType &&
+				sourceFile.length() == sourceLength && sourceFile.lastModified() == sourceLastModified &&
+				appliedDiffs.hasSameDiffs(diffs);
+		if (!matches) {
+			discard();
+			return null;
+		}
+
+		synchronized (this) {
+			if (claimed || discarded) { return null; }
+			claimed = true;
+		}
+
+		try {
+			return loadTask.get();
+		} catch (InterruptedException | ExecutionException e) {
+			System.err.println("Preloading game data failed. Loading it again.");
+			return null;
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package random.gba.randomizer;
+
+import fedata.gba.fe6.FE6Data;
+import fedata.gba.fe7.FE7Data;
+import fedata.gba.fe8.FE8Data;
+import fedata.gba.fe8.FE8PaletteMapper;
+import fedata.gba.fe8.FE8PromotionManager;
+import fedata.gba.fe8.FE8SummonerModule;
+import fedata.general.FEBase.GameType;
+import io.FileHandler;
+import random.gba.loader.ChapterLoader;
+import random.gba.loader.CharacterDataLoader;
+import random.gba.loader.ClassDataLoader;
+import random.gba.loader.ItemDataLoader;
+import random.gba.loader.PaletteLoader;
+import random.gba.loader.TextLoader;
+import util.DiffCompiler;
+import util.FreeSpaceManager;
+
+// Everything read out of a GBA ROM before randomizing starts. Randomizing modifies these in place,
+// so a loaded set can only be used for one run.
+public class GBAGameData {
+
+	public interface LoadingListener {
+		public void onLoadingStatus(String status, double progress);
+	}
+
+	final GameType gameType;
+	final FileHandler handler;
+
+	FreeSpaceManager freeSpace;
+	TextLoader textData;
+	CharacterDataLoader charData;
+	ClassDataLoader classData;
+	ChapterLoader chapterData;
+	ItemDataLoader itemData;
+	PaletteLoader paletteData;
+
+	// FE8 only
+	FE8PromotionManager fe8_promotionManager;
+	FE8SummonerModule fe8_summonerModule;
+	FE8PaletteMapper fe8_paletteMapper;
+
+	private LoadingListener listener;
+
+	private GBAGameData(GameType gameType, FileHandler handler, LoadingListener listener) {
+		super();
+		this.gameType = gameType;
+		this.handler = handler;
+		this.listener = listener;
+	}
+
+	// Reads the game's data from handler as if diffs were already applied to it. The listener may be null.
+	static GBAGameData load(GameType gameType, FileHandler handler, DiffCompiler diffs, boolean allowFE6TextChanges, LoadingListener listener) {
+		GBAGameData data = new GBAGameData(gameType, handler, listener);
+
+		handler.setAppliedDiffs(diffs);
+		try {
+			switch (gameType) {
+			case FE6:
+				data.loadFE6(allowFE6TextChanges);
+				break;
+			case FE7:
+				data.loadFE7();
+				break;
+			case FE8:
+				data.loadFE8();
+				break;
+			default:
+				throw new IllegalArgumentException("Unsupported game: " + gameType);
+			}
+		} finally {
+			handler.clearAppliedDiffs();
+		}
+
+		data.listener = null;
+		return data;
+	}
+
+	private void updateStatus(String status, double progress) {
+		if (listener != null) {
+			listener.onLoadingStatus(status, progress);
+		}
+	}
+
+	private void loadFE6(boolean allowTextChanges) {
+		updateStatus("Detecting Free Space...", 0.02);
+		freeSpace = new FreeSpaceManager(GameType.FE6, FE6Data.InternalFreeRange);
+		updateStatus("Loading Text...", 0.05);
+		textData = new TextLoader(GameType.FE6, handler);
+		if (allowTextChanges) {
+			textData.allowTextChanges = true;
+		}
+
+		updateStatus("Loading Character Data...", 0.10);
+		charData = new CharacterDataLoader(FE6Data.characterProvider, handler);
+		updateStatus("Loading Class Data...", 0.15);
+		classData = new ClassDataLoader(FE6Data.classProvider, handler);
+		updateStatus("Loading Chapter Data...", 0.20);
+		chapterData = new ChapterLoader(GameType.FE6, handler);
+		updateStatus("Loading Item Data...", 0.25);
+		itemData = new ItemDataLoader(FE6Data.itemProvider, handler, freeSpace);
+		updateStatus("Loading Palette Data...", 0.30);
+		paletteData = new PaletteLoader(GameType.FE6, handler, charData, classData);
+	}
+
+	private void loadFE7() {
+		updateStatus("Detecting Free Space...", 0.02);
+		freeSpace = new FreeSpaceManager(GameType.FE7, FE7Data.InternalFreeRange);
+		updateStatus("Loading Text...", 0.05);
+		textData = new TextLoader(GameType.FE7, handler);
+		textData.allowTextChanges = true;
+
+		updateStatus("Loading Character Data...", 0.10);
+		charData = new CharacterDataLoader(FE7Data.characterProvider, handler);
+		updateStatus("Loading Class Data...", 0.15);
+		classData = new ClassDataLoader(FE7Data.classProvider, handler);
+		updateStatus("Loading Chapter Data...", 0.20);
+		chapterData = new ChapterLoader(GameType.FE7, handler);
+		updateStatus("Loading Item Data...", 0.25);
+		itemData = new ItemDataLoader(FE7Data.itemProvider, handler, freeSpace);
+		updateStatus("Loading Palette Data...", 0.30);
+		paletteData = new PaletteLoader(GameType.FE7, handler, charData, classData);
+	}
+
+	private void loadFE8() {
+		updateStatus("Detecting Free Space...", 0.02);
+		freeSpace = new FreeSpaceManager(GameType.FE8, FE8Data.InternalFreeRange);
+		updateStatus("Loading Text...", 0.04);
+		textData = new TextLoader(GameType.FE8, handler);
+		textData.allowTextChanges = true;
+
+		updateStatus("Loading Promotion Data...", 0.06);
+		fe8_promotionManager = new FE8PromotionManager(handler);
+
+		updateStatus("Loading Character Data...", 0.10);
+		charData = new CharacterDataLoader(FE8Data.characterProvider, handler);
+		updateStatus("Loading Class Data...", 0.15);
+		classData = new ClassDataLoader(FE8Data.classProvider, handler);
+		updateStatus("Loading Chapter Data...", 0.20);
+		chapterData = new ChapterLoader(GameType.FE8, handler);
+		updateStatus("Loading Item Data...", 0.25);
+		itemData = new ItemDataLoader(FE8Data.itemProvider, handler, freeSpace);
+		updateStatus("Loading Palette Data...", 0.30);
+		paletteData = new PaletteLoader(GameType.FE8, handler, charData, classData);
+
+		updateStatus("Loading Summoner Module...", 0.35);
+		fe8_summonerModule = new FE8SummonerModule(handler);
+
+		updateStatus("Loading Palette Mapper...", 0.40);
+		fe8_paletteMapper = paletteData.setupFE8SpecialManagers(handler, fe8_promotionManager);
+	}
+}
@@ -8,6 +8,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.stream.Collectors;
 
 import fedata.gba.GBAFEChapterData;
@@ -90,6 +92,8 @@ public class GBARandomizer extends Randomizer {
 	private FreeSpaceManager freeSpace;
 	
 	private FileHandler handler;
+	
+	private GBADataPreloader preloader;
 
 	public GBARandomizer(String sourcePath, String targetPath, FEBase.GameType gameType, DiffCompiler diffs, 
 			GrowthOptions growths, BaseOptions bases, ClassOptions classes, WeaponOptions weapons,
@@ -116,6 +120,11 @@ public class GBARandomizer extends Randomizer {
 		this.gameType = gameType;
 	}
 	
+	// Data loaded ahead of time for this ROM. It's only used if it turns out to match this run.
+	public void setPreloadedData(GBADataPreloader preloader) {
+		this.preloader = preloader;
+	}
+	
 	public void run() {
 		randomize(seedString);
 	}
@@ -124,6 +133,7 @@ public class GBARandomizer extends Randomizer {
 		try {
 			handler = new FileHandler(sourcePath);
 		} catch (IOException e) {
+			if (preloader != null) { preloader.discard(); }
 			notifyError("Failed to open source file.");
 			return;
 		}
@@ -137,6 +147,12 @@ public class GBARandomizer extends Randomizer {
 				updateStatusString("Applying English Patch...");
 				updateProgress(0.05);
 				
+				// Preloaded data was read from the unpatched ROM.
+				if (preloader != null) {
+					preloader.discard();
+					preloader = null;
+				}
+				
 				tempPath = new String(targetPath).concat(".tmp");
 				Boolean success = UPSPatcher.applyUPSPatch("FE6-TLRedux-v1.0.ups", sourcePath, tempPath, null);
 				if (!success) {
@@ -154,19 +170,20 @@ public class GBARandomizer extends Randomizer {
 			}
 			updateStatusString("Loading Data...");
 			updateProgress(0.1);
-			try { generateFE6DataLoaders(); } catch (Exception e) { notifyError("Encountered error while loading data.\n\n" + e.getClass().getSimpleName() + "\n\nStack Trace:\n\n" + String.join("\n", Arrays.asList(e.getStackTrace()).stream().map(element -> (element.toString())).limit(5).collect(Collectors.toList()))); return; }
+			try { loadGameData(miscOptions.applyEnglishPatch); } catch (Exception e) { notifyError("Encountered error while loading data.\n\n" + e.getClass().getSimpleName() + "\n\nStack Trace:\n\n" + String.join("\n", Arrays.asList(e.getStackTrace()).stream().map(element -> (element.toString())).limit(5).collect(Collectors.toList()))); return; }
 			break;
 		case FE7:
 			updateStatusString("Loading Data...");
 			updateProgress(0.01);
-			try { generateFE7DataLoaders(); } catch (Exception e) { notifyError("Encountered error while loading data.\n\n" + e.getClass().getSimpleName() + "\n\nStack Trace:\n\n" + String.join("\n", Arrays.asList(e.getStackTrace()).stream().map(element -> (element.toString())).limit(5).collect(Collectors.toList()))); return; }
+			try { loadGameData(false); } catch (Exception e) { notifyError("Encountered error while loading data.\n\n" + e.getClass().getSimpleName() + "\n\nStack Trace:\n\n" + String.join("\n", Arrays.asList(e.getStackTrace()).stream().map(element -> (element.toString())).limit(5).collect(Collectors.toList()))); return; }
 			break;
 		case FE8:
 			updateStatusString("Loading Data...");
 			updateProgress(0.01);
-			try { generateFE8DataLoaders(); } catch (Exception e) { notifyError("Encountered error while loading data.\n\n" + e.getClass().getSimpleName() + "\n\nStack Trace:\n\n" + String.join("\n", Arrays.asList(e.getStackTrace()).stream().map(element -> (element.toString())).limit(5).collect(Collectors.toList()))); return; }
+			try { loadGameData(false); } catch (Exception e) { notifyError("Encountered error while loading data.\n\n" + e.getClass().getSimpleName() + "\n\nStack Trace:\n\n" + String.join("\n", Arrays.asList(e.getStackTrace()).stream().map(element -> (element.toString())).limit(5).collect(Collectors.toList()))); return; }
 			break;
 		default:
+			if (preloader != null) { preloader.discard(); }
 			notifyError("This game is not supported.");
 			return;
 		}
@@ -206,12 +223,28 @@ public class GBARandomizer extends Randomizer {
 			fe8_paletteMapper.commitChanges(diffCompiler);
 			fe8_promotionManager.compileDiffs(diffCompiler);
 			
-			fe8_summonerModule.validateSummoners(charData, new Random(SeedGenerator.generateSeedValue(seed, 0)));
+			fe8_summonerModule.validateSummoners(charData, SeedGenerator.generateRandom(seed, 0));
 			fe8_summonerModule.commitChanges(diffCompiler, freeSpace);
 		}
 		
 		freeSpace.commitChanges(diffCompiler);
 		
+		// The changelog only needs what's in memory, plus a few tables that are easiest to read back out of the ROM.
+		// Those come from the source ROM with only the diffs that the applicator will actually write, which is exactly
+		// what ends up in the output, so the changelog can be put together while the output is written instead of reading
+		// the output back afterwards.
+		FileHandler finalStateHandler;
+		try {
+			finalStateHandler = new FileHandler(handler.pathToFile);
+		} catch (IOException e) {
+			notifyError("Failed to open source file.");
+			return;
+		}
+		FutureTask<RecordKeeper> changelogTask = new FutureTask<RecordKeeper>(() -> recordFinalState(recordKeeper, finalStateHandler));
+		Thread changelogThread = new Thread(changelogTask, "Changelog Recorder");
+		changelogThread.setDaemon(true);
+		changelogThread.start();
+		
 		updateStatusString("Applying changes...");
 		updateProgress(0.99);
 		if (targetPath != null) {
@@ -226,6 +259,15 @@ public class GBARandomizer extends Randomizer {
 		handler.close();
 		handler = null;
 		
+		RecordKeeper finalRecordKeeper;
+		try {
+			finalRecordKeeper = changelogTask.get();
+		} catch (InterruptedException | ExecutionException e) {
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			notifyError("Encountered error while recording changes.\n\n" + cause.getClass().getSimpleName() + "\n\nStack Trace:\n\n" + String.join("\n", Arrays.asList(cause.getStackTrace()).stream().map(element -> (element.toString())).limit(5).collect(Collectors.toList())));
+			return;
+		}
+		
 		if (tempPath != null) {
 			updateStatusString("Cleaning up...");
 			File tempFile = new File(tempPath);
@@ -237,136 +279,66 @@ public class GBARandomizer extends Randomizer {
 			}
 		}
 		
-		FileHandler targetFileHandler = null;
+		updateStatusString("Done!");
+		updateProgress(1);
+		notifyCompletion(finalRecordKeeper);
+	}
+	
+	private RecordKeeper recordFinalState(RecordKeeper recordKeeper, FileHandler finalStateHandler) {
+		finalStateHandler.setAppliedDiffs(DiffApplicator.appliedDiffs(diffCompiler, finalStateHandler));
 		try {
-			targetFileHandler = new FileHandler(targetPath);
-		} catch (IOException e) {
-			notifyError("Failed to open source file.");
-			return;
+			charData.recordCharacters(recordKeeper, false, classData, textData);
+			classData.recordClasses(recordKeeper, false, classData, textData);
+			itemData.recordWeapons(recordKeeper, false, classData, textData, finalStateHandler);
+			chapterData.recordChapters(recordKeeper, false, charData, classData, itemData, textData);
+		} finally {
+			finalStateHandler.close();
 		}
 		
-		charData.recordCharacters(recordKeeper, false, classData, textData);
-		classData.recordClasses(recordKeeper, false, classData, textData);
-		itemData.recordWeapons(recordKeeper, false, classData, textData, targetFileHandler);
-		chapterData.recordChapters(recordKeeper, false, charData, classData, itemData, textData);
-		
 		recordKeeper.sortKeysInCategory(CharacterDataLoader.RecordKeeperCategoryKey);
 		recordKeeper.sortKeysInCategory(ClassDataLoader.RecordKeeperCategoryKey);
 		recordKeeper.sortKeysInCategory(ItemDataLoader.RecordKeeperCategoryWeaponKey);
 		
-		updateStatusString("Done!");
-		updateProgress(1);
-		notifyCompletion(recordKeeper);
-	}
-	
-	private void generateFE7DataLoaders() {
-		handler.setAppliedDiffs(diffCompiler);
-		
-		updateStatusString("Detecting Free Space...");
-		updateProgress(0.02);
-		freeSpace = new FreeSpaceManager(FEBase.GameType.FE7, FE7Data.InternalFreeRange);
-		updateStatusString("Loading Text...");
-		updateProgress(0.05);
-		textData = new TextLoader(FEBase.GameType.FE7, handler);
-		textData.allowTextChanges = true;
-		
-		updateStatusString("Loading Character Data...");
-		updateProgress(0.10);
-		charData = new CharacterDataLoader(FE7Data.characterProvider, handler);
-		updateStatusString("Loading Class Data...");
-		updateProgress(0.15);
-		classData = new ClassDataLoader(FE7Data.classProvider, handler);
-		updateStatusString("Loading Chapter Data...");
-		updateProgress(0.20);
-		chapterData = new ChapterLoader(FEBase.GameType.FE7, handler);
-		updateStatusString("Loading Item Data...");
-		updateProgress(0.25);
-		itemData = new ItemDataLoader(FE7Data.itemProvider, handler, freeSpace);
-		updateStatusString("Loading Palette Data...");
-		updateProgress(0.30);
-		paletteData = new PaletteLoader(FEBase.GameType.FE7, handler, charData, classData);
-		
-		handler.clearAppliedDiffs();
+		return recordKeeper;
 	}
 	
-	private void generateFE6DataLoaders() {
-		handler.setAppliedDiffs(diffCompiler);
-		
-		updateStatusString("Detecting Free Space...");
-		updateProgress(0.02);
-		freeSpace = new FreeSpaceManager(FEBase.GameType.FE6, FE6Data.InternalFreeRange);
-		updateStatusString("Loading Text...");
-		updateProgress(0.05);
-		textData = new TextLoader(FEBase.GameType.FE6, handler);
-		if (miscOptions.applyEnglishPatch) {
-			textData.allowTextChanges = true;
-		}
-		
-		updateStatusString("Loading Character Data...");
-		updateProgress(0.10);
-		charData = new CharacterDataLoader(FE6Data.characterProvider, handler);
-		updateStatusString("Loading Class Data...");
-		updateProgress(0.15);
-		classData = new ClassDataLoader(FE6Data.classProvider, handler);
-		updateStatusString("Loading Chapter Data...");
-		updateProgress(0.20);
-		chapterData = new ChapterLoader(FEBase.GameType.FE6, handler);
-		updateStatusString("Loading Item Data...");
-		updateProgress(0.25);
-		itemData = new ItemDataLoader(FE6Data.itemProvider, handler, freeSpace);
-		updateStatusString("Loading Palette Data...");
-		updateProgress(0.30);
-		paletteData = new PaletteLoader(FEBase.GameType.FE6, handler, charData, classData);
-		
-		handler.clearAppliedDiffs();
-	}
-	
-	private void generateFE8DataLoaders() {
-		handler.setAppliedDiffs(diffCompiler);
-		
-		updateStatusString("Detecting Free Space...");
-		updateProgress(0.02);
-		freeSpace = new FreeSpaceManager(FEBase.GameType.FE8, FE8Data.InternalFreeRange);
-		updateStatusString("Loading Text...");
-		updateProgress(0.04);
-		textData = new TextLoader(FEBase.GameType.FE8, handler);
-		textData.allowTextChanges = true;
-		
-		updateStatusString("Loading Promotion Data...");
-		updateProgress(0.06);
-		fe8_promotionManager = new FE8PromotionManager(handler);
-		
-		updateStatusString("Loading Character Data...");
-		updateProgress(0.10);
-		charData = new CharacterDataLoader(FE8Data.characterProvider, handler);
-		updateStatusString("Loading Class Data...");
-		updateProgress(0.15);
-		classData = new ClassDataLoader(FE8Data.classProvider, handler);
-		updateStatusString("Loading Chapter Data...");
-		updateProgress(0.20);
-		chapterData = new ChapterLoader(FEBase.GameType.FE8, handler);
-		updateStatusString("Loading Item Data...");
-		updateProgress(0.25);
-		itemData = new ItemDataLoader(FE8Data.itemProvider, handler, freeSpace);
-		updateStatusString("Loading Palette Data...");
-		updateProgress(0.30);
-		paletteData = new PaletteLoader(FEBase.GameType.FE8, handler, charData, classData);
-		
-		updateStatusString("Loading Summoner Module...");
-		updateProgress(0.35);
-		fe8_summonerModule = new FE8SummonerModule(handler);
-		
-		updateStatusString("Loading Palette Mapper...");
-		updateProgress(0.40);
-		fe8_paletteMapper = paletteData.setupFE8SpecialManagers(handler, fe8_promotionManager);
-		
-		
-		handler.clearAppliedDiffs();
+	private void loadGameData(boolean allowFE6TextChanges) {
+		GBAGameData data = null;
+		if (preloader != null) {
+			data = preloader.claim(handler.pathToFile, gameType, diffCompiler);
+			preloader = null;
+		}
+		
+		if (data != null) {
+			// Everything was already read in the background. Switch over to the handle it was read with.
+			handler.close();
+			handler = data.handler;
+		} else {
+			data = GBAGameData.load(gameType, handler, diffCompiler, allowFE6TextChanges, new GBAGameData.LoadingListener() {
+				@Override
+				public void onLoadingStatus(String status, double progress) {
+					updateStatusString(status);
+					updateProgress(progress);
+				}
+			});
+		}
+		
+		freeSpace = data.freeSpace;
+		textData = data.textData;
+		charData = data.charData;
+		classData = data.classData;
+		chapterData = data.chapterData;
+		itemData = data.itemData;
+		paletteData = data.paletteData;
+		
+		fe8_promotionManager = data.fe8_promotionManager;
+		fe8_summonerModule = data.fe8_summonerModule;
+		fe8_paletteMapper = data.fe8_paletteMapper;
 	}
 	
 	private void randomizeGrowthsIfNecessary(String seed) {
 		if (growths != null) {
-			Random rng = new Random(SeedGenerator.generateSeedValue(seed, GrowthsRandomizer.rngSalt));
+			Random rng = SeedGenerator.generateRandom(seed, GrowthsRandomizer.rngSalt);
 			switch (growths.mode) {
 			case REDISTRIBUTE:
 				updateStatusString("Redistributing growths...");
@@ -386,7 +358,7 @@ public class GBARandomizer extends Randomizer {
 	
 	private void randomizeBasesIfNecessary(String seed) {
 		if (bases != null) {
-			Random rng = new Random(SeedGenerator.generateSeedValue(seed, BasesRandomizer.rngSalt));
+			Random rng = SeedGenerator.generateRandom(seed, BasesRandomizer.rngSalt);
 			switch (bases.mode) {
 			case REDISTRIBUTE:
 				updateStatusString("Redistributing bases...");
@@ -404,18 +376,18 @@ public class GBARandomizer extends Randomizer {
 		if (classes != null) {
 			if (classes.randomizePCs) {
 				updateStatusString("Randomizing player classes...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, ClassRandomizer.rngSalt + 1));
+				Random rng = SeedGenerator.generateRandom(seed, ClassRandomizer.rngSalt + 1);
 				ClassRandomizer.randomizePlayableCharacterClasses(classes, itemAssignmentOptions, gameType, charData, classData, chapterData, itemData, textData, rng);
 				needsPaletteFix = true;
 			}
 			if (classes.randomizeEnemies) {
 				updateStatusString("Randomizing minions...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, ClassRandomizer.rngSalt + 2));
+				Random rng = SeedGenerator.generateRandom(seed, ClassRandomizer.rngSalt + 2);
 				ClassRandomizer.randomizeMinionClasses(classes, itemAssignmentOptions, gameType, charData, classData, chapterData, itemData, rng);
 			}
 			if (classes.randomizeBosses) {
 				updateStatusString("Randomizing boss classes...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, ClassRandomizer.rngSalt + 3));
+				Random rng = SeedGenerator.generateRandom(seed, ClassRandomizer.rngSalt + 3);
 				ClassRandomizer.randomizeBossCharacterClasses(classes, itemAssignmentOptions, gameType, charData, classData, chapterData, itemData, textData, rng);
 				needsPaletteFix = true;
 			}
@@ -426,28 +398,28 @@ public class GBARandomizer extends Randomizer {
 		if (weapons != null) {
 			if (weapons.mightOptions != null) {
 				updateStatusString("Randomizing weapon power...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, WeaponsRandomizer.rngSalt));
+				Random rng = SeedGenerator.generateRandom(seed, WeaponsRandomizer.rngSalt);
 				WeaponsRandomizer.randomizeMights(weapons.mightOptions.minValue, weapons.mightOptions.maxValue, weapons.mightOptions.variance, itemData, rng);
 			}
 			if (weapons.hitOptions != null) {
 				updateStatusString("Randomizing weapon accuracy...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, WeaponsRandomizer.rngSalt + 1));
+				Random rng = SeedGenerator.generateRandom(seed, WeaponsRandomizer.rngSalt + 1);
 				WeaponsRandomizer.randomizeHit(weapons.hitOptions.minValue, weapons.hitOptions.maxValue, weapons.hitOptions.variance, itemData, rng);
 			}
 			if (weapons.weightOptions != null) {
 				updateStatusString("Randomizing weapon weights...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, WeaponsRandomizer.rngSalt + 2));
+				Random rng = SeedGenerator.generateRandom(seed, WeaponsRandomizer.rngSalt + 2);
 				WeaponsRandomizer.randomizeWeight(weapons.weightOptions.minValue, weapons.weightOptions.maxValue, weapons.weightOptions.variance, itemData, rng);
 			}
 			if (weapons.durabilityOptions != null) {
 				updateStatusString("Randomizing weapon durability...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, WeaponsRandomizer.rngSalt + 3));
+				Random rng = SeedGenerator.generateRandom(seed, WeaponsRandomizer.rngSalt + 3);
 				WeaponsRandomizer.randomizeDurability(weapons.durabilityOptions.minValue, weapons.durabilityOptions.maxValue, weapons.durabilityOptions.variance, itemData, rng);
 			}
 			
 			if (weapons.shouldAddEffects && weapons.effectsList != null) {
 				updateStatusString("Adding random effects to weapons...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, WeaponsRandomizer.rngSalt + 4));
+				Random rng = SeedGenerator.generateRandom(seed, WeaponsRandomizer.rngSalt + 4);
 				WeaponsRandomizer.randomizeEffects(weapons.effectsList, itemData, textData, weapons.noEffectIronWeapons, rng);
 			}
 		}
@@ -457,17 +429,17 @@ public class GBARandomizer extends Randomizer {
 		if (otherCharacterOptions != null) {
 			if (otherCharacterOptions.movementOptions != null) {
 				updateStatusString("Randomizing class movement ranges...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, ClassRandomizer.rngSalt + 4));
+				Random rng = SeedGenerator.generateRandom(seed, ClassRandomizer.rngSalt + 4);
 				ClassRandomizer.randomizeClassMovement(otherCharacterOptions.movementOptions.minValue, otherCharacterOptions.movementOptions.maxValue, classData, rng);
 			}
 			if (otherCharacterOptions.constitutionOptions != null) {
 				updateStatusString("Randomizing character constitution...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, CharacterRandomizer.rngSalt));
+				Random rng = SeedGenerator.generateRandom(seed, CharacterRandomizer.rngSalt);
 				CharacterRandomizer.randomizeConstitution(otherCharacterOptions.constitutionOptions.minValue, otherCharacterOptions.constitutionOptions.variance, charData, classData, rng);
 			}
 			if (otherCharacterOptions.randomizeAffinity) {
 				updateStatusString("Randomizing character affinity...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, CharacterRandomizer.rngSalt + 1));
+				Random rng = SeedGenerator.generateRandom(seed, CharacterRandomizer.rngSalt + 1);
 				CharacterRandomizer.randomizeAffinity(charData, rng);
 			}
 		}
@@ -485,7 +457,7 @@ public class GBARandomizer extends Randomizer {
 			
 			if (enemies.improveWeapons) {
 				updateStatusString("Upgrading enemy weapons...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, EnemyBuffer.rngSalt));
+				Random rng = SeedGenerator.generateRandom(seed, EnemyBuffer.rngSalt);
 				EnemyBuffer.improveWeapons(enemies.improvementChance, charData, classData, chapterData, itemData, rng);
 			}
 		}
@@ -495,7 +467,7 @@ public class GBARandomizer extends Randomizer {
 		if (miscOptions != null) {
 			if (miscOptions.randomizeRewards) {
 				updateStatusString("Randomizing rewards...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, RandomRandomizer.rngSalt));
+				Random rng = SeedGenerator.generateRandom(seed, RandomRandomizer.rngSalt);
 				RandomRandomizer.randomizeRewards(itemData, chapterData, rng);
 			}
 		}
@@ -504,7 +476,7 @@ public class GBARandomizer extends Randomizer {
 	private void randomizeRecruitmentIfNecessary(String seed) {
 		if (recruitOptions != null) {
 			updateStatusString("Randomizing recruitment...");
-			Random rng = new Random(SeedGenerator.generateSeedValue(seed, RecruitmentRandomizer.rngSalt));
+			Random rng = SeedGenerator.generateRandom(seed, RecruitmentRandomizer.rngSalt);
 			characterMap = RecruitmentRandomizer.randomizeRecruitment(recruitOptions, itemAssignmentOptions, gameType, charData, classData, itemData, chapterData, textData, freeSpace, rng);
 			needsPaletteFix = true;
 		}
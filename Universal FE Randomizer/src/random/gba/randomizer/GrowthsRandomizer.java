@@ -1,30 +1,49 @@
 package random.gba.randomizer;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 import fedata.gba.GBAFECharacterData;
 import random.gba.loader.CharacterDataLoader;
+import random.general.PerEntityStage;
 
 public class GrowthsRandomizer {
 	
 	static final int rngSalt = 124;
 	
+	private static class Growths {
+		int hp;
+		int str;
+		int skl;
+		int spd;
+		int lck;
+		int def;
+		int res;
+		
+		Growths(int hp, int str, int skl, int spd, int lck, int def, int res) {
+			this.hp = hp;
+			this.str = str;
+			this.skl = skl;
+			this.spd = spd;
+			this.lck = lck;
+			this.def = def;
+			this.res = res;
+		}
+	}
+	
 	public static void randomizeGrowthsByRedistribution(int variance, boolean adjustHP, CharacterDataLoader charactersData, Random rng) {
-		GBAFECharacterData[] allPlayableCharacters = charactersData.playableCharacters();
-		for (GBAFECharacterData character : allPlayableCharacters) {
-			
-			if (character.wasModified()) {
-				continue;
-			}
-			
+		PerEntityStage.run(charactersToRandomize(charactersData), character -> character.getID(), rng, (character, characterRNG) -> {
 			int growthTotal = character.getHPGrowth() + character.getSTRGrowth() + character.getSKLGrowth() + character.getSPDGrowth() + 
 					character.getLCKGrowth() + character.getDEFGrowth() + character.getRESGrowth();
 			
-			int randomNum = rng.nextInt(2);
+			int randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				growthTotal += rng.nextInt(variance + 1);
+				growthTotal += characterRNG.nextInt(variance + 1);
 			} else {
-				growthTotal -= rng.nextInt(variance + 1);
+				growthTotal -= characterRNG.nextInt(variance + 1);
 			}
 			
 			int newHPGrowth = 0;
@@ -36,7 +55,7 @@ public class GrowthsRandomizer {
 			int newRESGrowth = 0;
 			
 			while (growthTotal > 0) {
-				randomNum = rng.nextInt(adjustHP ? 10 : 8);
+				randomNum = characterRNG.nextInt(adjustHP ? 10 : 8);
 				int amount = Math.min(5,  growthTotal);
 				growthTotal -= amount;
 				switch (randomNum) {
@@ -68,28 +87,14 @@ public class GrowthsRandomizer {
 				}
 			}
 			
-			for (GBAFECharacterData thisCharacter : charactersData.linkedCharactersForCharacter(character)) {
-				thisCharacter.setHPGrowth(newHPGrowth);
-				thisCharacter.setSTRGrowth(newSTRGrowth);
-				thisCharacter.setSKLGrowth(newSKLGrowth);
-				thisCharacter.setSPDGrowth(newSPDGrowth);
-				thisCharacter.setLCKGrowth(newLCKGrowth);
-				thisCharacter.setDEFGrowth(newDEFGrowth);
-				thisCharacter.setRESGrowth(newRESGrowth);
-			}
-		}
+			return new Growths(newHPGrowth, newSTRGrowth, newSKLGrowth, newSPDGrowth, newLCKGrowth, newDEFGrowth, newRESGrowth);
+		}, (character, growths) -> applyGrowths(growths, character, charactersData));
 		
 		charactersData.commit();
 	}
 	
 	public static void randomizeGrowthsByRandomDelta(int maxDelta, boolean adjustHP, CharacterDataLoader charactersData, Random rng) {
-		GBAFECharacterData[] allPlayableCharacters = charactersData.playableCharacters();
-		for (GBAFECharacterData character : allPlayableCharacters) {
-			
-			if (character.wasModified()) {
-				continue;
-			}
-			
+		PerEntityStage.run(charactersToRandomize(charactersData), character -> character.getID(), rng, (character, characterRNG) -> {
 			int newHPGrowth = character.getHPGrowth();
 			int newSTRGrowth = character.getSTRGrowth();
 			int newSKLGrowth = character.getSKLGrowth();
@@ -98,83 +103,69 @@ public class GrowthsRandomizer {
 			int newDEFGrowth = character.getDEFGrowth();
 			int newRESGrowth = character.getRESGrowth();
 			
-			int randomNum = rng.nextInt(2);
+			int randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newHPGrowth += rng.nextInt(maxDelta + 1);
+				newHPGrowth += characterRNG.nextInt(maxDelta + 1);
 			} else {
-				newHPGrowth -= rng.nextInt(maxDelta + 1);
+				newHPGrowth -= characterRNG.nextInt(maxDelta + 1);
 				if (adjustHP) {
-					newHPGrowth += rng.nextInt(maxDelta + 1);
+					newHPGrowth += characterRNG.nextInt(maxDelta + 1);
 				}
 			}
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newSTRGrowth += rng.nextInt(maxDelta + 1);
+				newSTRGrowth += characterRNG.nextInt(maxDelta + 1);
 			} else {
-				newSTRGrowth -= rng.nextInt(maxDelta + 1);
+				newSTRGrowth -= characterRNG.nextInt(maxDelta + 1);
 			}
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newSKLGrowth += rng.nextInt(maxDelta + 1);
+				newSKLGrowth += characterRNG.nextInt(maxDelta + 1);
 			} else {
-				newSKLGrowth -= rng.nextInt(maxDelta + 1);
+				newSKLGrowth -= characterRNG.nextInt(maxDelta + 1);
 			}
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newSPDGrowth += rng.nextInt(maxDelta + 1);
+				newSPDGrowth += characterRNG.nextInt(maxDelta + 1);
 			} else {
-				newSPDGrowth -= rng.nextInt(maxDelta + 1);
+				newSPDGrowth -= characterRNG.nextInt(maxDelta + 1);
 			}
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newLCKGrowth += rng.nextInt(maxDelta + 1);
+				newLCKGrowth += characterRNG.nextInt(maxDelta + 1);
 			} else {
-				newLCKGrowth -= rng.nextInt(maxDelta + 1);
+				newLCKGrowth -= characterRNG.nextInt(maxDelta + 1);
 			}
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newDEFGrowth += rng.nextInt(maxDelta + 1);
+				newDEFGrowth += characterRNG.nextInt(maxDelta + 1);
 			} else {
-				newDEFGrowth -= rng.nextInt(maxDelta + 1);
+				newDEFGrowth -= characterRNG.nextInt(maxDelta + 1);
 			}
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newRESGrowth += rng.nextInt(maxDelta + 1);
+				newRESGrowth += characterRNG.nextInt(maxDelta + 1);
 			} else {
-				newRESGrowth -= rng.nextInt(maxDelta + 1);
+				newRESGrowth -= characterRNG.nextInt(maxDelta + 1);
 			}
 			
-			for (GBAFECharacterData thisCharacter : charactersData.linkedCharactersForCharacter(character)) {
-				thisCharacter.setHPGrowth(newHPGrowth);
-				thisCharacter.setSTRGrowth(newSTRGrowth);
-				thisCharacter.setSKLGrowth(newSKLGrowth);
-				thisCharacter.setSPDGrowth(newSPDGrowth);
-				thisCharacter.setLCKGrowth(newLCKGrowth);
-				thisCharacter.setDEFGrowth(newDEFGrowth);
-				thisCharacter.setRESGrowth(newRESGrowth);
-			}
-		}
+			return new Growths(newHPGrowth, newSTRGrowth, newSKLGrowth, newSPDGrowth, newLCKGrowth, newDEFGrowth, newRESGrowth);
+		}, (character, growths) -> applyGrowths(growths, character, charactersData));
 		
 		charactersData.commit();
 	}
 	
 	public static void fullyRandomizeGrowthsWithRange(int minGrowth, int maxGrowth, boolean adjustHP, CharacterDataLoader charactersData, Random rng) {
-		GBAFECharacterData[] allPlayableCharacters = charactersData.playableCharacters();
-		for (GBAFECharacterData character : allPlayableCharacters) {
-			
-			if (character.wasModified()) {
-				continue;
-			}
-			
+		PerEntityStage.run(charactersToRandomize(charactersData), character -> character.getID(), rng, (character, characterRNG) -> {
 			int range = maxGrowth - minGrowth + 1;
 			
-			int newHPGrowth = rng.nextInt(range) + minGrowth;
-			int newSTRGrowth = rng.nextInt(range) + minGrowth;
-			int newSKLGrowth = rng.nextInt(range) + minGrowth;
-			int newSPDGrowth = rng.nextInt(range) + minGrowth;
-			int newLCKGrowth = rng.nextInt(range) + minGrowth;
-			int newDEFGrowth = rng.nextInt(range) + minGrowth;
-			int newRESGrowth = rng.nextInt(range) + minGrowth;
+			int newHPGrowth = characterRNG.nextInt(range) + minGrowth;
+			int newSTRGrowth = characterRNG.nextInt(range) + minGrowth;
+			int newSKLGrowth = characterRNG.nextInt(range) + minGrowth;
+			int newSPDGrowth = characterRNG.nextInt(range) + minGrowth;
+			int newLCKGrowth = characterRNG.nextInt(range) + minGrowth;
+			int newDEFGrowth = characterRNG.nextInt(range) + minGrowth;
+			int newRESGrowth = characterRNG.nextInt(range) + minGrowth;
 			
 			if (adjustHP) {
 				int threshold = range / 2 + minGrowth;
@@ -187,18 +178,41 @@ public class GrowthsRandomizer {
 				}
 			}
 			
-			for (GBAFECharacterData thisCharacter : charactersData.linkedCharactersForCharacter(character)) {
-				thisCharacter.setHPGrowth(newHPGrowth);
-				thisCharacter.setSTRGrowth(newSTRGrowth);
-				thisCharacter.setSKLGrowth(newSKLGrowth);
-				thisCharacter.setSPDGrowth(newSPDGrowth);
-				thisCharacter.setLCKGrowth(newLCKGrowth);
-				thisCharacter.setDEFGrowth(newDEFGrowth);
-				thisCharacter.setRESGrowth(newRESGrowth);
+			return new Growths(newHPGrowth, newSTRGrowth, newSKLGrowth, newSPDGrowth, newLCKGrowth, newDEFGrowth, newRESGrowth);
+		}, (character, growths) -> applyGrowths(growths, character, charactersData));
+		
+		charactersData.commit();
+	}
+	
+	// Linked characters share one set of growths, so only the first of each group (in playable order) is rolled.
+	// Characters already modified by something else are left alone.
+	private static List<GBAFECharacterData> charactersToRandomize(CharacterDataLoader charactersData) {
+		List<GBAFECharacterData> characters = new ArrayList<GBAFECharacterData>();
+		Set<Integer> coveredIDs = new HashSet<Integer>();
+		for (GBAFECharacterData character : charactersData.playableCharacters()) {
+			if (character.wasModified() || coveredIDs.contains(character.getID())) {
+				continue;
+			}
+			
+			characters.add(character);
+			for (GBAFECharacterData linked : charactersData.linkedCharactersForCharacter(character)) {
+				coveredIDs.add(linked.getID());
 			}
 		}
 		
-		charactersData.commit();
+		return characters;
+	}
+	
+	private static void applyGrowths(Growths growths, GBAFECharacterData character, CharacterDataLoader charactersData) {
+		for (GBAFECharacterData thisCharacter : charactersData.linkedCharactersForCharacter(character)) {
+			thisCharacter.setHPGrowth(growths.hp);
+			thisCharacter.setSTRGrowth(growths.str);
+			thisCharacter.setSKLGrowth(growths.skl);
+			thisCharacter.setSPDGrowth(growths.spd);
+			thisCharacter.setLCKGrowth(growths.lck);
+			thisCharacter.setDEFGrowth(growths.def);
+			thisCharacter.setRESGrowth(growths.res);
+		}
 	}
 
 }
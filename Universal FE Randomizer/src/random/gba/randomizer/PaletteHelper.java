@@ -28,9 +28,9 @@ public class PaletteHelper {
 			
 			if (type == GameType.FE8) {
 				if (slotToReference != null && slotToReference.get(playableCharacter) != null) {
-					paletteData.adaptFE8CharacterToClass(characterID, slotToReference.get(playableCharacter).getID(), classID, false);
+					paletteData.enqueueFE8Change(characterID, slotToReference.get(playableCharacter).getID(), classID, false);
 				} else {
-					paletteData.adaptFE8CharacterToClass(characterID, classID, false);
+					paletteData.enqueueFE8Change(characterID, characterID, classID, false);
 				}
 			} else {
 				if (slotToReference != null && slotToReference.get(playableCharacter) != null) {
@@ -46,7 +46,7 @@ public class PaletteHelper {
 			int classID = bossCharacter.getClassID();
 			
 			if (type == GameType.FE8) {
-				paletteData.adaptFE8CharacterToClass(characterID, classID, true);
+				paletteData.enqueueFE8Change(characterID, characterID, classID, true);
 			} else {
 				paletteData.enqueueChange(bossCharacter, bossCharacter, charData, classData, classID, false);
 			}
@@ -726,17 +726,15 @@ public class RecruitmentRandomizer {
 				reward.setItemID(item.getID());
 			}
 			
-			for (GBAFEChapterUnitData unit : chapter.allUnits()) {
-				if (unit.getCharacterNumber() == slot.getID()) {
-					unit.setStartingClass(targetClass.getID());
-					
-					// Set Inventory.
-					ClassRandomizer.validateCharacterInventory(inventoryOptions, slot, targetClass, unit, characterData.characterIDRequiresRange(slot.getID()), characterData.characterIDRequiresMelee(slot.getID()), classData, itemData, textData, false, rng);
-					if (characterData.isThiefCharacterID(slot.getID())) {
-						ClassRandomizer.validateFormerThiefInventory(unit, itemData);
-					}
-					ClassRandomizer.validateSpecialClassInventory(unit, itemData, rng);
+			for (GBAFEChapterUnitData unit : chapterData.unitsForCharacterInChapter(slot.getID(), chapter)) {
+				unit.setStartingClass(targetClass.getID());
+				
+				// Set Inventory.
+				ClassRandomizer.validateCharacterInventory(inventoryOptions, slot, targetClass, unit, characterData.characterIDRequiresRange(slot.getID()), characterData.characterIDRequiresMelee(slot.getID()), classData, itemData, textData, false, rng);
+				if (characterData.isThiefCharacterID(slot.getID())) {
+					ClassRandomizer.validateFormerThiefInventory(unit, itemData);
 				}
+				ClassRandomizer.validateSpecialClassInventory(unit, itemData, rng);
 			}
 		}
 	}
@@ -0,0 +1,46 @@
+package random.general;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.ToIntFunction;
+
+import util.StreamedRandom;
+
+// Runs a stage whose per-entity work is independent. Each entity's result is computed from its own RNG stream
+// and then committed in list order, so the output is the same whether the computations ran in parallel or not.
+// Computations may only read shared data. Anything that writes belongs in the commit step.
+public class PerEntityStage {
+
+	public interface EntityComputation<E, R> {
+		public R compute(E entity, Random entityRNG);
+	}
+
+	public interface EntityCommit<E, R> {
+		public void commit(E entity, R result);
+	}
+
+	public static <E, R> void run(List<E> entities, ToIntFunction<E> entityID, Random stageRNG, EntityComputation<E, R> computation, EntityCommit<E, R> commit) {
+		// Legacy seeds share one generator across the whole stage, so entities have to be handled one after another,
+		// in their original order, for the results to match.
+		if (!StreamedRandom.hasIndependentEntityStreams(stageRNG) || entities.size() < 2) {
+			for (E entity : entities) {
+				R result = computation.compute(entity, StreamedRandom.forEntity(stageRNG, entityID.applyAsInt(entity)));
+				commit.commit(entity, result);
+			}
+			return;
+		}
+
+		List<ForkJoinTask<R>> tasks = new ArrayList<ForkJoinTask<R>>(entities.size());
+		for (E entity : entities) {
+			Random entityRNG = StreamedRandom.forEntity(stageRNG, entityID.applyAsInt(entity));
+			tasks.add(ForkJoinPool.commonPool().submit(() -> computation.compute(entity, entityRNG)));
+		}
+
+		for (int i = 0; i < entities.size(); i++) {
+			commit.commit(entities.get(i), tasks.get(i).join());
+		}
+	}
+}
@@ -1,59 +1,278 @@
 package random.general;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 
 public class PoolDistributor<T> {
-	
-	List<T> itemList;
+
+	public enum RemovalMode {
+		// Items keep their insertion order, so draws consume the RNG and resolve exactly like the old list did.
+		// Live slots are tracked in a Fenwick tree, which makes draws and removals O(log n).
+		COMPATIBLE,
+		// Removed items are replaced by the last item in the pool. O(1) draws and removals, but results differ from COMPATIBLE.
+		SWAP_REMOVE
+	}
+
+	RemovalMode mode;
+
+	// The distinct items and how many copies of each are left in the pool.
+	Map<T, Integer> itemCounts;
 	Set<T> itemSet;
-	
+
+	// COMPATIBLE: every item ever added, in order. Removed slots stay in place and are marked dead in liveSlotTree.
+	List<T> slotList;
+	boolean[] slotIsLive;
+	int[] liveSlotTree;
+	int liveSlotCount;
+	Map<T, ArrayDeque<Integer>> slotsByItem;
+
+	// SWAP_REMOVE: only live items. positionsByItem lists where each item sits in itemList and
+	// positionIndex[i] is where slot i appears in its item's position list, so both can be patched in O(1).
+	List<T> itemList;
+	int[] positionIndex;
+	Map<T, List<Integer>> positionsByItem;
+
 	public PoolDistributor() {
-		itemList = new ArrayList<T>();
+		this(RemovalMode.COMPATIBLE);
+	}
+
+	public PoolDistributor(RemovalMode mode) {
+		this.mode = mode;
+
+		itemCounts = new HashMap<T, Integer>();
 		itemSet = new HashSet<T>();
+
+		if (mode == RemovalMode.COMPATIBLE) {
+			slotList = new ArrayList<T>();
+			slotIsLive = new boolean[16];
+			liveSlotTree = new int[17];
+			slotsByItem = new HashMap<T, ArrayDeque<Integer>>();
+		} else {
+			itemList = new ArrayList<T>();
+			positionIndex = new int[16];
+			positionsByItem = new HashMap<T, List<Integer>>();
+		}
 	}
-	
+
 	public void addItem(T item) {
 		addItem(item, 1);
 	}
 
 	public void addItem(T item, int count) {
 		if (item == null) { return; }
-		itemList.add(item);
-		itemSet.add(item);
+		for (int i = 0; i < count; i++) {
+			if (mode == RemovalMode.COMPATIBLE) {
+				appendSlot(item);
+			} else {
+				appendPosition(item);
+			}
+		}
+
+		if (count > 0) {
+			Integer existingCount = itemCounts.get(item);
+			itemCounts.put(item, existingCount != null ? existingCount + count : count);
+			itemSet.add(item);
+		}
 	}
-	
+
 	public void removeItem(T itemToRemove, boolean allInstances) {
-		if (itemToRemove == null) { return; }
-		if (allInstances) {
-			itemList.removeIf(item -> (item == itemToRemove));
-			itemSet.remove(itemToRemove);
+		if (itemToRemove == null || !itemCounts.containsKey(itemToRemove)) { return; }
+
+		if (mode == RemovalMode.COMPATIBLE) {
+			ArrayDeque<Integer> slots = slotsByItem.get(itemToRemove);
+			do {
+				// Slots removed by a draw are left in the queue, so skip past them to find the first live copy.
+				Integer slot = slots.pollFirst();
+				while (slot != null && !slotIsLive[slot]) { slot = slots.pollFirst(); }
+				if (slot == null) { break; }
+				killSlot(slot);
+			} while (allInstances && !slots.isEmpty());
 		} else {
-			itemList.remove(itemToRemove);
-			if (!itemList.contains(itemToRemove)) {
-				itemSet.remove(itemToRemove);
-			}
+			List<Integer> positions = positionsByItem.get(itemToRemove);
+			do {
+				removePosition(positions.get(positions.size() - 1));
+			} while (allInstances && !positions.isEmpty());
 		}
 	}
-	
+
 	public T getRandomItem(Random rng, boolean removeItem) {
-		if (itemList.isEmpty()) { return null; }
+		if (itemSet.isEmpty()) { return null; }
+
+		if (mode == RemovalMode.COMPATIBLE) {
+			int randomIndex = rng.nextInt(liveSlotCount);
+			int slot = liveSlotAtIndex(randomIndex);
+			T randomItem = slotList.get(slot);
+			if (removeItem) {
+				killSlot(slot);
+			}
+			return randomItem;
+		}
+
 		int randomIndex = rng.nextInt(itemList.size());
 		T randomItem = itemList.get(randomIndex);
 		if (removeItem) {
-			itemList.remove(randomIndex);
-			if (!itemList.contains(randomItem)) {
-				itemSet.remove(randomItem);
-			}
+			removePosition(randomIndex);
 		}
-		
 		return randomItem;
 	}
-	
+
 	public Set<T> possibleResults() {
 		return itemSet;
 	}
+
+	private void decrementCount(T item) {
+		int remaining = itemCounts.get(item) - 1;
+		if (remaining == 0) {
+			itemCounts.remove(item);
+			itemSet.remove(item);
+		} else {
+			itemCounts.put(item, remaining);
+		}
+	}
+
+	// COMPATIBLE
+
+	private void appendSlot(T item) {
+		int slot = slotList.size();
+		if (slot == slotIsLive.length) {
+			compactSlots();
+			slot = slotList.size();
+		}
+
+		slotList.add(item);
+		slotIsLive[slot] = true;
+		adjustLiveSlotTree(slot, 1);
+		liveSlotCount++;
+
+		ArrayDeque<Integer> slots = slotsByItem.get(item);
+		if (slots == null) {
+			slots = new ArrayDeque<Integer>();
+			slotsByItem.put(item, slots);
+		}
+		slots.addLast(slot);
+	}
+
+	private void killSlot(int slot) {
+		T item = slotList.get(slot);
+		slotIsLive[slot] = false;
+		adjustLiveSlotTree(slot, -1);
+		liveSlotCount--;
+
+		decrementCount(item);
+		if (!itemCounts.containsKey(item)) {
+			slotsByItem.remove(item);
+		}
+	}
+
+	private void adjustLiveSlotTree(int slot, int delta) {
+		for (int i = slot + 1; i < liveSlotTree.length; i += i & (-i)) {
+			liveSlotTree[i] += delta;
+		}
+	}
+
+	// Finds the slot holding the index-th live item, which is what itemList.get(index) used to return.
+	private int liveSlotAtIndex(int index) {
+		int position = 0;
+		int remaining = index;
+		for (int step = Integer.highestOneBit(liveSlotTree.length - 1); step > 0; step >>= 1) {
+			int next = position + step;
+			if (next < liveSlotTree.length && liveSlotTree[next] <= remaining) {
+				position = next;
+				remaining -= liveSlotTree[next];
+			}
+		}
+		return position;
+	}
+
+	// Called when the slot array is full. Drops dead slots, and grows the array if that didn't free up enough room.
+	private void compactSlots() {
+		List<T> oldSlots = slotList;
+		boolean[] oldIsLive = slotIsLive;
+
+		int capacity = oldIsLive.length;
+		if (liveSlotCount * 2 >= capacity) { capacity *= 2; }
+
+		slotList = new ArrayList<T>(capacity);
+		slotIsLive = new boolean[capacity];
+		liveSlotTree = new int[capacity + 1];
+		slotsByItem.clear();
+
+		for (int i = 0; i < oldSlots.size(); i++) {
+			if (!oldIsLive[i]) { continue; }
+			T item = oldSlots.get(i);
+			int slot = slotList.size();
+			slotList.add(item);
+			slotIsLive[slot] = true;
+
+			ArrayDeque<Integer> slots = slotsByItem.get(item);
+			if (slots == null) {
+				slots = new ArrayDeque<Integer>();
+				slotsByItem.put(item, slots);
+			}
+			slots.addLast(slot);
+		}
+
+		for (int i = 1; i < liveSlotTree.length; i++) {
+			if (slotIsLive[i - 1]) { liveSlotTree[i]++; }
+			int parent = i + (i & (-i));
+			if (parent < liveSlotTree.length) {
+				liveSlotTree[parent] += liveSlotTree[i];
+			}
+		}
+	}
+
+	// SWAP_REMOVE
+
+	private void appendPosition(T item) {
+		int position = itemList.size();
+		if (position == positionIndex.length) {
+			positionIndex = Arrays.copyOf(positionIndex, positionIndex.length * 2);
+		}
+
+		itemList.add(item);
+
+		List<Integer> positions = positionsByItem.get(item);
+		if (positions == null) {
+			positions = new ArrayList<Integer>();
+			positionsByItem.put(item, positions);
+		}
+		positionIndex[position] = positions.size();
+		positions.add(position);
+	}
+
+	private void removePosition(int position) {
+		T item = itemList.get(position);
+
+		// Take this position out of the item's position list by moving that list's last entry into its place.
+		List<Integer> positions = positionsByItem.get(item);
+		int indexInPositions = positionIndex[position];
+		int lastIndexInPositions = positions.size() - 1;
+		int movedPosition = positions.get(lastIndexInPositions);
+		positions.set(indexInPositions, movedPosition);
+		positionIndex[movedPosition] = indexInPositions;
+		positions.remove(lastIndexInPositions);
+		if (positions.isEmpty()) {
+			positionsByItem.remove(item);
+		}
+
+		// Then fill the hole in itemList with its last item.
+		int lastPosition = itemList.size() - 1;
+		if (position != lastPosition) {
+			T lastItem = itemList.get(lastPosition);
+			int lastItemIndexInPositions = positionIndex[lastPosition];
+			positionsByItem.get(lastItem).set(lastItemIndexInPositions, position);
+			positionIndex[position] = lastItemIndexInPositions;
+			itemList.set(position, lastItem);
+		}
+		itemList.remove(lastPosition);
+
+		decrementCount(item);
+	}
 }
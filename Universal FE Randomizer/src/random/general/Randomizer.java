@@ -1,58 +1,29 @@
 package random.general;
 
-import org.eclipse.swt.widgets.Display;
-
 import util.recordkeeper.RecordKeeper;
 
 public abstract class Randomizer extends Thread {
 
-	private RandomizerListener listener = null;
+	private final RandomizerProgress progressChannel = new RandomizerProgress();
 	
-	public void setListener(RandomizerListener listener) {
-		this.listener = listener;
+	// Whoever is watching the run subscribes here. See RandomizerProgress.
+	public RandomizerProgress getProgressChannel() {
+		return progressChannel;
 	}
 	
 	protected void updateStatusString(String string) {
-		if (listener != null) {
-			Display.getDefault().asyncExec(new Runnable() {
-				@Override
-				public void run() {
-					listener.onStatusUpdate(string);	
-				}
-			});
-		}
+		progressChannel.postStatus(string);
 	}
 	
 	protected void updateProgress(double progress) {
-		if (listener != null) {
-			Display.getDefault().asyncExec(new Runnable() {
-				@Override
-				public void run() {
-					listener.onProgressUpdate(progress);
-				}
-			});	
-		}
+		progressChannel.postProgress(progress);
 	}
 	
 	protected void notifyError(String errorString) {
-		if (listener != null) {
-			Display.getDefault().asyncExec(new Runnable() {
-				@Override
-				public void run() {
-					listener.onError(errorString);	
-				}
-			});
-		}
+		progressChannel.postError(errorString);
 	}
 	
 	protected void notifyCompletion(RecordKeeper rk) {
-		if (listener != null) {
-			Display.getDefault().asyncExec(new Runnable() {
-				@Override
-				public void run() {
-					listener.onComplete(rk);	
-				}
-			});
-		}
+		progressChannel.postCompletion(rk);
 	}
 }
@@ -0,0 +1,157 @@
+package random.general;
+
+import util.recordkeeper.RecordKeeper;
+
+// Carries a randomizer's status, progress, and outcome to whoever is watching, without depending on any UI toolkit.
+// Status and progress only keep their latest value, and the watcher is woken up at most once per interval to pick
+// them up, so a run that posts hundreds of updates doesn't queue hundreds of callbacks. The outcome (an error or the
+// finished records) is never dropped and always comes after the last update.
+public class RandomizerProgress {
+
+	public interface DrainScheduler {
+		// Called on the randomizer's thread when something new has been posted. The scheduler should call
+		// drain() on whatever thread the listener expects, after roughly delayMillis. It isn't asked again until it does.
+		public void scheduleDrain(RandomizerProgress progress, long delayMillis);
+	}
+
+	public static final long DefaultMinimumIntervalMillis = 50;
+
+	private final long minimumIntervalNanos;
+
+	private DrainScheduler scheduler;
+	private boolean drainScheduled = false;
+	private long lastDrainTime;
+
+	private String pendingStatus;
+	private boolean hasPendingStatus = false;
+	private double pendingProgress;
+	private boolean hasPendingProgress = false;
+
+	private boolean finished = false;
+	private boolean outcomePending = false;
+	private String error;
+	private RecordKeeper records;
+
+	public RandomizerProgress() {
+		this(DefaultMinimumIntervalMillis);
+	}
+
+	public RandomizerProgress(long minimumIntervalMillis) {
+		super();
+		minimumIntervalNanos = minimumIntervalMillis * 1000000L;
+		lastDrainTime = System.nanoTime() - minimumIntervalNanos;
+	}
+
+	public void setDrainScheduler(DrainScheduler scheduler) {
+		synchronized (this) {
+			this.scheduler = scheduler;
+			drainScheduled = false;
+		}
+		requestDrain();
+	}
+
+	public void postStatus(String status) {
+		synchronized (this) {
+			if (finished) { return; }
+			pendingStatus = status;
+			hasPendingStatus = true;
+		}
+		requestDrain();
+	}
+
+	public void postProgress(double progress) {
+		synchronized (this) {
+			if (finished) { return; }
+			pendingProgress = progress;
+			hasPendingProgress = true;
+		}
+		requestDrain();
+	}
+
+	public void postError(String errorString) {
+		synchronized (this) {
+			if (finished) { return; }
+			finished = true;
+			outcomePending = true;
+			error = errorString;
+		}
+		requestDrain();
+	}
+
+	public void postCompletion(RecordKeeper rk) {
+		synchronized (this) {
+			if (finished) { return; }
+			finished = true;
+			outcomePending = true;
+			records = rk;
+		}
+		requestDrain();
+	}
+
+	public synchronized boolean isFinished() {
+		return finished;
+	}
+
+	// Hands everything posted since the last drain to the listener, on the calling thread.
+	public void drain(RandomizerListener listener) {
+		String status;
+		boolean sendStatus;
+		double progress;
+		boolean sendProgress;
+		boolean sendOutcome;
+		String errorString;
+		RecordKeeper rk;
+
+		synchronized (this) {
+			drainScheduled = false;
+			lastDrainTime = System.nanoTime();
+
+			status = pendingStatus;
+			sendStatus = hasPendingStatus;
+			progress = pendingProgress;
+			sendProgress = hasPendingProgress;
+			sendOutcome = outcomePending;
+			errorString = error;
+			rk = records;
+
+			pendingStatus = null;
+			hasPendingStatus = false;
+			hasPendingProgress = false;
+			outcomePending = false;
+			records = null;
+		}
+
+		if (listener == null) { return; }
+
+		if (sendStatus) { listener.onStatusUpdate(status); }
+		if (sendProgress) { listener.onProgressUpdate(progress); }
+		if (sendOutcome) {
+			if (errorString != null) {
+				listener.onError(errorString);
+			} else {
+				listener.onComplete(rk);
+			}
+		}
+	}
+
+	private void requestDrain() {
+		DrainScheduler schedulerToNotify;
+		long delayMillis;
+
+		synchronized (this) {
+			if (scheduler == null || drainScheduled) { return; }
+			if (!hasPendingStatus && !hasPendingProgress && !outcomePending) { return; }
+
+			drainScheduled = true;
+			schedulerToNotify = scheduler;
+			if (outcomePending) {
+				delayMillis = 0;
+			} else {
+				long remainingNanos = minimumIntervalNanos - (System.nanoTime() - lastDrainTime);
+				delayMillis = Math.max(0, remainingNanos / 1000000L);
+			}
+		}
+
+		schedulerToNotify.scheduleDrain(this, delayMillis);
+	}
+}
@@ -1,59 +1,282 @@
 package random.general;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 
 public class WeightedDistributor<T> {
-	
-	List<T> itemList;
+
+	public enum SamplingMode {
+		// One rng.nextInt(totalWeight) per draw, resolved against the items in the order they were added.
+		// This consumes the RNG exactly like the old expanded list did, so existing seeds produce the same results.
+		COMPATIBLE,
+		// Vose's alias method. Constant time draws, but two RNG calls per draw, so results differ from COMPATIBLE.
+		ALIAS
+	}
+
+	SamplingMode mode;
+
+	// One entry per addItem call, in insertion order. Removed entries keep their slot with a weight of 0
+	// until enough of them pile up to be worth compacting.
+	List<T> entryList;
+	int[] entryWeights;
+	int[] weightTree;
+	int totalWeight;
+	int removedEntryCount;
+
+	Map<T, Integer> weightByItem;
+	Map<T, List<Integer>> entriesByItem;
 	Set<T> itemSet;
-	
+
+	// Built lazily from weightByItem and thrown away on any change.
+	List<T> aliasItems;
+	long[] aliasThresholds;
+	int[] aliasIndices;
+
 	public WeightedDistributor() {
-		itemList = new ArrayList<T>();
+		this(SamplingMode.COMPATIBLE);
+	}
+
+	public WeightedDistributor(SamplingMode mode) {
+		this.mode = mode;
+
+		entryList = new ArrayList<T>();
+		entryWeights = new int[8];
+		weightTree = new int[9];
+
+		weightByItem = new HashMap<T, Integer>();
+		entriesByItem = new HashMap<T, List<Integer>>();
 		itemSet = new HashSet<T>();
 	}
-	
+
 	public WeightedDistributor(WeightedDistributor<T> original) {
-		itemList = new ArrayList<T>();
-		itemList.addAll(original.itemList);
-		
-		itemSet = new HashSet<T>();
-		itemSet.addAll(original.itemSet);
+		mode = original.mode;
+
+		entryList = new ArrayList<T>(original.entryList);
+		entryWeights = Arrays.copyOf(original.entryWeights, original.entryWeights.length);
+		weightTree = Arrays.copyOf(original.weightTree, original.weightTree.length);
+		totalWeight = original.totalWeight;
+		removedEntryCount = original.removedEntryCount;
+
+		weightByItem = new HashMap<T, Integer>(original.weightByItem);
+		entriesByItem = new HashMap<T, List<Integer>>();
+		for (T item : original.entriesByItem.keySet()) {
+			entriesByItem.put(item, new ArrayList<Integer>(original.entriesByItem.get(item)));
+		}
+		itemSet = new HashSet<T>(original.itemSet);
+
+		// The alias table is never modified after it's built, so it's safe to share.
+		aliasItems = original.aliasItems;
+		aliasThresholds = original.aliasThresholds;
+		aliasIndices = original.aliasIndices;
 	}
 
 	public void addItem(T item, int weight) {
 		if (weight < 1 || item == null) { return; }
-		for (int i = 0 ; i < weight; i++) {
-			itemList.add(item);
+
+		int entryIndex = entryList.size();
+		if (entryIndex == entryWeights.length) {
+			entryWeights = Arrays.copyOf(entryWeights, entryWeights.length * 2);
+			rebuildWeightTree();
 		}
+
+		entryList.add(item);
+		entryWeights[entryIndex] = weight;
+		adjustWeightTree(entryIndex, weight);
+		totalWeight += weight;
+
+		List<Integer> entries = entriesByItem.get(item);
+		if (entries == null) {
+			entries = new ArrayList<Integer>();
+			entriesByItem.put(item, entries);
+		}
+		entries.add(entryIndex);
+
+		Integer existingWeight = weightByItem.get(item);
+		weightByItem.put(item, existingWeight != null ? existingWeight + weight : weight);
 		itemSet.add(item);
+
+		invalidateAliasTable();
 	}
-	
+
 	public void removeItem(T itemToRemove) {
 		if (itemToRemove == null) { return; }
-		boolean didRemove = itemList.removeIf(item -> (item == itemToRemove));
-		if (didRemove) {
-			itemSet.remove(itemToRemove);
+		List<Integer> entries = entriesByItem.remove(itemToRemove);
+		if (entries == null) { return; }
+
+		for (int entryIndex : entries) {
+			int weight = entryWeights[entryIndex];
+			entryWeights[entryIndex] = 0;
+			adjustWeightTree(entryIndex, -weight);
+			totalWeight -= weight;
+			removedEntryCount++;
 		}
+
+		weightByItem.remove(itemToRemove);
+		itemSet.remove(itemToRemove);
+
+		if (removedEntryCount > entryList.size() / 2) {
+			compactEntries();
+		}
+
+		invalidateAliasTable();
 	}
-	
+
 	public T getRandomItem(Random rng) {
-		if (itemList.isEmpty()) { return null; }
-		int randomIndex = rng.nextInt(itemList.size());
-		return itemList.get(randomIndex);
+		if (totalWeight == 0) { return null; }
+
+		if (mode == SamplingMode.ALIAS) {
+			if (aliasItems == null) { buildAliasTable(); }
+			int column = rng.nextInt(aliasItems.size());
+			if (rng.nextInt(totalWeight) < aliasThresholds[column]) {
+				return aliasItems.get(column);
+			}
+			return aliasItems.get(aliasIndices[column]);
+		}
+
+		int randomIndex = rng.nextInt(totalWeight);
+		return entryList.get(entryContainingWeight(randomIndex));
 	}
-	
+
 	public Set<T> possibleResults() {
 		return itemSet;
 	}
-	
+
 	public double chanceOfResult(T result) {
-		double denominator = itemList.size();
+		double denominator = totalWeight;
 		if (denominator == 0) { return 0; }
-		double numerator = itemList.stream().filter(item -> (item == result)).count();
+		Integer numerator = weightByItem.get(result);
+		if (numerator == null) { return 0; }
 		return numerator / denominator;
 	}
+
+	// Fenwick tree over entryWeights (1-based), so that draws and removals are both O(log n).
+
+	private void adjustWeightTree(int entryIndex, int delta) {
+		for (int i = entryIndex + 1; i < weightTree.length; i += i & (-i)) {
+			weightTree[i] += delta;
+		}
+	}
+
+	private void rebuildWeightTree() {
+		weightTree = new int[entryWeights.length + 1];
+		for (int i = 1; i < weightTree.length; i++) {
+			weightTree[i] += entryWeights[i - 1];
+			int parent = i + (i & (-i));
+			if (parent < weightTree.length) {
+				weightTree[parent] += weightTree[i];
+			}
+		}
+	}
+
+	// Returns the entry whose cumulative weight range contains the given value. Equivalent to indexing the old expanded list.
+	private int entryContainingWeight(int value) {
+		int position = 0;
+		int remaining = value;
+		for (int step = Integer.highestOneBit(weightTree.length - 1); step > 0; step >>= 1) {
+			int next = position + step;
+			if (next < weightTree.length && weightTree[next] <= remaining) {
+				position = next;
+				remaining -= weightTree[next];
+			}
+		}
+		return position;
+	}
+
+	private void compactEntries() {
+		List<T> oldEntries = entryList;
+		int[] oldWeights = entryWeights;
+
+		entryList = new ArrayList<T>();
+		entryWeights = new int[Math.max(8, Integer.highestOneBit(Math.max(1, oldEntries.size() - removedEntryCount)) * 2)];
+		entriesByItem.clear();
+
+		for (int i = 0; i < oldEntries.size(); i++) {
+			if (oldWeights[i] == 0) { continue; }
+			T item = oldEntries.get(i);
+			int entryIndex = entryList.size();
+			entryList.add(item);
+			entryWeights[entryIndex] = oldWeights[i];
+
+			List<Integer> entries = entriesByItem.get(item);
+			if (entries == null) {
+				entries = new ArrayList<Integer>();
+				entriesByItem.put(item, entries);
+			}
+			entries.add(entryIndex);
+		}
+
+		removedEntryCount = 0;
+		rebuildWeightTree();
+	}
+
+	private void invalidateAliasTable() {
+		aliasItems = null;
+		aliasThresholds = null;
+		aliasIndices = null;
+	}
+
+	// Vose's alias method, kept in integers so that the distribution is exact.
+	// Each column is worth totalWeight; a column keeps its own item when rng.nextInt(totalWeight) falls below its threshold.
+	private void buildAliasTable() {
+		List<T> items = new ArrayList<T>();
+		Set<T> seenItems = new HashSet<T>();
+		for (T item : entryList) {
+			if (weightByItem.containsKey(item) && seenItems.add(item)) {
+				items.add(item);
+			}
+		}
+
+		int count = items.size();
+		long[] thresholds = new long[count];
+		int[] indices = new int[count];
+
+		int[] small = new int[count];
+		int[] large = new int[count];
+		int smallCount = 0;
+		int largeCount = 0;
+
+		for (int i = 0; i < count; i++) {
+			thresholds[i] = (long)weightByItem.get(items.get(i)) * count;
+			if (thresholds[i] < totalWeight) {
+				small[smallCount++] = i;
+			} else {
+				large[largeCount++] = i;
+			}
+		}
+
+		while (smallCount > 0 && largeCount > 0) {
+			int lesser = small[--smallCount];
+			int greater = large[--largeCount];
+
+			indices[lesser] = greater;
+			thresholds[greater] -= totalWeight - thresholds[lesser];
+
+			if (thresholds[greater] < totalWeight) {
+				small[smallCount++] = greater;
+			} else {
+				large[largeCount++] = greater;
+			}
+		}
+
+		while (largeCount > 0) {
+			int index = large[--largeCount];
+			thresholds[index] = totalWeight;
+			indices[index] = index;
+		}
+		while (smallCount > 0) {
+			int index = small[--smallCount];
+			thresholds[index] = totalWeight;
+			indices[index] = index;
+		}
+
+		aliasItems = items;
+		aliasThresholds = thresholds;
+		aliasIndices = indices;
+	}
 }
@@ -16,9 +16,9 @@ import fedata.snes.fe4.FE4EnemyCharacter;
 import fedata.snes.fe4.FE4StaticCharacter;
 import io.FileHandler;
 import util.DebugPrinter;
-import util.Diff;
 import util.DiffCompiler;
 import util.recordkeeper.RecordKeeper;
+import util.recordkeeper.RecordKeeper.ValueFormat;
 
 public class CharacterDataLoader {
 	
@@ -486,47 +486,41 @@ public class CharacterDataLoader {
 		for (FE4StaticCharacter staticChar : staticPlayableCharacters.values()) {
 			staticChar.commitChanges();
 			if (staticChar.hasCommittedChanges()) {
-				Diff staticDiff = new Diff(staticChar.getAddressOffset(), staticChar.getData().length, staticChar.getData(), null);
-				compiler.addDiff(staticDiff);
+				compiler.addDiffsForChanges(staticChar);
 			}
 		}
 		for (FE4ChildCharacter childChar : childCharacters.values()) {
 			childChar.commitChanges();
 			if (childChar.hasCommittedChanges()) {
-				Diff childDiff = new Diff(childChar.getAddressOffset(), childChar.getData().length, childChar.getData(), null);
-				compiler.addDiff(childDiff);
+				compiler.addDiffsForChanges(childChar);
 			}
 		}
 		
 		for (FE4EnemyCharacter enemyChar : enemyCharacters.values()) {
 			enemyChar.commitChanges();
 			if (enemyChar.hasCommittedChanges()) {
-				Diff enemyDiff = new Diff(enemyChar.getAddressOffset(), enemyChar.getData().length, enemyChar.getData(), null);
-				compiler.addDiff(enemyDiff);
+				compiler.addDiffsForChanges(enemyChar);
 			}
 		}
 		
 		for (FE4EnemyCharacter arenaChar : arenaCharacters.values()) {
 			arenaChar.commitChanges();
 			if (arenaChar.hasCommittedChanges()) {
-				Diff arenaDiff = new Diff(arenaChar.getAddressOffset(), arenaChar.getData().length, arenaChar.getData(), null);
-				compiler.addDiff(arenaDiff);
+				compiler.addDiffsForChanges(arenaChar);
 			}
 		}
 		
 		for (FE4EnemyCharacter bossChar : bossCharacters.values()) {
 			bossChar.commitChanges();
 			if (bossChar.hasCommittedChanges()) {
-				Diff bossDiff = new Diff(bossChar.getAddressOffset(), bossChar.getData().length, bossChar.getData(), null);
-				compiler.addDiff(bossDiff);
+				compiler.addDiffsForChanges(bossChar);
 			}
 		}
 		
 		for (FE4StaticCharacter holyBoss : holyBloodBossCharacters.values()) {
 			holyBoss.commitChanges();
 			if (holyBoss.hasCommittedChanges()) {
-				Diff holyDiff = new Diff(holyBoss.getAddressOffset(), holyBoss.getData().length, holyBoss.getData(), null);
-				compiler.addDiff(holyDiff);
+				compiler.addDiffsForChanges(holyBoss);
 			}
 		}
 	}
@@ -575,23 +569,23 @@ public class CharacterDataLoader {
 				additionalRESGrowth += bloodData.holyBloodByType(minorBlood).getRESGrowthBonus();
 			}
 			
-			if (additionalHPGrowth > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Personal HP Growth", String.format("+%d%%", additionalHPGrowth)); }
-			if (additionalSTRGrowth > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Personal STR Growth", String.format("+%d%%", additionalSTRGrowth)); }
-			if (additionalMAGGrowth > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Personal MAG Growth", String.format("+%d%%", additionalMAGGrowth)); }
-			if (additionalSKLGrowth > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Personal SKL Growth", String.format("+%d%%", additionalSKLGrowth)); }
-			if (additionalSPDGrowth > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Personal SPD Growth", String.format("+%d%%", additionalSPDGrowth)); }
-			if (additionalDEFGrowth > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Personal DEF Growth", String.format("+%d%%", additionalDEFGrowth)); }
-			if (additionalRESGrowth > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Personal RES Growth", String.format("+%d%%", additionalRESGrowth)); }
-			if (additionalLCKGrowth > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Personal LCK Growth", String.format("+%d%%", additionalLCKGrowth)); }
+			if (additionalHPGrowth > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Personal HP Growth", additionalHPGrowth, ValueFormat.BONUS_PERCENTAGE); }
+			if (additionalSTRGrowth > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Personal STR Growth", additionalSTRGrowth, ValueFormat.BONUS_PERCENTAGE); }
+			if (additionalMAGGrowth > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Personal MAG Growth", additionalMAGGrowth, ValueFormat.BONUS_PERCENTAGE); }
+			if (additionalSKLGrowth > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Personal SKL Growth", additionalSKLGrowth, ValueFormat.BONUS_PERCENTAGE); }
+			if (additionalSPDGrowth > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Personal SPD Growth", additionalSPDGrowth, ValueFormat.BONUS_PERCENTAGE); }
+			if (additionalDEFGrowth > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Personal DEF Growth", additionalDEFGrowth, ValueFormat.BONUS_PERCENTAGE); }
+			if (additionalRESGrowth > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Personal RES Growth", additionalRESGrowth, ValueFormat.BONUS_PERCENTAGE); }
+			if (additionalLCKGrowth > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Personal LCK Growth", additionalLCKGrowth, ValueFormat.BONUS_PERCENTAGE); }
 			
 			FE4Class charClassData = classData.classForID(staticChar.getClassID());
 			
-			if (charClassData.getBaseSTR() > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Base STR", String.format("+%d", charClassData.getBaseSTR())); }
-			if (charClassData.getBaseMAG() > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Base MAG", String.format("+%d", charClassData.getBaseMAG())); }
-			if (charClassData.getBaseSKL() > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Base SKL", String.format("+%d", charClassData.getBaseSKL())); }
-			if (charClassData.getBaseSPD() > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Base SPD", String.format("+%d", charClassData.getBaseSPD())); }
-			if (charClassData.getBaseDEF() > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Base DEF", String.format("+%d", charClassData.getBaseDEF())); }
-			if (charClassData.getBaseRES() > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Base RES", String.format("+%d", charClassData.getBaseRES())); }
+			if (charClassData.getBaseSTR() > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Base STR", charClassData.getBaseSTR(), ValueFormat.BONUS); }
+			if (charClassData.getBaseMAG() > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Base MAG", charClassData.getBaseMAG(), ValueFormat.BONUS); }
+			if (charClassData.getBaseSKL() > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Base SKL", charClassData.getBaseSKL(), ValueFormat.BONUS); }
+			if (charClassData.getBaseSPD() > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Base SPD", charClassData.getBaseSPD(), ValueFormat.BONUS); }
+			if (charClassData.getBaseDEF() > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Base DEF", charClassData.getBaseDEF(), ValueFormat.BONUS); }
+			if (charClassData.getBaseRES() > 0) { rk.setAdditionalInfo(category, fe4Char.toString(), "Base RES", charClassData.getBaseRES(), ValueFormat.BONUS); }
 		}
 	}
 
@@ -650,6 +644,14 @@ public class CharacterDataLoader {
 		}
 	}
 	
+	private void recordData(RecordKeeper rk, boolean isInitial, String category, String entryKey, String key, int value, ValueFormat format) {
+		if (isInitial) {
+			rk.recordOriginalEntry(category, entryKey, key, value, format);
+		} else {
+			rk.recordUpdatedEntry(category, entryKey, key, value, format);
+		}
+	}
+	
 	private void recordEnemy(RecordKeeper rk, boolean isInitial, FE4Data.Character character, FE4EnemyCharacter enemyChar, String subcategory, ItemMapper itemMap) {
 		String name = character.toString();
 		FE4Data.CharacterClass charClass = FE4Data.CharacterClass.valueOf(enemyChar.getClassID());
@@ -659,8 +661,8 @@ public class CharacterDataLoader {
 		
 		recordData(rk, isInitial, category, name, "Class", className);
 		
-		recordData(rk, isInitial, category, name, "Level", Integer.toString(enemyChar.getLevel()));
-		recordData(rk, isInitial, category, name, "Leadership", Integer.toString(enemyChar.getLeadership()));
+		recordData(rk, isInitial, category, name, "Level", enemyChar.getLevel(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, category, name, "Leadership", enemyChar.getLeadership(), ValueFormat.INTEGER);
 		
 		int equipment1 = enemyChar.getEquipment1();
 		FE4Data.Item item1 = FE4Data.Item.valueOf(equipment1);
@@ -724,23 +726,23 @@ public class CharacterDataLoader {
 		
 		recordData(rk, isInitial, category, name, "Class", className);
 			
-		recordData(rk, isInitial, category, name, "Personal HP Growth", String.format("%d%%", staticChar.getHPGrowth()));
-		recordData(rk, isInitial, category, name, "Personal STR Growth", String.format("%d%%", staticChar.getSTRGrowth()));
-		recordData(rk, isInitial, category, name, "Personal MAG Growth", String.format("%d%%", staticChar.getMAGGrowth()));
-		recordData(rk, isInitial, category, name, "Personal SKL Growth", String.format("%d%%", staticChar.getSKLGrowth()));
-		recordData(rk, isInitial, category, name, "Personal SPD Growth", String.format("%d%%", staticChar.getSPDGrowth()));
-		recordData(rk, isInitial, category, name, "Personal DEF Growth", String.format("%d%%", staticChar.getDEFGrowth()));
-		recordData(rk, isInitial, category, name, "Personal RES Growth", String.format("%d%%", staticChar.getRESGrowth()));
-		recordData(rk, isInitial, category, name, "Personal LCK Growth", String.format("%d%%", staticChar.getLCKGrowth()));
+		recordData(rk, isInitial, category, name, "Personal HP Growth", staticChar.getHPGrowth(), ValueFormat.PERCENTAGE);
+		recordData(rk, isInitial, category, name, "Personal STR Growth", staticChar.getSTRGrowth(), ValueFormat.PERCENTAGE);
+		recordData(rk, isInitial, category, name, "Personal MAG Growth", staticChar.getMAGGrowth(), ValueFormat.PERCENTAGE);
+		recordData(rk, isInitial, category, name, "Personal SKL Growth", staticChar.getSKLGrowth(), ValueFormat.PERCENTAGE);
+		recordData(rk, isInitial, category, name, "Personal SPD Growth", staticChar.getSPDGrowth(), ValueFormat.PERCENTAGE);
+		recordData(rk, isInitial, category, name, "Personal DEF Growth", staticChar.getDEFGrowth(), ValueFormat.PERCENTAGE);
+		recordData(rk, isInitial, category, name, "Personal RES Growth", staticChar.getRESGrowth(), ValueFormat.PERCENTAGE);
+		recordData(rk, isInitial, category, name, "Personal LCK Growth", staticChar.getLCKGrowth(), ValueFormat.PERCENTAGE);
 			
-		recordData(rk, isInitial, category, name, "Base HP", Integer.toString(staticChar.getBaseHP()));
-		recordData(rk, isInitial, category, name, "Base STR", Integer.toString(staticChar.getBaseSTR()));
-		recordData(rk, isInitial, category, name, "Base MAG", Integer.toString(staticChar.getBaseMAG()));
-		recordData(rk, isInitial, category, name, "Base SKL", Integer.toString(staticChar.getBaseSKL()));
-		recordData(rk, isInitial, category, name, "Base SPD", Integer.toString(staticChar.getBaseSPD()));
-		recordData(rk, isInitial, category, name, "Base DEF", Integer.toString(staticChar.getBaseDEF()));
-		recordData(rk, isInitial, category, name, "Base RES", Integer.toString(staticChar.getBaseRES()));
-		recordData(rk, isInitial, category, name, "Base LCK", Integer.toString(staticChar.getBaseLCK()));
+		recordData(rk, isInitial, category, name, "Base HP", staticChar.getBaseHP(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, category, name, "Base STR", staticChar.getBaseSTR(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, category, name, "Base MAG", staticChar.getBaseMAG(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, category, name, "Base SKL", staticChar.getBaseSKL(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, category, name, "Base SPD", staticChar.getBaseSPD(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, category, name, "Base DEF", staticChar.getBaseDEF(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, category, name, "Base RES", staticChar.getBaseRES(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, category, name, "Base LCK", staticChar.getBaseLCK(), ValueFormat.INTEGER);
 			
 		List<FE4Data.SkillSlot1> skillSlot1 = FE4Data.SkillSlot1.slot1Skills(staticChar.getSkillSlot1Value());
 		if (skillSlot1.isEmpty()) {
@@ -8,9 +8,9 @@ import java.util.Map;
 import fedata.snes.fe4.FE4Class;
 import fedata.snes.fe4.FE4Data;
 import io.FileHandler;
-import util.Diff;
 import util.DiffCompiler;
 import util.recordkeeper.RecordKeeper;
+import util.recordkeeper.RecordKeeper.ValueFormat;
 
 public class ClassDataLoader {
 	
@@ -59,8 +59,7 @@ public class ClassDataLoader {
 		for (FE4Class classObject : classMap.values()) {
 			classObject.commitChanges();
 			if (classObject.hasCommittedChanges()) {
-				Diff classDiff = new Diff(classObject.getAddressOffset(), classObject.getData().length, classObject.getData(), null);
-				compiler.addDiff(classDiff);
+				compiler.addDiffsForChanges(classObject);
 			}
 		}
 	}
@@ -80,24 +79,32 @@ public class ClassDataLoader {
 		}
 	}
 	
+	private void recordData(RecordKeeper rk, boolean isInitial, String category, String entryKey, String key, int value, ValueFormat format) {
+		if (isInitial) {
+			rk.recordOriginalEntry(category, entryKey, key, value, format);
+		} else {
+			rk.recordUpdatedEntry(category, entryKey, key, value, format);
+		}
+	}
+	
 	private void recordClass(RecordKeeper rk, boolean isInitial, FE4Data.CharacterClass charClass, FE4Class classObject) {
 		String name = charClass.toString();
 		
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Enemy HP Growth", String.format("%d%%", classObject.getHPGrowth()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Enemy STR Growth", String.format("%d%%", classObject.getSTRGrowth()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Enemy MAG Growth", String.format("%d%%", classObject.getMAGGrowth()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Enemy SKL Growth", String.format("%d%%", classObject.getSKLGrowth()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Enemy SPD Growth", String.format("%d%%", classObject.getSPDGrowth()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Enemy DEF Growth", String.format("%d%%", classObject.getDEFGrowth()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Enemy RES Growth", String.format("%d%%", classObject.getRESGrowth()));
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Enemy HP Growth", classObject.getHPGrowth(), ValueFormat.PERCENTAGE);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Enemy STR Growth", classObject.getSTRGrowth(), ValueFormat.PERCENTAGE);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Enemy MAG Growth", classObject.getMAGGrowth(), ValueFormat.PERCENTAGE);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Enemy SKL Growth", classObject.getSKLGrowth(), ValueFormat.PERCENTAGE);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Enemy SPD Growth", classObject.getSPDGrowth(), ValueFormat.PERCENTAGE);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Enemy DEF Growth", classObject.getDEFGrowth(), ValueFormat.PERCENTAGE);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Enemy RES Growth", classObject.getRESGrowth(), ValueFormat.PERCENTAGE);
 		
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Base HP", Integer.toString(classObject.getBaseHP()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Base STR", Integer.toString(classObject.getBaseSTR()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Base MAG", Integer.toString(classObject.getBaseMAG()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Base SKL", Integer.toString(classObject.getBaseSKL()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Base SPD", Integer.toString(classObject.getBaseSPD()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Base DEF", Integer.toString(classObject.getBaseDEF()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Base RES", Integer.toString(classObject.getBaseRES()));
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Base HP", classObject.getBaseHP(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Base STR", classObject.getBaseSTR(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Base MAG", classObject.getBaseMAG(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Base SKL", classObject.getBaseSKL(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Base SPD", classObject.getBaseSPD(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Base DEF", classObject.getBaseDEF(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Base RES", classObject.getBaseRES(), ValueFormat.INTEGER);
 		
 		List<FE4Class.ClassSkills> slot1 = classObject.getSlot1ClassSkills();
 		if (slot1.isEmpty()) {
@@ -121,7 +128,7 @@ public class ClassDataLoader {
 			recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Class Skills 2", sb.toString());
 		}
 		
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Movement Range", Integer.toString(classObject.getMovement()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Gold", Integer.toString(classObject.getStartingGold()));
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Movement Range", classObject.getMovement(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Gold", classObject.getStartingGold(), ValueFormat.INTEGER);
 	}
 }
@@ -8,9 +8,9 @@ import java.util.Map;
 import fedata.snes.fe4.FE4Data;
 import fedata.snes.fe4.FE4HolyBlood;
 import io.FileHandler;
-import util.Diff;
 import util.DiffCompiler;
 import util.recordkeeper.RecordKeeper;
+import util.recordkeeper.RecordKeeper.ValueFormat;
 
 public class HolyBloodLoader {
 	
@@ -58,8 +58,7 @@ public class HolyBloodLoader {
 		for (FE4HolyBlood blood : bloodMap.values()) {
 			blood.commitChanges();
 			if (blood.hasCommittedChanges()) {
-				Diff bloodChanges = new Diff(blood.getAddressOffset(), blood.getData().length, blood.getData(), null);
-				compiler.addDiff(bloodChanges);
+				compiler.addDiffsForChanges(blood);
 			}
 		}
 	}
@@ -78,25 +77,33 @@ public class HolyBloodLoader {
 		}
 	}
 	
+	private void recordData(RecordKeeper rk, boolean isInitial, String entryKey, String key, int value, ValueFormat format) {
+		if (isInitial) {
+			rk.recordOriginalEntry(RecordKeeperCategoryKey, entryKey, key, value, format);
+		} else {
+			rk.recordUpdatedEntry(RecordKeeperCategoryKey, entryKey, key, value, format);
+		}
+	}
+	
 	private void recordBlood(RecordKeeper rk, boolean isInitial, FE4HolyBlood blood) {
 		FE4Data.Item holyWeapon = FE4Data.Item.valueOf(blood.getHolyWeaponID());
 		FE4Data.HolyBlood bloodType = holyWeapon.holyBloodForHolyWeapon();
 		String name = bloodType.toString();
 		
-		recordData(rk, isInitial, name, "HP Growth Bonus", String.format("+%d%%", blood.getHPGrowthBonus()));
-		recordData(rk, isInitial, name, "STR Growth Bonus", String.format("+%d%%", blood.getSTRGrowthBonus()));
-		recordData(rk, isInitial, name, "MAG Growth Bonus", String.format("+%d%%", blood.getMAGGrowthBonus()));
-		recordData(rk, isInitial, name, "SKL Growth Bonus", String.format("+%d%%", blood.getSKLGrowthBonus()));
-		recordData(rk, isInitial, name, "SPD Growth Bonus", String.format("+%d%%", blood.getSPDGrowthBonus()));
-		recordData(rk, isInitial, name, "LCK Growth Bonus", String.format("+%d%%", blood.getLCKGrowthBonus()));
-		recordData(rk, isInitial, name, "DEF Growth Bonus", String.format("+%d%%", blood.getDEFGrowthBonus()));
-		recordData(rk, isInitial, name, "RES Growth Bonus", String.format("+%d%%", blood.getRESGrowthBonus()));
+		recordData(rk, isInitial, name, "HP Growth Bonus", blood.getHPGrowthBonus(), ValueFormat.BONUS_PERCENTAGE);
+		recordData(rk, isInitial, name, "STR Growth Bonus", blood.getSTRGrowthBonus(), ValueFormat.BONUS_PERCENTAGE);
+		recordData(rk, isInitial, name, "MAG Growth Bonus", blood.getMAGGrowthBonus(), ValueFormat.BONUS_PERCENTAGE);
+		recordData(rk, isInitial, name, "SKL Growth Bonus", blood.getSKLGrowthBonus(), ValueFormat.BONUS_PERCENTAGE);
+		recordData(rk, isInitial, name, "SPD Growth Bonus", blood.getSPDGrowthBonus(), ValueFormat.BONUS_PERCENTAGE);
+		recordData(rk, isInitial, name, "LCK Growth Bonus", blood.getLCKGrowthBonus(), ValueFormat.BONUS_PERCENTAGE);
+		recordData(rk, isInitial, name, "DEF Growth Bonus", blood.getDEFGrowthBonus(), ValueFormat.BONUS_PERCENTAGE);
+		recordData(rk, isInitial, name, "RES Growth Bonus", blood.getRESGrowthBonus(), ValueFormat.BONUS_PERCENTAGE);
 		
-		recordData(rk, isInitial, name, holyWeapon.toString() + "'s STR Bonus", Integer.toString(blood.getHolyWeaponSTRBonus()));
-		recordData(rk, isInitial, name, holyWeapon.toString() + "'s MAG Bonus", Integer.toString(blood.getHolyWeaponMAGBonus()));
-		recordData(rk, isInitial, name, holyWeapon.toString() + "'s SKL Bonus", Integer.toString(blood.getHolyWeaponSKLBonus()));
-		recordData(rk, isInitial, name, holyWeapon.toString() + "'s SPD Bonus", Integer.toString(blood.getHolyWeaponSPDBonus()));
-		recordData(rk, isInitial, name, holyWeapon.toString() + "'s DEF Bonus", Integer.toString(blood.getHolyWeaponDEFBonus()));
-		recordData(rk, isInitial, name, holyWeapon.toString() + "'s RES Bonus", Integer.toString(blood.getHolyWeaponRESBonus()));
+		recordData(rk, isInitial, name, holyWeapon.toString() + "'s STR Bonus", blood.getHolyWeaponSTRBonus(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, name, holyWeapon.toString() + "'s MAG Bonus", blood.getHolyWeaponMAGBonus(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, name, holyWeapon.toString() + "'s SKL Bonus", blood.getHolyWeaponSKLBonus(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, name, holyWeapon.toString() + "'s SPD Bonus", blood.getHolyWeaponSPDBonus(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, name, holyWeapon.toString() + "'s DEF Bonus", blood.getHolyWeaponDEFBonus(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, name, holyWeapon.toString() + "'s RES Bonus", blood.getHolyWeaponRESBonus(), ValueFormat.INTEGER);
 	}
 }
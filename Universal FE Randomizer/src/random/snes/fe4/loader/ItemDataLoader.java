@@ -6,9 +6,9 @@ import java.util.Map;
 import fedata.snes.fe4.FE4Data;
 import fedata.snes.fe4.FE4Weapon;
 import io.FileHandler;
-import util.Diff;
 import util.DiffCompiler;
 import util.recordkeeper.RecordKeeper;
+import util.recordkeeper.RecordKeeper.ValueFormat;
 
 public class ItemDataLoader {
 	
@@ -50,8 +50,7 @@ public class ItemDataLoader {
 		for (FE4Weapon item : weaponMap.values()) {
 			item.commitChanges();
 			if (item.hasCommittedChanges()) {
-				Diff itemDiff = new Diff(item.getAddressOffset(), item.getData().length, item.getData(), null);
-				compiler.addDiff(itemDiff);
+				compiler.addDiffsForChanges(item);
 			}
 		}
 	}
@@ -71,14 +70,22 @@ public class ItemDataLoader {
 		}
 	}
 	
+	private void recordData(RecordKeeper rk, boolean isInitial, String category, String entryKey, String key, int value, ValueFormat format) {
+		if (isInitial) {
+			rk.recordOriginalEntry(category, entryKey, key, value, format);
+		} else {
+			rk.recordUpdatedEntry(category, entryKey, key, value, format);
+		}
+	}
+	
 	private void recordItem(RecordKeeper rk, boolean isInitial, FE4Data.Item fe4Item, FE4Weapon itemObject) {
 		String name = fe4Item.toString();
 		
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Cost", Integer.toString(itemObject.getPrice()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Durability", Integer.toString(itemObject.getDurability()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Power", Integer.toString(itemObject.getPower()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Accuracy", Integer.toString(itemObject.getAccuracy()));
-		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Weight", Integer.toString(itemObject.getWeight()));
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Cost", itemObject.getPrice(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Durability", itemObject.getDurability(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Power", itemObject.getPower(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Accuracy", itemObject.getAccuracy(), ValueFormat.INTEGER);
+		recordData(rk, isInitial, RecordKeeperCategoryKey, name, "Weight", itemObject.getWeight(), ValueFormat.INTEGER);
 	}
 
 }
@@ -8,6 +8,7 @@ import fedata.snes.fe4.FE4Data;
 import fedata.snes.fe4.FE4StaticCharacter;
 import random.general.WeightedDistributor;
 import random.snes.fe4.loader.CharacterDataLoader;
+import util.StreamedRandom;
 
 public class FE4BasesRandomizer {
 	
@@ -24,13 +25,14 @@ public class FE4BasesRandomizer {
 		allChars.addAll(charData.getGen2SubstituteCharacters());
 		
 		for (FE4StaticCharacter staticChar : allChars) {
+			Random characterRNG = StreamedRandom.forEntity(rng, staticChar.getCharacterID());
 			int baseTotal = staticChar.getBaseSTR() + staticChar.getBaseMAG() + staticChar.getBaseSKL() + staticChar.getBaseSPD() + 
 					staticChar.getBaseLCK() + staticChar.getBaseDEF() + staticChar.getBaseRES();
-			int randomNum = rng.nextInt(2);
+			int randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				baseTotal += rng.nextInt(variance + 1);
+				baseTotal += characterRNG.nextInt(variance + 1);
 			} else {
-				baseTotal -= rng.nextInt(variance + 1);
+				baseTotal -= characterRNG.nextInt(variance + 1);
 			}
 			
 			int newBaseSTR = 0;
@@ -65,7 +67,7 @@ public class FE4BasesRandomizer {
 			
 			while (baseTotal > 0) {
 				baseTotal -= 1;
-				StatArea area = distributor.getRandomItem(rng);
+				StatArea area = distributor.getRandomItem(characterRNG);
 				switch (area) {
 				case STR:
 					newBaseSTR++;
@@ -108,6 +110,7 @@ public class FE4BasesRandomizer {
 		allChars.addAll(charData.getGen2SubstituteCharacters());
 		
 		for (FE4StaticCharacter staticChar : allChars) {
+			Random characterRNG = StreamedRandom.forEntity(rng, staticChar.getCharacterID());
 			
 			int newBaseHP = staticChar.getBaseHP();
 			int newBaseSTR = staticChar.getBaseSTR();
@@ -122,60 +125,60 @@ public class FE4BasesRandomizer {
 			boolean weightSTR = adjustSTRMAGByClass ? fe4CharClass.primaryAttackIsStrength() : false;
 			boolean weightMAG = adjustSTRMAGByClass ? fe4CharClass.primaryAttackIsMagic() : false;
 			
-			int randomNum = rng.nextInt(2);
+			int randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newBaseHP += rng.nextInt(maxDelta + 1);
+				newBaseHP += characterRNG.nextInt(maxDelta + 1);
 			} else {
-				newBaseHP -= rng.nextInt(maxDelta + 1);
+				newBaseHP -= characterRNG.nextInt(maxDelta + 1);
 			}
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newBaseSTR += rng.nextInt(maxDelta + 1);
+				newBaseSTR += characterRNG.nextInt(maxDelta + 1);
 			} else {
-				newBaseSTR -= rng.nextInt(maxDelta + 1);
+				newBaseSTR -= characterRNG.nextInt(maxDelta + 1);
 			}
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newBaseMAG += rng.nextInt(maxDelta + 1);
+				newBaseMAG += characterRNG.nextInt(maxDelta + 1);
 			} else {
-				newBaseMAG -= rng.nextInt(maxDelta + 1);
+				newBaseMAG -= characterRNG.nextInt(maxDelta + 1);
 			}
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newBaseSKL += rng.nextInt(maxDelta + 1);
+				newBaseSKL += characterRNG.nextInt(maxDelta + 1);
 			} else {
-				newBaseSKL -= rng.nextInt(maxDelta + 1);
+				newBaseSKL -= characterRNG.nextInt(maxDelta + 1);
 			}
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newBaseSPD += rng.nextInt(maxDelta + 1);
+				newBaseSPD += characterRNG.nextInt(maxDelta + 1);
 			} else {
-				newBaseSPD -= rng.nextInt(maxDelta + 1);
+				newBaseSPD -= characterRNG.nextInt(maxDelta + 1);
 			}
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newBaseLCK += rng.nextInt(maxDelta + 1);
+				newBaseLCK += characterRNG.nextInt(maxDelta + 1);
 			} else {
-				newBaseLCK -= rng.nextInt(maxDelta + 1);
+				newBaseLCK -= characterRNG.nextInt(maxDelta + 1);
 			}
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newBaseDEF += rng.nextInt(maxDelta + 1);
+				newBaseDEF += characterRNG.nextInt(maxDelta + 1);
 			} else {
-				newBaseDEF -= rng.nextInt(maxDelta + 1);
+				newBaseDEF -= characterRNG.nextInt(maxDelta + 1);
 			}
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newBaseRES += rng.nextInt(maxDelta + 1);
+				newBaseRES += characterRNG.nextInt(maxDelta + 1);
 			} else {
-				newBaseRES -= rng.nextInt(maxDelta + 1);
+				newBaseRES -= characterRNG.nextInt(maxDelta + 1);
 			}
 			
 			if ((weightSTR && !weightMAG && newBaseSTR < newBaseMAG) || (weightMAG && !weightSTR && newBaseMAG < newBaseSTR)) {
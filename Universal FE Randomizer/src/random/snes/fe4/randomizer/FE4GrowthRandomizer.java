@@ -8,6 +8,7 @@ import fedata.snes.fe4.FE4Data;
 import fedata.snes.fe4.FE4StaticCharacter;
 import random.general.WeightedDistributor;
 import random.snes.fe4.loader.CharacterDataLoader;
+import util.StreamedRandom;
 
 public class FE4GrowthRandomizer {
 	
@@ -26,6 +27,7 @@ public class FE4GrowthRandomizer {
 		allChars.addAll(charData.getGen2SubstituteCharacters());
 		
 		for (FE4StaticCharacter staticChar : allChars) {
+			Random characterRNG = StreamedRandom.forEntity(rng, staticChar.getCharacterID());
 			
 			if (staticChar.wasModified()) {
 				continue;
@@ -33,11 +35,11 @@ public class FE4GrowthRandomizer {
 			
 			int growthTotal = staticChar.getHPGrowth() + staticChar.getSTRGrowth() + staticChar.getMAGGrowth() + staticChar.getSKLGrowth() + 
 					staticChar.getSPDGrowth() + staticChar.getLCKGrowth() + staticChar.getDEFGrowth() + staticChar.getRESGrowth();
-			int randomNum = rng.nextInt(2);
+			int randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				growthTotal += rng.nextInt(variance + 1);
+				growthTotal += characterRNG.nextInt(variance + 1);
 			} else {
-				growthTotal -= rng.nextInt(variance + 1);
+				growthTotal -= characterRNG.nextInt(variance + 1);
 			}
 			
 			int newHPGrowth = 0;
@@ -79,7 +81,7 @@ public class FE4GrowthRandomizer {
 				if (newHPGrowth + amount >= GrowthCap && newSTRGrowth + amount >= GrowthCap && newMAGGrowth + amount >= GrowthCap && newSKLGrowth + amount >= GrowthCap &&
 						newSPDGrowth + amount >= GrowthCap && newDEFGrowth + amount >= GrowthCap && newRESGrowth + amount >= GrowthCap && newLCKGrowth + amount >= GrowthCap) { break; }
 				
-				StatArea area = distributor.getRandomItem(rng);
+				StatArea area = distributor.getRandomItem(characterRNG);
 				switch (area) {
 				case HP:
 					if (newHPGrowth + amount <= GrowthCap) { newHPGrowth += amount; }
@@ -141,6 +143,7 @@ public class FE4GrowthRandomizer {
 		allChars.addAll(charData.getGen2SubstituteCharacters());
 		
 		for (FE4StaticCharacter staticChar : allChars) {
+			Random characterRNG = StreamedRandom.forEntity(rng, staticChar.getCharacterID());
 			if (staticChar.wasModified()) {
 				continue;
 			}
@@ -158,63 +161,63 @@ public class FE4GrowthRandomizer {
 			boolean weightSTR = adjustSTRMAGByClass ? fe4CharClass.primaryAttackIsStrength() : false;
 			boolean weightMAG = adjustSTRMAGByClass ? fe4CharClass.primaryAttackIsMagic() : false;
 			
-			int randomNum = rng.nextInt(2);
+			int randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newHPGrowth += rng.nextInt(maxDelta / 5 + 1) * 5;
+				newHPGrowth += characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 			} else {
-				newHPGrowth -= rng.nextInt(maxDelta / 5 + 1) * 5;
+				newHPGrowth -= characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 				if (adjustHPGrowths) {
-					newHPGrowth += rng.nextInt(maxDelta / 5 + 1) * 5;
+					newHPGrowth += characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 				}
 			}
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newSTRGrowth += rng.nextInt(maxDelta / 5 + 1) * 5;
+				newSTRGrowth += characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 			} else {
-				newSTRGrowth -= rng.nextInt(maxDelta / 5 + 1) * 5;
+				newSTRGrowth -= characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 			}
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newMAGGrowth += rng.nextInt(maxDelta / 5 + 1) * 5;
+				newMAGGrowth += characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 			} else {
-				newMAGGrowth -= rng.nextInt(maxDelta / 5 + 1) * 5;
+				newMAGGrowth -= characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 			}
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newSKLGrowth += rng.nextInt(maxDelta / 5 + 1) * 5;
+				newSKLGrowth += characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 			} else {
-				newSKLGrowth -= rng.nextInt(maxDelta / 5 + 1) * 5;
+				newSKLGrowth -= characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 			}
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newSPDGrowth += rng.nextInt(maxDelta / 5 + 1) * 5;
+				newSPDGrowth += characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 			} else {
-				newSPDGrowth -= rng.nextInt(maxDelta / 5 + 1) * 5;
+				newSPDGrowth -= characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 			}
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newLCKGrowth += rng.nextInt(maxDelta / 5 + 1) * 5;
+				newLCKGrowth += characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 			} else {
-				newLCKGrowth -= rng.nextInt(maxDelta / 5 + 1) * 5;
+				newLCKGrowth -= characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 			}
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newDEFGrowth += rng.nextInt(maxDelta / 5 + 1) * 5;
+				newDEFGrowth += characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 			} else {
-				newDEFGrowth -= rng.nextInt(maxDelta / 5 + 1) * 5;
+				newDEFGrowth -= characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 			}
 			
-			randomNum = rng.nextInt(2);
+			randomNum = characterRNG.nextInt(2);
 			if (randomNum == 0) {
-				newRESGrowth += rng.nextInt(maxDelta / 5 + 1) * 5;
+				newRESGrowth += characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 			} else {
-				newRESGrowth -= rng.nextInt(maxDelta / 5 + 1) * 5;
+				newRESGrowth -= characterRNG.nextInt(maxDelta / 5 + 1) * 5;
 			}
 			
 			if ((weightSTR && !weightMAG && newSTRGrowth < newMAGGrowth) || (weightMAG && !weightSTR && newMAGGrowth < newSTRGrowth)) {
@@ -245,6 +248,7 @@ public class FE4GrowthRandomizer {
 		allChars.addAll(charData.getGen2SubstituteCharacters());
 		
 		for (FE4StaticCharacter staticChar : allChars) {
+			Random characterRNG = StreamedRandom.forEntity(rng, staticChar.getCharacterID());
 			if (staticChar.wasModified()) {
 				continue;
 			}
@@ -256,14 +260,14 @@ public class FE4GrowthRandomizer {
 			
 			int range = maxGrowth - minGrowth;
 			
-			int newHPGrowth = (range != 0 ? rng.nextInt(range) : 0) + minGrowth;
-			int newSTRGrowth = (range != 0 ? rng.nextInt(range) : 0) + minGrowth;
-			int newMAGGrowth = (range != 0 ? rng.nextInt(range) : 0) + minGrowth;
-			int newSKLGrowth = (range != 0 ? rng.nextInt(range) : 0) + minGrowth;
-			int newSPDGrowth = (range != 0 ? rng.nextInt(range) : 0) + minGrowth;
-			int newLCKGrowth = (range != 0 ? rng.nextInt(range) : 0) + minGrowth;
-			int newDEFGrowth = (range != 0 ? rng.nextInt(range) : 0) + minGrowth;
-			int newRESGrowth = (range != 0 ? rng.nextInt(range) : 0) + minGrowth;
+			int newHPGrowth = (range != 0 ? characterRNG.nextInt(range) : 0) + minGrowth;
+			int newSTRGrowth = (range != 0 ? characterRNG.nextInt(range) : 0) + minGrowth;
+			int newMAGGrowth = (range != 0 ? characterRNG.nextInt(range) : 0) + minGrowth;
+			int newSKLGrowth = (range != 0 ? characterRNG.nextInt(range) : 0) + minGrowth;
+			int newSPDGrowth = (range != 0 ? characterRNG.nextInt(range) : 0) + minGrowth;
+			int newLCKGrowth = (range != 0 ? characterRNG.nextInt(range) : 0) + minGrowth;
+			int newDEFGrowth = (range != 0 ? characterRNG.nextInt(range) : 0) + minGrowth;
+			int newRESGrowth = (range != 0 ? characterRNG.nextInt(range) : 0) + minGrowth;
 			
 			if (adjustHPGrowths) {
 				int threshold = range / 2 + minGrowth; // This ensures the HP is always in the upper half of the range specified.
@@ -10,6 +10,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.stream.Collectors;
 
 import fedata.snes.fe4.FE4ChildCharacter;
@@ -169,6 +171,12 @@ public class FE4Randomizer extends Randomizer {
 		itemData.compileDiffs(diffCompiler);
 		classData.compileDiffs(diffCompiler);
 		
+		// Everything the changelog needs is already in memory, so it can be put together while the output is written.
+		FutureTask<RecordKeeper> changelogTask = new FutureTask<RecordKeeper>(() -> recordFinalState(recordKeeper));
+		Thread changelogThread = new Thread(changelogTask, "Changelog Recorder");
+		changelogThread.setDaemon(true);
+		changelogThread.start();
+		
 		updateStatusString("Applying changes...");
 		updateProgress(0.99);
 		if (targetPath != null) {
@@ -183,6 +191,15 @@ public class FE4Randomizer extends Randomizer {
 		handler.close();
 		handler = null;
 		
+		RecordKeeper finalRecordKeeper;
+		try {
+			finalRecordKeeper = changelogTask.get();
+		} catch (InterruptedException | ExecutionException e) {
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			notifyError("Encountered error while recording changes.\n\n" + cause.getClass().getSimpleName() + "\n\nStack Trace:\n\n" + String.join("\n", Arrays.asList(cause.getStackTrace()).stream().map(element -> (element.toString())).limit(5).collect(Collectors.toList())));
+			return;
+		}
+		
 		if (tempPath != null) {
 			updateStatusString("Cleaning up...");
 			File tempFile = new File(tempPath);
@@ -194,6 +211,12 @@ public class FE4Randomizer extends Randomizer {
 			}
 		}
 		
+		updateStatusString("Done!");
+		updateProgress(1);
+		notifyCompletion(finalRecordKeeper);
+	}
+	
+	private RecordKeeper recordFinalState(RecordKeeper recordKeeper) {
 		charData.registerInventories(itemMapper);
 		// Register shop items.
 		for (FE4Data.ShopItem shopItem : FE4Data.ShopItems) {
@@ -226,9 +249,7 @@ public class FE4Randomizer extends Randomizer {
 		
 		recordKeeper.sortKeysInCategoryAndSubcategories(CharacterDataLoader.RecordKeeperCategoryKey);
 		
-		updateStatusString("Done!");
-		updateProgress(1);
-		notifyCompletion(recordKeeper);
+		return recordKeeper;
 	}
 	
 	private void addUniversalDiffs(boolean isHeadered) {
@@ -345,7 +366,7 @@ public class FE4Randomizer extends Randomizer {
 	private void randomizeGrowthsIfNecessary(String seed) {
 		if (growthOptions != null) {
 			updateStatusString("Randomizing growths...");
-			Random rng = new Random(SeedGenerator.generateSeedValue(seed, FE4GrowthRandomizer.rngSalt));
+			Random rng = SeedGenerator.generateRandom(seed, FE4GrowthRandomizer.rngSalt);
 			switch (growthOptions.mode) {
 			case REDISTRIBUTE:
 				FE4GrowthRandomizer.randomizeGrowthsByRedistribution(growthOptions.redistributionOption.variance, growthOptions.adjustHP, growthOptions.adjustSTRMAGSplit, charData, rng);
@@ -366,7 +387,7 @@ public class FE4Randomizer extends Randomizer {
 	private void randomizeBasesIfNecessary(String seed) {
 		if (basesOptions != null) {
 			updateStatusString("Randomizing base stats...");
-			Random rng = new Random(SeedGenerator.generateSeedValue(seed, FE4BasesRandomizer.rngSalt));
+			Random rng = SeedGenerator.generateRandom(seed, FE4BasesRandomizer.rngSalt);
 			switch (basesOptions.mode) {
 			case REDISTRIBUTE:
 				FE4BasesRandomizer.randomizeBasesByRedistribution(basesOptions.redistributionOption.variance, basesOptions.adjustSTRMAGByClass, charData, rng);
@@ -384,18 +405,18 @@ public class FE4Randomizer extends Randomizer {
 		if (bloodOptions != null) {
 			if (bloodOptions.randomizeGrowthBonuses) {
 				updateStatusString("Randomizing Holy Blood Growth Bonuses...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, FE4BloodRandomizer.rngSalt + 1));
+				Random rng = SeedGenerator.generateRandom(seed, FE4BloodRandomizer.rngSalt + 1);
 				FE4BloodRandomizer.randomizeHolyBloodGrowthBonuses(bloodOptions.growthTotal, bloodData, rng);
 				bloodData.commit();
 			}
 			if (bloodOptions.randomizeWeaponBonuses) {
 				updateStatusString("Randomizing Holy Weapon Bonuses...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, FE4BloodRandomizer.rngSalt + 2));
+				Random rng = SeedGenerator.generateRandom(seed, FE4BloodRandomizer.rngSalt + 2);
 				FE4BloodRandomizer.randomizeHolyWeaponBonuses(bloodData, rng);
 			}
 			if (bloodOptions.giveHolyBlood) {
 				updateStatusString("Assigning Holy Blood...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, FE4BloodRandomizer.rngSalt + 3));
+				Random rng = SeedGenerator.generateRandom(seed, FE4BloodRandomizer.rngSalt + 3);
 				FE4BloodRandomizer.assignHolyBlood(bloodOptions.majorBloodChance, bloodOptions.minorBloodChance, bloodOptions.matchClass, charData, bloodData, itemMapper, rng);
 			}
 		}
@@ -405,26 +426,26 @@ public class FE4Randomizer extends Randomizer {
 		if (classOptions != null) {
 			if (classOptions.randomizePlayableCharacters) {
 				updateStatusString("Randomizing player classes...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, FE4ClassRandomizer.rngSalt + 1));
+				Random rng = SeedGenerator.generateRandom(seed, FE4ClassRandomizer.rngSalt + 1);
 				FE4ClassRandomizer.randomizePlayableCharacterClasses(classOptions, buffOptions != null ? !buffOptions.majorHolyBloodBosses : true, charData, bloodData, itemMapper, rng);
 				charData.commit();
 				itemMapper.commitChanges();
 			}
 			if (classOptions.randomizeMinions) {
 				updateStatusString("Randomizing minions...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, FE4ClassRandomizer.rngSalt + 2));
+				Random rng = SeedGenerator.generateRandom(seed, FE4ClassRandomizer.rngSalt + 2);
 				FE4ClassRandomizer.randomizeMinions(classOptions, charData, itemMapper, rng);
 				charData.commit();
 			}
 			if (classOptions.randomizeBosses) {
 				updateStatusString("Randomizing bosses...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, FE4ClassRandomizer.rngSalt + 3));
+				Random rng = SeedGenerator.generateRandom(seed, FE4ClassRandomizer.rngSalt + 3);
 				FE4ClassRandomizer.randomizeBosses(classOptions, charData, itemMapper, rng);
 				charData.commit();
 			}
 			if (classOptions.randomizeArena) {
 				updateStatusString("Randomizing arena combatants...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, FE4ClassRandomizer.rngSalt + 4));
+				Random rng = SeedGenerator.generateRandom(seed, FE4ClassRandomizer.rngSalt + 4);
 				FE4ClassRandomizer.randomizeArena(classOptions, charData, rng);
 				charData.commit();
 			}
@@ -435,12 +456,12 @@ public class FE4Randomizer extends Randomizer {
 		if (skillsOptions != null) {
 			if (skillsOptions.mode == Mode.RANDOMIZE) {
 				updateStatusString("Randomizing Skills...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, FE4SkillsRandomizer.rngSalt + 1));
+				Random rng = SeedGenerator.generateRandom(seed, FE4SkillsRandomizer.rngSalt + 1);
 				FE4SkillsRandomizer.randomizePlayableCharacterSkills(skillsOptions, charData, rng);
 				charData.commit();
 			} else if (skillsOptions.mode == Mode.SHUFFLE) {
 				updateStatusString("Shuffling Skills...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, FE4SkillsRandomizer.rngSalt + 2));
+				Random rng = SeedGenerator.generateRandom(seed, FE4SkillsRandomizer.rngSalt + 2);
 				FE4SkillsRandomizer.shufflePlayableCharacterSkills(skillsOptions, charData, rng);
 				charData.commit();
 			}
@@ -450,7 +471,7 @@ public class FE4Randomizer extends Randomizer {
 	private void randomizeRingsIfNecessary(String seed) {
 		if (miscOptions.randomizeRewards) {
 			updateStatusString("Randomizing Rings...");
-			Random rng = new Random(SeedGenerator.generateSeedValue(seed, FE4RingRandomizer.rngSalt + 1));
+			Random rng = SeedGenerator.generateRandom(seed, FE4RingRandomizer.rngSalt + 1);
 			FE4RingRandomizer.randomizeRings(itemMapper, rng);
 			itemMapper.commitChanges();
 		}
@@ -461,7 +482,7 @@ public class FE4Randomizer extends Randomizer {
 			// Don't touch promotions if they're supposed to be strict and we didn't randomize playable character classes.
 			if (promoOptions.promotionMode == FE4PromotionOptions.Mode.STRICT && (classOptions == null || !classOptions.randomizePlayableCharacters)) { return; }
 			updateStatusString("Randomizing Promotions...");
-			Random rng = new Random(SeedGenerator.generateSeedValue(seed, FE4PromotionRandomizer.rngSalt + 1));
+			Random rng = SeedGenerator.generateRandom(seed, FE4PromotionRandomizer.rngSalt + 1);
 			FE4PromotionRandomizer.randomizePromotions(promoOptions, classOptions, charData, promotionMapper, rng);
 			// Special case, since Finn is the only character to go between both gens and is unpromoted.
 			// It's possible for him to get two different promotions in Gen2, so we want to make sure he's synced across both gens.
@@ -477,12 +498,12 @@ public class FE4Randomizer extends Randomizer {
 			}
 			if (buffOptions.improveMinionWeapons) {
 				updateStatusString("Improving Enemy Weapons...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, FE4EnemyBuffer.rngSalt + 1));
+				Random rng = SeedGenerator.generateRandom(seed, FE4EnemyBuffer.rngSalt + 1);
 				FE4EnemyBuffer.improveEquipment(buffOptions, charData, rng);
 			}
 			if (buffOptions.majorHolyBloodBosses) {
 				updateStatusString("Upgrading Holy Bosses...");
-				Random rng = new Random(SeedGenerator.generateSeedValue(seed, FE4EnemyBuffer.rngSalt + 2));
+				Random rng = SeedGenerator.generateRandom(seed, FE4EnemyBuffer.rngSalt + 2);
 				FE4EnemyBuffer.forceMajorBloodOnHolyBosses(buffOptions, true, charData, itemMapper, rng);
 			}
 		}
@@ -616,7 +637,7 @@ public class FE4Randomizer extends Randomizer {
 					List<FE4Data.CharacterClass> unpromotedList = unpromotedPool.stream().sorted(FE4Data.CharacterClass.defaultComparator).collect(Collectors.toList());
 					
 					if (!unpromotedList.isEmpty()) {
-						Random rng = new Random(SeedGenerator.generateSeedValue(seed, 0));
+						Random rng = SeedGenerator.generateRandom(seed, 0);
 						FE4Data.CharacterClass unpromotedClass = unpromotedList.get(rng.nextInt(unpromotedList.size()));
 						FE4ClassRandomizer.setChildCharacterToClass(classOptions, seliph, sigurd, unpromotedClass, itemMapper, rng);
 						if (promoOptions.promotionMode == FE4PromotionOptions.Mode.RANDOM) {
@@ -29,12 +29,12 @@ import org.eclipse.swt.widgets.Shell;
 import org.eclipse.swt.widgets.Text;
 
 import application.Main;
-import fedata.gba.fe6.FE6Data;
-import fedata.gba.fe7.FE7Data;
-import fedata.gba.fe8.FE8Data;
 import fedata.general.FEBase.GameType;
+import fedata.general.GameRegistry;
+import fedata.general.GameRegistry.GameFingerprint;
 import fedata.snes.fe4.FE4Data;
 import io.FileHandler;
+import random.gba.randomizer.GBADataPreloader;
 import random.gba.randomizer.GBARandomizer;
 import random.general.Randomizer;
 import random.general.RandomizerListener;
@@ -44,6 +44,7 @@ import ui.fe4.FE4EnemyBuffView;
 import ui.fe4.FE4PromotionView;
 import ui.fe4.HolyBloodView;
 import ui.fe4.SkillsView;
+import ui.general.DisplayProgressDrainer;
 import ui.general.FileFlowDelegate;
 import ui.general.MessageModal;
 import ui.general.ModalButtonListener;
@@ -74,6 +75,12 @@ public class MainView implements FileFlowDelegate {
 	private Button generateButton;
 	
 	private GameType loadedGameType = GameType.UNKNOWN;
+	private FileHandler selectedFileHandler;
+	// Whether selectedFileHandler's checksum has been confirmed. Randomize stays disabled until it is.
+	private boolean selectedFileVerified = false;
+	// The handler the CRC-32 check is still running on, if any. It's closed once the check is done if it was replaced by then.
+	private FileHandler verifyingFileHandler;
+	private GBADataPreloader gameDataPreloader;
 	private Boolean hasLoadedInfo = false;
 	
 	private Group romInfoGroup;
@@ -351,7 +358,7 @@ public class MainView implements FileFlowDelegate {
 		seedField.addListener(SWT.CHANGED, new Listener() {
 			@Override
 			public void handleEvent(Event event) {
-				randomizeButton.setEnabled(seedField.getText().length() > 0);
+				updateRandomizeButtonEnabled();
 			}
 		});
 		Button button = new Button(container, SWT.PUSH);
@@ -360,7 +367,7 @@ public class MainView implements FileFlowDelegate {
 			@Override
 			public void handleEvent(Event event) {
 				seedField.setText(SeedGenerator.generateRandomSeed());
-				randomizeButton.setEnabled(seedField.getText().length() > 0);
+				updateRandomizeButtonEnabled();
 			}
 		});
 		generateButton = button;
@@ -584,6 +591,8 @@ public class MainView implements FileFlowDelegate {
 			hasLoadedInfo = true;
 		}
 		
+		discardPreloadedGameData();
+		
 		try {
 			FileHandler handler = new FileHandler(pathToFile);
 			byte [] result = handler.readBytesAtOffset(0xA0, 12);
@@ -595,237 +604,372 @@ public class MainView implements FileFlowDelegate {
 			romCode.setText("ROM Code: " + gameCode);
 			
 			length.setText("File Length: " + handler.getFileLength());
-			checksum.setText("CRC-32: " + Long.toHexString(handler.getCRC32()).toUpperCase());
 			
-			GameType type = loadedGameType;
-			if (handler.getCRC32() == FE6Data.CleanCRC32) { 
-				type = GameType.FE6;
-				friendlyName.setText("Display Name: " + FE6Data.FriendlyName);
+			replaceSelectedFileHandler(handler);
+			if (handler.hasCRC32()) {
+				// We've checksummed this file before, so there's nothing to wait for.
+				showOptionsForGame(handler, pathToFile, GameRegistry.fingerprintForCRC32(handler.getKnownCRC32()), true);
+			} else {
+				// Go by the header for now so that the options show up right away, and confirm with the CRC in the background.
+				checksum.setText("CRC-32: Verifying...");
+				GameFingerprint candidate = GameRegistry.fingerprintForHeader(handler);
+				if (candidate != null) {
+					showOptionsForGame(handler, pathToFile, candidate, false);
+				} else {
+					friendlyName.setText("Display Name: Verifying...");
+					loadedGameType = GameType.UNKNOWN;
+					disposeRandomizationOptionsViews();
+				}
+				verifyChecksumInBackground(handler, pathToFile, candidate);
 			}
-			else if (handler.getCRC32() == FE7Data.CleanCRC32) { 
-				type = GameType.FE7;
-				friendlyName.setText("Display Name: " + FE7Data.FriendlyName);
+			
+			romInfoGroup.setVisible(true);
+		} catch (FileNotFoundException e) {
+			// TODO Auto-generated catch block
+			System.err.println("Failed to load file for reading.");
+			e.printStackTrace();
+		} catch (IOException e) {
+			// TODO Auto-generated catch block
+			System.err.println("Failed to load file for reading.");
+			e.printStackTrace();
+		}
+	}
+	
+	private void replaceSelectedFileHandler(FileHandler handler) {
+		// A handler the CRC-32 check is still running on is closed when the check reports back.
+		if (selectedFileHandler != null && selectedFileHandler != verifyingFileHandler) {
+			selectedFileHandler.close();
+		}
+		selectedFileHandler = handler;
+		selectedFileVerified = false;
+	}
+	
+	private void updateRandomizeButtonEnabled() {
+		if (randomizeButton == null || randomizeButton.isDisposed() || seedField == null || seedField.isDisposed()) { return; }
+		randomizeButton.setEnabled(selectedFileVerified && seedField.getText().length() > 0);
+	}
+	
+	private void verifyChecksumInBackground(final FileHandler handler, final String pathToFile, final GameFingerprint candidate) {
+		final Display display = mainShell.getDisplay();
+		verifyingFileHandler = handler;
+		Thread verifier = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				long result = 0;
+				IOException error = null;
+				try {
+					result = handler.getCRC32();
+				} catch (IOException e) {
+					e.printStackTrace();
+					System.err.println("Failed to calculate checksum on input file.");
+					error = e;
+				}
+				
+				final long crc32 = result;
+				final IOException readError = error;
+				display.asyncExec(new Runnable() {
+					@Override
+					public void run() {
+						if (verifyingFileHandler == handler) { verifyingFileHandler = null; }
+						
+						// Ignore the result if another file was picked in the meantime.
+						if (handler != selectedFileHandler) {
+							handler.close();
+							return;
+						}
+						if (mainShell.isDisposed()) { return; }
+						
+						if (readError != null) {
+							// Leave Randomize disabled. Picking the file again retries the check.
+							checksum.setText("CRC-32: Unavailable");
+							MessageBox readFail = new MessageBox(mainShell, SWT.ICON_ERROR | SWT.OK);
+							readFail.setText("Error");
+							readFail.setMessage("Failed to calculate the checksum of the selected file.\n\n" + readError.getMessage());
+							readFail.open();
+							return;
+						}
+						
+						GameFingerprint verified = GameRegistry.fingerprintForCRC32(crc32);
+						if (candidate != null && verified == candidate) {
+							checksum.setText("CRC-32: " + Long.toHexString(crc32).toUpperCase());
+							selectedFileVerified = true;
+							updateRandomizeButtonEnabled();
+						} else {
+							showOptionsForGame(handler, pathToFile, verified, true);
+						}
+					}
+				});
 			}
-			else if (handler.getCRC32() == FE8Data.CleanCRC32) {
-				type = GameType.FE8;
-				friendlyName.setText("Display Name: " + FE8Data.FriendlyName);
+		}, "CRC-32 Verifier");
+		verifier.setDaemon(true);
+		verifier.start();
+	}
+	
+	private void preloadGameData(String pathToFile, GameType type) {
+		if (gameDataPreloader != null && gameDataPreloader.isPreloading(pathToFile, type)) { return; }
+		discardPreloadedGameData();
+		if (!type.isGBA()) { return; }
+		
+		DiffCompiler baseDiffs = new DiffCompiler();
+		try {
+			addBaseDiffs(baseDiffs, type);
+		} catch (IOException e) {
+			// The randomizer will complain about this when it's run. Nothing worth preloading until then.
+			return;
+		}
+		
+		gameDataPreloader = new GBADataPreloader(pathToFile, type, baseDiffs);
+		gameDataPreloader.start();
+	}
+	
+	private void discardPreloadedGameData() {
+		if (gameDataPreloader != null) {
+			gameDataPreloader.discard();
+			gameDataPreloader = null;
+		}
+	}
+	
+	// Patches that every randomization of the game starts from.
+	private static void addBaseDiffs(DiffCompiler compiler, GameType type) throws IOException {
+		if (type == GameType.FE7) {
+			compiler.addDiffsFromFile("tutorialSlayer");
+		}
+	}
+	
+	private void showOptionsForGame(final FileHandler handler, final String pathToFile, final GameFingerprint fingerprint, boolean checksumVerified) {
+		if (checksumVerified) {
+			checksum.setText("CRC-32: " + Long.toHexString(handler.getKnownCRC32()).toUpperCase());
+		}
+		selectedFileVerified = checksumVerified;
+		
+		GameType type = GameType.UNKNOWN;
+		if (fingerprint != null) {
+			type = fingerprint.type;
+			friendlyName.setText("Display Name: " + fingerprint.friendlyName);
+			if (fingerprint.internalName != null) {
+				romName.setText("ROM Name: " + fingerprint.internalName);
 			}
-			else if (handler.getCRC32() == FE4Data.CleanHeaderedCRC32 || handler.getCRC32() == FE4Data.CleanUnheaderedCRC32) {
-				type = GameType.FE4;
-				friendlyName.setText("Display Name: " + FE4Data.FriendlyName);
-				romName.setText("ROM Name: " + FE4Data.InternalName);
+			if (fingerprint.gameCode == null) {
 				romCode.setText("ROM Code: --");
 			}
-			else { 
-				type = GameType.UNKNOWN;
-				friendlyName.setText("Display Name: Unknown");
-			}
-			
-			updateLayoutForGameType(type);
+		} else {
+			friendlyName.setText("Display Name: Unknown");
+		}
+		
+		updateLayoutForGameType(type);
+		
+		loadedGameType = type;
+		
+		// Preload options if there are any.
+		preloadOptions(type);
+		
+		// Get the game's data loading while the user looks through the options.
+		preloadGameData(pathToFile, type);
+		
+		final GameType gameType = type;
+		
+		if (type != GameType.UNKNOWN) {
+			growthView.setVisible(true);
+			baseView.setVisible(true);
 			
-			loadedGameType = type;
+			if (type == GameType.FE4) {
+				fe4ClassView.setVisible(true);
+				holyBloodView.setVisible(true);
+				skillsView.setVisible(true);
+				fe4PromotionView.setVisible(true);
+				fe4EnemyBuffView.setVisible(true);
+				
+			} else {
+				classView.setVisible(true);
+				otherCharOptionView.setVisible(true);
+				weaponView.setVisible(true);
+				enemyView.setVisible(true);
+				recruitView.setVisible(true);
+				itemAssignmentView.setVisible(true);
+			}
+	
+			miscView.setVisible(true);
+			randomizeButton.setVisible(true);
 			
-			// Preload options if there are any.
-			preloadOptions(type);
+			seedField.setVisible(true);
+			generateButton.setVisible(true);
+			seedLabel.setVisible(true);
 			
-			final GameType gameType = type;
+			seedField.setText(SeedGenerator.generateRandomSeed(gameType));
+			updateRandomizeButtonEnabled();
+			for (Listener listener : generateButton.getListeners(SWT.Selection)) {
+				generateButton.removeListener(SWT.Selection, listener);
+			}
+			generateButton.addListener(SWT.Selection, new Listener() {
+				  @Override
+					public void handleEvent(Event event) {
+						seedField.setText(SeedGenerator.generateRandomSeed(gameType));
+						updateRandomizeButtonEnabled();
+					}
+			  });
 			
-			if (type != GameType.UNKNOWN) {
-				growthView.setVisible(true);
-				baseView.setVisible(true);
-				
-				if (type == GameType.FE4) {
-					fe4ClassView.setVisible(true);
-					holyBloodView.setVisible(true);
-					skillsView.setVisible(true);
-					fe4PromotionView.setVisible(true);
-					fe4EnemyBuffView.setVisible(true);
+			for (Listener listener : randomizeButton.getListeners(SWT.Selection)) {
+				randomizeButton.removeListener(SWT.Selection, listener);
+			}
+			randomizeButton.addListener(SWT.Selection, new Listener() {
+				@Override
+				public void handleEvent(Event event) {
+					// Only enabled once the checksum is in, but a click may already have been queued before another file was picked.
+					Long crc32 = handler.getKnownCRC32();
+					if (!selectedFileVerified || handler != selectedFileHandler || crc32 == null || !fingerprint.matchesCRC32(crc32)) { return; }
 					
-				} else {
-					classView.setVisible(true);
-					otherCharOptionView.setVisible(true);
-					weaponView.setVisible(true);
-					enemyView.setVisible(true);
-					recruitView.setVisible(true);
-					itemAssignmentView.setVisible(true);
-				}
-		
-				miscView.setVisible(true);
-				randomizeButton.setVisible(true);
-				
-				seedField.setVisible(true);
-				generateButton.setVisible(true);
-				seedLabel.setVisible(true);
-				
-				seedField.setText(SeedGenerator.generateRandomSeed(gameType));
-				for (Listener listener : generateButton.getListeners(SWT.Selection)) {
-					generateButton.removeListener(SWT.Selection, listener);
-				}
-				generateButton.addListener(SWT.Selection, new Listener() {
-					  @Override
-						public void handleEvent(Event event) {
-							seedField.setText(SeedGenerator.generateRandomSeed(gameType));
-							randomizeButton.setEnabled(seedField.getText().length() > 0);
-						}
-				  });
-				
-				for (Listener listener : randomizeButton.getListeners(SWT.Selection)) {
-					randomizeButton.removeListener(SWT.Selection, listener);
-				}
-				randomizeButton.addListener(SWT.Selection, new Listener() {
-					@Override
-					public void handleEvent(Event event) {
-						FileDialog openDialog = new FileDialog(mainShell, SWT.SAVE);
-						if (gameType.isGBA()) {
-							openDialog.setFilterExtensions(new String[] {"*.gba"});
-						} else if (gameType.isSFC()) {
-							openDialog.setFilterExtensions(new String[] {".smc"});
-						}
-						String writePath = openDialog.open();
+					FileDialog openDialog = new FileDialog(mainShell, SWT.SAVE);
+					if (gameType.isGBA()) {
+						openDialog.setFilterExtensions(new String[] {"*.gba"});
+					} else if (gameType.isSFC()) {
+						openDialog.setFilterExtensions(new String[] {".smc"});
+					}
+					String writePath = openDialog.open();
+					
+					if (writePath != null && writePath.length() > 0) {
+						DiffCompiler compiler = new DiffCompiler();
 						
-						if (writePath != null && writePath.length() > 0) {
-							DiffCompiler compiler = new DiffCompiler();
-							
-							if (gameType == GameType.FE7) {
-								try {
-									compiler.addDiffsFromFile("tutorialSlayer");
-								} catch (IOException e) {
-									MessageBox tutorialSlayerFail = new MessageBox(mainShell, SWT.ICON_ERROR | SWT.OK | SWT.CANCEL);
-									tutorialSlayerFail.setText("Error");
-									tutorialSlayerFail.setMessage("Failed to patch the tutorial slayer.\n\nThe randomizer can continue, but it is recommended that Lyn Normal mode not be used.");
-									int selectedButton = tutorialSlayerFail.open();
-									if (selectedButton == SWT.CANCEL) {
-										return;
-									}
-								}
+						try {
+							addBaseDiffs(compiler, gameType);
+						} catch (IOException e) {
+							MessageBox tutorialSlayerFail = new MessageBox(mainShell, SWT.ICON_ERROR | SWT.OK | SWT.CANCEL);
+							tutorialSlayerFail.setText("Error");
+							tutorialSlayerFail.setMessage("Failed to patch the tutorial slayer.\n\nThe randomizer can continue, but it is recommended that Lyn Normal mode not be used.");
+							int selectedButton = tutorialSlayerFail.open();
+							if (selectedButton == SWT.CANCEL) {
+								return;
 							}
+						}
+						
+						Randomizer randomizer = null;
+						
+						if (gameType.isGBA()) {
+							GBARandomizer gbaRandomizer = new GBARandomizer(pathToFile, writePath, gameType, compiler, 
+									growthView.getGrowthOptions(),
+									baseView.getBaseOptions(),
+									classView.getClassOptions(),
+									weaponView.getWeaponOptions(),
+									otherCharOptionView.getOtherCharacterOptions(),
+									enemyView.getEnemyOptions(),
+									miscView.getMiscellaneousOptions(),
+									recruitView.getRecruitmentOptions(),
+									itemAssignmentView.getAssignmentOptions(),
+									seedField.getText());
 							
-							Randomizer randomizer = null;
+							// Preloaded data is used up by the run, so hand it over and let go of it.
+							gbaRandomizer.setPreloadedData(gameDataPreloader);
+							gameDataPreloader = null;
+							randomizer = gbaRandomizer;
 							
-							if (gameType.isGBA()) {
-								randomizer = new GBARandomizer(pathToFile, writePath, gameType, compiler, 
+							OptionRecorder.recordGBAFEOptions(gameType, 
+									growthView.getGrowthOptions(),
+									baseView.getBaseOptions(),
+									classView.getClassOptions(),
+									weaponView.getWeaponOptions(),
+									otherCharOptionView.getOtherCharacterOptions(),
+									enemyView.getEnemyOptions(),
+									miscView.getMiscellaneousOptions(),
+									recruitView.getRecruitmentOptions(),
+									itemAssignmentView.getAssignmentOptions(),
+									seedField.getText());
+						} else if (gameType.isSFC()) {
+							if (gameType == GameType.FE4) {
+								boolean headeredROM = crc32 == FE4Data.CleanHeaderedCRC32;
+								randomizer = new FE4Randomizer(pathToFile, headeredROM, writePath, compiler, 
 										growthView.getGrowthOptions(),
 										baseView.getBaseOptions(),
-										classView.getClassOptions(),
-										weaponView.getWeaponOptions(),
-										otherCharOptionView.getOtherCharacterOptions(),
-										enemyView.getEnemyOptions(),
-										miscView.getMiscellaneousOptions(),
-										recruitView.getRecruitmentOptions(),
-										itemAssignmentView.getAssignmentOptions(),
+										holyBloodView.getHolyBloodOptions(),
+										skillsView.getSkillOptions(),
+										fe4ClassView.getClassOptions(),
+										fe4PromotionView.getPromotionOptions(),
+										fe4EnemyBuffView.getBuffOptions(),
+										miscView.getMiscellaneousOptions(), 
 										seedField.getText());
 								
-								OptionRecorder.recordGBAFEOptions(gameType, 
-										growthView.getGrowthOptions(),
+								OptionRecorder.recordFE4Options(growthView.getGrowthOptions(),
 										baseView.getBaseOptions(),
-										classView.getClassOptions(),
-										weaponView.getWeaponOptions(),
-										otherCharOptionView.getOtherCharacterOptions(),
-										enemyView.getEnemyOptions(),
-										miscView.getMiscellaneousOptions(),
-										recruitView.getRecruitmentOptions(),
-										itemAssignmentView.getAssignmentOptions(),
+										holyBloodView.getHolyBloodOptions(),
+										skillsView.getSkillOptions(),
+										fe4ClassView.getClassOptions(),
+										fe4PromotionView.getPromotionOptions(),
+										fe4EnemyBuffView.getBuffOptions(),
+										miscView.getMiscellaneousOptions(), 
 										seedField.getText());
-							} else if (gameType.isSFC()) {
-								if (gameType == GameType.FE4) {
-									boolean headeredROM = handler.getCRC32() == FE4Data.CleanHeaderedCRC32;;
-									randomizer = new FE4Randomizer(pathToFile, headeredROM, writePath, compiler, 
-											growthView.getGrowthOptions(),
-											baseView.getBaseOptions(),
-											holyBloodView.getHolyBloodOptions(),
-											skillsView.getSkillOptions(),
-											fe4ClassView.getClassOptions(),
-											fe4PromotionView.getPromotionOptions(),
-											fe4EnemyBuffView.getBuffOptions(),
-											miscView.getMiscellaneousOptions(), 
-											seedField.getText());
-									
-									OptionRecorder.recordFE4Options(growthView.getGrowthOptions(),
-											baseView.getBaseOptions(),
-											holyBloodView.getHolyBloodOptions(),
-											skillsView.getSkillOptions(),
-											fe4ClassView.getClassOptions(),
-											fe4PromotionView.getPromotionOptions(),
-											fe4EnemyBuffView.getBuffOptions(),
-											miscView.getMiscellaneousOptions(), 
-											seedField.getText());
-								}
 							}
-							
-							randomizer.setListener(new RandomizerListener() {
+						}
+						
+						randomizer.getProgressChannel().setDrainScheduler(new DisplayProgressDrainer(mainShell.getDisplay(), new RandomizerListener() {
 
-								@Override
-								public void onStatusUpdate(String status) {
-									progressBox.statusLabel.setText(status);
-								}
+							@Override
+							public void onStatusUpdate(String status) {
+								progressBox.statusLabel.setText(status);
+							}
 
-								@Override
-								public void onComplete(RecordKeeper rk) {
-									hideModalProgressDialog();
-									MessageModal randomSuccess = new MessageModal(mainShell, "Success", "Finished Randomizing!\n\nSave changelog?");
-									randomSuccess.addButton("Yes", new ModalButtonListener() {
-										@Override
-										public void onSelected() {
-											randomSuccess.hide();
-											FileDialog openDialog = new FileDialog(mainShell, SWT.SAVE);
-											openDialog.setFilterExtensions(new String[] {"*.html"});
-											String writePath = openDialog.open();
-											if (writePath != null) {
-												Boolean success = rk.exportRecordsToHTML(writePath);
-												if (success) {
-													MessageModal saveSuccess = new MessageModal(mainShell, "Success", "Changelog saved.");
-													saveSuccess.show();
-												} else {
-													MessageModal saveFail = new MessageModal(mainShell, "Error", "Failed to write changelog.");
-													saveFail.show();
-												}
+							@Override
+							public void onComplete(RecordKeeper rk) {
+								hideModalProgressDialog();
+								preloadGameDataAgainIfStillSelected();
+								MessageModal randomSuccess = new MessageModal(mainShell, "Success", "Finished Randomizing!\n\nSave changelog?");
+								randomSuccess.addButton("Yes", new ModalButtonListener() {
+									@Override
+									public void onSelected() {
+										randomSuccess.hide();
+										FileDialog openDialog = new FileDialog(mainShell, SWT.SAVE);
+										openDialog.setFilterExtensions(new String[] {"*.html", "*.json", "*.csv"});
+										String writePath = openDialog.open();
+										if (writePath != null) {
+											Boolean success = rk.exportRecords(writePath, RecordKeeper.ExportFormat.formatForPath(writePath));
+											if (success) {
+												MessageModal saveSuccess = new MessageModal(mainShell, "Success", "Changelog saved.");
+												saveSuccess.show();
+											} else {
+												MessageModal saveFail = new MessageModal(mainShell, "Error", "Failed to write changelog.");
+												saveFail.show();
 											}
 										}
-									});
-									randomSuccess.addButton("No", new ModalButtonListener() {
-										public void onSelected() {
-											randomSuccess.hide();
-										}
-									});
-									randomSuccess.show();
-								}
+									}
+								});
+								randomSuccess.addButton("No", new ModalButtonListener() {
+									public void onSelected() {
+										randomSuccess.hide();
+									}
+								});
+								randomSuccess.show();
+							}
 
-								@Override
-								public void onError(String errorString) {
-									hideModalProgressDialog();
-									MessageModal randomFailure = new MessageModal(mainShell, "Error", "Randomization failed with error: " + errorString);
-									randomFailure.show();
-								}
+							@Override
+							public void onError(String errorString) {
+								hideModalProgressDialog();
+								preloadGameDataAgainIfStillSelected();
+								MessageModal randomFailure = new MessageModal(mainShell, "Error", "Randomization failed with error: " + errorString);
+								randomFailure.show();
+							}
 
-								@Override
-								public void onProgressUpdate(double progress) {
-									progressBox.progressBar.setSelection((int)(progress * 100));
-								}
-							});
+							@Override
+							public void onProgressUpdate(double progress) {
+								progressBox.progressBar.setSelection((int)(progress * 100));
+							}
 							
-							randomizer.start();
-							showModalProgressDialog();
-						}
+							// Get ready in case the user wants to randomize the same ROM again.
+							private void preloadGameDataAgainIfStillSelected() {
+								if (handler == selectedFileHandler) {
+									preloadGameData(pathToFile, gameType);
+								}
+							}
+						}));
+						
+						randomizer.start();
+						showModalProgressDialog();
 					}
-				  });
-			} else {
-				MessageBox checksumFail = new MessageBox(mainShell, SWT.ICON_ERROR | SWT.OK);
-				checksumFail.setText("Failure");
-				checksumFail.setMessage("Checksum failed.\n\nThis file may not be supported.");
-				checksumFail.open();
-				
-				disposeRandomizationOptionsViews();
-			} 
+				}
+			  });
+		} else if (checksumVerified) {
+			MessageBox checksumFail = new MessageBox(mainShell, SWT.ICON_ERROR | SWT.OK);
+			checksumFail.setText("Failure");
+			checksumFail.setMessage("Checksum failed.\n\nThis file may not be supported.");
+			checksumFail.open();
 			
-			romInfoGroup.setVisible(true);
-		} catch (FileNotFoundException e) {
-			// TODO Auto-generated catch block
-			System.err.println("Failed to load file for reading.");
-			e.printStackTrace();
-		} catch (IOException e) {
-			// TODO Auto-generated catch block
-			System.err.println("Failed to calculate checksum on input file.");
-			e.printStackTrace();
+			disposeRandomizationOptionsViews();
 		}
 	}
 }
@@ -0,0 +1,40 @@
+package ui.general;
+
+import org.eclipse.swt.widgets.Display;
+
+import random.general.RandomizerListener;
+import random.general.RandomizerProgress;
+
+// Delivers a randomizer's progress to a listener on the UI thread, picking up whatever is latest each time it runs.
+public class DisplayProgressDrainer implements RandomizerProgress.DrainScheduler {
+	
+	private Display display;
+	private RandomizerListener listener;
+	
+	public DisplayProgressDrainer(Display display, RandomizerListener listener) {
+		super();
+		this.display = display;
+		this.listener = listener;
+	}
+
+	@Override
+	public void scheduleDrain(RandomizerProgress progress, long delayMillis) {
+		if (display.isDisposed()) { return; }
+		display.asyncExec(new Runnable() {
+			@Override
+			public void run() {
+				if (delayMillis > 0) {
+					// timerExec has to be called from the UI thread.
+					display.timerExec((int)delayMillis, new Runnable() {
+						@Override
+						public void run() {
+							progress.drain(listener);
+						}
+					});
+				} else {
+					progress.drain(listener);
+				}
+			}
+		});
+	}
+}
@@ -1,16 +1,130 @@
 package util;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
-import io.DiffApplicator;
+import fedata.general.FEChangeTrackingData;
 
 public class DiffCompiler {
 	
+	// A group of diffs that touch the same or neighboring bytes, merged into as few writes as possible.
+	// Diffs with required old values are checked against whatever the diffs before them in the group already wrote,
+	// so the only thing left to check when applying is what the group expects to find in the file itself. If the file
+	// doesn't have that, the merged writes don't hold, and the original diffs should be applied one at a time instead.
+	public static class CompiledDiff {
+		public final long address;
+		public final int length;
+		
+		// Runs of bytes the group ends up writing, without required old values.
+		public final List<Diff> writes;
+		// Diffs that can never apply, because what they require isn't what the diffs before them write or expect to find.
+		public final List<Diff> conflicts;
+		// The original diffs, in the order they were added.
+		public final List<Diff> diffs;
+		
+		private final byte[] expectedValues;
+		private final boolean[] isExpected;
+		private final boolean requiresSequentialApply;
+		
+		private CompiledDiff(List<Diff> diffs) {
+			super();
+			this.diffs = diffs;
+			
+			long start = Long.MAX_VALUE;
+			long end = Long.MIN_VALUE;
+			boolean sequentialOnly = false;
+			for (Diff diff : diffs) {
+				start = Math.min(start, diff.address);
+				end = Math.max(end, endAddress(diff));
+				if (diff.address < 0) { sequentialOnly = true; }
+			}
+			address = start;
+			length = (int)(end - start);
+			
+			writes = new ArrayList<Diff>();
+			conflicts = new ArrayList<Diff>();
+			expectedValues = new byte[length];
+			isExpected = new boolean[length];
+			requiresSequentialApply = sequentialOnly;
+			if (sequentialOnly) { return; }
+			
+			byte[] values = new byte[length];
+			boolean[] isWritten = new boolean[length];
+			for (Diff diff : diffs) {
+				int offset = (int)(diff.address - address);
+				byte[] required = diff.requiredOldValues;
+				if (required != null) {
+					boolean canApply = required.length == diff.length;
+					for (int i = 0; canApply && i < diff.length; i++) {
+						if (isWritten[offset + i]) {
+							canApply = values[offset + i] == required[i];
+						} else if (isExpected[offset + i]) {
+							canApply = expectedValues[offset + i] == required[i];
+						}
+					}
+					if (!canApply) {
+						conflicts.add(diff);
+						continue;
+					}
+					
+					for (int i = 0; i < diff.length; i++) {
+						if (!isWritten[offset + i] && !isExpected[offset + i]) {
+							expectedValues[offset + i] = required[i];
+							isExpected[offset + i] = true;
+						}
+					}
+				}
+				
+				System.arraycopy(diff.changes, 0, values, offset, diff.changes.length);
+				Arrays.fill(isWritten, offset, offset + diff.changes.length, true);
+			}
+			
+			int index = 0;
+			while (index < length) {
+				if (!isWritten[index]) {
+					index++;
+					continue;
+				}
+				
+				int runStart = index;
+				while (index < length && isWritten[index]) {
+					index++;
+				}
+				writes.add(new Diff(address + runStart, index - runStart, Arrays.copyOfRange(values, runStart, index), null));
+			}
+		}
+		
+		// True if there's something in the file this group needs to check before the merged writes can be used.
+		public boolean hasExpectedValues() {
+			for (boolean expected : isExpected) {
+				if (expected) { return true; }
+			}
+			return false;
+		}
+		
+		// existingValues are the bytes in the file from address to address + length, before any of the group is applied.
+		// They're only needed if hasExpectedValues is true.
+		public boolean canApplyWrites(byte[] existingValues) {
+			if (requiresSequentialApply) { return false; }
+			for (int i = 0; i < length; i++) {
+				if (isExpected[i] && existingValues[i] != expectedValues[i]) { return false; }
+			}
+			return true;
+		}
+		
+		private static long endAddress(Diff diff) {
+			int touchedLength = diff.changes.length;
+			if (diff.requiredOldValues != null) {
+				touchedLength = Math.max(touchedLength, diff.length);
+			}
+			return diff.address + touchedLength;
+		}
+	}
+	
 	public final ArrayList<Diff> diffArray;
 	
 	public DiffCompiler() {
@@ -24,28 +138,103 @@ public class DiffCompiler {
 	}
 	
 	public void addDiffsFromFile(String diffName, long addressOffset) throws IOException {
-		InputStream stream = DiffApplicator.class.getClassLoader().getResourceAsStream(diffName + ".diff");
-		BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(stream));
-		String currentLine = bufferedReader.readLine();
-		while(currentLine != null) {
-			Scanner scanner = new Scanner(currentLine);
-			scanner.useDelimiter("[\\s\\W]+");
-			long nextAddress = scanner.nextLong(16);
-			int existingValue = scanner.nextInt(16);
-			int newValue = scanner.nextInt(16);
-			
-			addDiff(new Diff(nextAddress + addressOffset, 1, new byte[] {(byte)(newValue & 0xFF)}, new byte[] {(byte)(existingValue & 0xFF)}));
-			scanner.close();
-			currentLine = bufferedReader.readLine();
+		// Each byte is still its own diff, so reads with these diffs applied see them exactly as before. compile() merges them back into runs.
+		DiffResource resource = DiffResource.named(diffName);
+		for (int run = 0; run < resource.getRunCount(); run++) {
+			long runAddress = resource.getRunAddress(run) + addressOffset;
+			for (int i = 0; i < resource.getRunLength(run); i++) {
+				addDiff(new Diff(runAddress + i, 1, new byte[] {resource.getNewValue(run, i)}, new byte[] {resource.getOldValue(run, i)}));
+			}
 		}
-		
-		stream.close();
 	}
 	
 	public void addDiff(Diff newDiff) {
 		diffArray.add(newDiff);
 	}
 	
+	// Adds a diff for each run of bytes that changed since the data was loaded, instead of one covering all of it.
+	public void addDiffsForChanges(FEChangeTrackingData changedData) {
+		byte[] loadedData = changedData.getLoadedData();
+		byte[] data = changedData.getData();
+		long address = changedData.getAddressOffset();
+		if (loadedData == null || loadedData.length != data.length) {
+			addDiff(new Diff(address, data.length, data, null));
+			return;
+		}
+		
+		int index = 0;
+		while (index < data.length) {
+			if (data[index] == loadedData[index]) {
+				index++;
+				continue;
+			}
+			
+			int start = index;
+			while (index < data.length && data[index] != loadedData[index]) {
+				index++;
+			}
+			addDiff(new Diff(address + start, index - start, Arrays.copyOfRange(data, start, index), null));
+		}
+	}
+	
+	// Groups every diff touching the same or neighboring bytes, in address order, so that each group can be written at once.
+	// Applying the groups gives the same result as applying every diff in the order they were added.
+	public List<CompiledDiff> compile() {
+		// Diffs are sorted by their index so that diffs starting at the same address stay in the order they were added.
+		List<Integer> sortedIndices = new ArrayList<Integer>(diffArray.size());
+		for (int i = 0; i < diffArray.size(); i++) {
+			sortedIndices.add(i);
+		}
+		Collections.sort(sortedIndices, new Comparator<Integer>() {
+			public int compare(Integer arg0, Integer arg1) {
+				int result = Long.compare(diffArray.get(arg0).address, diffArray.get(arg1).address);
+				return result != 0 ? result : Integer.compare(arg0, arg1);
+			}
+		});
+		
+		List<CompiledDiff> compiledDiffs = new ArrayList<CompiledDiff>();
+		int groupStart = 0;
+		while (groupStart < sortedIndices.size()) {
+			long groupEnd = CompiledDiff.endAddress(diffArray.get(sortedIndices.get(groupStart)));
+			int groupLimit = groupStart + 1;
+			while (groupLimit < sortedIndices.size() && diffArray.get(sortedIndices.get(groupLimit)).address <= groupEnd) {
+				groupEnd = Math.max(groupEnd, CompiledDiff.endAddress(diffArray.get(sortedIndices.get(groupLimit))));
+				groupLimit++;
+			}
+			
+			List<Integer> groupIndices = new ArrayList<Integer>(sortedIndices.subList(groupStart, groupLimit));
+			Collections.sort(groupIndices);
+			List<Diff> group = new ArrayList<Diff>(groupIndices.size());
+			for (int index : groupIndices) {
+				group.add(diffArray.get(index));
+			}
+			
+			CompiledDiff compiledDiff = new CompiledDiff(group);
+			for (Diff conflict : compiledDiff.conflicts) {
+				DebugPrinter.log(DebugPrinter.Key.DIFF, "Conflicting diff at 0x" + Long.toHexString(conflict.address).toUpperCase() + " - Length: " + conflict.length + 
+						", Required Old Value: " + WhyDoesJavaNotHaveThese.displayStringForBytes(conflict.requiredOldValues) + " doesn't match what an earlier diff leaves there.");
+			}
+			compiledDiffs.add(compiledDiff);
+			groupStart = groupLimit;
+		}
+		
+		DebugPrinter.log(DebugPrinter.Key.DIFF, "Compiled " + diffArray.size() + " diffs into " + compiledDiffs.size() + " groups.");
+		return compiledDiffs;
+	}
+	
+	// True if both compilers would patch the same bytes the same way.
+	public boolean hasSameDiffs(DiffCompiler other) {
+		if (other == null || other.diffArray.size() != diffArray.size()) { return false; }
+		for (int i = 0; i < diffArray.size(); i++) {
+			Diff diff = diffArray.get(i);
+			Diff otherDiff = other.diffArray.get(i);
+			if (diff.address != otherDiff.address || diff.length != otherDiff.length || !Arrays.equals(diff.changes, otherDiff.changes)) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
 	public byte[] byteArrayWithDiffs(byte[] byteArray, long startingOffset) {
 		byte[] resultByteArray = byteArray.clone();
 		AddressRange range = new AddressRange(startingOffset, startingOffset + byteArray.length);
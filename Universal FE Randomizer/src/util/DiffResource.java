@@ -0,0 +1,229 @@
+package util;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.zip.CRC32;
+
+// One of the bundled .diff resources, as runs of consecutive addresses with the bytes expected there and the bytes to write,
+// in the same order as the file. Each resource is only parsed once, and is shared by every randomization afterwards.
+// The binary version is loaded with a single read, and the text version is only parsed if there's no binary version next to it.
+//
+// The text .diff files are still the source. After editing one, regenerate its .bdiff by running this class with the paths
+// of the changed .diff files, e.g. "java -cp bin util.DiffResource res/tutorialSlayer.diff". Each .bdiff remembers the CRC-32
+// of the .diff it was made from, and loading it throws if the .diff next to it has changed since.
+public final class DiffResource {
+
+	// The .bdiff format (big endian): the marker, the CRC-32 of the source .diff, the number of runs, then for each run
+	// its address, its length, the old bytes, and the new bytes.
+	private static final int FormatMarker = 0x46454245; // "FEBE"
+
+	private static final Map<String, DiffResource> cache = new HashMap<String, DiffResource>();
+
+	private final long[] runAddresses;
+	private final byte[][] runOldValues;
+	private final byte[][] runNewValues;
+
+	private DiffResource(long[] runAddresses, byte[][] runOldValues, byte[][] runNewValues) {
+		super();
+		this.runAddresses = runAddresses;
+		this.runOldValues = runOldValues;
+		this.runNewValues = runNewValues;
+	}
+
+	public static synchronized DiffResource named(String diffName) throws IOException {
+		DiffResource resource = cache.get(diffName);
+		if (resource == null) {
+			byte[] text = readResource(diffName + ".diff");
+			byte[] binary = readResource(diffName + ".bdiff");
+			if (binary != null) {
+				long sourceCRC32 = binaryFormatSourceCRC32(binary);
+				if (text != null && sourceCRC32 != crc32Of(text)) {
+					throw new IOException(diffName + ".bdiff is out of date with " + diffName + ".diff. Regenerate it by running util.DiffResource on the .diff file.");
+				}
+				resource = fromBinary(binary);
+			} else if (text != null) {
+				resource = fromText(text);
+			} else {
+				throw new IOException("Missing diff resource: " + diffName);
+			}
+			cache.put(diffName, resource);
+		}
+		return resource;
+	}
+
+	public int getRunCount() {
+		return runAddresses.length;
+	}
+
+	public long getRunAddress(int run) {
+		return runAddresses[run];
+	}
+
+	public int getRunLength(int run) {
+		return runNewValues[run].length;
+	}
+
+	public byte getOldValue(int run, int index) {
+		return runOldValues[run][index];
+	}
+
+	public byte getNewValue(int run, int index) {
+		return runNewValues[run][index];
+	}
+
+	private static DiffResource fromText(byte[] text) throws IOException {
+		List<Long> addresses = new ArrayList<Long>();
+		List<byte[]> oldValues = new ArrayList<byte[]>();
+		List<byte[]> newValues = new ArrayList<byte[]>();
+
+		ByteArrayOutputStream currentOldValues = new ByteArrayOutputStream();
+		ByteArrayOutputStream currentNewValues = new ByteArrayOutputStream();
+		long runAddress = 0;
+		long nextRunAddress = -1;
+
+		BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(text)));
+		String currentLine = bufferedReader.readLine();
+		while (currentLine != null) {
+			Scanner scanner = new Scanner(currentLine);
+			scanner.useDelimiter("[\\s\\W]+");
+			long nextAddress = scanner.nextLong(16);
+			int existingValue = scanner.nextInt(16);
+			int newValue = scanner.nextInt(16);
+			scanner.close();
+
+			if (nextAddress != nextRunAddress) {
+				if (currentNewValues.size() > 0) {
+					addresses.add(runAddress);
+					oldValues.add(currentOldValues.toByteArray());
+					newValues.add(currentNewValues.toByteArray());
+					currentOldValues.reset();
+					currentNewValues.reset();
+				}
+				runAddress = nextAddress;
+			}
+			currentOldValues.write(existingValue & 0xFF);
+			currentNewValues.write(newValue & 0xFF);
+			nextRunAddress = nextAddress + 1;
+
+			currentLine = bufferedReader.readLine();
+		}
+
+		if (currentNewValues.size() > 0) {
+			addresses.add(runAddress);
+			oldValues.add(currentOldValues.toByteArray());
+			newValues.add(currentNewValues.toByteArray());
+		}
+
+		long[] runAddresses = new long[addresses.size()];
+		for (int i = 0; i < runAddresses.length; i++) {
+			runAddresses[i] = addresses.get(i);
+		}
+		return new DiffResource(runAddresses, oldValues.toArray(new byte[oldValues.size()][]), newValues.toArray(new byte[newValues.size()][]));
+	}
+
+	private static long binaryFormatSourceCRC32(byte[] data) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(data);
+		if (data.length < 12 || buffer.getInt() != FormatMarker) {
+			throw new IOException("Not a binary diff, or one from an older version. Regenerate it by running util.DiffResource on its .diff file.");
+		}
+		return buffer.getInt() & 0xFFFFFFFFL;
+	}
+
+	private static DiffResource fromBinary(byte[] data) throws IOException {
+		binaryFormatSourceCRC32(data);
+		ByteBuffer buffer = ByteBuffer.wrap(data, 8, data.length - 8);
+
+		int runCount = buffer.getInt();
+		long[] runAddresses = new long[runCount];
+		byte[][] runOldValues = new byte[runCount][];
+		byte[][] runNewValues = new byte[runCount][];
+		for (int run = 0; run < runCount; run++) {
+			runAddresses[run] = buffer.getInt() & 0xFFFFFFFFL;
+			int length = buffer.getInt();
+			runOldValues[run] = new byte[length];
+			buffer.get(runOldValues[run]);
+			runNewValues[run] = new byte[length];
+			buffer.get(runNewValues[run]);
+		}
+		return new DiffResource(runAddresses, runOldValues, runNewValues);
+	}
+
+	private byte[] toBinary(long sourceCRC32) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+		output.writeInt(FormatMarker);
+		output.writeInt((int)sourceCRC32);
+		output.writeInt(runAddresses.length);
+		for (int run = 0; run < runAddresses.length; run++) {
+			output.writeInt((int)runAddresses[run]);
+			output.writeInt(runNewValues[run].length);
+			output.write(runOldValues[run]);
+			output.write(runNewValues[run]);
+		}
+		output.flush();
+		return bytes.toByteArray();
+	}
+
+	private static long crc32Of(byte[] data) {
+		CRC32 checksum = new CRC32();
+		checksum.update(data);
+		return checksum.getValue();
+	}
+
+	// Null if there's no such resource.
+	private static byte[] readResource(String resourceName) throws IOException {
+		InputStream stream = DiffResource.class.getClassLoader().getResourceAsStream(resourceName);
+		if (stream == null) { return null; }
+		try {
+			return readFully(stream);
+		} finally {
+			stream.close();
+		}
+	}
+
+	private static byte[] readFully(InputStream stream) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] chunk = new byte[8192];
+		int count;
+		while ((count = stream.read(chunk)) != -1) {
+			bytes.write(chunk, 0, count);
+		}
+		return bytes.toByteArray();
+	}
+
+	// Writes a .bdiff next to each .diff given.
+	public static void main(String[] args) throws IOException {
+		for (String path : args) {
+			FileInputStream input = new FileInputStream(path);
+			byte[] text;
+			try {
+				text = readFully(input);
+			} finally {
+				input.close();
+			}
+			DiffResource resource = fromText(text);
+
+			String outputPath = (path.endsWith(".diff") ? path.substring(0, path.length() - ".diff".length()) : path) + ".bdiff";
+			FileOutputStream output = new FileOutputStream(outputPath);
+			try {
+				output.write(resource.toBinary(crc32Of(text)));
+			} finally {
+				output.close();
+			}
+			System.out.println("Wrote " + resource.getRunCount() + " runs to " + outputPath);
+		}
+	}
+}
@@ -4,25 +4,52 @@ import io.FileHandler;
 
 public class LZ77 {
 	
+	public static class DecompressedData {
+		public final byte[] bytes;
+		// How many bytes the compressed data takes up in the ROM, rounded up to keep 4 byte alignment.
+		public final int compressedLength;
+		
+		private DecompressedData(byte[] bytes, int compressedLength) {
+			this.bytes = bytes;
+			this.compressedLength = compressedLength;
+		}
+	}
+	
 	public static byte[] decompress(FileHandler handler, long offset) {
+		DecompressedData result = decompressWithLength(handler, offset);
+		return result != null ? result.bytes : null;
+	}
+	
+	public static int compressedLength(FileHandler handler, long offset) {
+		DecompressedData result = decompressWithLength(handler, offset);
+		return result != null ? result.compressedLength : 0;
+	}
+	
+	// Decompresses the data at offset and measures it in the same pass.
+	// The whole compressed block is read at once, instead of a byte at a time.
+	public static DecompressedData decompressWithLength(FileHandler handler, long offset) {
 		// Read the first 4 bytes. Byte 0 should be 1 for LZ77 compression.
 		// Bytes 1-3 should be the size of the decompressed data.
 		byte[] header = handler.readBytesAtOffset(offset, 4);
-		if (header[0] != 0x10) { return null; }
+		if (header == null || header.length < 4 || header[0] != 0x10) { return null; }
 		int size = (header[1] & 0xFF) | ((header[2] & 0xFF) << 8) | ((header[3] & 0xFF) << 16);
 		
+		// At worst, every byte is stored uncompressed, with a flag byte for every 8 of them.
+		byte[] input = handler.readBytesAtOffset(offset + 4, size + (size + 7) / 8);
+		if (input == null) { return null; }
+		
 		byte[] output = new byte[size];
 		
 		int outputIndex = 0;
+		int inputIndex = 0;
 		
 		while (outputIndex < size) {
-			byte flag = handler.continueReadingNextByte();
+			byte flag = byteAtIndex(input, inputIndex++);
 			for (int i = 0; i < 8; i++) {
 				if (outputIndex >= size) { break; }
 				if ((flag & (1 << 7 - i)) == 0) {
 					// The next byte is uncompressed. Read it into the output as is.
-					byte uncompressedByte = handler.continueReadingNextByte();
-					output[outputIndex++] = uncompressedByte;
+					output[outputIndex++] = byteAtIndex(input, inputIndex++);
 				} else {
 					// The next byte is compressed.
 					// Bits 0 - 3 are the MSBs of the offset
@@ -34,8 +61,8 @@ public class LZ77 {
 					// F - Read 15 (+3) bytes
 					// 1F - LSBs of the offset (31 + 1)
 					// Means to go back 32 (31 + 1) bytes and read 18 bytes from what's been written so far.
-					byte compressedByte = handler.continueReadingNextByte();
-					byte compressedByte2 = handler.continueReadingNextByte();
+					byte compressedByte = byteAtIndex(input, inputIndex++);
+					byte compressedByte2 = byteAtIndex(input, inputIndex++);
 					int jumpDistance = (((compressedByte & 0xF) << 16) | (compressedByte2 & 0xFF)) + 1;
 					int bytesToCopy = ((compressedByte & 0xF0) >> 4) + 3;
 					for (int j = 0; j < bytesToCopy; j++) {
@@ -46,56 +73,14 @@ public class LZ77 {
 			}
 		}
 		
-		return output;
+		int bytesRead = inputIndex + 4;
+		// These have to be byte aligned, so they should be divisible by 4. Round up if it's not.
+		return new DecompressedData(output, bytesRead + (bytesRead % 4 == 0 ? 0 : 4 - (bytesRead % 4)));
 	}
 	
-	public static int compressedLength(FileHandler handler, long offset) {
-		byte[] header = handler.readBytesAtOffset(offset, 4);
-		if (header[0] != 0x10) { return 0; }
-		int size = (header[1] & 0xFF) | ((header[2] & 0xFF) << 8) | ((header[3] & 0xFF) << 16);
-		
-		byte[] output = new byte[size];
-		
-		int outputIndex = 0;
-		
-		int bytesRead = 4;
-		
-		while (outputIndex < size) {
-			byte flag = handler.continueReadingNextByte();
-			bytesRead++;
-			for (int i = 0; i < 8; i++) {
-				if (outputIndex >= size) { break; }
-				if ((flag & (1 << 7 - i)) == 0) {
-					// The next byte is uncompressed. Read it into the output as is.
-					byte uncompressedByte = handler.continueReadingNextByte();
-					bytesRead++;
-					output[outputIndex++] = uncompressedByte;
-				} else {
-					// The next byte is compressed.
-					// Bits 0 - 3 are the MSBs of the offset
-					// Bits 4 - 7 are the number of bytes to copy (which we need to add 3 to for the actual number)
-					// Bits 8 - 15 are the LSBs of the offset
-					// The actual operation reads from the bytes written so far, less the offset in the compressed byte, and then minus another one.
-					// For example: F0 1F -> 1FF0 (remember, little endian)
-					// 0 - MSBs of the offset
-					// F - Read 15 (+3) bytes
-					// 1F - LSBs of the offset (31 + 1)
-					// Means to go back 32 (31 + 1) bytes and read 18 bytes from what's been written so far.
-					byte compressedByte = handler.continueReadingNextByte();
-					bytesRead++;
-					byte compressedByte2 = handler.continueReadingNextByte();
-					bytesRead++;
-					int jumpDistance = (((compressedByte & 0xF) << 16) | (compressedByte2 & 0xFF)) + 1;
-					int bytesToCopy = ((compressedByte & 0xF0) >> 4) + 3;
-					for (int j = 0; j < bytesToCopy; j++) {
-						int sourceIndex = outputIndex - jumpDistance;
-						output[outputIndex++] = output[sourceIndex];
-					}
-				}
-			}
-		}
-		// These have to be byte aligned, so they should be divisible by 4. Round up if it's not.
-		return bytesRead + (bytesRead % 4 == 0 ? 0 : 4 - (bytesRead % 4));
+	// Anything past the end of the file reads as 0.
+	private static byte byteAtIndex(byte[] input, int index) {
+		return index < input.length ? input[index] : 0;
 	}
 	
 	public static byte[] decompress(byte[] inputBytes) {
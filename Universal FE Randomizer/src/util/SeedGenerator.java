@@ -7,6 +7,17 @@ import fedata.general.FEBase.GameType;
 
 public class SeedGenerator {
 	
+	public enum SeedFormat {
+		// Each stage gets a java.util.Random seeded from the phrase's hashCode and the stage's salt.
+		LEGACY,
+		// Each stage gets a StreamedRandom keyed by the phrase and salt, which can be split per entity.
+		STREAMED
+	}
+	
+	// Seed phrases starting with this prefix use the streamed format. Anything else is a legacy seed,
+	// so phrases that were shared before streamed seeds existed still produce the same results.
+	public static final String StreamedSeedPrefix = "v2:";
+	
 	static String[] fe4Quotes = new String[] {
 			"Those Pegasus Knights won't pose a problem in the face of the Beige Ritter. Now watch em fall!",
 			"Hrmph. I can live with the strong and reliable part, but leave the slow bit out of it, ok?",
@@ -152,6 +163,23 @@ public class SeedGenerator {
 		return "Type something in!";
 	}
 	
+	public static SeedFormat formatForSeed(String seedString) {
+		if (seedString.startsWith(StreamedSeedPrefix) && seedString.length() > StreamedSeedPrefix.length()) {
+			return SeedFormat.STREAMED;
+		}
+		return SeedFormat.LEGACY;
+	}
+	
+	public static Random generateRandom(String seedString, int seedSalt) {
+		switch (formatForSeed(seedString)) {
+		case STREAMED:
+			return new StreamedRandom(StreamedRandom.keyForSeed(seedString.substring(StreamedSeedPrefix.length()), seedSalt));
+		case LEGACY:
+		default:
+			return new Random(generateSeedValue(seedString, seedSalt));
+		}
+	}
+	
 	public static long generateSeedValue(String seedString, int seedSalt) {
 		StringBuilder sb = new StringBuilder(seedString);
 		while (sb.length() < 2) {
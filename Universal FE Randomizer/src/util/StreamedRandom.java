@@ -0,0 +1,75 @@
+package util;
+
+import java.util.Random;
+
+// Counter-based generator used by streamed seeds. The nth value of a stream depends only on its key and n,
+// so per-entity streams can be derived from a stage's stream without consuming anything from it, and
+// every entity gets the same numbers no matter what order (or which thread) they're processed in.
+// Unlike java.util.Random, this isn't synchronized. Each thread should have its own stream.
+public class StreamedRandom extends Random {
+
+	private static final long serialVersionUID = 2L;
+
+	private static final long GoldenGamma = 0x9E3779B97F4A7C15L;
+
+	private final long key;
+	private long counter;
+
+	public StreamedRandom(long key) {
+		super(0);
+		this.key = key;
+		this.counter = 0;
+	}
+
+	// Returns the stream dedicated to the given entity (usually a character or class ID) for the current stage.
+	// Legacy seeds only have the one stage-wide generator, so that's returned as-is, which keeps their results
+	// unchanged as long as entities are still processed in their original order.
+	public static Random forEntity(Random stageRandom, int entityID) {
+		if (stageRandom instanceof StreamedRandom) {
+			return ((StreamedRandom)stageRandom).streamForEntity(entityID);
+		}
+		return stageRandom;
+	}
+
+	// True if forEntity hands out independent streams, meaning entities may be processed in any order.
+	public static boolean hasIndependentEntityStreams(Random stageRandom) {
+		return stageRandom instanceof StreamedRandom;
+	}
+
+	public StreamedRandom streamForEntity(int entityID) {
+		return new StreamedRandom(mix64(key ^ mix64(GoldenGamma * ((long)entityID + 1))));
+	}
+
+	public static long keyForSeed(String seedString, int seedSalt) {
+		// 64-bit FNV-1a. String.hashCode only has 32 bits, which is a lot of collisions for a seed space.
+		long hash = 0xCBF29CE484222325L;
+		for (int i = 0; i < seedString.length(); i++) {
+			hash ^= seedString.charAt(i);
+			hash *= 0x100000001B3L;
+		}
+		return mix64(hash ^ mix64(GoldenGamma * ((long)seedSalt + 1)));
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		// Streams are keyed at construction. Random's constructor calls this, so it has to be a no-op.
+	}
+
+	@Override
+	public long nextLong() {
+		counter++;
+		return mix64(key + counter * GoldenGamma);
+	}
+
+	@Override
+	protected int next(int bits) {
+		return (int)(nextLong() >>> (64 - bits));
+	}
+
+	// SplitMix64 finalizer.
+	private static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,82 @@
+package util.recordkeeper;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// One row per field: Category, Entry, Field, Original, Updated, Info. Header items are rows in a "Header" category
+// under the changelog's title. Values are converted to plain text and quoted as in RFC 4180.
+class CSVRecordWriter extends RecordWriter {
+	
+	private static final String HeaderCategory = "Header";
+	
+	private String title;
+	private String currentCategory;
+	private String currentEntry;
+	
+	CSVRecordWriter(Writer writer) {
+		super(writer);
+	}
+
+	@Override
+	public void beginDocument(String title) throws IOException {
+		this.title = title;
+		writeRow("Category", "Entry", "Field", "Original", "Updated", "Info");
+	}
+
+	@Override
+	public void writeHeaderItem(String key, String value) throws IOException {
+		writeRow(HeaderCategory, title, key, null, plainTextFromHTML(value), null);
+	}
+
+	@Override
+	public void endHeader() throws IOException {}
+
+	@Override
+	public void beginCategory(String category) throws IOException {
+		currentCategory = category;
+	}
+
+	@Override
+	public void beginEntry(String entryKey, boolean hasAdditionalInfo) throws IOException {
+		currentEntry = entryKey;
+	}
+
+	@Override
+	public void writeField(String key, String originalValue, String updatedValue, String additionalInfo) throws IOException {
+		writeRow(currentCategory, currentEntry, key, plainTextFromHTML(originalValue), plainTextFromHTML(updatedValue), plainTextFromHTML(additionalInfo));
+	}
+
+	@Override
+	public void endEntry() throws IOException {}
+
+	@Override
+	public void endCategory() throws IOException {}
+
+	@Override
+	public void endDocument() throws IOException {}
+	
+	private void writeRow(String... columns) throws IOException {
+		for (int i = 0; i < columns.length; i++) {
+			if (i > 0) { writer.write(','); }
+			writeColumn(columns[i]);
+		}
+		writer.write("\r\n");
+	}
+	
+	private void writeColumn(String value) throws IOException {
+		if (value == null) { return; }
+		boolean needsQuotes = false;
+		for (int i = 0; i < value.length() && !needsQuotes; i++) {
+			char c = value.charAt(i);
+			needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r' || c == '\t';
+		}
+		if (!needsQuotes) {
+			writer.write(value);
+			return;
+		}
+		
+		writer.write('"');
+		writer.write(value.replace("\"", "\"\""));
+		writer.write('"');
+	}
+}
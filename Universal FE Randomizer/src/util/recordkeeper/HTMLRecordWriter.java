@@ -0,0 +1,126 @@
+package util.recordkeeper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+// The changelog page. Values are written as-is, since they're already HTML.
+class HTMLRecordWriter extends RecordWriter {
+	
+	private String currentCategory;
+	private boolean currentEntryHasAdditionalInfo;
+	
+	HTMLRecordWriter(Writer writer) {
+		super(writer);
+	}
+
+	@Override
+	public void beginDocument(String title) throws IOException {
+		writer.write("<html><meta http-equiv=\"Content-Type\" content = \"text/html; charset=utf-8\" /><head><style>\n");
+		writer.write("table, th, td {\n\tborder: 1px solid black;\n}\n");
+		writer.write("</style></head><body>\n");
+		writer.write("<center><h1><p>Changelog for ");
+		writer.write(escapeHTML(title));
+		writer.write("</p></h1><br>\n");
+		writer.write("<hr>\n");
+		writer.write("<table>\n");
+	}
+
+	@Override
+	public void writeHeaderItem(String key, String value) throws IOException {
+		writer.write("<tr><td>");
+		writer.write(escapeHTML(key));
+		writer.write("</td><td>");
+		writer.write(String.valueOf(value));
+		writer.write("</td></tr>\n");
+	}
+
+	@Override
+	public void endHeader() throws IOException {
+		writer.write("</table>\n");
+		writer.write("<br><hr><br>\n");
+	}
+	
+	@Override
+	public void writeCategoryIndex(String category, List<String> entryKeys) throws IOException {
+		writer.write("<h2 id=\"");
+		writer.write(anchorForString(category));
+		writer.write("\">");
+		writer.write(escapeHTML(category));
+		writer.write("</h2>");
+		writer.write("<table>\n");
+		int column = 0;
+		for (String entryKey : entryKeys) {
+			if (column == 0) { writer.write("<tr>\n"); }
+			writer.write("<td><a href=\"#");
+			writer.write(anchorForString(entryKey));
+			writer.write("\">");
+			writer.write(escapeHTML(entryKey));
+			writer.write("</a></td>\n");
+			column += 1;
+			if (column == 4) {
+				column = 0;
+				writer.write("</tr>\n");
+			}
+		}
+		writer.write("</table>\n");
+		writer.write("<br><hr><br>\n");
+	}
+
+	@Override
+	public void beginCategory(String category) throws IOException {
+		currentCategory = category;
+	}
+
+	@Override
+	public void beginEntry(String entryKey, boolean hasAdditionalInfo) throws IOException {
+		currentEntryHasAdditionalInfo = hasAdditionalInfo;
+		writer.write("<h3 id=\"");
+		writer.write(anchorForString(entryKey));
+		writer.write("\">");
+		writer.write(escapeHTML(entryKey));
+		writer.write("</h3><br>\n");
+		writer.write("<table>\n");
+	}
+
+	@Override
+	public void writeField(String key, String originalValue, String updatedValue, String additionalInfo) throws IOException {
+		writer.write("<tr><td>");
+		writer.write(escapeHTML(key));
+		writer.write("</td><td>");
+		writer.write(originalValue != null ? originalValue : "(null)");
+		writer.write("</td><td>");
+		writer.write(updatedValue != null ? updatedValue : "(null)");
+		writer.write("</td>");
+		if (currentEntryHasAdditionalInfo) {
+			writer.write("<td>");
+			writer.write(additionalInfo != null ? additionalInfo : "");
+			writer.write("</td>");
+		}
+		writer.write("</tr>\n");
+	}
+
+	@Override
+	public void endEntry() throws IOException {
+		writer.write("</table>\n");
+		writer.write("<a href=\"#");
+		writer.write(anchorForString(currentCategory));
+		writer.write("\">Back to ");
+		writer.write(escapeHTML(currentCategory));
+		writer.write("</a>\n");
+	}
+
+	@Override
+	public void endCategory() throws IOException {
+		writer.write("<br><hr><br>\n");
+	}
+
+	@Override
+	public void endDocument() throws IOException {
+		writer.write("</body></html>\n");
+	}
+	
+	private static String anchorForString(String string) {
+		return escapeHTML(string.replace(' ', '_'));
+	}
+}
@@ -0,0 +1,85 @@
+package util.recordkeeper;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.google.gson.stream.JsonWriter;
+
+// {"title": ..., "header": [{"key", "value"}...], "categories": [{"name", "entries": [{"name", "fields": [{"key", "original", "updated", "info"}...]}...]}...]}
+// Everything is kept in the same order as the changelog. Values are converted to plain text.
+class JSONRecordWriter extends RecordWriter {
+	
+	private JsonWriter json;
+	
+	JSONRecordWriter(Writer writer) {
+		super(writer);
+		json = new JsonWriter(writer);
+		json.setIndent("\t");
+	}
+
+	@Override
+	public void beginDocument(String title) throws IOException {
+		json.beginObject();
+		json.name("title").value(title);
+		json.name("header").beginArray();
+	}
+
+	@Override
+	public void writeHeaderItem(String key, String value) throws IOException {
+		json.beginObject();
+		json.name("key").value(key);
+		json.name("value").value(plainTextFromHTML(value));
+		json.endObject();
+	}
+
+	@Override
+	public void endHeader() throws IOException {
+		json.endArray();
+		json.name("categories").beginArray();
+	}
+
+	@Override
+	public void beginCategory(String category) throws IOException {
+		json.beginObject();
+		json.name("name").value(category);
+		json.name("entries").beginArray();
+	}
+
+	@Override
+	public void beginEntry(String entryKey, boolean hasAdditionalInfo) throws IOException {
+		json.beginObject();
+		json.name("name").value(entryKey);
+		json.name("fields").beginArray();
+	}
+
+	@Override
+	public void writeField(String key, String originalValue, String updatedValue, String additionalInfo) throws IOException {
+		json.beginObject();
+		json.name("key").value(key);
+		json.name("original").value(plainTextFromHTML(originalValue));
+		json.name("updated").value(plainTextFromHTML(updatedValue));
+		if (additionalInfo != null) {
+			json.name("info").value(plainTextFromHTML(additionalInfo));
+		}
+		json.endObject();
+	}
+
+	@Override
+	public void endEntry() throws IOException {
+		json.endArray();
+		json.endObject();
+	}
+
+	@Override
+	public void endCategory() throws IOException {
+		json.endArray();
+		json.endObject();
+	}
+
+	@Override
+	public void endDocument() throws IOException {
+		json.endArray();
+		json.endObject();
+		json.flush();
+	}
+}
@@ -1,10 +1,13 @@
 package util.recordkeeper;
 
+import java.io.BufferedWriter;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
-import java.nio.charset.Charset;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -12,222 +15,441 @@ import java.util.Map;
 import java.util.Set;
 
 public class RecordKeeper {
-	
-	private class Entry {
-		List<String> allKeys;
-		Map<String, String> originalValues;
-		Map<String, String> updatedValues; 
-		
-		Map<String, String> additionalInfo;
-		
-		private Entry() {
-			allKeys = new ArrayList<String>();
-			originalValues = new HashMap<String, String>();
-			updatedValues = new HashMap<String, String>();
-			additionalInfo = new HashMap<String, String>();
-		}
-	}
-	
-	private class EntryMap {
+
+	public enum ExportFormat {
+		HTML("html"), JSON("json"), CSV("csv");
+
+		public final String fileExtension;
+
+		private ExportFormat(String fileExtension) {
+			this.fileExtension = fileExtension;
+		}
+
+		// Picks the format from the file extension, defaulting to HTML.
+		public static ExportFormat formatForPath(String path) {
+			String lowercasePath = path.toLowerCase();
+			for (ExportFormat format : values()) {
+				if (lowercasePath.endsWith("." + format.fileExtension)) { return format; }
+			}
+			return HTML;
+		}
+
+		private RecordWriter writerFor(Writer writer) {
+			switch (this) {
+			case JSON: return new JSONRecordWriter(writer);
+			case CSV: return new CSVRecordWriter(writer);
+			default: return new HTMLRecordWriter(writer);
+			}
+		}
+	}
+
+	// Numeric values are stored as-is and only turned into text when the records are exported.
+	public enum ValueFormat {
+		INTEGER, // 12
+		PERCENTAGE, // 12%
+		BONUS, // +12
+		BONUS_PERCENTAGE; // +12%
+
+		public String format(int value) {
+			switch (this) {
+			case PERCENTAGE: return value + "%";
+			case BONUS: return "+" + value;
+			case BONUS_PERCENTAGE: return "+" + value + "%";
+			default: return Integer.toString(value);
+			}
+		}
+	}
+
+	private static final int ExportBufferSize = 64 * 1024;
+
+	// Each field has three cells: the original value, the updated value, and additional info.
+	private static final int OriginalCell = 0;
+	private static final int UpdatedCell = 1;
+	private static final int InfoCell = 2;
+	private static final int CellCount = 3;
+
+	// Cell kinds. Anything from FirstFormatKind on is a ValueFormat.
+	private static final byte EmptyKind = 0;
+	private static final byte StringKind = 1;
+	private static final byte FirstFormatKind = 2;
+
+	private static final ValueFormat[] ValueFormats = ValueFormat.values();
+
+	// All of a category's fields, stored column by column. A row is one field of one entry.
+	// Rows are appended as they're first recorded, and each entry's rows are chained together in that order.
+	private static class Category {
 		List<String> keyList;
-		Map<String, Entry> entriesByKey;
-		
-		private EntryMap() {
+		Map<String, Integer> entryIndexByKey;
+
+		int entryCount;
+		int[] firstRowOfEntry;
+		int[] lastRowOfEntry;
+		int[] infoCountOfEntry;
+
+		int rowCount;
+		int[] rowEntry;
+		int[] rowField;
+		int[] nextRowInEntry;
+		byte[][] cellKinds;
+		int[][] cellValues;
+		String[][] cellStrings;
+
+		RowIndex rowIndex;
+
+		private Category() {
 			keyList = new ArrayList<String>();
-			entriesByKey = new HashMap<String, Entry>();
+			entryIndexByKey = new HashMap<String, Integer>();
+
+			firstRowOfEntry = new int[16];
+			lastRowOfEntry = new int[16];
+			infoCountOfEntry = new int[16];
+
+			rowEntry = new int[64];
+			rowField = new int[64];
+			nextRowInEntry = new int[64];
+			cellKinds = new byte[CellCount][64];
+			cellValues = new int[CellCount][64];
+			cellStrings = new String[CellCount][];
+
+			rowIndex = new RowIndex();
+		}
+
+		private int entryIndex(String entryKey, boolean createIfNecessary) {
+			Integer index = entryIndexByKey.get(entryKey);
+			if (index != null) { return index; }
+			if (!createIfNecessary) { return -1; }
+
+			int entry = entryCount++;
+			if (entry == firstRowOfEntry.length) {
+				int capacity = entry * 2;
+				firstRowOfEntry = Arrays.copyOf(firstRowOfEntry, capacity);
+				lastRowOfEntry = Arrays.copyOf(lastRowOfEntry, capacity);
+				infoCountOfEntry = Arrays.copyOf(infoCountOfEntry, capacity);
+			}
+			firstRowOfEntry[entry] = -1;
+			lastRowOfEntry[entry] = -1;
+			infoCountOfEntry[entry] = 0;
+
+			entryIndexByKey.put(entryKey, entry);
+			keyList.add(entryKey);
+			return entry;
+		}
+
+		private int row(int entry, int field, boolean createIfNecessary) {
+			int row = rowIndex.get(entry, field);
+			if (row != -1 || !createIfNecessary) { return row; }
+
+			row = rowCount++;
+			if (row == rowEntry.length) {
+				int capacity = row * 2;
+				rowEntry = Arrays.copyOf(rowEntry, capacity);
+				rowField = Arrays.copyOf(rowField, capacity);
+				nextRowInEntry = Arrays.copyOf(nextRowInEntry, capacity);
+				for (int cell = 0; cell < CellCount; cell++) {
+					cellKinds[cell] = Arrays.copyOf(cellKinds[cell], capacity);
+					cellValues[cell] = Arrays.copyOf(cellValues[cell], capacity);
+					if (cellStrings[cell] != null) { cellStrings[cell] = Arrays.copyOf(cellStrings[cell], capacity); }
+				}
+			}
+
+			rowEntry[row] = entry;
+			rowField[row] = field;
+			nextRowInEntry[row] = -1;
+			if (lastRowOfEntry[entry] == -1) {
+				firstRowOfEntry[entry] = row;
+			} else {
+				nextRowInEntry[lastRowOfEntry[entry]] = row;
+			}
+			lastRowOfEntry[entry] = row;
+
+			rowIndex.put(entry, field, row);
+			return row;
+		}
+
+		private void setString(int row, int cell, String value) {
+			updateInfoCount(row, cell, StringKind);
+			if (cellStrings[cell] == null) { cellStrings[cell] = new String[rowEntry.length]; }
+			cellKinds[cell][row] = StringKind;
+			cellStrings[cell][row] = value;
+		}
+
+		private void setValue(int row, int cell, int value, ValueFormat format) {
+			byte kind = (byte)(FirstFormatKind + format.ordinal());
+			updateInfoCount(row, cell, kind);
+			cellKinds[cell][row] = kind;
+			cellValues[cell][row] = value;
+			if (cellStrings[cell] != null) { cellStrings[cell][row] = null; }
+		}
+
+		private void clear(int row, int cell) {
+			updateInfoCount(row, cell, EmptyKind);
+			cellKinds[cell][row] = EmptyKind;
+			if (cellStrings[cell] != null) { cellStrings[cell][row] = null; }
+		}
+
+		private void updateInfoCount(int row, int cell, byte newKind) {
+			if (cell != InfoCell) { return; }
+			boolean hadInfo = cellKinds[cell][row] != EmptyKind;
+			boolean hasInfo = newKind != EmptyKind;
+			if (hadInfo != hasInfo) {
+				infoCountOfEntry[rowEntry[row]] += hasInfo ? 1 : -1;
+			}
+		}
+
+		// Formatting happens here, and only here.
+		private String cellText(int row, int cell) {
+			byte kind = cellKinds[cell][row];
+			switch (kind) {
+			case EmptyKind: return null;
+			case StringKind: return cellStrings[cell][row];
+			default: return ValueFormats[kind - FirstFormatKind].format(cellValues[cell][row]);
+			}
 		}
 	}
-	
+
+	// Maps (entry, field) to a row. Open addressing over primitive arrays, so lookups don't box anything.
+	private static class RowIndex {
+		long[] keys;
+		int[] rows;
+		int size;
+
+		private RowIndex() {
+			keys = new long[64];
+			rows = new int[64];
+			Arrays.fill(rows, -1);
+		}
+
+		private static long key(int entry, int field) {
+			return ((long)entry << 32) | (field & 0xFFFFFFFFL);
+		}
+
+		private int slotFor(long[] keyArray, int[] rowArray, long key) {
+			int mask = keyArray.length - 1;
+			long hash = key * 0x9E3779B97F4A7C15L;
+			int slot = (int)(hash >>> 32) & mask;
+			while (rowArray[slot] != -1 && keyArray[slot] != key) {
+				slot = (slot + 1) & mask;
+			}
+			return slot;
+		}
+
+		private int get(int entry, int field) {
+			return rows[slotFor(keys, rows, key(entry, field))];
+		}
+
+		private void put(int entry, int field, int row) {
+			if ((size + 1) * 2 > keys.length) { grow(); }
+			long key = key(entry, field);
+			int slot = slotFor(keys, rows, key);
+			if (rows[slot] == -1) { size++; }
+			keys[slot] = key;
+			rows[slot] = row;
+		}
+
+		private void grow() {
+			long[] newKeys = new long[keys.length * 2];
+			int[] newRows = new int[rows.length * 2];
+			Arrays.fill(newRows, -1);
+			for (int i = 0; i < keys.length; i++) {
+				if (rows[i] == -1) { continue; }
+				int slot = slotFor(newKeys, newRows, keys[i]);
+				newKeys[slot] = keys[i];
+				newRows[slot] = rows[i];
+			}
+			keys = newKeys;
+			rows = newRows;
+		}
+	}
+
 	private class Header {
 		String title;
-		
+
 		List<String> keyList;
 		Map<String, String> values;
-		
+
 		private Header() {
 			keyList = new ArrayList<String>();
 			values = new HashMap<String, String>();
 		}
 	}
-	
+
 	private Header header;
 	private List<String> allCategories;
-	private Map<String, EntryMap> entriesByCategory;
-	
+	private Map<String, Category> entriesByCategory;
+
+	// Field names are shared by every entry of every category, so each one is only stored once.
+	private List<String> fieldNames;
+	private Map<String, Integer> fieldIDsByName;
+
 	public RecordKeeper(String title) {
 		allCategories = new ArrayList<String>();
-		entriesByCategory = new HashMap<String, EntryMap>();
+		entriesByCategory = new HashMap<String, Category>();
 		header = new Header();
 		header.title = title;
-		
+
 		header.keyList = new ArrayList<String>();
 		header.values = new HashMap<String, String>();
+
+		fieldNames = new ArrayList<String>();
+		fieldIDsByName = new HashMap<String, Integer>();
 	}
-	
+
 	public void addHeaderItem(String title, String value) {
-		if (header.keyList.contains(title)) { header.keyList.remove(title); }
+		if (header.values.containsKey(title)) { header.keyList.remove(title); }
 		header.keyList.add(title);
 		header.values.put(title, value);
 	}
-	
+
 	public void registerCategory(String category) {
-		if (allCategories.contains(category)) {
+		if (entriesByCategory.containsKey(category)) {
 			return;
 		}
-		
-		EntryMap map = new EntryMap();
-		entriesByCategory.put(category, map);
+
+		entriesByCategory.put(category, new Category());
 		allCategories.add(category);
 	}
-	
+
 	public void setAdditionalInfo(String category, String entryKey, String key, String info) {
-		EntryMap entryMap = entriesByCategory.get(category);
-		if (entryMap == null) { return; }
-		Entry entry = entryMap.entriesByKey.get(entryKey);
-		if (entry == null) { return; }
-		
-		entry.additionalInfo.put(key, info);
-	}
-	
+		int row = existingRow(category, entryKey, key);
+		if (row == -1) { return; }
+		entriesByCategory.get(category).setString(row, InfoCell, info);
+	}
+
+	public void setAdditionalInfo(String category, String entryKey, String key, int info, ValueFormat format) {
+		int row = existingRow(category, entryKey, key);
+		if (row == -1) { return; }
+		entriesByCategory.get(category).setValue(row, InfoCell, info, format);
+	}
+
 	public void clearAdditionalInfo(String category, String entryKey, String key) {
-		EntryMap entryMap = entriesByCategory.get(category);
-		if (entryMap == null) { return; }
-		Entry entry = entryMap.entriesByKey.get(entryKey);
-		if (entry == null) { return; }
-		
-		entry.additionalInfo.remove(key);
+		int row = existingRow(category, entryKey, key);
+		if (row == -1) { return; }
+		entriesByCategory.get(category).clear(row, InfoCell);
 	}
 
 	public void recordOriginalEntry(String category, String entryKey, String key, String originalValue) {
-		 EntryMap entryMap = entriesByCategory.get(category);
-		 if (entryMap == null) {
-			 entryMap = new EntryMap();
-			 entriesByCategory.put(category, entryMap);
-			 allCategories.add(category);
-		 }
-		 
-		 Entry entry = entryMap.entriesByKey.get(entryKey);
-		 if (entry == null) {
-			 entry = new Entry();
-			 entryMap.keyList.add(entryKey);
-			 entryMap.entriesByKey.put(entryKey, entry);
-		 }
-		 
-		 if (!entry.allKeys.contains(key)) { 
-			 entry.allKeys.add(key);
-		 }
-		 entry.originalValues.put(key, originalValue);
-	}
-	
+		Category entries = categoryForRecording(category);
+		entries.setString(rowForRecording(entries, entryKey, key), OriginalCell, originalValue);
+	}
+
+	public void recordOriginalEntry(String category, String entryKey, String key, int originalValue, ValueFormat format) {
+		Category entries = categoryForRecording(category);
+		entries.setValue(rowForRecording(entries, entryKey, key), OriginalCell, originalValue, format);
+	}
+
 	public void recordUpdatedEntry(String category, String entryKey, String key, String updatedValue) {
-		EntryMap entryMap = entriesByCategory.get(category);
-		 if (entryMap == null) {
-			 entryMap = new EntryMap();
-			 entriesByCategory.put(category, entryMap);
-			 allCategories.add(category);
-		 }
-		 
-		 Entry entry = entryMap.entriesByKey.get(entryKey);
-		 if (entry == null) {
-			 entry = new Entry();
-			 entryMap.keyList.add(entryKey);
-			 entryMap.entriesByKey.put(entryKey, entry);
-		 }
-		 if (!entry.allKeys.contains(key)) { 
-			 entry.allKeys.add(key);
-		 }
-		 entry.updatedValues.put(key, updatedValue);
-	}
-	
+		Category entries = categoryForRecording(category);
+		entries.setString(rowForRecording(entries, entryKey, key), UpdatedCell, updatedValue);
+	}
+
+	public void recordUpdatedEntry(String category, String entryKey, String key, int updatedValue, ValueFormat format) {
+		Category entries = categoryForRecording(category);
+		entries.setValue(rowForRecording(entries, entryKey, key), UpdatedCell, updatedValue, format);
+	}
+
+	private Category categoryForRecording(String category) {
+		Category entries = entriesByCategory.get(category);
+		if (entries == null) {
+			entries = new Category();
+			entriesByCategory.put(category, entries);
+			allCategories.add(category);
+		}
+		return entries;
+	}
+
+	private int rowForRecording(Category entries, String entryKey, String key) {
+		Integer field = fieldIDsByName.get(key);
+		if (field == null) {
+			field = fieldNames.size();
+			fieldNames.add(key);
+			fieldIDsByName.put(key, field);
+		}
+		return entries.row(entries.entryIndex(entryKey, true), field, true);
+	}
+
+	// Additional info can only be attached to fields that have already been recorded.
+	private int existingRow(String category, String entryKey, String key) {
+		Category entries = entriesByCategory.get(category);
+		if (entries == null) { return -1; }
+		int entry = entries.entryIndex(entryKey, false);
+		if (entry == -1) { return -1; }
+		Integer field = fieldIDsByName.get(key);
+		if (field == null) { return -1; }
+		return entries.row(entry, field, false);
+	}
+
 	public void sortKeysInCategory(String category) {
-		EntryMap entryMap = entriesByCategory.get(category);
-		if (entryMap != null) {
-			Collections.sort(entryMap.keyList);
+		Category entries = entriesByCategory.get(category);
+		if (entries != null) {
+			Collections.sort(entries.keyList);
 		}
 	}
-	
+
 	public void sortKeysInCategoryAndSubcategories(String category) {
 		Set<String> keys = entriesByCategory.keySet();
 		for (String key : keys) {
 			if (key.startsWith(category)) {
-				EntryMap entryMap = entriesByCategory.get(key);
-				if (entryMap != null) {
-					Collections.sort(entryMap.keyList);
+				Category entries = entriesByCategory.get(key);
+				if (entries != null) {
+					Collections.sort(entries.keyList);
 				}
 			}
 		}
 	}
-	
+
 	public Boolean exportRecordsToHTML(String outputPath) {
+		return exportRecords(outputPath, ExportFormat.HTML);
+	}
+
+	public Boolean exportRecordsToJSON(String outputPath) {
+		return exportRecords(outputPath, ExportFormat.JSON);
+	}
+
+	public Boolean exportRecordsToCSV(String outputPath) {
+		return exportRecords(outputPath, ExportFormat.CSV);
+	}
+
+	public Boolean exportRecords(String outputPath, ExportFormat format) {
 		try {
-			OutputStreamWriter writer = new OutputStreamWriter(new FileOutputStream(outputPath), Charset.forName("UTF-8").newEncoder());
-			writer.write("<html><meta http-equiv=\"Content-Type\" content = \"text/html; charset=utf-8\" /><head><style>\n");
-			writer.write("table, th, td {\n\tborder: 1px solid black;\n}\n");
-			writer.write("</style></head><body>\n");
-			writer.write("<center><h1><p>Changelog for " + header.title + "</p></h1><br>\n");
-			writer.write("<hr>\n");
-			writer.write("<table>\n");
-			for (String key : header.keyList) {
-				String value = header.values.get(key);
-				writer.write("<tr><td>" + key + "</td><td>" + value + "</td></tr>\n");
-			}
-			writer.write("</table>\n");
-			writer.write("<br><hr><br>\n");
-			
-			for (String category : allCategories) {
-				writer.write("<h2 id=\"" + keyFromString(category) + "\">" + category + "</h2>");
-				int column = 0;
-				writer.write("<table>\n");
-				EntryMap entries = entriesByCategory.get(category);
-				for (String entryKey : entries.keyList) {
-					if (column == 0) { writer.write("<tr>\n"); }
-					writer.write("<td><a href=\"#" + keyFromString(entryKey) + "\">" + entryKey + "</a></td>\n");
-					column += 1;
-					if (column == 4) {
-						column = 0;
-						writer.write("</tr>\n");
-					}
-				}
-				writer.write("</table>\n");
-				writer.write("<br><hr><br>\n");
-			}
-			
-			for (String category : allCategories) {
-				EntryMap entries = entriesByCategory.get(category);
-				for (String entryKey : entries.keyList) {
-					Entry entry = entries.entriesByKey.get(entryKey);
-					writer.write("<h3 id=\"" + keyFromString(entryKey) + "\">" + entryKey + "</h3><br>\n");
-					writer.write("<table>\n");
-					boolean hasAdditionalInfo = !entry.additionalInfo.isEmpty();
-					for (String key : entry.allKeys) {
-						String oldValue = entry.originalValues.get(key);
-						String newValue = entry.updatedValues.get(key);
-						writer.write("<tr><td>" + key + "</td><td>" + (oldValue != null ? oldValue : "(null)") + "</td><td>" + (newValue != null ? newValue : "(null)") + "</td>");
-						if (hasAdditionalInfo) {
-							boolean hasInfoForKey = entry.additionalInfo.containsKey(key);
-							writer.write("<td>" + (hasInfoForKey ? entry.additionalInfo.get(key) : "") + "</td>");
-						}
-						writer.write("</tr>\n");
-					}
-					writer.write("</table>\n");
-					writer.write("<a href=\"#" + keyFromString(category) + "\">Back to " + category + "</a>\n");
-				}
-				writer.write("<br><hr><br>\n");
+			Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(outputPath), StandardCharsets.UTF_8), ExportBufferSize);
+			try {
+				writeRecords(format.writerFor(writer));
+			} finally {
+				writer.close();
 			}
-			
-			writer.write("</body></html>\n");
-			writer.close();
-			
 		} catch (IOException e) {
-			// TODO Auto-generated catch block
 			e.printStackTrace();
 			return false;
 		}
-		
+
 		return true;
 	}
-	
-	private String keyFromString(String string) {
-		return string.replace(' ', '_');
+
+	private void writeRecords(RecordWriter recordWriter) throws IOException {
+		recordWriter.beginDocument(header.title);
+		for (String key : header.keyList) {
+			recordWriter.writeHeaderItem(key, header.values.get(key));
+		}
+		recordWriter.endHeader();
+
+		for (String category : allCategories) {
+			recordWriter.writeCategoryIndex(category, entriesByCategory.get(category).keyList);
+		}
+
+		for (String category : allCategories) {
+			Category entries = entriesByCategory.get(category);
+			recordWriter.beginCategory(category);
+			for (String entryKey : entries.keyList) {
+				int entry = entries.entryIndexByKey.get(entryKey);
+				recordWriter.beginEntry(entryKey, entries.infoCountOfEntry[entry] > 0);
+				for (int row = entries.firstRowOfEntry[entry]; row != -1; row = entries.nextRowInEntry[row]) {
+					recordWriter.writeField(fieldNames.get(entries.rowField[row]), entries.cellText(row, OriginalCell), entries.cellText(row, UpdatedCell), entries.cellText(row, InfoCell));
+				}
+				recordWriter.endEntry();
+			}
+			recordWriter.endCategory();
+		}
+
+		recordWriter.endDocument();
 	}
 }
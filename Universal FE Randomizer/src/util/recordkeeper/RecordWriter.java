@@ -0,0 +1,112 @@
+package util.recordkeeper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+// Receives a RecordKeeper's contents in order and streams them out in some format.
+// Values are recorded as HTML fragments (they may contain <br>, tables, lists, etc.), while titles, categories,
+// entry keys, and field keys are plain text. Each format decides what to do with that.
+abstract class RecordWriter {
+	
+	protected final Writer writer;
+	
+	protected RecordWriter(Writer writer) {
+		super();
+		this.writer = writer;
+	}
+	
+	public abstract void beginDocument(String title) throws IOException;
+	public abstract void writeHeaderItem(String key, String value) throws IOException;
+	public abstract void endHeader() throws IOException;
+	
+	// Called for every category, in order, before any of their entries are written.
+	public void writeCategoryIndex(String category, List<String> entryKeys) throws IOException {}
+	
+	public abstract void beginCategory(String category) throws IOException;
+	public abstract void beginEntry(String entryKey, boolean hasAdditionalInfo) throws IOException;
+	// Missing values are null.
+	public abstract void writeField(String key, String originalValue, String updatedValue, String additionalInfo) throws IOException;
+	public abstract void endEntry() throws IOException;
+	public abstract void endCategory() throws IOException;
+	
+	public abstract void endDocument() throws IOException;
+	
+	protected static String escapeHTML(String string) {
+		if (string == null) { return null; }
+		StringBuilder sb = null;
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			String replacement;
+			switch (c) {
+			case '&': replacement = "&amp;"; break;
+			case '<': replacement = "&lt;"; break;
+			case '>': replacement = "&gt;"; break;
+			case '"': replacement = "&quot;"; break;
+			default: replacement = null; break;
+			}
+			if (replacement != null) {
+				if (sb == null) { sb = new StringBuilder(string.length() + 16).append(string, 0, i); }
+				sb.append(replacement);
+			} else if (sb != null) {
+				sb.append(c);
+			}
+		}
+		return sb != null ? sb.toString() : string;
+	}
+	
+	// Turns an HTML fragment into readable plain text for formats that aren't HTML. Line breaks, rows, and list items
+	// become new lines, cells are separated by tabs, and every other tag is dropped.
+	protected static String plainTextFromHTML(String html) {
+		if (html == null || html.indexOf('<') == -1 && html.indexOf('&') == -1) { return html; }
+		
+		StringBuilder sb = new StringBuilder(html.length());
+		int i = 0;
+		while (i < html.length()) {
+			char c = html.charAt(i);
+			if (c == '<') {
+				int end = html.indexOf('>', i);
+				if (end == -1) {
+					sb.append(html, i, html.length());
+					break;
+				}
+				String tag = html.substring(i + 1, end).trim().toLowerCase();
+				if (tag.startsWith("br") || tag.equals("/tr") || tag.equals("/li") || tag.equals("/p")) {
+					appendSeparator(sb, '\n');
+				} else if (tag.equals("/td") || tag.equals("/th")) {
+					appendSeparator(sb, '\t');
+				}
+				i = end + 1;
+			} else if (c == '&') {
+				int end = html.indexOf(';', i);
+				String entity = end != -1 ? html.substring(i, end + 1) : "";
+				switch (entity) {
+				case "&amp;": sb.append('&'); break;
+				case "&lt;": sb.append('<'); break;
+				case "&gt;": sb.append('>'); break;
+				case "&quot;": sb.append('"'); break;
+				case "&nbsp;": sb.append(' '); break;
+				default: sb.append(c); end = i; break;
+				}
+				i = end + 1;
+			} else if (c == '\n' || c == '\r') {
+				// Source line breaks don't mean anything in HTML.
+				i++;
+			} else {
+				sb.append(c);
+				i++;
+			}
+		}
+		
+		return sb.toString().trim();
+	}
+	
+	private static void appendSeparator(StringBuilder sb, char separator) {
+		int last = sb.length() - 1;
+		if (last >= 0 && sb.charAt(last) == '\t' && separator == '\n') {
+			sb.setCharAt(last, '\n');
+		} else if (last >= 0 && sb.charAt(last) != '\n') {
+			sb.append(separator);
+		}
+	}
+}